@@ -0,0 +1,345 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import java.io.File;
+import java.util.Set;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.cactoos.set.SetOf;
+
+/**
+ * Parameters shared by all the goals that disassemble classes.
+ *
+ * <p>The {@code disassemble}, {@code disassemble-aggregate} and {@code watch} goals
+ * extend this class, so they have the same parameters, with the same properties
+ * and defaults, and the same parameters give the same XMIR no matter which goal
+ * produced it.</p>
+ *
+ * @since 0.16.0
+ */
+public abstract class AbstractDisassembleMojo extends AbstractMojo {
+
+    /**
+     * Disassembly mode controlling the level of detail in output.
+     * <p>
+     * Supported modes:
+     * <ul>
+     *   <li>{@code short} - Minimal output with bytecode instructions only</li>
+     *   <li>{@code debug} - Include debug information such as line numbers, local variables,
+     *       and source file references (default)</li>
+     *   <li>{@code structure} - Only classes, fields and method signatures, annotations
+     *       and attributes, without method bodies; for analysis and indexing, can't be
+     *       assembled back</li>
+     * </ul>
+     * </p>
+     *
+     * @since 0.6.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "jeo.disassemble.mode",
+        defaultValue = "debug"
+    )
+    private String mode;
+
+    /**
+     * Flag to omit detailed bytecode listings in generated XMIR.
+     * <p>
+     * When enabled, the {@code <listing>} element in XMIR files will not contain bytecode listing.
+     * This reduces file size and improves readability in production environments where detailed
+     * bytecode output is not needed. When disabled, full bytecode listings are included
+     * for debugging purposes.
+     * </p>
+     *
+     * @since 0.11.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "jeo.disassemble.omitListings",
+        defaultValue = "true"
+    )
+    private boolean omitListings;
+
+    /**
+     * Flag to write bytecode listings into separate side-car files.
+     * <p>
+     * When enabled together with listings, each listing is streamed into a {@code .lst}
+     * file next to the corresponding XMIR file instead of the {@code <listing>} element.
+     * This keeps XMIR files small and avoids holding the whole listing in memory.
+     * </p>
+     *
+     * @since 0.16.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "jeo.disassemble.sidecarListings",
+        defaultValue = "false"
+    )
+    private boolean sidecarListings;
+
+    /**
+     * Flag to omit XML comments in generated XMIR files.
+     * <p>
+     * When enabled, no comments will be generated in the XMIR output, which can be
+     * useful for production builds where comments are not needed and may reduce file size.
+     * When disabled, XML comments will be included to provide debugging information.
+     * </p>
+     *
+     * @since 0.11.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "jeo.disassemble.omitComments",
+        defaultValue = "true"
+    )
+    private boolean omitComments;
+
+    /**
+     * Flag to enable pretty-printing of XMIR files.
+     * <p>
+     *     When enabled, the generated XMIR files will be formatted with indentation (2 spaces) and
+     *     line breaks for better readability.
+     *     This is useful for development and debugging purposes.
+     *     By default, pretty-printing is enabled, but it's best to disable it for large
+     *     projects or production builds to reduce file size and improve performance.
+     * </p>
+     * @since 0.11.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "jeo.disassemble.prettyXmir",
+        defaultValue = "true"
+    )
+    private boolean prettyXmir;
+
+    /**
+     * Flag to compress generated XMIR files with GZIP.
+     * <p>
+     * When enabled, each XMIR file is written as {@code .xmir.gz} instead of {@code .xmir}.
+     * XMIR is very verbose, so compression reduces disk usage and I/O volume significantly.
+     * The assemble goal reads compressed files transparently.
+     * </p>
+     *
+     * @since 0.16.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "jeo.disassemble.compress",
+        defaultValue = "false"
+    )
+    private boolean compress;
+
+    /**
+     * Flag to record fingerprints of the original class and its methods in XMIR.
+     * <p>
+     * When enabled, the assemble goal compares the fingerprints with the actual XMIR
+     * and copies unchanged methods from the original class file as is, instead of
+     * rebuilding them from XMIR. It speeds up assembling of large classes where only
+     * a few methods were modified.
+     * </p>
+     *
+     * @since 0.16.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "jeo.disassemble.fingerprints",
+        defaultValue = "false"
+    )
+    private boolean fingerprints;
+
+    /**
+     * Flag to generate reproducible XMIR.
+     * <p>
+     * When enabled, XMIR files don't contain the generation timestamp, so the same
+     * class file always gives byte-identical XMIR. It makes the generated sources
+     * and everything built from them cacheable by build caches.
+     * </p>
+     *
+     * @since 0.16.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "jeo.disassemble.reproducible",
+        defaultValue = "false"
+    )
+    private boolean reproducible;
+
+    /**
+     * Comma-separated patterns of methods to disassemble into instructions.
+     * <p>
+     * A pattern is either a glob for the method name, like {@code get*}, or an annotation
+     * name prefixed with {@code @}, like {@code @com.example.Rewrite}. Bodies of all the
+     * other methods are kept in XMIR as opaque blobs and copied back by the assemble goal
+     * verbatim. It makes XMIR much smaller and faster to produce when only a few methods
+     * are going to be rewritten. By default, all the methods are disassembled.
+     * </p>
+     *
+     * @since 0.16.0
+     * @checkstyle MemberNameCheck (7 lines)
+     */
+    @Parameter(property = "jeo.disassemble.methods")
+    @SuppressWarnings("PMD.ImmutableField")
+    private String methods = "";
+
+    /**
+     * Should method modifiers be included in the output.
+     * <p>
+     * When true, method modifiers (e.g., public, private, static) will be
+     * included in the disassembled output.
+     * </p>
+     *
+     * @since 0.14.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "jeo.disassemble.xmir.modifiers",
+        defaultValue = "false"
+    )
+    private boolean modifiers;
+
+    /**
+     * Set of inclusion GLOB filters for finding .class files
+     * in the directory with classes.
+     *
+     * @since 0.13.0
+     * @checkstyle MemberNameCheck (15 lines)
+     */
+    @Parameter(property = "jeo.disassemble.includes")
+    @SuppressWarnings("PMD.ImmutableField")
+    private Set<String> includes = new SetOf<>("**/*.class");
+
+    /**
+     * Set of exclusion GLOB filters for finding .class files
+     * in the directory with classes.
+     * <p>
+     * Directories matched by patterns that end with {@code /**}, like
+     * <code>**&#47;generated/**</code>, are not walked at all.
+     * </p>
+     *
+     * @since 0.13.0
+     * @checkstyle MemberNameCheck (7 lines)
+     */
+    @Parameter(property = "jeo.disassemble.excludes")
+    @SuppressWarnings("PMD.ImmutableField")
+    private Set<String> excludes = new SetOf<>();
+
+    /**
+     * Enable debug logging for the disassembly process.
+     * @since 0.15.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(property = "jeo.disassemble.debug", defaultValue = "false")
+    private boolean debug;
+
+    /**
+     * Number of threads for parallel disassembly.
+     * <p>
+     * When set to {@code 0} (default), the plugin automatically selects the number of threads
+     * based on {@link Runtime#availableProcessors()}. When set to a positive value, the plugin
+     * uses exactly that many threads, scoped to a dedicated {@code ForkJoinPool} so that
+     * the setting does not affect the rest of the build.
+     * </p>
+     *
+     * @since 0.15.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(property = "jeo.disassemble.threads", defaultValue = "0")
+    private int threads;
+
+    /**
+     * Heap budget of parallel disassembling in megabytes.
+     * <p>
+     * Every file takes a share of the budget estimated from its size before it is
+     * processed, so big files are processed one by one, while small ones keep all
+     * the threads busy. When set to {@code 0} (default), three quarters of the
+     * maximum heap are used.
+     * </p>
+     *
+     * @since 0.16.0
+     */
+    @Parameter(property = "jeo.disassemble.memory", defaultValue = "0")
+    private long memory;
+
+    /**
+     * Directory of the shared translation store.
+     * <p>
+     * When set, translation results are looked up in this directory by the hash of the
+     * input and the settings before translating, and published there afterwards.
+     * The directory can be shared between modules, branches and build agents.
+     * When not set, the store is not used.
+     * </p>
+     *
+     * @since 0.16.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(property = "jeo.store.directory")
+    private File storeDir;
+
+    /**
+     * Size limit of the shared translation store in megabytes.
+     * <p>
+     * When the store grows over the limit, the least recently used results are evicted.
+     * </p>
+     *
+     * @since 0.16.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(property = "jeo.store.limit", defaultValue = "1024")
+    private long storeLimit;
+
+    /**
+     * Disassembling settings from the parameters.
+     * @return Settings
+     */
+    final DisassembleSettings settings() {
+        return new DisassembleSettings(
+            this.mode,
+            this.omitListings,
+            this.sidecarListings,
+            this.omitComments,
+            this.modifiers,
+            this.prettyXmir,
+            this.compress,
+            this.fingerprints,
+            this.reproducible,
+            this.methods,
+            this.includes,
+            this.excludes
+        );
+    }
+
+    /**
+     * Translation store from the parameters.
+     * @return Store, disabled if its directory is not set
+     */
+    final TranslationStore store() {
+        return new TranslationStore(this.storeDir, this.storeLimit);
+    }
+
+    /**
+     * Heap budget from the parameters.
+     * @return Budget
+     */
+    final Budget budget() {
+        return new Budget(this.memory);
+    }
+
+    /**
+     * Whether debug logging is enabled.
+     * @return True if enabled
+     */
+    final boolean debug() {
+        return this.debug;
+    }
+
+    /**
+     * Number of threads, {@code 0} means the number of processors.
+     * @return Number of threads
+     */
+    final int threads() {
+        return this.threads;
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import com.jcabi.log.Logger;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
+
+/**
+ * Assembles XMIR files of all the reactor modules in one run.
+ *
+ * <p>This goal is the counterpart of {@link DisassembleAggregateMojo}. It collects
+ * XMIR files from {@code target/generated-sources/jeo-xmir} of all the modules and
+ * assembles them on a single shared pool. Classes of each module still go to the
+ * output directory of that module.</p>
+ *
+ * @since 0.16.0
+ */
+@Mojo(name = "assemble-aggregate", aggregator = true)
+public final class AssembleAggregateMojo extends AbstractMojo {
+
+    /**
+     * All the projects of the reactor.
+     *
+     * @since 0.16.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(defaultValue = "${reactorProjects}", readonly = true)
+    private List<MavenProject> reactorProjects;
+
+    /**
+     * Whether to skip bytecode verification of the assembled classes.
+     *
+     * @since 0.16.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(property = "jeo.assemble.skip.verification", defaultValue = "false")
+    private boolean skipVerification;
+
+    /**
+     * Level of bytecode verification: {@code none}, {@code structure}, {@code changed}
+     * or {@code full}, see the same parameter of the "assemble" goal.
+     *
+     * @since 0.16.0
+     */
+    @Parameter(property = "jeo.assemble.verification", defaultValue = "full")
+    private String verification;
+
+    /**
+     * Enable debug logging for the assembly process.
+     *
+     * @since 0.16.0
+     */
+    @Parameter(property = "jeo.assemble.debug", defaultValue = "false")
+    private boolean debug;
+
+    /**
+     * Number of threads of the shared pool, {@code 0} means the number of processors.
+     *
+     * @since 0.16.0
+     */
+    @Parameter(property = "jeo.assemble.threads", defaultValue = "0")
+    private int threads;
+
+    /**
+     * Heap budget of the shared pool in megabytes, {@code 0} means three quarters
+     * of the maximum heap.
+     *
+     * @since 0.16.0
+     */
+    @Parameter(property = "jeo.assemble.memory", defaultValue = "0")
+    private long memory;
+
+    /**
+     * Directory of the shared translation store.
+     * <p>
+     * When not set, the store is not used.
+     * </p>
+     *
+     * @since 0.16.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(property = "jeo.store.directory")
+    private File storeDir;
+
+    /**
+     * Size limit of the shared translation store in megabytes.
+     *
+     * @since 0.16.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(property = "jeo.store.limit", defaultValue = "1024")
+    private long storeLimit;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        final List<MavenProject> modules = this.reactorProjects.stream()
+            .filter(project -> Files.isDirectory(AssembleAggregateMojo.xmir(project)))
+            .collect(Collectors.toList());
+        final Path[] outputs = modules.stream()
+            .map(AssembleAggregateMojo::classes)
+            .toArray(Path[]::new);
+        final PluginStartup startup;
+        try {
+            startup = new PluginStartup(modules, outputs);
+        } catch (final DependencyResolutionRequiredException exception) {
+            throw new MojoExecutionException(exception);
+        }
+        final TranslationStore store = new TranslationStore(this.storeDir, this.storeLimit)
+            .within(startup.classpath());
+        final List<Assembler> assemblers = modules.stream()
+            .map(
+                project -> new Assembler(
+                    AssembleAggregateMojo.xmir(project),
+                    AssembleAggregateMojo.classes(project),
+                    this.debug,
+                    this.threads,
+                    store
+                )
+            )
+            .collect(Collectors.toList());
+        new Reactor(
+            "Assembling",
+            assemblers,
+            this.threads,
+            new Budget(this.memory)
+        ).translate();
+        final Verification level;
+        if (this.skipVerification) {
+            level = Verification.NONE;
+        } else {
+            level = Verification.fromString(this.verification);
+        }
+        if (level == Verification.NONE) {
+            Logger.info(this, "Bytecode verification is disabled, skipping");
+        } else {
+            Logger.info(
+                this,
+                "Verifying bytecode of all the generated classes at '%s' level...",
+                this.verification
+            );
+            final Set<Path> pristine = assemblers.stream()
+                .flatMap(assembler -> assembler.pristine().stream())
+                .collect(Collectors.toSet());
+            startup.init();
+            for (final Path output : outputs) {
+                new BytecodeClasses(output).verify(level, pristine);
+            }
+        }
+    }
+
+    /**
+     * Directory with XMIR files of the module.
+     * @param project Module
+     * @return Path to the directory
+     */
+    private static Path xmir(final MavenProject project) {
+        return Paths.get(project.getBuild().getDirectory())
+            .resolve("generated-sources")
+            .resolve("jeo-xmir");
+    }
+
+    /**
+     * Directory with classes of the module.
+     * @param project Module
+     * @return Path to the directory
+     */
+    private static Path classes(final MavenProject project) {
+        return Paths.get(project.getBuild().getOutputDirectory());
+    }
+}
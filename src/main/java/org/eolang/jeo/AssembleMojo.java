@@ -7,6 +7,9 @@ package org.eolang.jeo;
 import com.jcabi.log.Logger;
 import java.io.File;
 import java.nio.file.Path;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.apache.maven.artifact.DependencyResolutionRequiredException;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
@@ -90,6 +93,23 @@ public final class AssembleMojo extends AbstractMojo {
     )
     private boolean skipVerification;
 
+    /**
+     * Level of bytecode verification after assembly.
+     * <p>
+     * One of {@code none}, {@code structure} (class format, constant pool, names and
+     * descriptors of all the classes), {@code changed} (data-flow analysis only for
+     * classes which XMIR was changed since disassembling, structural checks for the
+     * others) and {@code full} (data-flow analysis of every method of every class).
+     * Changes are detected by method fingerprints, see
+     * {@code jeo.disassemble.fingerprints}. When {@link #skipVerification} is set,
+     * the level is {@code none}.
+     * </p>
+     *
+     * @since 0.16.0
+     */
+    @Parameter(property = "jeo.assemble.verification", defaultValue = "full")
+    private String verification;
+
     /**
      * Flag to enable XMIR verification before assembling.
      * <p>
@@ -146,6 +166,101 @@ public final class AssembleMojo extends AbstractMojo {
     @Parameter(property = "jeo.assemble.threads", defaultValue = "0")
     private int threads;
 
+    /**
+     * Heap budget of parallel assembling in megabytes.
+     * <p>
+     * Every file takes a share of the budget estimated from its size before it is
+     * processed, so big files are processed one by one, while small ones keep all
+     * the threads busy. When set to {@code 0} (default), three quarters of the
+     * maximum heap are used.
+     * </p>
+     *
+     * @since 0.16.0
+     */
+    @Parameter(property = "jeo.assemble.memory", defaultValue = "0")
+    private long memory;
+
+    /**
+     * Directory of the shared translation store.
+     * <p>
+     * When set, translation results are looked up in this directory by the hash of the
+     * input and the settings before translating, and published there afterwards.
+     * The directory can be shared between modules, branches and build agents.
+     * When not set, the store is not used.
+     * </p>
+     *
+     * @since 0.16.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(property = "jeo.store.directory")
+    private File storeDir;
+
+    /**
+     * Size limit of the shared translation store in megabytes.
+     * <p>
+     * When the store grows over the limit, the least recently used results are evicted.
+     * </p>
+     *
+     * @since 0.16.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(property = "jeo.store.limit", defaultValue = "1024")
+    private long storeLimit;
+
+    /**
+     * Directory where the inventory of found files is kept between runs.
+     * <p>
+     * On the next run only the directories that have changed are listed again,
+     * which saves a lot of time on slow network file systems. Directories changed
+     * within two seconds before a run are always listed again, since coarse
+     * modification times can't tell their later changes apart.
+     * Not set by default, so the whole tree is listed on every run.
+     * Set it, for example, to {@code ${project.build.directory}/jeo-inventory}.
+     * </p>
+     *
+     * @since 0.16.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(property = "jeo.inventory.directory")
+    private File inventoryDir;
+
+    /**
+     * Index of the shard translated by this build node, from {@code 0}
+     * to {@link #shardCount} minus one.
+     * <p>
+     * Files are partitioned between shards by a stable hash of their relative paths,
+     * so several build nodes can translate the same project in parallel. Each shard
+     * saves a report into {@link #shardReports}, which are checked and combined
+     * by the merge-shards goal.
+     * </p>
+     *
+     * @since 0.16.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(property = "jeo.shard.index", defaultValue = "0")
+    private int shardIndex;
+
+    /**
+     * Total number of shards, {@code 1} means no sharding.
+     *
+     * @since 0.16.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(property = "jeo.shard.count", defaultValue = "1")
+    private int shardCount;
+
+    /**
+     * Directory for shard reports.
+     *
+     * @since 0.16.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "jeo.shard.reports",
+        defaultValue = "${project.build.directory}/jeo-shards"
+    )
+    private File shardReports;
+
     @Override
     public void execute() throws MojoExecutionException {
         final Path src = new MavenPath(this.sourcesDir).resolve();
@@ -154,28 +269,97 @@ public final class AssembleMojo extends AbstractMojo {
             if (this.disabled) {
                 Logger.info(this, "Assemble mojo is disabled, skipping");
             } else {
+                final Inventory inventory = this.inventory(src, "xmir", dir -> true);
                 if (this.xmirVerification) {
                     Logger.info(this, "Verifying all the XMIR files before assembling...");
-                    new XmirFiles(src).verify();
+                    new XmirFiles(src, new Shard(), inventory).verify();
                 } else {
                     Logger.info(this, "XMIR verification before assembling is disabled, skipping");
                 }
-                new Assembler(
+                final Shard shard = new Shard(this.shardIndex, this.shardCount);
+                final XmirFiles files = new XmirFiles(src, shard, inventory);
+                final PluginStartup startup = new PluginStartup(this.project, out);
+                final long start = System.currentTimeMillis();
+                final Assembler assembler = new Assembler(
                     src,
                     out,
                     this.debug,
-                    this.threads
-                ).assemble();
-                if (this.skipVerification) {
+                    this.threads,
+                    new TranslationStore(this.storeDir, this.storeLimit)
+                        .within(startup.classpath()),
+                    files,
+                    new Budget(this.memory)
+                );
+                assembler.assemble();
+                this.report(shard, src, files.all(), start);
+                final Verification level = this.level();
+                if (level == Verification.NONE) {
                     Logger.info(this, "Bytecode verification is disabled, skipping");
                 } else {
-                    Logger.info(this, "Verifying bytecode of all the generated classes...");
-                    new PluginStartup(this.project, out).init();
-                    new BytecodeClasses(out).verify();
+                    Logger.info(
+                        this,
+                        "Verifying bytecode of all the generated classes at '%s' level...",
+                        this.verification
+                    );
+                    startup.init();
+                    new BytecodeClasses(out).verify(level, assembler.pristine());
                 }
             }
         } catch (final DependencyResolutionRequiredException exception) {
             throw new MojoExecutionException(exception);
         }
     }
+
+    /**
+     * Level of bytecode verification.
+     * @return Level
+     */
+    private Verification level() {
+        final Verification result;
+        if (this.skipVerification) {
+            result = Verification.NONE;
+        } else {
+            result = Verification.fromString(this.verification);
+        }
+        return result;
+    }
+
+    /**
+     * Save the report of the shard, if the run is sharded.
+     * @param shard Shard
+     * @param root Root directory of translated files
+     * @param files Translated files
+     * @param start When the translation started
+     */
+    private void report(
+        final Shard shard, final Path root, final Stream<Path> files, final long start
+    ) {
+        if (!shard.single()) {
+            new ShardReport(
+                "assemble",
+                shard,
+                System.currentTimeMillis() - start,
+                files.map(file -> Shard.relative(root, file)).collect(Collectors.toList())
+            ).save(this.shardReports.toPath());
+        }
+    }
+
+    /**
+     * Inventory of the directory.
+     * @param root Directory
+     * @param name Name of the inventory
+     * @param dirs Directories to walk
+     * @return Inventory, not persisted if the inventory directory is not set
+     */
+    private Inventory inventory(final Path root, final String name, final Predicate<Path> dirs) {
+        final Inventory result;
+        if (this.inventoryDir == null) {
+            result = new Inventory(root, dirs);
+        } else {
+            result = new Inventory(
+                root, dirs, this.inventoryDir.toPath().resolve(String.format("%s.txt", name))
+            );
+        }
+        return result;
+    }
 }
@@ -8,6 +8,9 @@ import com.jcabi.log.Logger;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 import org.eolang.jeo.representation.Counter;
 
@@ -19,7 +22,20 @@ import org.eolang.jeo.representation.Counter;
  * input directory and generates corresponding bytecode files in an output directory.</p>
  * @since 0.2.0
  */
-public final class Assembler {
+public final class Assembler implements Batch {
+
+    /**
+     * Estimated bytes of heap per byte of a plain XMIR file.
+     * <p>An XMIR file is parsed into the XML document and the bytecode model, and then
+     * written into the class.</p>
+     */
+    private static final long FACTOR = 8L;
+
+    /**
+     * Estimated bytes of heap per byte of a compressed XMIR file.
+     * <p>XMIR text usually shrinks tenfold with GZIP.</p>
+     */
+    private static final long COMPRESSED = Assembler.FACTOR * 10L;
 
     /**
      * Input folder with "xmir" files.
@@ -42,6 +58,26 @@ public final class Assembler {
      */
     private final int threads;
 
+    /**
+     * Shared store of translation results.
+     */
+    private final TranslationStore store;
+
+    /**
+     * XMIR files to assemble.
+     */
+    private final XmirFiles files;
+
+    /**
+     * Heap budget of parallel assembling.
+     */
+    private final Budget budget;
+
+    /**
+     * Assembled classes which XMIR wasn't changed since disassembling.
+     */
+    private final Collection<Path> pristine;
+
     /**
      * Constructor.
      * @param input Input folder with "xmir" files.
@@ -62,11 +98,124 @@ public final class Assembler {
      */
     public Assembler(
         final Path input, final Path output, final boolean debug, final int threads
+    ) {
+        this(input, output, debug, threads, new TranslationStore());
+    }
+
+    /**
+     * Constructor.
+     * @param input Input folder with "xmir" files.
+     * @param output Output folder for the assembled classes.
+     * @param debug Enables detailed debug logging.
+     * @param threads Number of threads (0 = use available processors automatically).
+     * @param store Shared store of translation results.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public Assembler(
+        final Path input,
+        final Path output,
+        final boolean debug,
+        final int threads,
+        final TranslationStore store
+    ) {
+        this(input, output, debug, threads, store, new Shard());
+    }
+
+    /**
+     * Constructor.
+     * @param input Input folder with "xmir" files.
+     * @param output Output folder for the assembled classes.
+     * @param debug Enables detailed debug logging.
+     * @param threads Number of threads (0 = use available processors automatically).
+     * @param store Shared store of translation results.
+     * @param shard Shard of XMIR files to assemble.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    Assembler(
+        final Path input,
+        final Path output,
+        final boolean debug,
+        final int threads,
+        final TranslationStore store,
+        final Shard shard
+    ) {
+        this(input, output, debug, threads, store, new XmirFiles(input, shard));
+    }
+
+    /**
+     * Constructor.
+     * @param input Input folder with "xmir" files.
+     * @param output Output folder for the assembled classes.
+     * @param debug Enables detailed debug logging.
+     * @param threads Number of threads (0 = use available processors automatically).
+     * @param store Shared store of translation results.
+     * @param files XMIR files to assemble, found in the input folder.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    Assembler(
+        final Path input,
+        final Path output,
+        final boolean debug,
+        final int threads,
+        final TranslationStore store,
+        final XmirFiles files
+    ) {
+        this(input, output, debug, threads, store, files, new Budget());
+    }
+
+    /**
+     * Constructor.
+     * @param input Input folder with "xmir" files.
+     * @param output Output folder for the assembled classes.
+     * @param debug Enables detailed debug logging.
+     * @param threads Number of threads (0 = use available processors automatically).
+     * @param store Shared store of translation results.
+     * @param files XMIR files to assemble, found in the input folder.
+     * @param budget Heap budget of parallel assembling.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    Assembler(
+        final Path input,
+        final Path output,
+        final boolean debug,
+        final int threads,
+        final TranslationStore store,
+        final XmirFiles files,
+        final Budget budget
+    ) {
+        this(input, output, debug, threads, store, files, budget, ConcurrentHashMap.newKeySet());
+    }
+
+    /**
+     * Constructor.
+     * @param input Input folder with "xmir" files.
+     * @param output Output folder for the assembled classes.
+     * @param debug Enables detailed debug logging.
+     * @param threads Number of threads (0 = use available processors automatically).
+     * @param store Shared store of translation results.
+     * @param files XMIR files to assemble, found in the input folder.
+     * @param budget Heap budget of parallel assembling.
+     * @param pristine Assembled classes which XMIR wasn't changed since disassembling.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private Assembler(
+        final Path input,
+        final Path output,
+        final boolean debug,
+        final int threads,
+        final TranslationStore store,
+        final XmirFiles files,
+        final Budget budget,
+        final Collection<Path> pristine
     ) {
         this.input = input;
         this.output = output;
         this.debug = debug;
         this.threads = threads;
+        this.store = store;
+        this.files = files;
+        this.budget = budget;
+        this.pristine = pristine;
     }
 
     /**
@@ -76,17 +225,55 @@ public final class Assembler {
     public void assemble() {
         final String assembling = "Assembling";
         final String assembled = "assembled";
-        final XmirFiles files = new XmirFiles(this.input);
-        final Counter counter = new Counter(files.total());
-        final Stream<Path> all = new Summary(
+        final Counter counter = new Counter(this.files.total());
+        try (Stream<Path> all = new Summary(
             assembling,
             assembled,
             this.input.toString(),
             this.output,
-            new ParallelTranslator(path -> this.assemble(path, counter), this.threads)
-        ).apply(files.all());
-        all.forEach(this::log);
-        all.close();
+            new ParallelTranslator(
+                path -> this.translate(path, counter), this.threads, this.budget, this::footprint
+            ),
+            counter
+        ).apply(this.files.all())) {
+            all.forEach(this::log);
+        }
+    }
+
+    /**
+     * Assembled classes which XMIR wasn't changed since disassembling.
+     * <p>Only the classes assembled by this object are known, classes taken from
+     * the cache or the store are not here.</p>
+     * @return Absolute paths of the class files
+     */
+    Collection<Path> pristine() {
+        return Collections.unmodifiableCollection(this.pristine);
+    }
+
+    @Override
+    public Path root() {
+        return this.input;
+    }
+
+    @Override
+    public long total() {
+        return this.files.total();
+    }
+
+    @Override
+    public Stream<Path> sources() {
+        return this.files.all();
+    }
+
+    @Override
+    public long footprint(final Path source) {
+        final long factor;
+        if (source.getFileName().toString().endsWith(".gz")) {
+            factor = Assembler.COMPRESSED;
+        } else {
+            factor = Assembler.FACTOR;
+        }
+        return Budget.footprint(source, factor);
     }
 
     /**
@@ -95,15 +282,23 @@ public final class Assembler {
      * @param counter File size counter
      * @return Path to the assembled class file
      */
-    private Path assemble(final Path path, final Counter counter) {
+    @Override
+    public Path translate(final Path path, final Counter counter) {
         final Transformation trans = new Logging(
             "Assembling",
             "assembled",
-            new Caching(new Informative(new Assembling(this.input, this.output, path))),
+            new Caching(
+                this.store.decorate(
+                    new Informative(
+                        new Assembling(this.input, this.output, path, this.pristine)
+                    ),
+                    "assemble"
+                )
+            ),
             this.debug,
             counter
         );
-        trans.transform();
+        trans.perform();
         return trans.target();
     }
 
@@ -112,18 +307,20 @@ public final class Assembler {
      * @param disassembled Path to the assembled file
      */
     private void log(final Path disassembled) {
-        try {
-            Logger.debug(
-                this,
-                "Assembling of %[file]s (%[size]s) finished successfully",
-                disassembled,
-                Files.size(disassembled)
-            );
-        } catch (final IOException exception) {
-            throw new IllegalStateException(
-                String.format("Can't get size of '%s'", disassembled),
-                exception
-            );
+        if (Logger.isDebugEnabled(this)) {
+            try {
+                Logger.debug(
+                    this,
+                    "Assembling of %[file]s (%[size]s) finished successfully",
+                    disassembled,
+                    Files.size(disassembled)
+                );
+            } catch (final IOException exception) {
+                throw new IllegalStateException(
+                    String.format("Can't get size of '%s'", disassembled),
+                    exception
+                );
+            }
         }
     }
 }
@@ -4,9 +4,14 @@
  */
 package org.eolang.jeo;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.regex.Pattern;
+import org.eolang.jeo.representation.Stage;
 import org.eolang.jeo.representation.XmirRepresentation;
 
 /**
@@ -21,8 +26,9 @@ public final class Assembling implements Transformation {
 
     /**
      * XMIR file extension pattern.
+     * <p>Matches both plain {@code .xmir} and compressed {@code .xmir.gz} files.</p>
      */
-    private static final Pattern XMIR = Pattern.compile(".xmir", Pattern.LITERAL);
+    private static final Pattern XMIR = Pattern.compile("\\.xmir(\\.gz)?$");
 
     /**
      * Source folder where all the XMIR representations are located.
@@ -39,6 +45,11 @@ public final class Assembling implements Transformation {
      */
     private final Path xmir;
 
+    /**
+     * Where to put the assembled class if its XMIR wasn't changed.
+     */
+    private final Collection<Path> pristine;
+
     /**
      * Constructor.
      * @param source Source folder where all the XMIR representations are located
@@ -46,9 +57,27 @@ public final class Assembling implements Transformation {
      * @param representation Path to the XMIR representation to assemble
      */
     Assembling(final Path source, final Path target, final Path representation) {
+        this(source, target, representation, new HashSet<>(0));
+    }
+
+    /**
+     * Constructor.
+     * @param source Source folder where all the XMIR representations are located
+     * @param target Target folder where the assembled class will be saved
+     * @param representation Path to the XMIR representation to assemble
+     * @param pristine Where to put the assembled class if its XMIR wasn't changed
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    Assembling(
+        final Path source,
+        final Path target,
+        final Path representation,
+        final Collection<Path> pristine
+    ) {
         this.from = source;
         this.tgt = target;
         this.xmir = representation;
+        this.pristine = pristine;
     }
 
     @Override
@@ -65,7 +94,22 @@ public final class Assembling implements Transformation {
     }
 
     @Override
-    public byte[] transform() {
-        return new XmirRepresentation(this.xmir).toBytecode().bytes();
+    public void transform(final OutputStream output) throws IOException {
+        final XmirRepresentation representation = new XmirRepresentation(this.xmir);
+        if (representation.structural()) {
+            throw new IllegalStateException(
+                String.format(
+                    "XMIR '%s' was disassembled in 'structure' mode without method bodies and can't be assembled",
+                    this.xmir
+                )
+            );
+        }
+        final Path target = this.target();
+        final byte[] bytes = representation.toBytecode(
+            target, () -> this.pristine.add(target.toAbsolutePath().normalize())
+        ).bytes();
+        final Stage.Span span = Stage.WRITE.begin();
+        output.write(bytes);
+        span.end(this.xmir.toString(), bytes.length, bytes.length);
     }
 }
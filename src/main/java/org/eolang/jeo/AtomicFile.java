@@ -0,0 +1,92 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+
+/**
+ * File that is written atomically.
+ *
+ * <p>The content, usually the result of a transformation, is streamed into
+ * a temporary file next to the target, which is then renamed to the target.
+ * Readers, including concurrent builds and the next incremental run, never see
+ * a half-written file, and nothing but the stream buffer is kept in memory.</p>
+ *
+ * @since 0.16.0
+ */
+final class AtomicFile {
+
+    /**
+     * Extension of temporary files.
+     */
+    static final String PART = ".part";
+
+    /**
+     * Target file.
+     */
+    private final Path path;
+
+    /**
+     * Constructor.
+     * @param path Target file
+     */
+    AtomicFile(final Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Write the content to the file.
+     * @param content Content, for example, {@code transformation::transform}
+     * @return Size of the written file in bytes
+     * @throws IOException If the file can't be written
+     */
+    long write(final Content content) throws IOException {
+        final Path parent = this.path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        final Path temp = parent.resolve(
+            String.format("%s.%s%s", this.path.getFileName(), UUID.randomUUID(), AtomicFile.PART)
+        );
+        final long result;
+        try {
+            try (OutputStream output = new BufferedOutputStream(
+                Files.newOutputStream(temp, StandardOpenOption.CREATE_NEW)
+            )) {
+                content.write(output);
+            }
+            result = Files.size(temp);
+            try {
+                Files.move(temp, this.path, StandardCopyOption.ATOMIC_MOVE);
+            } catch (final AtomicMoveNotSupportedException exception) {
+                Files.move(temp, this.path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return result;
+    }
+
+    /**
+     * Content of the file.
+     * @since 0.16.0
+     */
+    @FunctionalInterface
+    interface Content {
+
+        /**
+         * Write the content.
+         * @param output Output, which must not be closed
+         * @throws IOException If writing fails
+         */
+        void write(OutputStream output) throws IOException;
+    }
+}
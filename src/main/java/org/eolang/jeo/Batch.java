@@ -0,0 +1,52 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import org.eolang.jeo.representation.Counter;
+
+/**
+ * Batch of files translated from one directory into another.
+ *
+ * <p>Usually a batch translates itself, but batches of several modules can be
+ * scheduled together on the same pool, see {@link Reactor}.</p>
+ * @since 0.16.0
+ */
+interface Batch {
+
+    /**
+     * Directory with input files.
+     * @return Path to the directory
+     */
+    Path root();
+
+    /**
+     * Total number of input files.
+     * @return Count of files
+     */
+    long total();
+
+    /**
+     * All the input files.
+     * @return Stream of paths to input files
+     */
+    Stream<Path> sources();
+
+    /**
+     * Estimated heap needed to translate a single input file.
+     * @param source Path to the input file
+     * @return Memory in bytes
+     */
+    long footprint(Path source);
+
+    /**
+     * Translate a single input file.
+     * @param source Path to the input file
+     * @param counter Counter of translated files
+     * @return Path to the output file
+     */
+    Path translate(Path source, Counter counter);
+}
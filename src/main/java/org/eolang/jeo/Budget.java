@@ -0,0 +1,133 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Heap budget of parallel translation.
+ *
+ * <p>Every task estimates the memory it needs from the size of its input file and
+ * takes that much of the budget before it starts, see {@link #admit(long, Supplier)}.
+ * Small files keep full parallelism, while big ones wait until enough memory is
+ * released, so a few huge classes don't run at the same time and exhaust the heap.
+ * A task that needs more than the whole budget still runs, but alone.</p>
+ *
+ * <p>The budget is counted in kilobytes by a fair semaphore: a big task that waits
+ * for permits isn't starved by the small ones that come after it.</p>
+ *
+ * @since 0.16.0
+ */
+public final class Budget {
+
+    /**
+     * Bytes in a kilobyte.
+     */
+    private static final long KILOBYTE = 1024L;
+
+    /**
+     * Size of the budget in kilobytes.
+     */
+    private final int capacity;
+
+    /**
+     * Free kilobytes of the budget.
+     */
+    private final Semaphore free;
+
+    /**
+     * Constructor.
+     * <p>The budget is three quarters of the maximum heap.</p>
+     */
+    public Budget() {
+        this(0L);
+    }
+
+    /**
+     * Constructor.
+     * @param megabytes Size of the budget in megabytes, {@code 0} means three quarters
+     *  of the maximum heap
+     */
+    public Budget(final long megabytes) {
+        this(Budget.kilobytes(megabytes));
+    }
+
+    /**
+     * Constructor.
+     * @param capacity Size of the budget in kilobytes
+     */
+    private Budget(final int capacity) {
+        this.capacity = capacity;
+        this.free = new Semaphore(capacity, true);
+    }
+
+    /**
+     * Run the task when there is enough memory for it.
+     * @param estimate Estimated memory of the task in bytes
+     * @param task Task to run
+     * @param <T> Type of the result
+     * @return Result of the task
+     */
+    <T> T admit(final long estimate, final Supplier<? extends T> task) {
+        final int weight = (int) Math.max(
+            Math.min((estimate + Budget.KILOBYTE - 1L) / Budget.KILOBYTE, this.capacity), 1L
+        );
+        try {
+            this.free.acquire(weight);
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(
+                String.format("Interrupted while waiting for %d KB of heap budget", weight),
+                exception
+            );
+        }
+        try {
+            return task.get();
+        } finally {
+            this.free.release(weight);
+        }
+    }
+
+    /**
+     * Estimate the memory needed to translate a file.
+     * @param file Input file
+     * @param factor Bytes of heap per byte of the input file
+     * @return Estimated memory in bytes
+     */
+    static long footprint(final Path file, final long factor) {
+        try {
+            return Files.size(file) * factor;
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Can't determine the size of '%s'", file),
+                exception
+            );
+        }
+    }
+
+    /**
+     * Size of the budget in kilobytes.
+     * @param megabytes Size in megabytes, {@code 0} for three quarters of the heap
+     * @return Size in kilobytes
+     */
+    private static int kilobytes(final long megabytes) {
+        if (megabytes < 0L) {
+            throw new IllegalArgumentException(
+                String.format("Heap budget can't be negative, but was %d MB", megabytes)
+            );
+        }
+        final long bytes;
+        if (megabytes == 0L) {
+            bytes = Runtime.getRuntime().maxMemory() / 4L * 3L;
+        } else {
+            bytes = megabytes * Budget.KILOBYTE * Budget.KILOBYTE;
+        }
+        return (int) Math.max(Math.min(bytes / Budget.KILOBYTE, Integer.MAX_VALUE), 1L);
+    }
+}
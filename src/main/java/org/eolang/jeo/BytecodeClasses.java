@@ -5,14 +5,19 @@
 package org.eolang.jeo;
 
 import com.jcabi.log.Logger;
-import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.eolang.jeo.representation.FileBytes;
+import org.eolang.jeo.representation.VerificationMetric;
 
 /**
  * Bytecode classes verifier.
@@ -30,12 +35,36 @@ final class BytecodeClasses implements Classes {
      */
     private final Path input;
 
+    /**
+     * Inventory of the input directory.
+     */
+    private final Inventory inventory;
+
     /**
      * Constructor with filters.
      * @param input Input directory where all the generated class files are placed.
      */
     BytecodeClasses(final Path input) {
+        this(input, dir -> true);
+    }
+
+    /**
+     * Constructor.
+     * @param input Input directory where all the generated class files are placed.
+     * @param dirs Directories to visit, others are skipped with all their content
+     */
+    BytecodeClasses(final Path input, final Predicate<Path> dirs) {
+        this(input, new Inventory(input, dirs));
+    }
+
+    /**
+     * Constructor.
+     * @param input Input directory where all the generated class files are placed.
+     * @param inventory Inventory of the input directory
+     */
+    BytecodeClasses(final Path input, final Inventory inventory) {
         this.input = input;
+        this.inventory = inventory;
     }
 
     @Override
@@ -55,56 +84,64 @@ final class BytecodeClasses implements Classes {
 
     @Override
     public Stream<Path> all() {
-        try {
-            return this.classes().stream();
-        } catch (final IOException exception) {
+        if (Objects.isNull(this.input)) {
             throw new IllegalStateException(
+                "The classes directory is not set, jeo-maven-plugin does not know where to look for classes."
+            );
+        }
+        final Stream<Path> result;
+        if (Files.exists(this.input)) {
+            result = this.inventory.files().filter(path -> path.toString().endsWith(".class"));
+        } else {
+            Logger.warn(
+                this,
                 String.format(
-                    "Can't read '%s' directory with classes",
+                    "The classes directory '%s' does not exist, jeo-maven-plugin does not know where to look for classes.",
                     this.input
-                ),
-                exception
+                )
             );
+            result = Stream.empty();
         }
+        return result;
     }
 
     /**
      * Verify bytecode in the folder.
      */
     void verify() {
-        this.all().forEach(BytecodeClasses::verify);
+        this.verify(Verification.FULL, Collections.emptySet());
     }
 
     /**
-     * Find all bytecode files.
-     * @return Collection of bytecode files
-     * @throws IOException If some I/O problem arises
+     * Verify bytecode in the folder at the given level.
+     * <p>The number of classes checked at each level is logged.</p>
+     * @param level Verification level
+     * @param pristine Class files assembled from XMIR that wasn't changed
      */
-    private Collection<Path> classes() throws IOException {
-        if (Objects.isNull(this.input)) {
-            throw new IllegalStateException(
-                "The classes directory is not set, jeo-maven-plugin does not know where to look for classes."
-            );
-        }
-        final Collection<Path> result;
-        if (Files.exists(this.input)) {
-            try (Stream<Path> walk = Files.walk(this.input)) {
-                result = walk
-                    .filter(Files::isRegularFile)
-                    .filter(path -> path.toString().endsWith(".class"))
-                    .collect(Collectors.toList());
-            }
+    void verify(final Verification level, final Collection<Path> pristine) {
+        if (level == Verification.NONE) {
+            Logger.info(this, "Bytecode verification of '%s' is disabled, skipping", this.input);
         } else {
-            Logger.warn(
+            final long start = System.currentTimeMillis();
+            final Map<Boolean, List<Path>> classes = this.all().collect(
+                Collectors.partitioningBy(clazz -> level.deep(clazz, pristine))
+            );
+            classes.get(false).forEach(BytecodeClasses::check);
+            classes.get(true).forEach(BytecodeClasses::verify);
+            final String name = level.name().toLowerCase(Locale.ROOT);
+            new VerificationMetric(name, this.input.toString())
+                .record(classes.get(true).size(), classes.get(false).size());
+            Logger.info(
                 this,
-                String.format(
-                    "The classes directory '%s' does not exist, jeo-maven-plugin does not know where to look for classes.",
-                    this.input
-                )
+                "Bytecode of %d classes in '%s' verified at '%s' level in %[ms]s: %d with data-flow analysis, %d with structural checks only",
+                classes.get(true).size() + classes.get(false).size(),
+                this.input,
+                name,
+                System.currentTimeMillis() - start,
+                classes.get(true).size(),
+                classes.get(false).size()
             );
-            result = Collections.emptyList();
         }
-        return result;
     }
 
     /**
@@ -113,12 +150,20 @@ final class BytecodeClasses implements Classes {
      * @return Bytes of the class file
      */
     private static byte[] read(final Path clazz) {
+        return new FileBytes(clazz).asBytes();
+    }
+
+    /**
+     * Check the structure of the class file.
+     * @param clazz Path to the class file to check
+     */
+    private static void check(final Path clazz) {
+        final byte[] bytes = BytecodeClasses.read(clazz);
         try {
-            return Files.readAllBytes(clazz);
-        } catch (final IOException exception) {
-            throw new IllegalStateException(
-                String.format("Can't read bytecode from the file '%s'", clazz),
-                exception
+            new VerifiedBytecode(bytes).check();
+        } catch (final IllegalArgumentException exception) {
+            throw new IllegalArgumentException(
+                String.format("Invalid bytecode of class '%s'", clazz), exception
             );
         }
     }
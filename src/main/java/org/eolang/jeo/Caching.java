@@ -6,6 +6,7 @@ package org.eolang.jeo;
 
 import com.jcabi.log.Logger;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
@@ -43,9 +44,15 @@ public final class Caching implements Transformation {
     }
 
     @Override
-    public byte[] transform() {
+    public void transform(final OutputStream output) throws IOException {
+        this.refresh();
+        Files.copy(this.target(), output);
+    }
+
+    @Override
+    public void perform() {
         try {
-            return this.tryTransform();
+            this.refresh();
         } catch (final IOException exception) {
             throw new IllegalStateException(
                 String.format(
@@ -59,28 +66,29 @@ public final class Caching implements Transformation {
     }
 
     /**
-     * Try to transform the file.
-     * @return The transformed file content as byte array
-     * @throws IOException If something goes wrong during transformation
+     * Bring the target file up to date.
+     * <p>The result of the original transformation is streamed straight
+     * into the target file, which is replaced atomically.</p>
+     * @throws IOException If something goes wrong during saving
      */
-    private byte[] tryTransform() throws IOException {
-        final byte[] result;
-        final Path target = this.target();
+    private void refresh() throws IOException {
         if (this.alreadyTransformed()) {
-            Logger.info(
-                this,
-                "The file '%s' is already transformed to '%s'. Skipping.",
-                this.source(),
-                target
-            );
-            result = Files.readAllBytes(target);
+            this.logSkipped();
         } else {
-            final byte[] transform = this.origin.transform();
-            Files.createDirectories(target.getParent());
-            Files.write(target, transform);
-            result = transform;
+            new AtomicFile(this.target()).write(this.origin::transform);
         }
-        return result;
+    }
+
+    /**
+     * Log that the transformation is skipped.
+     */
+    private void logSkipped() {
+        Logger.info(
+            this,
+            "The file '%s' is already transformed to '%s'. Skipping.",
+            this.source(),
+            this.target()
+        );
     }
 
     /**
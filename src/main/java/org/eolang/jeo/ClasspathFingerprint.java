@@ -0,0 +1,193 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Fingerprint of a classpath.
+ *
+ * <p>The fingerprint is a SHA-256 hash of the contents of the classpath elements.
+ * Archives are hashed as they are, while directories are hashed by the paths of
+ * their files relative to the directory and by the contents of the files. Neither
+ * locations of the elements nor their order take part in the fingerprint, so the
+ * same classpath gives the same fingerprint in any checkout and on any machine,
+ * while any change of a class in it, including the classes of the project itself,
+ * gives a new one. Absent elements are ignored.</p>
+ *
+ * <p>Hashes of archives are kept for the lifetime of the JVM by their location,
+ * size and modification time, so the dependencies shared by the modules of a
+ * reactor are read only once.</p>
+ * @since 0.16.0
+ */
+final class ClasspathFingerprint {
+
+    /**
+     * Hashes of archives by their location, size and modification time.
+     */
+    private static final ConcurrentMap<String, String> ARCHIVES = new ConcurrentHashMap<>(0);
+
+    /**
+     * Size of the buffer to read files with.
+     */
+    private static final int BUFFER = 1 << 16;
+
+    /**
+     * Classpath elements, archives or directories.
+     */
+    private final Collection<String> elements;
+
+    /**
+     * Constructor.
+     * @param elements Classpath elements, archives or directories
+     */
+    ClasspathFingerprint(final Collection<String> elements) {
+        this.elements = elements;
+    }
+
+    /**
+     * Fingerprint as a hex string.
+     * @return Hex string
+     */
+    String asString() {
+        final MessageDigest digest = ClasspathFingerprint.sha();
+        this.elements.stream()
+            .filter(Objects::nonNull)
+            .map(Paths::get)
+            .filter(Files::exists)
+            .map(ClasspathFingerprint::element)
+            .sorted()
+            .forEach(
+                hash -> {
+                    digest.update(hash.getBytes(StandardCharsets.UTF_8));
+                    digest.update((byte) 0);
+                }
+            );
+        return ClasspathFingerprint.hex(digest.digest());
+    }
+
+    /**
+     * Hash of a classpath element.
+     * @param path Archive or directory
+     * @return Hex string
+     */
+    private static String element(final Path path) {
+        final String result;
+        if (Files.isDirectory(path)) {
+            result = ClasspathFingerprint.directory(path);
+        } else {
+            final File file = path.toFile();
+            result = ClasspathFingerprint.ARCHIVES.computeIfAbsent(
+                String.format(
+                    "%s:%d:%d", file.getAbsolutePath(), file.length(), file.lastModified()
+                ),
+                key -> {
+                    final MessageDigest digest = ClasspathFingerprint.sha();
+                    ClasspathFingerprint.update(digest, path);
+                    return ClasspathFingerprint.hex(digest.digest());
+                }
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Hash of a directory with its files.
+     * @param dir Directory
+     * @return Hex string
+     */
+    private static String directory(final Path dir) {
+        final List<Path> files;
+        try (Stream<Path> all = Files.walk(dir)) {
+            files = all.filter(Files::isRegularFile)
+                .sorted(Comparator.comparing(file -> ClasspathFingerprint.relative(dir, file)))
+                .collect(Collectors.toList());
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Can't list classpath directory '%s'", dir),
+                exception
+            );
+        }
+        final MessageDigest digest = ClasspathFingerprint.sha();
+        for (final Path file : files) {
+            digest.update(
+                ClasspathFingerprint.relative(dir, file).getBytes(StandardCharsets.UTF_8)
+            );
+            digest.update((byte) 0);
+            ClasspathFingerprint.update(digest, file);
+            digest.update((byte) 0);
+        }
+        return ClasspathFingerprint.hex(digest.digest());
+    }
+
+    /**
+     * Update digest with the file content.
+     * @param digest Digest to update
+     * @param file File
+     */
+    private static void update(final MessageDigest digest, final Path file) {
+        try (InputStream input = Files.newInputStream(file)) {
+            final byte[] buffer = new byte[ClasspathFingerprint.BUFFER];
+            int read = input.read(buffer);
+            while (read >= 0) {
+                digest.update(buffer, 0, read);
+                read = input.read(buffer);
+            }
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Can't read classpath element '%s'", file),
+                exception
+            );
+        }
+    }
+
+    /**
+     * Path of a file relative to the directory, the same on any platform.
+     * @param dir Directory
+     * @param file File in the directory
+     * @return Relative path with '/' separators
+     */
+    private static String relative(final Path dir, final Path file) {
+        return dir.relativize(file).toString().replace(File.separatorChar, '/');
+    }
+
+    /**
+     * Convert bytes to a hex string.
+     * @param bytes Bytes
+     * @return Hex string
+     */
+    private static String hex(final byte[] bytes) {
+        return String.format("%064x", new BigInteger(1, bytes));
+    }
+
+    /**
+     * New SHA-256 digest.
+     * @return Digest
+     */
+    private static MessageDigest sha() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 algorithm is not available", exception);
+        }
+    }
+}
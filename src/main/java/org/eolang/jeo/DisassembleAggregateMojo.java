@@ -0,0 +1,120 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import com.jcabi.log.Logger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
+import org.eolang.jeo.representation.directives.Format;
+
+/**
+ * Disassembles classes of all the reactor modules in one run.
+ *
+ * <p>Running the disassemble goal in each module of a large multi-module build means
+ * many short runs, each with its own pool and class loader, that never saturate the
+ * cores. This goal collects the classes of all the modules and disassembles them on
+ * a single shared pool with a single class loader that knows the classes of all the
+ * modules. XMIR files of each module still go to
+ * {@code target/generated-sources/jeo-xmir} of that module.</p>
+ *
+ * @since 0.16.0
+ */
+@Mojo(name = "disassemble-aggregate", aggregator = true)
+public final class DisassembleAggregateMojo extends AbstractDisassembleMojo {
+
+    /**
+     * All the projects of the reactor.
+     *
+     * @since 0.16.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(defaultValue = "${reactorProjects}", readonly = true)
+    private List<MavenProject> reactorProjects;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        final List<MavenProject> modules = this.reactorProjects.stream()
+            .filter(project -> Files.isDirectory(DisassembleAggregateMojo.classes(project)))
+            .collect(Collectors.toList());
+        try {
+            new PluginStartup(
+                modules,
+                modules.stream()
+                    .map(DisassembleAggregateMojo::classes)
+                    .toArray(Path[]::new)
+            ).init();
+            final DisassembleSettings settings = this.settings();
+            Logger.info(this, "Disassembling of the reactor is started with %s", settings);
+            final Format format = settings.format();
+            final GlobFilter filter = settings.filter();
+            final TranslationStore store = this.store();
+            new Reactor(
+                "Disassembling",
+                modules.stream()
+                    .map(
+                        project -> new Disassembler(
+                            DisassembleAggregateMojo.filtered(project, filter),
+                            DisassembleAggregateMojo.xmir(project),
+                            format,
+                            this.debug(),
+                            this.threads(),
+                            store
+                        )
+                    )
+                    .collect(Collectors.toList()),
+                this.threads(),
+                this.budget()
+            ).translate();
+        } catch (final DependencyResolutionRequiredException exception) {
+            throw new MojoExecutionException(
+                "Failed to disassemble classes of the reactor modules",
+                exception
+            );
+        }
+    }
+
+    /**
+     * Classes of the module that pass the filter.
+     * <p>Excluded subtrees of the classes directory are not walked at all.</p>
+     * @param project Module
+     * @param filter Filter of class files
+     * @return Classes
+     */
+    private static Classes filtered(final MavenProject project, final GlobFilter filter) {
+        final Path root = DisassembleAggregateMojo.classes(project);
+        return new FilteredClasses(
+            new BytecodeClasses(root, filter.within(root)::descends),
+            filter
+        );
+    }
+
+    /**
+     * Directory with XMIR files of the module.
+     * @param project Module
+     * @return Path to the directory
+     */
+    private static Path xmir(final MavenProject project) {
+        return Paths.get(project.getBuild().getDirectory())
+            .resolve("generated-sources")
+            .resolve("jeo-xmir");
+    }
+
+    /**
+     * Directory with classes of the module.
+     * @param project Module
+     * @return Path to the directory
+     */
+    private static Path classes(final MavenProject project) {
+        return Paths.get(project.getBuild().getOutputDirectory());
+    }
+}
@@ -7,16 +7,15 @@ package org.eolang.jeo;
 import com.jcabi.log.Logger;
 import java.io.File;
 import java.nio.file.Path;
-import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.apache.maven.artifact.DependencyResolutionRequiredException;
-import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
-import org.cactoos.set.SetOf;
-import org.eolang.jeo.representation.directives.Format;
 
 /**
  * Disassembles Java bytecode into XMIR representation.
@@ -31,7 +30,7 @@ import org.eolang.jeo.representation.directives.Format;
  * @since 0.1.0
  */
 @Mojo(name = "disassemble", defaultPhase = LifecyclePhase.PROCESS_CLASSES, requiresProject = false)
-public final class DisassembleMojo extends AbstractMojo {
+public final class DisassembleMojo extends AbstractDisassembleMojo {
 
     /**
      * Maven project instance.
@@ -94,79 +93,6 @@ public final class DisassembleMojo extends AbstractMojo {
     )
     private boolean disabled;
 
-    /**
-     * Disassembly mode controlling the level of detail in output.
-     * <p>
-     * Supported modes:
-     * <ul>
-     *   <li>{@code short} - Minimal output with bytecode instructions only</li>
-     *   <li>{@code debug} - Include debug information such as line numbers, local variables,
-     *       and source file references (default)</li>
-     * </ul>
-     * </p>
-     *
-     * @since 0.6.0
-     * @checkstyle MemberNameCheck (6 lines)
-     */
-    @Parameter(
-        property = "jeo.disassemble.mode",
-        defaultValue = "debug"
-    )
-    private String mode;
-
-    /**
-     * Flag to omit detailed bytecode listings in generated XMIR.
-     * <p>
-     * When enabled, the {@code <listing>} element in XMIR files will not contain bytecode listing.
-     * This reduces file size and improves readability in production environments where detailed
-     * bytecode output is not needed. When disabled, full bytecode listings are included
-     * for debugging purposes.
-     * </p>
-     *
-     * @since 0.11.0
-     * @checkstyle MemberNameCheck (6 lines)
-     */
-    @Parameter(
-        property = "jeo.disassemble.omitListings",
-        defaultValue = "true"
-    )
-    private boolean omitListings;
-
-    /**
-     * Flag to omit XML comments in generated XMIR files.
-     * <p>
-     * When enabled, no comments will be generated in the XMIR output, which can be
-     * useful for production builds where comments are not needed and may reduce file size.
-     * When disabled, XML comments will be included to provide debugging information.
-     * </p>
-     *
-     * @since 0.11.0
-     * @checkstyle MemberNameCheck (6 lines)
-     */
-    @Parameter(
-        property = "jeo.disassemble.omitComments",
-        defaultValue = "true"
-    )
-    private boolean omitComments;
-
-    /**
-     * Flag to enable pretty-printing of XMIR files.
-     * <p>
-     *     When enabled, the generated XMIR files will be formatted with indentation (2 spaces) and
-     *     line breaks for better readability.
-     *     This is useful for development and debugging purposes.
-     *     By default, pretty-printing is enabled, but it's best to disable it for large
-     *     projects or production builds to reduce file size and improve performance.
-     * </p>
-     * @since 0.11.0
-     * @checkstyle MemberNameCheck (6 lines)
-     */
-    @Parameter(
-        property = "jeo.disassemble.prettyXmir",
-        defaultValue = "true"
-    )
-    private boolean prettyXmir;
-
     /**
      * Flag to enable XMIR verification after disassembling.
      * <p>
@@ -185,65 +111,58 @@ public final class DisassembleMojo extends AbstractMojo {
     private boolean xmirVerification;
 
     /**
-     * Should method modifiers be included in the output.
+     * Directory where the inventory of found files is kept between runs.
      * <p>
-     * When true, method modifiers (e.g., public, private, static) will be
-     * included in the disassembled output.
+     * On the next run only the directories that have changed are listed again,
+     * which saves a lot of time on slow network file systems. Directories changed
+     * within two seconds before a run are always listed again, since coarse
+     * modification times can't tell their later changes apart.
+     * Not set by default, so the whole tree is listed on every run.
+     * Set it, for example, to {@code ${project.build.directory}/jeo-inventory}.
      * </p>
      *
-     * @since 0.14.0
+     * @since 0.16.0
      * @checkstyle MemberNameCheck (6 lines)
      */
-    @Parameter(
-        property = "jeo.disassemble.xmir.modifiers",
-        defaultValue = "false"
-    )
-    private boolean modifiers;
+    @Parameter(property = "jeo.inventory.directory")
+    private File inventoryDir;
 
     /**
-     * Set of inclusion GLOB filters for finding .class files
-     * in the {@link #sourcesDir} directory.
+     * Index of the shard translated by this build node, from {@code 0}
+     * to {@link #shardCount} minus one.
+     * <p>
+     * Files are partitioned between shards by a stable hash of their relative paths,
+     * so several build nodes can translate the same project in parallel. Each shard
+     * saves a report into {@link #shardReports}, which are checked and combined
+     * by the merge-shards goal.
+     * </p>
      *
-     * @since 0.13.0
-     * @checkstyle MemberNameCheck (15 lines)
+     * @since 0.16.0
+     * @checkstyle MemberNameCheck (6 lines)
      */
-    @Parameter(property = "jeo.disassemble.includes")
-    @SuppressWarnings("PMD.ImmutableField")
-    private Set<String> includes = new SetOf<>("**/*.class");
+    @Parameter(property = "jeo.shard.index", defaultValue = "0")
+    private int shardIndex;
 
     /**
-     * Set of exclusion GLOB filters for finding .class files
-     * in the {@link #sourcesDir} directory.
+     * Total number of shards, {@code 1} means no sharding.
      *
-     * @since 0.13.0
-     * @checkstyle MemberNameCheck (7 lines)
-     */
-    @Parameter(property = "jeo.disassemble.excludes")
-    @SuppressWarnings("PMD.ImmutableField")
-    private Set<String> excludes = new SetOf<>();
-
-    /**
-     * Enable debug logging for the disassembly process.
-     * @since 0.15.0
+     * @since 0.16.0
      * @checkstyle MemberNameCheck (6 lines)
      */
-    @Parameter(property = "jeo.disassemble.debug", defaultValue = "false")
-    private boolean debug;
+    @Parameter(property = "jeo.shard.count", defaultValue = "1")
+    private int shardCount;
 
     /**
-     * Number of threads for parallel disassembly.
-     * <p>
-     * When set to {@code 0} (default), the plugin automatically selects the number of threads
-     * based on {@link Runtime#availableProcessors()}. When set to a positive value, the plugin
-     * uses exactly that many threads, scoped to a dedicated {@code ForkJoinPool} so that
-     * the setting does not affect the rest of the build.
-     * </p>
+     * Directory for shard reports.
      *
-     * @since 0.15.0
+     * @since 0.16.0
      * @checkstyle MemberNameCheck (6 lines)
      */
-    @Parameter(property = "jeo.disassemble.threads", defaultValue = "0")
-    private int threads;
+    @Parameter(
+        property = "jeo.shard.reports",
+        defaultValue = "${project.build.directory}/jeo-shards"
+    )
+    private File shardReports;
 
     @Override
     public void execute() throws MojoExecutionException {
@@ -254,33 +173,30 @@ public final class DisassembleMojo extends AbstractMojo {
             if (this.disabled) {
                 Logger.info(this, "Disassemble mojo is disabled, skipping");
             } else {
-                final boolean listings = !this.omitListings;
-                final boolean comments = !this.omitComments;
-                Logger.info(
-                    this,
-                    "Disassembling is started with mode '%s' (with listings = '%b', comments = '%b', modifiers = '%b', pretty = '%b')",
-                    this.mode,
-                    listings,
-                    comments,
-                    this.modifiers,
-                    this.prettyXmir
-                );
-                new Disassembler(
+                final DisassembleSettings settings = this.settings();
+                Logger.info(this, "Disassembling is started with %s", settings);
+                final Shard shard = new Shard(this.shardIndex, this.shardCount);
+                final GlobFilter filter = settings.filter();
+                final Classes classes = new ShardedClasses(
                     new FilteredClasses(
-                        new BytecodeClasses(src),
-                        new GlobFilter(this.includes, this.excludes)
+                        new BytecodeClasses(
+                            src, this.inventory(src, "classes", filter.within(src)::descends)
+                        ),
+                        filter
                     ),
+                    shard
+                );
+                final long start = System.currentTimeMillis();
+                new Disassembler(
+                    classes,
                     out,
-                    new Format(
-                        Format.MODIFIERS, this.modifiers,
-                        Format.COMMENTS, comments,
-                        Format.WITH_LISTING, listings,
-                        Format.PRETTY, this.prettyXmir,
-                        Format.MODE, this.mode
-                    ),
-                    this.debug,
-                    this.threads
+                    settings.format(),
+                    this.debug(),
+                    this.threads(),
+                    this.store(),
+                    this.budget()
                 ).disassemble();
+                this.report(shard, src, classes.all(), start);
                 if (this.xmirVerification) {
                     Logger.info(this, "Verifying all the XMIR files after disassembling");
                     new XmirFiles(out).verify();
@@ -297,4 +213,43 @@ public final class DisassembleMojo extends AbstractMojo {
             );
         }
     }
+
+    /**
+     * Save the report of the shard, if the run is sharded.
+     * @param shard Shard
+     * @param root Root directory of translated files
+     * @param files Translated files
+     * @param start When the translation started
+     */
+    private void report(
+        final Shard shard, final Path root, final Stream<Path> files, final long start
+    ) {
+        if (!shard.single()) {
+            new ShardReport(
+                "disassemble",
+                shard,
+                System.currentTimeMillis() - start,
+                files.map(file -> Shard.relative(root, file)).collect(Collectors.toList())
+            ).save(this.shardReports.toPath());
+        }
+    }
+
+    /**
+     * Inventory of the directory.
+     * @param root Directory
+     * @param name Name of the inventory
+     * @param dirs Directories to walk
+     * @return Inventory, not persisted if the inventory directory is not set
+     */
+    private Inventory inventory(final Path root, final String name, final Predicate<Path> dirs) {
+        final Inventory result;
+        if (this.inventoryDir == null) {
+            result = new Inventory(root, dirs);
+        } else {
+            result = new Inventory(
+                root, dirs, this.inventoryDir.toPath().resolve(String.format("%s.txt", name))
+            );
+        }
+        return result;
+    }
 }
@@ -0,0 +1,170 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import java.util.Set;
+import org.eolang.jeo.representation.directives.Format;
+
+/**
+ * Disassembling settings from the plugin parameters.
+ *
+ * <p>All the goals that disassemble classes build the XMIR format and the class
+ * filter here, so the same parameters give the same XMIR no matter which goal
+ * produced it.</p>
+ *
+ * @since 0.16.0
+ */
+final class DisassembleSettings {
+
+    /**
+     * Disassembly mode.
+     */
+    private final String mode;
+
+    /**
+     * Omit listings.
+     */
+    private final boolean nolistings;
+
+    /**
+     * Write listings into side-car files.
+     */
+    private final boolean sidecar;
+
+    /**
+     * Omit comments.
+     */
+    private final boolean nocomments;
+
+    /**
+     * Include modifiers.
+     */
+    private final boolean modifiers;
+
+    /**
+     * Pretty print XMIR.
+     */
+    private final boolean pretty;
+
+    /**
+     * Compress XMIR.
+     */
+    private final boolean compress;
+
+    /**
+     * Add fingerprints.
+     */
+    private final boolean fingerprints;
+
+    /**
+     * Make XMIR reproducible.
+     */
+    private final boolean reproducible;
+
+    /**
+     * Methods to disassemble, empty for all.
+     */
+    private final String methods;
+
+    /**
+     * Inclusion GLOB filters.
+     */
+    private final Set<String> includes;
+
+    /**
+     * Exclusion GLOB filters.
+     */
+    private final Set<String> excludes;
+
+    /**
+     * Constructor.
+     * @param mode Disassembly mode
+     * @param nolistings Omit listings
+     * @param sidecar Write listings into side-car files
+     * @param nocomments Omit comments
+     * @param modifiers Include modifiers
+     * @param pretty Pretty print XMIR
+     * @param compress Compress XMIR
+     * @param fingerprints Add fingerprints
+     * @param reproducible Make XMIR reproducible
+     * @param methods Methods to disassemble, empty for all
+     * @param includes Inclusion GLOB filters
+     * @param excludes Exclusion GLOB filters
+     * @checkstyle ParameterNumberCheck (20 lines)
+     */
+    @SuppressWarnings("PMD.ExcessiveParameterList")
+    DisassembleSettings(
+        final String mode,
+        final boolean nolistings,
+        final boolean sidecar,
+        final boolean nocomments,
+        final boolean modifiers,
+        final boolean pretty,
+        final boolean compress,
+        final boolean fingerprints,
+        final boolean reproducible,
+        final String methods,
+        final Set<String> includes,
+        final Set<String> excludes
+    ) {
+        this.mode = mode;
+        this.nolistings = nolistings;
+        this.sidecar = sidecar;
+        this.nocomments = nocomments;
+        this.modifiers = modifiers;
+        this.pretty = pretty;
+        this.compress = compress;
+        this.fingerprints = fingerprints;
+        this.reproducible = reproducible;
+        this.methods = methods;
+        this.includes = includes;
+        this.excludes = excludes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "mode '%s' (with listings = '%b', side-car listings = '%b', comments = '%b', modifiers = '%b', pretty = '%b', compress = '%b', fingerprints = '%b', reproducible = '%b', methods = '%s') and %s",
+            this.mode,
+            !this.nolistings,
+            this.sidecar,
+            !this.nocomments,
+            this.modifiers,
+            this.pretty,
+            this.compress,
+            this.fingerprints,
+            this.reproducible,
+            this.methods,
+            this.filter()
+        );
+    }
+
+    /**
+     * Format of XMIR.
+     * @return Format
+     */
+    Format format() {
+        return new Format(
+            Format.MODIFIERS, this.modifiers,
+            Format.COMMENTS, !this.nocomments,
+            Format.WITH_LISTING, !this.nolistings,
+            Format.SIDECAR_LISTING, this.sidecar,
+            Format.PRETTY, this.pretty,
+            Format.MODE, this.mode,
+            Format.COMPRESSED, this.compress,
+            Format.FINGERPRINTS, this.fingerprints,
+            Format.REPRODUCIBLE, this.reproducible,
+            Format.METHODS, this.methods
+        );
+    }
+
+    /**
+     * Filter of class files.
+     * @return Filter
+     */
+    GlobFilter filter() {
+        return new GlobFilter(this.includes, this.excludes);
+    }
+}
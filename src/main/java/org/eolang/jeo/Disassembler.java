@@ -21,7 +21,14 @@ import org.eolang.jeo.representation.directives.Format;
  * disassembly modes for various levels of detail.</p>
  * @since 0.1.0
  */
-public final class Disassembler {
+public final class Disassembler implements Batch {
+
+    /**
+     * Estimated bytes of heap per byte of a class file.
+     * <p>A class is expanded into the ASM tree, the directives, the XML document and
+     * the printed XMIR, all alive at the same time.</p>
+     */
+    private static final long FACTOR = 64L;
 
     /**
      * Project compiled classes.
@@ -49,6 +56,16 @@ public final class Disassembler {
      */
     private final int threads;
 
+    /**
+     * Shared store of translation results.
+     */
+    private final TranslationStore store;
+
+    /**
+     * Heap budget of parallel disassembling.
+     */
+    private final Budget budget;
+
     /**
      * Constructor.
      * @param classes Directory containing compiled class files
@@ -107,12 +124,58 @@ public final class Disassembler {
         final Format params,
         final boolean debug,
         final int threads
+    ) {
+        this(classes, target, params, debug, threads, new TranslationStore());
+    }
+
+    /**
+     * Constructor.
+     * @param classes Project compiled classes
+     * @param target Where to save decompiled classes
+     * @param params Disassembling params.
+     * @param debug Enables detailed debug logging
+     * @param threads Number of threads (0 = use available processors automatically)
+     * @param store Shared store of translation results
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public Disassembler(
+        final Classes classes,
+        final Path target,
+        final Format params,
+        final boolean debug,
+        final int threads,
+        final TranslationStore store
+    ) {
+        this(classes, target, params, debug, threads, store, new Budget());
+    }
+
+    /**
+     * Constructor.
+     * @param classes Project compiled classes
+     * @param target Where to save decompiled classes
+     * @param params Disassembling params.
+     * @param debug Enables detailed debug logging
+     * @param threads Number of threads (0 = use available processors automatically)
+     * @param store Shared store of translation results
+     * @param budget Heap budget of parallel disassembling
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public Disassembler(
+        final Classes classes,
+        final Path target,
+        final Format params,
+        final boolean debug,
+        final int threads,
+        final TranslationStore store,
+        final Budget budget
     ) {
         this.classes = classes;
         this.target = target;
         this.params = params;
         this.debug = debug;
         this.threads = threads;
+        this.store = store;
+        this.budget = budget;
     }
 
     /**
@@ -122,15 +185,38 @@ public final class Disassembler {
         final String process = "Disassembling";
         final String disassembled = "disassembled";
         final Counter counter = new Counter(this.classes.total());
-        final Stream<Path> stream = new Summary(
+        try (Stream<Path> stream = new Summary(
             process,
             disassembled,
             this.classes.toString(),
             this.target,
-            new ParallelTranslator(path -> this.disassemble(path, counter), this.threads)
-        ).apply(this.classes.all());
-        stream.forEach(this::log);
-        stream.close();
+            new ParallelTranslator(
+                path -> this.translate(path, counter), this.threads, this.budget, this::footprint
+            ),
+            counter
+        ).apply(this.classes.all())) {
+            stream.forEach(this::log);
+        }
+    }
+
+    @Override
+    public Path root() {
+        return this.classes.root();
+    }
+
+    @Override
+    public long total() {
+        return this.classes.total();
+    }
+
+    @Override
+    public Stream<Path> sources() {
+        return this.classes.all();
+    }
+
+    @Override
+    public long footprint(final Path source) {
+        return Budget.footprint(source, Disassembler.FACTOR);
     }
 
     /**
@@ -139,42 +225,64 @@ public final class Disassembler {
      * @param counter File size counter
      * @return Path to the disassembled XMIR file
      */
-    private Path disassemble(final Path path, final Counter counter) {
+    @Override
+    public Path translate(final Path path, final Counter counter) {
         final Transformation trans = new Logging(
             "Disassembling",
             "disassembled",
             new Caching(
-                new Informative(
-                    new Disassembling(this.classes.root(), this.target, path, this.params)
+                this.stored(
+                    new Informative(
+                        new Disassembling(this.classes.root(), this.target, path, this.params)
+                    )
                 )
             ),
             this.debug,
             counter
         );
-        trans.transform();
+        trans.perform();
         return trans.target();
     }
 
+    /**
+     * Consult the shared store before disassembling.
+     * <p>Side-car listings are written by the disassembling itself,
+     * so such disassembling always runs.</p>
+     * @param origin Original disassembling
+     * @return Transformation
+     */
+    private Transformation stored(final Transformation origin) {
+        final Transformation result;
+        if (this.params.withListing() && this.params.sidecarListing()) {
+            result = origin;
+        } else {
+            result = this.store.decorate(origin, String.format("disassemble %s", this.params));
+        }
+        return result;
+    }
+
     /**
      * Log the disassembling process.
      * @param disassembled Path to the disassembled XMIR file
      */
     private void log(final Path disassembled) {
-        try {
-            Logger.debug(
-                this,
-                "Disassembling of %[file]s (%[size]s) finished successfully",
-                disassembled,
-                Files.size(disassembled)
-            );
-        } catch (final IOException exception) {
-            throw new IllegalStateException(
-                String.format(
-                    "Failed to get size of '%s'",
-                    disassembled
-                ),
-                exception
-            );
+        if (Logger.isDebugEnabled(this)) {
+            try {
+                Logger.debug(
+                    this,
+                    "Disassembling of %[file]s (%[size]s) finished successfully",
+                    disassembled,
+                    Files.size(disassembled)
+                );
+            } catch (final IOException exception) {
+                throw new IllegalStateException(
+                    String.format(
+                        "Failed to get size of '%s'",
+                        disassembled
+                    ),
+                    exception
+                );
+            }
         }
     }
 }
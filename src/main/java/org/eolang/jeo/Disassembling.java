@@ -4,9 +4,16 @@
  */
 package org.eolang.jeo;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
 import org.eolang.jeo.representation.BytecodeRepresentation;
+import org.eolang.jeo.representation.Stage;
 import org.eolang.jeo.representation.directives.Format;
 
 /**
@@ -15,6 +22,13 @@ import org.eolang.jeo.representation.directives.Format;
  * <p>This class implements the transformation process that converts Java bytecode
  * into XMIR representation. It reads .class files and produces corresponding
  * XMIR files in the specified target directory with configurable detail levels.</p>
+ *
+ * <p>If the {@link Format#compressed()} option is enabled, the XMIR is written
+ * through a {@link GZIPOutputStream} into a {@code .xmir.gz} file.</p>
+ *
+ * <p>If the {@link Format#sidecarListing()} option is enabled, the listing is
+ * streamed into a {@code .lst} file next to the XMIR file instead of being
+ * embedded into XMIR.</p>
  * @since 0.6.0
  */
 public final class Disassembling implements Transformation {
@@ -74,14 +88,72 @@ public final class Disassembling implements Transformation {
         } else {
             address = this.folder;
         }
-        return address.resolve(String.format("%s.xmir", this.fileName()));
+        final String extension;
+        if (this.params.compressed()) {
+            extension = "xmir.gz";
+        } else {
+            extension = "xmir";
+        }
+        return address.resolve(String.format("%s.%s", this.fileName(), extension));
     }
 
     @Override
-    public byte[] transform() {
-        return new BytecodeRepresentation(this.clazz)
-            .toEO(this.params)
-            .getBytes(StandardCharsets.UTF_8);
+    public void transform(final OutputStream output) throws IOException {
+        final String xmir;
+        if (this.params.withListing() && this.params.sidecarListing()) {
+            xmir = this.withSidecarListing();
+        } else {
+            xmir = new BytecodeRepresentation(this.clazz).toEO(this.params);
+        }
+        final Stage.Span span = Stage.WRITE.begin();
+        if (this.params.compressed()) {
+            final GZIPOutputStream gzip = new GZIPOutputStream(output);
+            Disassembling.write(xmir, gzip);
+            gzip.finish();
+        } else {
+            Disassembling.write(xmir, output);
+        }
+        span.end(this.clazz.toString(), xmir.length(), 0L);
+    }
+
+    /**
+     * Path to the side-car listing file.
+     * <p>It lies next to the XMIR file and has the {@code .lst} extension.</p>
+     * @return Path to the listing file.
+     */
+    Path listing() {
+        return this.target().resolveSibling(String.format("%s.lst", this.fileName()));
+    }
+
+    /**
+     * Disassemble the class and stream its listing into the side-car file.
+     * @return XMIR without listing
+     */
+    private String withSidecarListing() {
+        final Path lst = this.listing();
+        try {
+            Files.createDirectories(lst.getParent());
+            try (Writer writer = Files.newBufferedWriter(lst, StandardCharsets.UTF_8)) {
+                return new BytecodeRepresentation(this.clazz).toEO(this.params, writer);
+            }
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Failed to write the listing of '%s' to '%s'", this.clazz, lst),
+                exception
+            );
+        }
+    }
+
+    /**
+     * Write XMIR to the output without closing it.
+     * @param xmir XMIR to write
+     * @param output Output
+     * @throws IOException If writing fails
+     */
+    private static void write(final String xmir, final OutputStream output) throws IOException {
+        final Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+        writer.write(xmir);
+        writer.flush();
     }
 
     /**
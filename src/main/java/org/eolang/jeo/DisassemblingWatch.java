@@ -0,0 +1,281 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import com.jcabi.log.Logger;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
+import org.cactoos.set.SetOf;
+import org.eolang.jeo.representation.directives.Format;
+
+/**
+ * Continuous disassembling of changed classes.
+ *
+ * <p>It watches the classes directory with {@link WatchService} and disassembles only
+ * those class files that were created or modified since the last poll and pass the
+ * filter. XMIR files of deleted classes and directories of XMIR files of deleted
+ * directories are deleted too. The same instance is supposed to live for the whole
+ * session, so the class loader, the watch service and the translation store are set up
+ * only once.</p>
+ * @since 0.16.0
+ */
+public final class DisassemblingWatch implements Closeable {
+
+    /**
+     * Class file extension.
+     */
+    private static final String CLASS = ".class";
+
+    /**
+     * Directory with classes.
+     */
+    private final Path classes;
+
+    /**
+     * Where to save XMIR files.
+     */
+    private final Path target;
+
+    /**
+     * Disassembling params.
+     */
+    private final Format params;
+
+    /**
+     * Filter of class files.
+     */
+    private final GlobFilter filter;
+
+    /**
+     * Shared store of translation results.
+     */
+    private final TranslationStore store;
+
+    /**
+     * Watch service with all the directories registered.
+     */
+    private final Unchecked<WatchService> service;
+
+    /**
+     * Constructor.
+     * @param classes Directory with classes
+     * @param target Where to save XMIR files
+     * @param params Disassembling params
+     * @param store Shared store of translation results
+     */
+    public DisassemblingWatch(
+        final Path classes,
+        final Path target,
+        final Format params,
+        final TranslationStore store
+    ) {
+        this(classes, target, params, new GlobFilter(new SetOf<>(), new SetOf<>()), store);
+    }
+
+    /**
+     * Constructor.
+     * @param classes Directory with classes
+     * @param target Where to save XMIR files
+     * @param params Disassembling params
+     * @param filter Filter of class files, relative to the directory with classes
+     * @param store Shared store of translation results
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public DisassemblingWatch(
+        final Path classes,
+        final Path target,
+        final Format params,
+        final GlobFilter filter,
+        final TranslationStore store
+    ) {
+        this.classes = classes;
+        this.target = target;
+        this.params = params;
+        this.filter = filter;
+        this.store = store;
+        this.service = new Unchecked<>(new Sticky<>(this::register));
+    }
+
+    /**
+     * Wait for changes and disassemble changed classes.
+     * <p>All the changes that happened by the moment the first one is noticed are
+     * processed together, so each class is disassembled at most once per poll.</p>
+     * @param timeout How long to wait for changes, in milliseconds
+     * @return Number of processed class files
+     * @throws InterruptedException If interrupted while waiting
+     */
+    public int poll(final long timeout) throws InterruptedException {
+        final WatchService watch = this.service.value();
+        final Collection<Path> changed = new LinkedHashSet<>(0);
+        WatchKey key = watch.poll(timeout, TimeUnit.MILLISECONDS);
+        while (key != null) {
+            final Path dir = (Path) key.watchable();
+            for (final WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    changed.addAll(DisassemblingWatch.classes(this.classes));
+                } else {
+                    changed.addAll(this.changed(watch, dir.resolve((Path) event.context())));
+                }
+            }
+            key.reset();
+            key = watch.poll();
+        }
+        final Collection<Path> filtered = changed.stream()
+            .filter(this.filter.within(this.classes))
+            .collect(Collectors.toList());
+        filtered.forEach(this::translate);
+        return filtered.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.service.value().close();
+    }
+
+    /**
+     * Class files affected by the change of the path.
+     * @param watch Watch service
+     * @param path Changed path
+     * @return Affected class files
+     */
+    private Collection<Path> changed(final WatchService watch, final Path path) {
+        final Collection<Path> result;
+        if (Files.isDirectory(path)) {
+            DisassemblingWatch.register(watch, path);
+            result = DisassemblingWatch.classes(path);
+        } else if (path.getFileName().toString().endsWith(DisassemblingWatch.CLASS)) {
+            result = Collections.singleton(path);
+        } else if (Files.notExists(path)) {
+            this.remove(path);
+            result = Collections.emptySet();
+        } else {
+            result = Collections.emptySet();
+        }
+        return result;
+    }
+
+    /**
+     * Disassemble the class or delete XMIR of the deleted class.
+     * <p>A class file may be caught in the middle of writing. In this case the
+     * failure is only logged, since the next change of the file will trigger
+     * one more attempt.</p>
+     * @param clazz Class file
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void translate(final Path clazz) {
+        final Disassembling disassembling = new Disassembling(
+            this.classes, this.target, clazz, this.params
+        );
+        try {
+            if (Files.exists(clazz)) {
+                final long start = System.currentTimeMillis();
+                new Caching(
+                    this.store.decorate(
+                        new Informative(disassembling),
+                        String.format("disassemble %s", this.params)
+                    )
+                ).perform();
+                Logger.info(
+                    this,
+                    "%[file]s disassembled in %[ms]s",
+                    clazz,
+                    System.currentTimeMillis() - start
+                );
+            } else {
+                Files.deleteIfExists(disassembling.target());
+                Logger.info(this, "%[file]s deleted", disassembling.target());
+            }
+        } catch (final IOException | RuntimeException exception) {
+            Logger.warn(this, "Can't disassemble %[file]s: %s", clazz, exception.getMessage());
+        }
+    }
+
+    /**
+     * Delete the directory of XMIR files of the deleted directory with classes.
+     * @param dir Deleted directory with classes
+     */
+    private void remove(final Path dir) {
+        final Path xmir = this.target.resolve(this.classes.relativize(dir));
+        if (Files.isDirectory(xmir)) {
+            try (Stream<Path> all = Files.walk(xmir)) {
+                for (final Path path : all.sorted(Comparator.reverseOrder())
+                    .collect(Collectors.toList())) {
+                    Files.deleteIfExists(path);
+                }
+                Logger.info(this, "%[file]s deleted", xmir);
+            } catch (final IOException exception) {
+                Logger.warn(this, "Can't delete %[file]s: %s", xmir, exception.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Create watch service and register all the directories with classes.
+     * @return Watch service
+     * @throws IOException If the watch service can't be created
+     */
+    private WatchService register() throws IOException {
+        final WatchService result = FileSystems.getDefault().newWatchService();
+        DisassemblingWatch.register(result, this.classes);
+        return result;
+    }
+
+    /**
+     * Register the directory and all its subdirectories.
+     * @param watch Watch service
+     * @param root Directory
+     */
+    private static void register(final WatchService watch, final Path root) {
+        try (Stream<Path> dirs = Files.walk(root)) {
+            for (final Path dir : dirs.filter(Files::isDirectory).collect(Collectors.toList())) {
+                dir.register(
+                    watch,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE
+                );
+            }
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Can't watch the directory '%s'", root),
+                exception
+            );
+        }
+    }
+
+    /**
+     * All class files in the directory.
+     * @param root Directory
+     * @return Class files
+     */
+    private static Collection<Path> classes(final Path root) {
+        try (Stream<Path> all = Files.walk(root)) {
+            return all.filter(Files::isRegularFile)
+                .filter(path -> path.getFileName().toString().endsWith(DisassemblingWatch.CLASS))
+                .collect(Collectors.toList());
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Can't find classes in the directory '%s'", root),
+                exception
+            );
+        }
+    }
+}
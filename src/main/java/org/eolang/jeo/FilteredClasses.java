@@ -10,9 +10,15 @@ import java.util.List;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
 
 /**
  * Filtered classes.
+ * <p>The original classes are filtered only once, counting and processing
+ * share the result. Paths are matched relative to the root of the original
+ * classes.</p>
  * @since 0.14.0
  */
 final class FilteredClasses implements Classes {
@@ -32,6 +38,11 @@ final class FilteredClasses implements Classes {
      */
     private final Consumer<String> logger;
 
+    /**
+     * Filtered classes, found only once.
+     */
+    private final Unchecked<List<Path>> found;
+
     /**
      * Constructor.
      * @param original Original classes to filter
@@ -55,6 +66,7 @@ final class FilteredClasses implements Classes {
         this.original = original;
         this.filter = filter;
         this.logger = logger;
+        this.found = new Unchecked<>(new Synced<>(new Sticky<>(this::filtered)));
     }
 
     @Override
@@ -69,16 +81,26 @@ final class FilteredClasses implements Classes {
 
     @Override
     public Stream<Path> all() {
-        final List<Path> res = this.original.all().filter(this.filter).collect(Collectors.toList());
-        final int size = res.size();
-        this.logger.accept(
-            String.format("Found %d files in %s using %s", size, this.original, this.filter)
-        );
-        return res.stream();
+        return this.found.value().stream();
     }
 
     @Override
     public String toString() {
         return this.original.toString();
     }
+
+    /**
+     * Filter the original classes.
+     * @return Filtered classes
+     */
+    private List<Path> filtered() {
+        final List<Path> res = this.original.all()
+            .filter(this.filter.within(this.original.root()))
+            .collect(Collectors.toList());
+        final int size = res.size();
+        this.logger.accept(
+            String.format("Found %d files in %s using %s", size, this.original, this.filter)
+        );
+        return res;
+    }
 }
@@ -4,11 +4,16 @@
  */
 package org.eolang.jeo;
 
+import java.io.File;
 import java.nio.file.FileSystems;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -18,10 +23,37 @@ import java.util.stream.Collectors;
  * </p>
  * Returns true if the path matches any of the include patterns and does not match any of
  * the exclude patterns.
+ * <p>
+ *     All the patterns are compiled once. Besides files, the filter can tell whether
+ *     anything under a directory may pass it at all, see {@link #descends(Path)},
+ *     so discovery doesn't have to walk excluded subtrees.
+ * </p>
+ * <p>
+ *     Patterns are matched against paths relative to the root directory, see
+ *     {@link #within(Path)}, so {@code com/foo/**} selects {@code com/foo} of the
+ *     classes directory no matter where the directory is. A leading <code>**&#47;</code>
+ *     matches zero directories too, so <code>**&#47;*.class</code> selects classes
+ *     right in the root.
+ * </p>
  * @since 0.13.0
  */
 public final class GlobFilter implements Predicate<Path> {
 
+    /**
+     * Glob prefix that matches any number of directories.
+     */
+    private static final String ANY = "**/";
+
+    /**
+     * Glob suffix that matches everything under a directory.
+     */
+    private static final String SUBTREE = "/**";
+
+    /**
+     * Characters that must be escaped in regular expressions.
+     */
+    private static final String SPECIAL = "\\.[]{}()<>*+-=!?^$|";
+
     /**
      * Includes glob patterns.
      */
@@ -32,6 +64,31 @@ public final class GlobFilter implements Predicate<Path> {
      */
     private final Set<String> excludes;
 
+    /**
+     * Compiled include patterns.
+     */
+    private final List<PathMatcher> whitelist;
+
+    /**
+     * Compiled exclude patterns.
+     */
+    private final List<PathMatcher> blacklist;
+
+    /**
+     * Partial include patterns that tell whether a directory may contain matches.
+     */
+    private final List<Pattern> prefixes;
+
+    /**
+     * Directories, everything under which is excluded.
+     */
+    private final List<PathMatcher> subtrees;
+
+    /**
+     * Root directory, paths are matched relative to it.
+     */
+    private final Path root;
+
     /**
      * Ctor.
      *
@@ -39,8 +96,65 @@ public final class GlobFilter implements Predicate<Path> {
      * @param excludes Glob patterns to exclude
      */
     GlobFilter(final Set<String> includes, final Set<String> excludes) {
+        this(
+            includes,
+            excludes,
+            includes.stream().map(GlobFilter::matcher).collect(Collectors.toList()),
+            excludes.stream().map(GlobFilter::matcher).collect(Collectors.toList()),
+            includes.stream().map(GlobFilter::partial).collect(Collectors.toList()),
+            GlobFilter.subtrees(excludes),
+            Paths.get("")
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param includes Glob patterns to include
+     * @param excludes Glob patterns to exclude
+     * @param whitelist Compiled include patterns
+     * @param blacklist Compiled exclude patterns
+     * @param prefixes Partial include patterns
+     * @param subtrees Excluded directories
+     * @param root Root directory, paths are matched relative to it
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    @SuppressWarnings("PMD.ExcessiveParameterList")
+    private GlobFilter(
+        final Set<String> includes,
+        final Set<String> excludes,
+        final List<PathMatcher> whitelist,
+        final List<PathMatcher> blacklist,
+        final List<Pattern> prefixes,
+        final List<PathMatcher> subtrees,
+        final Path root
+    ) {
         this.includes = includes;
         this.excludes = excludes;
+        this.whitelist = whitelist;
+        this.blacklist = blacklist;
+        this.prefixes = prefixes;
+        this.subtrees = subtrees;
+        this.root = root;
+    }
+
+    /**
+     * The same filter for paths under the given directory.
+     * <p>Paths under the directory are matched relative to it, other paths are
+     * matched as they are.</p>
+     * @param dir Root directory, like the directory with classes
+     * @return Filter
+     */
+    GlobFilter within(final Path dir) {
+        return new GlobFilter(
+            this.includes,
+            this.excludes,
+            this.whitelist,
+            this.blacklist,
+            this.prefixes,
+            this.subtrees,
+            dir
+        );
     }
 
     @Override
@@ -74,30 +188,141 @@ public final class GlobFilter implements Predicate<Path> {
 
     @Override
     public boolean test(final Path path) {
-        final Set<PathMatcher> whitelist = this.includes.stream()
-            .map(GlobFilter::matcher)
-            .collect(Collectors.toSet());
-        final Set<PathMatcher> blacklist = this.excludes.stream()
-            .map(GlobFilter::matcher)
-            .collect(Collectors.toSet());
+        final Path relative = this.relative(path);
         final boolean included;
-        if (blacklist.stream().anyMatch(m -> m.matches(path))) {
+        if (this.blacklist.stream().anyMatch(m -> m.matches(relative))) {
             included = false;
         } else {
-            included = whitelist.isEmpty() || whitelist.stream()
-                .anyMatch(matcher -> matcher.matches(path));
+            included = this.whitelist.isEmpty() || this.whitelist.stream()
+                .anyMatch(matcher -> matcher.matches(relative));
         }
         return included;
     }
 
+    /**
+     * Can anything under the directory pass the filter?
+     * <p>The answer is conservative: {@code false} means that no path under the
+     * directory can pass the filter, while {@code true} means that some might.
+     * A directory is skipped if it matches the part of an exclude pattern before
+     * the trailing {@code /**}, or if the beginning of no include pattern fits it.</p>
+     * @param dir Directory
+     * @return True if the directory has to be visited
+     */
+    public boolean descends(final Path dir) {
+        final Path relative = this.relative(dir);
+        final boolean result;
+        if (relative.toString().isEmpty()) {
+            result = true;
+        } else if (this.subtrees.stream().anyMatch(m -> m.matches(relative))) {
+            result = false;
+        } else if (this.prefixes.isEmpty()) {
+            result = true;
+        } else {
+            final String prefix = String.format(
+                "%s/", relative.toString().replace(File.separatorChar, '/')
+            );
+            result = this.prefixes.stream().anyMatch(
+                pattern -> {
+                    final Matcher matcher = pattern.matcher(prefix);
+                    return matcher.matches() || matcher.hitEnd();
+                }
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Path relative to the root directory.
+     * @param path Path
+     * @return Relative path, or the path itself if it's not under the root
+     */
+    private Path relative(final Path path) {
+        final Path result;
+        if (this.root.toString().isEmpty() || !path.startsWith(this.root)) {
+            result = path;
+        } else {
+            result = this.root.relativize(path);
+        }
+        return result;
+    }
+
     /**
      * Create a PathMatcher for the given glob pattern.
+     * <p>A leading <code>**&#47;</code> matches zero directories as well.</p>
      * @param pattern Glob pattern to match
      * @return PathMatcher for the glob pattern
      */
     private static PathMatcher matcher(final String pattern) {
-        return FileSystems.getDefault().getPathMatcher(
+        final PathMatcher full = FileSystems.getDefault().getPathMatcher(
             String.format("glob:%s", pattern)
         );
+        final PathMatcher result;
+        if (pattern.startsWith(GlobFilter.ANY)) {
+            final PathMatcher rest = GlobFilter.matcher(
+                pattern.substring(GlobFilter.ANY.length())
+            );
+            result = path -> full.matches(path) || rest.matches(path);
+        } else {
+            result = full;
+        }
+        return result;
+    }
+
+    /**
+     * Matchers of directories, everything under which is excluded.
+     * <p>These are the exclude patterns that end with {@code /**}, without this suffix.</p>
+     * @param excludes Glob patterns to exclude
+     * @return Matchers of directories
+     */
+    private static List<PathMatcher> subtrees(final Set<String> excludes) {
+        return excludes.stream()
+            .filter(glob -> glob.endsWith(GlobFilter.SUBTREE))
+            .map(glob -> glob.substring(0, glob.length() - GlobFilter.SUBTREE.length()))
+            .filter(glob -> !glob.isEmpty())
+            .map(GlobFilter::matcher)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Regular expression that matches at least what the glob pattern matches.
+     * <p>It is used only to check whether the beginning of a path fits the glob,
+     * so it may match more than the glob does: everything from the first
+     * bracket, group or escape on is replaced with {@code .*}.</p>
+     * @param glob Glob pattern
+     * @return Regular expression
+     */
+    private static Pattern partial(final String glob) {
+        final StringBuilder regex = new StringBuilder(glob.length() * 2);
+        final int length = glob.length();
+        int idx = 0;
+        while (idx < length) {
+            final char current = glob.charAt(idx);
+            if (current == '*' && idx + 1 < length && glob.charAt(idx + 1) == '*') {
+                regex.append(".*");
+                idx += 2;
+            } else if (current == '*') {
+                regex.append("[^/]*");
+                ++idx;
+            } else if (current == '?') {
+                regex.append("[^/]");
+                ++idx;
+            } else if (current == '[' || current == '{' || current == '\\') {
+                regex.append(".*");
+                idx = length;
+            } else {
+                if (GlobFilter.SPECIAL.indexOf(current) >= 0) {
+                    regex.append('\\');
+                }
+                regex.append(current);
+                ++idx;
+            }
+        }
+        final int flags;
+        if (File.separatorChar == '\\') {
+            flags = Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE;
+        } else {
+            flags = 0;
+        }
+        return Pattern.compile(regex.toString(), flags);
     }
 }
@@ -4,6 +4,8 @@
  */
 package org.eolang.jeo;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Path;
 
 /**
@@ -38,9 +40,9 @@ final class Informative implements Transformation {
 
     @Override
     @SuppressWarnings("PMD.AvoidCatchingGenericException")
-    public byte[] transform() {
+    public void transform(final OutputStream output) throws IOException {
         try {
-            return this.original.transform();
+            this.original.transform(output);
         } catch (final RuntimeException exception) {
             throw new IllegalStateException(
                 String.format(
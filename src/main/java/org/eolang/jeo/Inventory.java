@@ -0,0 +1,465 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import com.jcabi.log.Logger;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Inventory of files under a directory.
+ *
+ * <p>The directory tree is walked only once per instance: counting, scheduling and
+ * processing all use the same list of files with their sizes and modification
+ * times. Directories that the predicate rejects are not walked at all.</p>
+ *
+ * <p>If the state file is set, the listing of every directory is saved there together
+ * with the directory modification time. The next run lists only the directories whose
+ * modification time has changed, the others are taken from the state. Sizes and times
+ * of files in unchanged directories are taken from the state too, so they are only
+ * hints: a file rewritten in place doesn't change its directory. Directories modified
+ * less than {@link #RACY} milliseconds before the walk are always listed again the
+ * next time, since a change in the same clock tick wouldn't be noticed.</p>
+ *
+ * @since 0.16.0
+ */
+final class Inventory {
+
+    /**
+     * Time window in milliseconds in which a directory modification time is not trusted.
+     */
+    private static final long RACY = 2_000L;
+
+    /**
+     * Root directory.
+     */
+    private final Path root;
+
+    /**
+     * Directories to walk.
+     */
+    private final Predicate<Path> dirs;
+
+    /**
+     * State file, empty path if the state is not persisted.
+     */
+    private final Path state;
+
+    /**
+     * All the files, found only once.
+     */
+    private final Unchecked<List<Entry>> found;
+
+    /**
+     * Constructor.
+     * @param root Root directory
+     */
+    Inventory(final Path root) {
+        this(root, dir -> true);
+    }
+
+    /**
+     * Constructor.
+     * @param root Root directory
+     * @param dirs Directories to walk, others are skipped with all their content
+     */
+    Inventory(final Path root, final Predicate<Path> dirs) {
+        this(root, dirs, Paths.get(""));
+    }
+
+    /**
+     * Constructor.
+     * @param root Root directory
+     * @param dirs Directories to walk, others are skipped with all their content
+     * @param state State file to keep the listing between runs
+     */
+    Inventory(final Path root, final Predicate<Path> dirs, final Path state) {
+        this.root = root;
+        this.dirs = dirs;
+        this.state = state;
+        this.found = new Unchecked<>(new Synced<>(new Sticky<>(this::discover)));
+    }
+
+    /**
+     * All the regular files.
+     * @return Files
+     */
+    List<Entry> entries() {
+        return this.found.value();
+    }
+
+    /**
+     * All the regular files.
+     * @return Paths of the files
+     */
+    Stream<Path> files() {
+        return this.entries().stream().map(Entry::path);
+    }
+
+    /**
+     * Walk the tree.
+     * @return All the regular files
+     */
+    private List<Entry> discover() {
+        final List<Entry> result = new ArrayList<>(0);
+        if (Files.isDirectory(this.root)) {
+            final Map<String, Listing> before = this.load();
+            final Map<String, Listing> after = new HashMap<>(before.size());
+            try {
+                this.walk(this.root, "", System.currentTimeMillis(), before, after, result);
+            } catch (final IOException exception) {
+                throw new IllegalStateException(
+                    String.format("Can't read '%s' directory", this.root),
+                    exception
+                );
+            }
+            this.save(after);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Walk the directory.
+     * @param dir Directory
+     * @param relative Relative path of the directory with '/' delimiters
+     * @param start Start time of the walk
+     * @param before Listings of the previous run
+     * @param after Listings of this run
+     * @param result Where to put found files
+     * @throws IOException If the directory can't be read
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private void walk(
+        final Path dir,
+        final String relative,
+        final long start,
+        final Map<String, Listing> before,
+        final Map<String, Listing> after,
+        final List<Entry> result
+    ) throws IOException {
+        final long time = Files.getLastModifiedTime(dir).toMillis();
+        final Listing previous = before.get(relative);
+        final Listing listing;
+        if (previous != null && previous.time() == time) {
+            listing = previous;
+        } else {
+            final long trusted;
+            if (time > start - Inventory.RACY) {
+                trusted = -1L;
+            } else {
+                trusted = time;
+            }
+            listing = Inventory.list(dir, trusted);
+        }
+        after.put(relative, listing);
+        for (final Entry file : listing.files()) {
+            result.add(new Entry(dir.resolve(file.path()), file.size(), file.time()));
+        }
+        for (final String sub : listing.subdirs()) {
+            final Path child = dir.resolve(sub);
+            if (this.dirs.test(child)) {
+                final String name;
+                if (relative.isEmpty()) {
+                    name = sub;
+                } else {
+                    name = String.format("%s/%s", relative, sub);
+                }
+                this.walk(child, name, start, before, after, result);
+            }
+        }
+    }
+
+    /**
+     * Load the state of the previous run.
+     * @return Listings by relative paths of directories
+     */
+    private Map<String, Listing> load() {
+        final Map<String, Listing> result = new HashMap<>(0);
+        if (!this.state.toString().isEmpty() && Files.isRegularFile(this.state)) {
+            try {
+                final List<String> lines = Files.readAllLines(this.state, StandardCharsets.UTF_8);
+                if (!lines.isEmpty() && lines.get(0).equals(this.header())) {
+                    Listing current = new Listing(-1L);
+                    for (final String line : lines.subList(1, lines.size())) {
+                        final String[] parts = line.split(" ", 3);
+                        if ("d".equals(parts[0])) {
+                            current = new Listing(Long.parseLong(parts[1]));
+                            result.put(parts[2], current);
+                        } else if ("s".equals(parts[0])) {
+                            current.subdirs().add(line.substring(2));
+                        } else {
+                            final String[] file = line.split(" ", 4);
+                            current.files().add(
+                                new Entry(
+                                    Paths.get(file[3]),
+                                    Long.parseLong(file[1]),
+                                    Long.parseLong(file[2])
+                                )
+                            );
+                        }
+                    }
+                }
+            } catch (final IOException | IllegalArgumentException
+                | IndexOutOfBoundsException exception) {
+                Logger.warn(
+                    this, "Can't read inventory '%s', listing everything: %s",
+                    this.state, exception.getMessage()
+                );
+                result.clear();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Save the state of this run.
+     * @param listings Listings by relative paths of directories
+     */
+    private void save(final Map<String, Listing> listings) {
+        if (!this.state.toString().isEmpty()) {
+            try {
+                new AtomicFile(this.state).write(
+                    output -> {
+                        final Writer writer = new BufferedWriter(
+                            new OutputStreamWriter(output, StandardCharsets.UTF_8)
+                        );
+                        writer.write(this.header());
+                        writer.write('\n');
+                        for (final Map.Entry<String, Listing> dir : listings.entrySet()) {
+                            dir.getValue().write(dir.getKey(), writer);
+                        }
+                        writer.flush();
+                    }
+                );
+            } catch (final IOException exception) {
+                Logger.warn(
+                    this, "Can't save inventory '%s': %s", this.state, exception.getMessage()
+                );
+            }
+        }
+    }
+
+    /**
+     * Header of the state file.
+     * @return Header that identifies the root
+     */
+    private String header() {
+        return String.format("jeo-inventory 1 %s", this.root.toAbsolutePath());
+    }
+
+    /**
+     * List the directory.
+     * @param dir Directory
+     * @param time Modification time of the directory to remember
+     * @return Listing
+     * @throws IOException If the directory can't be read
+     */
+    private static Listing list(final Path dir, final long time) throws IOException {
+        final Listing result = new Listing(time);
+        try (DirectoryStream<Path> children = Files.newDirectoryStream(dir)) {
+            for (final Path child : children) {
+                final Optional<BasicFileAttributes> attrs = Inventory.attributes(child);
+                final String name = child.getFileName().toString();
+                if (!attrs.isPresent()) {
+                    Logger.debug(Inventory.class, "Can't read attributes of '%s'", child);
+                } else if (attrs.get().isDirectory()) {
+                    result.subdirs().add(name);
+                } else if (attrs.get().isRegularFile()) {
+                    result.files().add(
+                        new Entry(
+                            Paths.get(name),
+                            attrs.get().size(),
+                            attrs.get().lastModifiedTime().toMillis()
+                        )
+                    );
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Attributes of the directory entry.
+     * <p>Like {@link Files#walk(Path, java.nio.file.FileVisitOption...)}, symbolic links
+     * to directories are not followed, while links to regular files are.</p>
+     * @param child Directory entry
+     * @return Attributes or empty if the entry has gone or can't be read
+     */
+    private static Optional<BasicFileAttributes> attributes(final Path child) {
+        Optional<BasicFileAttributes> result;
+        try {
+            final BasicFileAttributes own = Files.readAttributes(
+                child, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS
+            );
+            if (own.isSymbolicLink()) {
+                final BasicFileAttributes target = Files.readAttributes(
+                    child, BasicFileAttributes.class
+                );
+                if (target.isRegularFile()) {
+                    result = Optional.of(target);
+                } else {
+                    result = Optional.of(own);
+                }
+            } else {
+                result = Optional.of(own);
+            }
+        } catch (final IOException exception) {
+            result = Optional.empty();
+        }
+        return result;
+    }
+
+    /**
+     * File found in the tree.
+     * @since 0.16.0
+     */
+    static final class Entry {
+
+        /**
+         * Path of the file.
+         */
+        private final Path file;
+
+        /**
+         * Size in bytes.
+         */
+        private final long bytes;
+
+        /**
+         * Modification time in milliseconds.
+         */
+        private final long modified;
+
+        /**
+         * Constructor.
+         * @param file Path of the file
+         * @param bytes Size in bytes
+         * @param modified Modification time in milliseconds
+         */
+        Entry(final Path file, final long bytes, final long modified) {
+            this.file = file;
+            this.bytes = bytes;
+            this.modified = modified;
+        }
+
+        /**
+         * Path of the file.
+         * @return Path
+         */
+        Path path() {
+            return this.file;
+        }
+
+        /**
+         * Size of the file.
+         * @return Size in bytes
+         */
+        long size() {
+            return this.bytes;
+        }
+
+        /**
+         * Modification time of the file.
+         * @return Time in milliseconds
+         */
+        long time() {
+            return this.modified;
+        }
+    }
+
+    /**
+     * Listing of a single directory.
+     * @since 0.16.0
+     */
+    private static final class Listing {
+
+        /**
+         * Modification time of the directory, negative if it can't be trusted.
+         */
+        private final long modified;
+
+        /**
+         * Regular files by names.
+         */
+        private final List<Entry> regular;
+
+        /**
+         * Names of subdirectories.
+         */
+        private final List<String> children;
+
+        /**
+         * Constructor.
+         * @param modified Modification time of the directory
+         */
+        Listing(final long modified) {
+            this.modified = modified;
+            this.regular = new ArrayList<>(0);
+            this.children = new ArrayList<>(0);
+        }
+
+        /**
+         * Modification time of the directory.
+         * @return Time in milliseconds
+         */
+        long time() {
+            return this.modified;
+        }
+
+        /**
+         * Regular files, paths are just names.
+         * @return Files
+         */
+        List<Entry> files() {
+            return this.regular;
+        }
+
+        /**
+         * Names of subdirectories.
+         * @return Names
+         */
+        List<String> subdirs() {
+            return this.children;
+        }
+
+        /**
+         * Write the listing to the state.
+         * @param relative Relative path of the directory
+         * @param writer Writer
+         * @throws IOException If writing fails
+         */
+        void write(final String relative, final Writer writer) throws IOException {
+            writer.write(String.format("d %d %s\n", this.modified, relative));
+            for (final String sub : this.children) {
+                writer.write(String.format("s %s\n", sub));
+            }
+            for (final Entry file : this.regular) {
+                writer.write(
+                    String.format("f %d %d %s\n", file.size(), file.time(), file.path())
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import com.jcabi.log.Logger;
+import java.lang.instrument.ClassFileTransformer;
+import java.lang.instrument.Instrumentation;
+import java.lang.reflect.InvocationTargetException;
+import java.security.ProtectionDomain;
+import java.util.function.UnaryOperator;
+import org.eolang.jeo.representation.bytecode.BytecodeObject;
+
+/**
+ * Load-time transformation agent.
+ *
+ * <p>The agent applies a transformation of {@link BytecodeObject} to every class
+ * loaded by the JVM, using {@link JeoEngine}. The transformation is a class that
+ * implements {@code UnaryOperator<BytecodeObject>} and has a public no-arguments
+ * constructor. Its name is passed as the agent argument:</p>
+ *
+ * <pre>
+ * java -javaagent:jeo-maven-plugin.jar=com.example.MyTransformation -jar app.jar
+ * </pre>
+ *
+ * <p>The dependencies of the plugin (ASM, cactoos, etc.) must be available on the
+ * classpath of the application. Classes of the JDK, of the bootstrap class loader,
+ * of jeo and of ASM are never transformed. If the transformation fails or doesn't
+ * change the class, the class is loaded as is and, in the first case, a warning is
+ * logged. Frames of transformed classes are computed with the class loader that
+ * defines the class.</p>
+ * @since 0.16.0
+ */
+public final class JeoAgent implements ClassFileTransformer {
+
+    /**
+     * Prefixes of the classes that are never transformed.
+     */
+    private static final String[] SKIPPED = {
+        "java/", "javax/", "jdk/", "sun/", "com/sun/", "org/eolang/jeo/", "org/objectweb/asm/"
+    };
+
+    /**
+     * Whether the current thread is transforming a class already.
+     * <p>Writing a class may load other classes, which must not be transformed
+     * recursively.</p>
+     */
+    private static final ThreadLocal<Boolean> BUSY = ThreadLocal.withInitial(() -> false);
+
+    /**
+     * Transformation engine.
+     */
+    private final JeoEngine engine;
+
+    /**
+     * Constructor.
+     * @param engine Transformation engine
+     */
+    JeoAgent(final JeoEngine engine) {
+        this.engine = engine;
+    }
+
+    /**
+     * Entry point of the agent that is started with the JVM.
+     * @param args Name of the transformation class
+     * @param instrumentation Instrumentation
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static void premain(final String args, final Instrumentation instrumentation) {
+        JeoAgent.agentmain(args, instrumentation);
+    }
+
+    /**
+     * Entry point of the agent that is attached to the running JVM.
+     * <p>Only the classes loaded after the attachment are transformed.</p>
+     * @param args Name of the transformation class
+     * @param instrumentation Instrumentation
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static void agentmain(final String args, final Instrumentation instrumentation) {
+        instrumentation.addTransformer(new JeoAgent(new JeoEngine(JeoAgent.transformation(args))));
+        Logger.info(JeoAgent.class, "jeo agent is started with '%s' transformation", args);
+    }
+
+    /**
+     * Transform the class.
+     * @param loader Class loader
+     * @param name Internal name of the class
+     * @param redefined Class being redefined, if any
+     * @param domain Protection domain
+     * @param bytes Class bytes
+     * @return Transformed bytes or {@code null} if the class is skipped or unchanged
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    @Override
+    @SuppressWarnings({
+        "PMD.ReturnEmptyCollectionRatherThanNull",
+        "PMD.AvoidCatchingGenericException"
+    })
+    public byte[] transform(
+        final ClassLoader loader,
+        final String name,
+        final Class<?> redefined,
+        final ProtectionDomain domain,
+        final byte[] bytes
+    ) {
+        byte[] result = null;
+        if (loader != null && name != null && !JeoAgent.BUSY.get() && !JeoAgent.skipped(name)) {
+            JeoAgent.BUSY.set(true);
+            try {
+                final byte[] transformed = this.engine.transform(bytes, loader);
+                if (transformed != bytes) {
+                    result = transformed;
+                }
+            } catch (final RuntimeException | LinkageError exception) {
+                Logger.warn(this, "Can't transform %s: %[exception]s", name, exception);
+            } finally {
+                JeoAgent.BUSY.set(false);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Whether the class is never transformed.
+     * @param name Internal name of the class
+     * @return True if the class is skipped
+     */
+    private static boolean skipped(final String name) {
+        boolean result = false;
+        for (final String prefix : JeoAgent.SKIPPED) {
+            if (name.startsWith(prefix)) {
+                result = true;
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Instantiate the transformation.
+     * @param name Name of the transformation class, or nothing for the identity
+     * @return Transformation
+     */
+    @SuppressWarnings("unchecked")
+    private static UnaryOperator<BytecodeObject> transformation(final String name) {
+        final UnaryOperator<BytecodeObject> result;
+        if (name == null || name.isEmpty()) {
+            result = UnaryOperator.identity();
+        } else {
+            try {
+                result = (UnaryOperator<BytecodeObject>) Class.forName(name)
+                    .getConstructor()
+                    .newInstance();
+            } catch (final ClassNotFoundException | NoSuchMethodException
+                | InstantiationException | IllegalAccessException
+                | InvocationTargetException exception) {
+                throw new IllegalArgumentException(
+                    String.format("Can't instantiate the transformation '%s'", name),
+                    exception
+                );
+            }
+        }
+        return result;
+    }
+}
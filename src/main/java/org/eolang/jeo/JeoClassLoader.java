@@ -14,9 +14,8 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import org.cactoos.bytes.BytesOf;
-import org.cactoos.bytes.UncheckedBytes;
 import org.cactoos.map.MapEntry;
+import org.eolang.jeo.representation.FileBytes;
 
 /**
  * JEO class loader.
@@ -154,7 +153,7 @@ public final class JeoClassLoader extends ClassLoader {
                 .toString()
                 .replace(File.separatorChar, '.')
                 .replace(JeoClassLoader.CLASS, ""),
-            new UncheckedBytes(new BytesOf(file.toAbsolutePath())).asBytes()
+            new FileBytes(file.toAbsolutePath()).asBytes()
         );
     }
 }
@@ -0,0 +1,173 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+import org.eolang.jeo.representation.asm.AsmProgram;
+import org.eolang.jeo.representation.asm.DisassembleMode;
+import org.eolang.jeo.representation.bytecode.BytecodeObject;
+
+/**
+ * In-process transformation engine.
+ *
+ * <p>It runs the whole jeo round-trip in memory: class bytes are read into
+ * {@link BytecodeObject}, transformed, and written back into class bytes. Neither XMIR
+ * nor files are involved, so the engine is fast enough for load-time instrumentation,
+ * see {@link JeoAgent}.</p>
+ *
+ * <p>The engine is thread-safe and is supposed to be reused. Results are cached by the
+ * SHA-256 hash of the original bytes. Classes that the transformation doesn't change
+ * are remembered for all class loaders, so the same class loaded by many class loaders
+ * is transformed only once. Transformed bytes are cached for the defining class loader
+ * only, since their frames are computed against its class hierarchy. Class loaders are
+ * weakly referenced by the cache. Each cache stops growing when it reaches the
+ * limit.</p>
+ *
+ * <p>If the transformation doesn't change the object model, the original bytes are
+ * returned as is, so the class is neither rewritten nor has its frames recomputed.
+ * The object model is read once: it is changed if its hash code after the
+ * transformation differs from the one before, so the transformation may change
+ * the model in place.</p>
+ * @since 0.16.0
+ */
+public final class JeoEngine {
+
+    /**
+     * Default limit of the cache, in entries.
+     */
+    private static final int LIMIT = 8192;
+
+    /**
+     * Transformation of the object model.
+     */
+    private final UnaryOperator<BytecodeObject> transformation;
+
+    /**
+     * Options of the class reader.
+     */
+    private final int options;
+
+    /**
+     * Maximum number of cached classes.
+     */
+    private final int limit;
+
+    /**
+     * Hashes of the classes that the transformation doesn't change.
+     */
+    private final Set<ByteBuffer> unchanged;
+
+    /**
+     * Transformed bytes by the defining class loader and the hash of the original ones.
+     */
+    private final Map<ClassLoader, Map<ByteBuffer, byte[]>> transformed;
+
+    /**
+     * Constructor.
+     * @param transformation Transformation of the object model
+     */
+    public JeoEngine(final UnaryOperator<BytecodeObject> transformation) {
+        this(transformation, DisassembleMode.DEBUG, JeoEngine.LIMIT);
+    }
+
+    /**
+     * Constructor.
+     * @param transformation Transformation of the object model
+     * @param mode Disassemble mode, which defines whether debug info is kept
+     * @param limit Maximum number of cached classes
+     */
+    public JeoEngine(
+        final UnaryOperator<BytecodeObject> transformation,
+        final DisassembleMode mode,
+        final int limit
+    ) {
+        this.transformation = transformation;
+        this.options = mode.asmOptions();
+        this.limit = limit;
+        this.unchanged = ConcurrentHashMap.newKeySet();
+        this.transformed = Collections.synchronizedMap(new WeakHashMap<>(0));
+    }
+
+    /**
+     * Transform the class.
+     * <p>Classes that the transformed class refers to are looked up in the context
+     * class loader of the current thread.</p>
+     * @param bytes Class bytes
+     * @return Transformed class bytes, or the same bytes if the class is unchanged
+     */
+    public byte[] transform(final byte[] bytes) {
+        return this.transform(bytes, Thread.currentThread().getContextClassLoader());
+    }
+
+    /**
+     * Transform the class defined by the class loader.
+     * @param bytes Class bytes
+     * @param loader Class loader that defines the class, used to compute frames
+     * @return Transformed class bytes, or the same bytes if the class is unchanged
+     */
+    public byte[] transform(final byte[] bytes, final ClassLoader loader) {
+        final ByteBuffer key = JeoEngine.hash(bytes);
+        byte[] result = bytes;
+        if (!this.unchanged.contains(key)) {
+            final Map<ByteBuffer, byte[]> cached = this.transformed.computeIfAbsent(
+                loader, ldr -> new ConcurrentHashMap<>(0)
+            );
+            result = cached.get(key);
+            if (result == null) {
+                result = this.translate(bytes, loader);
+                if (result == bytes) {
+                    if (this.unchanged.size() < this.limit) {
+                        this.unchanged.add(key);
+                    }
+                } else if (cached.size() < this.limit) {
+                    cached.putIfAbsent(key, result);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Translate the class without the cache.
+     * <p>The hash code of the object model is taken before the transformation,
+     * since the transformation may change the model in place.</p>
+     * @param bytes Class bytes
+     * @param loader Class loader that defines the class
+     * @return Transformed class bytes, or the same bytes if the class is unchanged
+     */
+    private byte[] translate(final byte[] bytes, final ClassLoader loader) {
+        final BytecodeObject original = new AsmProgram(bytes).bytecode(this.options);
+        final int before = original.hashCode();
+        final BytecodeObject model = this.transformation.apply(original);
+        final byte[] result;
+        if (model.hashCode() == before) {
+            result = bytes;
+        } else {
+            result = model.bytecode(loader).bytes();
+        }
+        return result;
+    }
+
+    /**
+     * SHA-256 hash of the bytes.
+     * @param bytes Bytes
+     * @return Hash
+     */
+    private static ByteBuffer hash(final byte[] bytes) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (final NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 algorithm is not available", exception);
+        }
+    }
+}
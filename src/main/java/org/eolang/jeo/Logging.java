@@ -6,7 +6,9 @@ package org.eolang.jeo;
 
 import com.jcabi.log.Logger;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import org.eolang.jeo.representation.Counter;
 
@@ -16,6 +18,11 @@ import org.eolang.jeo.representation.Counter;
  * <p>This class wraps a transformation and adds logging functionality. It logs
  * messages before and after applying the original transformation, including file
  * sizes and processing time for performance monitoring.</p>
+ *
+ * <p>Per-file lines are printed at INFO level only in debug mode, otherwise they go
+ * to DEBUG level and the overall progress is reported by {@link Progress}. The
+ * transformation doesn't lock anything: the size of the result is measured once and
+ * added to the lock-free counter.</p>
  * @since 0.6.0
  */
 public final class Logging implements Transformation {
@@ -83,14 +90,21 @@ public final class Logging implements Transformation {
     }
 
     @Override
-    public byte[] transform() {
-        final byte[] result;
+    public void transform(final OutputStream output) throws IOException {
         this.logStartWithSize(this.source());
         final long start = System.currentTimeMillis();
-        result = this.origin.transform();
+        this.origin.transform(output);
+        final long time = System.currentTimeMillis() - start;
+        this.logEndWithSize(this.source(), this.target(), time);
+    }
+
+    @Override
+    public void perform() {
+        this.logStartWithSize(this.source());
+        final long start = System.currentTimeMillis();
+        this.origin.perform();
         final long time = System.currentTimeMillis() - start;
         this.logEndWithSize(this.source(), this.target(), time);
-        return result;
     }
 
     /**
@@ -98,13 +112,15 @@ public final class Logging implements Transformation {
      * @param source Initial path of the file being processed
      */
     private void logStartWithSize(final Path source) {
-        Logger.debug(
-            this,
-            "%s of %[file]s (%[size]s) started",
-            this.process,
-            source,
-            Logging.size(source)
-        );
+        if (Logger.isDebugEnabled(this)) {
+            Logger.debug(
+                this,
+                "%s of %[file]s (%[size]s) started",
+                this.process,
+                source,
+                Logging.size(source)
+            );
+        }
     }
 
     /**
@@ -114,29 +130,29 @@ public final class Logging implements Transformation {
      * @param time Time spent in milliseconds
      */
     private void logEndWithSize(final Path source, final Path after, final long time) {
-        synchronized (this.counter) {
-            if (this.debug) {
-                Logger.info(
-                    this,
-                    "%s %[file]s %s to %[file]s (%[size]s) in %[ms]s",
-                    this.counter.next(),
-                    source,
-                    this.participle,
-                    after,
-                    Logging.size(after),
-                    time
-                );
-            } else {
-                Logger.info(
-                    this,
-                    "%s %[file]s (%[size]s) %s in %[ms]s",
-                    this.counter.next(),
-                    after.getFileName(),
-                    Logging.size(after),
-                    this.participle,
-                    time
-                );
-            }
+        final long size = Logging.size(after);
+        final String number = this.counter.next(size);
+        if (this.debug) {
+            Logger.info(
+                this,
+                "%s %[file]s %s to %[file]s (%[size]s) in %[ms]s",
+                number,
+                source,
+                this.participle,
+                after,
+                size,
+                time
+            );
+        } else {
+            Logger.debug(
+                this,
+                "%s %[file]s (%[size]s) %s in %[ms]s",
+                number,
+                after.getFileName(),
+                size,
+                this.participle,
+                time
+            );
         }
     }
 
@@ -146,19 +162,17 @@ public final class Logging implements Transformation {
      * @return Size of the file in bytes, or 0 if file doesn't exist
      */
     private static long size(final Path path) {
+        long result;
         try {
-            final long result;
-            if (Files.exists(path)) {
-                result = Files.size(path);
-            } else {
-                result = 0L;
-            }
-            return result;
+            result = Files.size(path);
+        } catch (final NoSuchFileException exception) {
+            result = 0L;
         } catch (final IOException exception) {
             throw new IllegalStateException(
                 String.format("Can't determine the size of '%s'", path),
                 exception
             );
         }
+        return result;
     }
 }
@@ -0,0 +1,114 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.cactoos.set.SetOf;
+
+/**
+ * Checks and combines reports of sharded translation.
+ *
+ * <p>When the disassemble or assemble goal is split between several build nodes with
+ * {@code jeo.shard.index} and {@code jeo.shard.count}, each node saves a report. Once
+ * the reports of all the nodes are collected into one directory, this goal checks that
+ * all the shards finished, that each file was translated exactly once and, if the
+ * sources directory is set, that no file was missed. The build fails otherwise. Class
+ * files are selected by the same inclusion and exclusion filters as the disassemble goal
+ * applies.</p>
+ *
+ * @since 0.16.0
+ */
+@Mojo(name = "merge-shards", requiresProject = false)
+public final class MergeShardsMojo extends AbstractMojo {
+
+    /**
+     * Directory with reports of all the shards.
+     *
+     * @since 0.16.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "jeo.shard.reports",
+        defaultValue = "${project.build.directory}/jeo-shards"
+    )
+    private File shardReports;
+
+    /**
+     * Sharded process, either {@code disassemble} or {@code assemble}.
+     *
+     * @since 0.16.0
+     */
+    @Parameter(property = "jeo.shard.process", defaultValue = "disassemble")
+    private String process;
+
+    /**
+     * Directory with all the files that had to be translated, class files for
+     * {@code disassemble} and XMIR files for {@code assemble}.
+     * <p>
+     * When not set, completeness is checked only by the reports themselves.
+     * </p>
+     *
+     * @since 0.16.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(property = "jeo.shard.sources")
+    private File sourcesDir;
+
+    /**
+     * Inclusion GLOB filters of class files, the same as of the {@code disassemble} goal.
+     *
+     * @since 0.16.0
+     */
+    @Parameter(property = "jeo.disassemble.includes")
+    @SuppressWarnings("PMD.ImmutableField")
+    private Set<String> includes = new SetOf<>("**/*.class");
+
+    /**
+     * Exclusion GLOB filters of class files, the same as of the {@code disassemble} goal.
+     *
+     * @since 0.16.0
+     */
+    @Parameter(property = "jeo.disassemble.excludes")
+    @SuppressWarnings("PMD.ImmutableField")
+    private Set<String> excludes = new SetOf<>();
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        try {
+            new ShardMerge(new MavenPath(this.shardReports).resolve(), this.process)
+                .merge(this.expected());
+        } catch (final IllegalStateException exception) {
+            throw new MojoExecutionException(
+                String.format("Sharded '%s' is incomplete", this.process),
+                exception
+            );
+        }
+    }
+
+    /**
+     * All the files that had to be translated.
+     * @return Relative paths or empty collection if the sources are not set
+     */
+    private Collection<String> expected() {
+        final Collection<String> result;
+        if (this.sourcesDir == null) {
+            result = Collections.emptySet();
+        } else {
+            result = new ShardSources(
+                new MavenPath(this.sourcesDir).resolve(),
+                this.process,
+                new GlobFilter(this.includes, this.excludes)
+            ).all();
+        }
+        return result;
+    }
+}
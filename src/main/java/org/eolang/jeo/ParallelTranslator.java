@@ -9,6 +9,7 @@ import java.nio.file.Path;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -18,6 +19,10 @@ import java.util.stream.Stream;
  * <p>This class implements parallel processing of transformations to improve performance.
  * It ensures that each parallel thread has the correct class loader context to avoid
  * class loading issues during concurrent execution.</p>
+ *
+ * <p>Each file is admitted to the pool only when the {@link Budget} has enough heap
+ * for its estimated footprint, so big files are serialized while small ones keep
+ * full parallelism.</p>
  * @since 0.2.0
  */
 public final class ParallelTranslator implements Translator {
@@ -38,6 +43,16 @@ public final class ParallelTranslator implements Translator {
      */
     private final int threads;
 
+    /**
+     * Heap budget.
+     */
+    private final Budget budget;
+
+    /**
+     * Estimated memory in bytes needed to translate a file.
+     */
+    private final ToLongFunction<? super Path> footprint;
+
     /**
      * Constructor.
      * @param translation Function to apply to each path representation
@@ -54,10 +69,29 @@ public final class ParallelTranslator implements Translator {
     ParallelTranslator(
         final Function<? super Path, ? extends Path> translation,
         final int threads
+    ) {
+        this(translation, threads, new Budget(), path -> 0L);
+    }
+
+    /**
+     * Constructor.
+     * @param translation Function to apply to each path representation
+     * @param threads Number of threads (0 = use available processors automatically)
+     * @param budget Heap budget
+     * @param footprint Estimated memory in bytes needed to translate a file
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    ParallelTranslator(
+        final Function<? super Path, ? extends Path> translation,
+        final int threads,
+        final Budget budget,
+        final ToLongFunction<? super Path> footprint
     ) {
         this.translation = translation;
         this.loader = Thread.currentThread().getContextClassLoader();
         this.threads = threads;
+        this.budget = budget;
+        this.footprint = footprint;
     }
 
     @Override
@@ -88,13 +122,16 @@ public final class ParallelTranslator implements Translator {
     /**
      * Translate a representation.
      * <p>This method is run in parallel. Pay attention to the class loader;
-     * it's set for each sub-thread to avoid class loading issues.</p>
+     * it's set for each sub-thread to avoid class loading issues. The thread
+     * blocks here until the budget admits the representation.</p>
      * @param rep Path representation to translate
      * @return Translated path representation
      */
     private Path translate(final Path rep) {
         Thread.currentThread().setContextClassLoader(this.loader);
-        return this.translation.apply(rep);
+        return this.budget.admit(
+            this.footprint.applyAsLong(rep), () -> this.translation.apply(rep)
+        );
     }
 
 }
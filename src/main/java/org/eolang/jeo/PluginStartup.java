@@ -8,9 +8,9 @@ import com.jcabi.log.Logger;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Set;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import org.apache.maven.artifact.DependencyResolutionRequiredException;
 import org.apache.maven.project.MavenProject;
 
@@ -38,7 +38,21 @@ public final class PluginStartup {
     PluginStartup(
         final MavenProject project, final Path... additional
     ) throws DependencyResolutionRequiredException {
-        this(PluginStartup.all(project, additional));
+        this(PluginStartup.projects(project), additional);
+    }
+
+    /**
+     * Constructor.
+     * <p>Classes of all the projects are loaded by the same class loader,
+     * which is used by aggregator goals, see {@link Reactor}.</p>
+     * @param projects Maven projects containing classpath information
+     * @param additional Additional folders with classes to include
+     * @throws DependencyResolutionRequiredException If a problem happened during loading classes
+     */
+    PluginStartup(
+        final Collection<MavenProject> projects, final Path... additional
+    ) throws DependencyResolutionRequiredException {
+        this(PluginStartup.all(projects, additional));
     }
 
     /**
@@ -78,33 +92,50 @@ public final class PluginStartup {
         );
     }
 
+    /**
+     * Fingerprint of the classpath that the classes are loaded from.
+     * <p>It depends on the contents of the classpath only, not on where it is,
+     * see {@link ClasspathFingerprint}. It is used as the context of the
+     * translation store, so results are shared between checkouts and machines.</p>
+     * @return Classpath fingerprint
+     */
+    String classpath() {
+        return new ClasspathFingerprint(this.folders).asString();
+    }
+
     /**
      * All folders with classes.
-     * @param project Maven project
+     * @param projects Maven projects
      * @param additional Additional folders with classes
      * @return Set of folder paths as strings
      * @throws DependencyResolutionRequiredException If a problem happened during loading classes
      */
     private static Set<String> all(
-        final MavenProject project,
+        final Collection<MavenProject> projects,
         final Path... additional
     ) throws DependencyResolutionRequiredException {
-        final Set<String> result;
+        final Set<String> result = Arrays.stream(additional)
+            .map(Path::toString)
+            .collect(Collectors.toSet());
+        for (final MavenProject project : projects) {
+            result.addAll(project.getRuntimeClasspathElements());
+            result.addAll(project.getCompileClasspathElements());
+            result.addAll(project.getTestClasspathElements());
+        }
+        return result;
+    }
+
+    /**
+     * Projects of a single-project run.
+     * @param project Maven project or null if the plugin runs without a project
+     * @return Projects
+     */
+    private static Collection<MavenProject> projects(final MavenProject project) {
+        final Collection<MavenProject> result;
         if (project == null) {
-            result = Arrays.stream(additional)
-                .map(Path::toString)
-                .collect(Collectors.toSet());
+            result = Collections.emptyList();
         } else {
-            result = Stream.concat(
-                Stream.concat(
-                    project.getRuntimeClasspathElements().stream(),
-                    project.getCompileClasspathElements().stream()
-                ),
-                Stream.concat(
-                    project.getTestClasspathElements().stream(),
-                    Arrays.stream(additional).map(Path::toString)
-                )
-            ).collect(Collectors.toSet());
+            result = Collections.singletonList(project);
         }
         return result;
     }
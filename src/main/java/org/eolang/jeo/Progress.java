@@ -0,0 +1,186 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import com.jcabi.log.Logger;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import org.eolang.jeo.representation.Counter;
+
+/**
+ * Periodic progress report.
+ *
+ * <p>Workers only bump the lock-free {@link Counter}; a single daemon thread reads it
+ * at a fixed interval and prints the percentage, the throughput and the estimated
+ * time left. This keeps the log short for big projects, while per-file lines are
+ * printed only in debug mode.</p>
+ *
+ * @since 0.16.0
+ */
+final class Progress implements AutoCloseable {
+
+    /**
+     * Default interval between reports in milliseconds.
+     */
+    private static final long INTERVAL = 5_000L;
+
+    /**
+     * Process name.
+     */
+    private final String process;
+
+    /**
+     * Counter of finished files.
+     */
+    private final Counter counter;
+
+    /**
+     * Interval between reports in milliseconds.
+     */
+    private final long interval;
+
+    /**
+     * Start time in milliseconds.
+     */
+    private final long start;
+
+    /**
+     * Reporter thread.
+     */
+    private final ScheduledExecutorService reporter;
+
+    /**
+     * Constructor.
+     * @param process Process name (gerund form)
+     * @param counter Counter of finished files
+     */
+    Progress(final String process, final Counter counter) {
+        this(process, counter, Progress.INTERVAL);
+    }
+
+    /**
+     * Constructor.
+     * @param process Process name (gerund form)
+     * @param counter Counter of finished files
+     * @param interval Interval between reports in milliseconds
+     */
+    Progress(final String process, final Counter counter, final long interval) {
+        this(
+            process,
+            counter,
+            interval,
+            System.currentTimeMillis(),
+            Executors.newSingleThreadScheduledExecutor(new Daemon(process))
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param process Process name (gerund form)
+     * @param counter Counter of finished files
+     * @param interval Interval between reports in milliseconds
+     * @param start Start time in milliseconds
+     * @param reporter Reporter thread
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private Progress(
+        final String process,
+        final Counter counter,
+        final long interval,
+        final long start,
+        final ScheduledExecutorService reporter
+    ) {
+        this.process = process;
+        this.counter = counter;
+        this.interval = interval;
+        this.start = start;
+        this.reporter = reporter;
+    }
+
+    /**
+     * Start reporting.
+     * @return This object
+     */
+    Progress begin() {
+        this.reporter.scheduleAtFixedRate(
+            () -> Logger.info(this, "%s", this.line()),
+            this.interval,
+            this.interval,
+            TimeUnit.MILLISECONDS
+        );
+        return this;
+    }
+
+    /**
+     * Current progress line.
+     * @return Line with percentage, throughput and estimated time left
+     */
+    String line() {
+        final long done = this.counter.done();
+        final long total = this.counter.total();
+        final long elapsed = Math.max(System.currentTimeMillis() - this.start, 1L);
+        final long eta;
+        if (done == 0L) {
+            eta = 0L;
+        } else {
+            eta = Math.max(total - done, 0L) * elapsed / done;
+        }
+        final double percent;
+        if (total == 0L) {
+            percent = 100.0;
+        } else {
+            percent = Math.min(done * 100.0 / total, 100.0);
+        }
+        return Logger.format(
+            "%s: %d/%d files (%.1f%%), %[size]s, %.1f files/s, %[size]s/s, ETA %[ms]s",
+            this.process,
+            done,
+            total,
+            percent,
+            this.counter.bytes(),
+            done * 1000.0 / elapsed,
+            this.counter.bytes() * 1000L / elapsed,
+            eta
+        );
+    }
+
+    @Override
+    public void close() {
+        this.reporter.shutdownNow();
+    }
+
+    /**
+     * Factory of the daemon reporter thread.
+     * <p>The thread must not keep the JVM alive if the build fails
+     * before the progress is closed.</p>
+     * @since 0.16.0
+     */
+    private static final class Daemon implements ThreadFactory {
+
+        /**
+         * Process name.
+         */
+        private final String process;
+
+        /**
+         * Constructor.
+         * @param process Process name
+         */
+        Daemon(final String process) {
+            this.process = process;
+        }
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(
+                runnable, String.format("jeo-progress-%s", this.process)
+            );
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import com.jcabi.log.Logger;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.eolang.jeo.representation.Counter;
+
+/**
+ * Batches of several modules translated in one run.
+ *
+ * <p>Files of all the batches are scheduled on the same pool, so small modules
+ * don't leave cores idle, and the pool is created only once. Each file is still
+ * translated by its own batch, so the results go to the module's own directory.</p>
+ * @since 0.16.0
+ */
+final class Reactor {
+
+    /**
+     * Process name.
+     */
+    private final String process;
+
+    /**
+     * Batches by their root directories.
+     */
+    private final Map<Path, Batch> batches;
+
+    /**
+     * Number of threads for parallel processing.
+     * <p>When 0, the number of available processors is used automatically.</p>
+     */
+    private final int threads;
+
+    /**
+     * Heap budget shared by all the batches.
+     */
+    private final Budget budget;
+
+    /**
+     * Constructor.
+     * @param process Process name
+     * @param batches Batches of all the modules
+     * @param threads Number of threads (0 = use available processors automatically)
+     */
+    Reactor(final String process, final List<? extends Batch> batches, final int threads) {
+        this(process, batches, threads, new Budget());
+    }
+
+    /**
+     * Constructor.
+     * @param process Process name
+     * @param batches Batches of all the modules
+     * @param threads Number of threads (0 = use available processors automatically)
+     * @param budget Heap budget shared by all the batches
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    Reactor(
+        final String process,
+        final List<? extends Batch> batches,
+        final int threads,
+        final Budget budget
+    ) {
+        this(process, Reactor.roots(batches), threads, budget);
+    }
+
+    /**
+     * Constructor.
+     * @param process Process name
+     * @param batches Batches by their root directories
+     * @param threads Number of threads (0 = use available processors automatically)
+     * @param budget Heap budget shared by all the batches
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private Reactor(
+        final String process,
+        final Map<Path, Batch> batches,
+        final int threads,
+        final Budget budget
+    ) {
+        this.process = process;
+        this.batches = batches;
+        this.threads = threads;
+        this.budget = budget;
+    }
+
+    /**
+     * Translate all the files of all the batches.
+     * @return Number of translated files
+     */
+    long translate() {
+        final long total = this.batches.values().stream().mapToLong(Batch::total).sum();
+        Logger.info(
+            this,
+            "%s %d files of %d modules in one run",
+            this.process,
+            total,
+            this.batches.size()
+        );
+        final long start = System.currentTimeMillis();
+        final Counter counter = new Counter(total);
+        final long result;
+        try (Progress progress = new Progress(this.process, counter).begin();
+            Stream<Path> all = new ParallelTranslator(
+                path -> this.batch(path).translate(path, counter),
+                this.threads,
+                this.budget,
+                path -> this.batch(path).footprint(path)
+            ).apply(this.batches.values().stream().flatMap(Batch::sources))) {
+            result = all.count();
+        }
+        Logger.info(
+            this,
+            "%s of %d files is finished in %[ms]s",
+            this.process,
+            result,
+            System.currentTimeMillis() - start
+        );
+        return result;
+    }
+
+    /**
+     * Batch the file belongs to.
+     * <p>Roots of batches may be nested, so the closest one wins.</p>
+     * @param file Input file
+     * @return Batch
+     */
+    private Batch batch(final Path file) {
+        Path dir = file.getParent();
+        while (dir != null && !this.batches.containsKey(dir)) {
+            dir = dir.getParent();
+        }
+        if (dir == null) {
+            throw new IllegalStateException(
+                String.format("File '%s' doesn't belong to any module", file)
+            );
+        }
+        return this.batches.get(dir);
+    }
+
+    /**
+     * Batches by their root directories.
+     * @param batches Batches
+     * @return Map of batches
+     */
+    private static Map<Path, Batch> roots(final List<? extends Batch> batches) {
+        final Map<Path, Batch> result = new HashMap<>(batches.size());
+        for (final Batch batch : batches) {
+            result.put(batch.root(), batch);
+        }
+        return result;
+    }
+}
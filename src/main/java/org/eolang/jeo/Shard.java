@@ -0,0 +1,136 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.regex.Pattern;
+
+/**
+ * Shard of files translated by one build node.
+ *
+ * <p>Files are partitioned by a stable hash of their path relative to the root
+ * directory, so every node gets the same partition regardless of the file system,
+ * the order of files or the JVM. The extension is not hashed, which means that
+ * a class and its XMIR always land in the same shard.</p>
+ * @since 0.16.0
+ */
+final class Shard {
+
+    /**
+     * Extensions that are not hashed.
+     */
+    private static final Pattern EXTENSION = Pattern.compile("(\\.class|\\.xmir|\\.xmir\\.gz)$");
+
+    /**
+     * FNV-1a offset basis.
+     */
+    private static final int BASIS = 0x811c9dc5;
+
+    /**
+     * FNV-1a prime.
+     */
+    private static final int PRIME = 0x01000193;
+
+    /**
+     * Index of the shard, from 0 to count - 1.
+     */
+    private final int index;
+
+    /**
+     * Total number of shards.
+     */
+    private final int count;
+
+    /**
+     * Constructor of the single shard that owns all the files.
+     */
+    Shard() {
+        this(0, 1);
+    }
+
+    /**
+     * Constructor.
+     * @param index Index of the shard, from 0 to count - 1
+     * @param count Total number of shards
+     */
+    Shard(final int index, final int count) {
+        if (count < 1 || index < 0 || index >= count) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Shard index must be in [0, count) and count must be positive, but got %d of %d",
+                    index,
+                    count
+                )
+            );
+        }
+        this.index = index;
+        this.count = count;
+    }
+
+    /**
+     * Whether the file belongs to this shard.
+     * @param root Root directory
+     * @param file File inside the root directory
+     * @return True if this shard translates the file
+     */
+    boolean owns(final Path root, final Path file) {
+        return this.count == 1 || this.of(Shard.relative(root, file)) == this.index;
+    }
+
+    /**
+     * Index of the shard the relative path belongs to.
+     * @param relative Relative path with '/' separators
+     * @return Shard index
+     */
+    int of(final String relative) {
+        int hash = Shard.BASIS;
+        final String key = Shard.EXTENSION.matcher(relative).replaceFirst("");
+        for (final byte current : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= current & 0xff;
+            hash *= Shard.PRIME;
+        }
+        return (int) (Integer.toUnsignedLong(hash) % this.count);
+    }
+
+    /**
+     * Index of the shard.
+     * @return Index
+     */
+    int index() {
+        return this.index;
+    }
+
+    /**
+     * Total number of shards.
+     * @return Count
+     */
+    int count() {
+        return this.count;
+    }
+
+    /**
+     * Whether it's the only shard.
+     * @return True if there is no sharding
+     */
+    boolean single() {
+        return this.count == 1;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d of %d", this.index, this.count);
+    }
+
+    /**
+     * Path relative to the root with '/' separators.
+     * @param root Root directory
+     * @param file File inside the root directory
+     * @return Relative path
+     */
+    static String relative(final Path root, final Path file) {
+        return root.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/");
+    }
+}
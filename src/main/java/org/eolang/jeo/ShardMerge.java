@@ -0,0 +1,157 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Merge of shard reports.
+ *
+ * <p>It checks that reports of all the shards are present, that the shards agree
+ * on their number, that every file was translated by exactly one shard and by the
+ * shard it belongs to, and, if the expected files are known, that no file was
+ * missed. Metrics of all the shards are combined into a single report.</p>
+ * @since 0.16.0
+ */
+final class ShardMerge {
+
+    /**
+     * Directory with reports of all the shards.
+     */
+    private final Path dir;
+
+    /**
+     * Process name, like "disassemble" or "assemble".
+     */
+    private final String process;
+
+    /**
+     * Constructor.
+     * @param dir Directory with reports of all the shards
+     * @param process Process name, like "disassemble" or "assemble"
+     */
+    ShardMerge(final Path dir, final String process) {
+        this.dir = dir;
+        this.process = process;
+    }
+
+    /**
+     * Merge the reports.
+     * @param expected All the files that had to be translated, relative to the root,
+     *  or empty collection if they are not known
+     * @return Combined report
+     */
+    ShardReport merge(final Collection<String> expected) {
+        final List<ShardReport> reports = this.reports();
+        if (reports.isEmpty()) {
+            throw new IllegalStateException(
+                String.format("There are no '%s' shard reports in '%s'", this.process, this.dir)
+            );
+        }
+        final int count = reports.get(0).shard().count();
+        final Map<Integer, ShardReport> shards = new HashMap<>(count);
+        final Map<String, Integer> owners = new HashMap<>(0);
+        long slowest = 0L;
+        for (final ShardReport report : reports) {
+            final Shard shard = report.shard();
+            if (shard.count() != count) {
+                throw new IllegalStateException(
+                    String.format(
+                        "Shard %s disagrees with other shards on their number, %d expected",
+                        shard,
+                        count
+                    )
+                );
+            }
+            if (shards.put(shard.index(), report) != null) {
+                throw new IllegalStateException(
+                    String.format("Shard %s is reported twice", shard)
+                );
+            }
+            for (final String file : report.files()) {
+                final Integer before = owners.put(file, shard.index());
+                if (before != null) {
+                    throw new IllegalStateException(
+                        String.format(
+                            "File '%s' is translated by shards %d and %d",
+                            file,
+                            before,
+                            shard.index()
+                        )
+                    );
+                }
+                if (shard.of(file) != shard.index()) {
+                    throw new IllegalStateException(
+                        String.format("File '%s' doesn't belong to shard %s", file, shard)
+                    );
+                }
+            }
+            slowest = Math.max(slowest, report.millis());
+        }
+        if (shards.size() != count) {
+            throw new IllegalStateException(
+                String.format(
+                    "Only %d of %d shards are reported, missing: %s",
+                    shards.size(),
+                    count,
+                    Stream.iterate(0, idx -> idx + 1)
+                        .limit(count)
+                        .filter(idx -> !shards.containsKey(idx))
+                        .map(String::valueOf)
+                        .collect(Collectors.joining(", "))
+                )
+            );
+        }
+        final Collection<String> missed = new TreeSet<>(expected);
+        missed.removeAll(owners.keySet());
+        if (!missed.isEmpty()) {
+            throw new IllegalStateException(
+                String.format("%d files are not translated by any shard: %s", missed.size(), missed)
+            );
+        }
+        Logger.info(
+            this,
+            "All %d '%s' shards translated %d files, the slowest one took %[ms]s, all together %[ms]s",
+            count,
+            this.process,
+            owners.size(),
+            slowest,
+            reports.stream().mapToLong(ShardReport::millis).sum()
+        );
+        return new ShardReport(this.process, new Shard(), slowest, new TreeSet<>(owners.keySet()));
+    }
+
+    /**
+     * All the reports of the process.
+     * @return Reports
+     */
+    private List<ShardReport> reports() {
+        final String prefix = String.format("%s-", this.process);
+        final List<ShardReport> result = new ArrayList<>(0);
+        if (Files.isDirectory(this.dir)) {
+            try (Stream<Path> files = Files.list(this.dir)) {
+                files.filter(file -> file.getFileName().toString().startsWith(prefix))
+                    .map(ShardReport::read)
+                    .forEach(result::add);
+            } catch (final IOException exception) {
+                throw new IllegalStateException(
+                    String.format("Can't read shard reports from '%s'", this.dir), exception
+                );
+            }
+        }
+        return result;
+    }
+}
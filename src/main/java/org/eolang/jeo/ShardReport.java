@@ -0,0 +1,162 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Report of a single shard.
+ *
+ * <p>Each shard saves the list of files it translated and how long it took, so that
+ * the merge step can check that all the shards finished and together covered all the
+ * files exactly once, see {@link ShardMerge}.</p>
+ * @since 0.16.0
+ */
+final class ShardReport {
+
+    /**
+     * Prefix of the file lines.
+     */
+    private static final String FILE = "file=";
+
+    /**
+     * Process name, like "disassemble" or "assemble".
+     */
+    private final String process;
+
+    /**
+     * Shard.
+     */
+    private final Shard shard;
+
+    /**
+     * Duration in milliseconds.
+     */
+    private final long millis;
+
+    /**
+     * Translated files, relative to the root.
+     */
+    private final Collection<String> files;
+
+    /**
+     * Constructor.
+     * @param process Process name, like "disassemble" or "assemble"
+     * @param shard Shard
+     * @param millis Duration in milliseconds
+     * @param files Translated files, relative to the root
+     */
+    ShardReport(
+        final String process,
+        final Shard shard,
+        final long millis,
+        final Collection<String> files
+    ) {
+        this.process = process;
+        this.shard = shard;
+        this.millis = millis;
+        this.files = files;
+    }
+
+    /**
+     * Read the report.
+     * @param file Report file
+     * @return Report
+     */
+    static ShardReport read(final Path file) {
+        try {
+            int index = -1;
+            int count = -1;
+            long millis = 0L;
+            final List<String> files = new ArrayList<>(0);
+            for (final String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                if (line.startsWith(ShardReport.FILE)) {
+                    files.add(line.substring(ShardReport.FILE.length()));
+                } else if (line.startsWith("index=")) {
+                    index = Integer.parseInt(line.substring("index=".length()));
+                } else if (line.startsWith("count=")) {
+                    count = Integer.parseInt(line.substring("count=".length()));
+                } else if (line.startsWith("millis=")) {
+                    millis = Long.parseLong(line.substring("millis=".length()));
+                }
+            }
+            final String name = file.getFileName().toString();
+            return new ShardReport(
+                name.substring(0, name.indexOf('-')),
+                new Shard(index, count),
+                millis,
+                files
+            );
+        } catch (final IOException | IllegalArgumentException exception) {
+            throw new IllegalStateException(
+                String.format("Can't read shard report '%s'", file), exception
+            );
+        }
+    }
+
+    /**
+     * Save the report into the directory.
+     * @param dir Directory with reports of all the shards
+     * @return Path to the saved report
+     */
+    Path save(final Path dir) {
+        final Path file = dir.resolve(
+            String.format("%s-%d-of-%d.txt", this.process, this.shard.index(), this.shard.count())
+        );
+        final List<String> lines = new ArrayList<>(this.files.size() + 3);
+        lines.add(String.format("index=%d", this.shard.index()));
+        lines.add(String.format("count=%d", this.shard.count()));
+        lines.add(String.format("millis=%d", this.millis));
+        this.files.forEach(relative -> lines.add(ShardReport.FILE + relative));
+        try {
+            Files.createDirectories(dir);
+            Files.write(file, lines, StandardCharsets.UTF_8);
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Can't save shard report '%s'", file), exception
+            );
+        }
+        Logger.info(
+            this,
+            "Shard %s translated %d files in %[ms]s, report is saved to %[file]s",
+            this.shard,
+            this.files.size(),
+            this.millis,
+            file
+        );
+        return file;
+    }
+
+    /**
+     * Shard.
+     * @return Shard
+     */
+    Shard shard() {
+        return this.shard;
+    }
+
+    /**
+     * Duration in milliseconds.
+     * @return Duration
+     */
+    long millis() {
+        return this.millis;
+    }
+
+    /**
+     * Translated files, relative to the root.
+     * @return Files
+     */
+    Collection<String> files() {
+        return this.files;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * All the files that sharded translation had to process.
+ *
+ * <p>Class files are selected by the same inclusion and exclusion filters as the
+ * disassemble goal applies, otherwise excluded classes would be reported as missed
+ * by all the shards. XMIR files are taken as they are, since the assemble goal
+ * doesn't filter them.</p>
+ * @since 0.16.0
+ */
+final class ShardSources {
+
+    /**
+     * Root directory of the files.
+     */
+    private final Path root;
+
+    /**
+     * Process name, either "disassemble" or "assemble".
+     */
+    private final String process;
+
+    /**
+     * Filter of class files.
+     */
+    private final GlobFilter filter;
+
+    /**
+     * Constructor.
+     * @param root Root directory of the files
+     * @param process Process name, either "disassemble" or "assemble"
+     * @param filter Filter of class files
+     */
+    ShardSources(final Path root, final String process, final GlobFilter filter) {
+        this.root = root;
+        this.process = process;
+        this.filter = filter;
+    }
+
+    /**
+     * Paths of all the files relative to the root.
+     * @return Relative paths
+     */
+    Collection<String> all() {
+        final Stream<Path> all;
+        if ("assemble".equals(this.process)) {
+            all = new XmirFiles(this.root).all();
+        } else {
+            all = new FilteredClasses(
+                new BytecodeClasses(this.root, this.filter.within(this.root)::descends),
+                this.filter
+            ).all();
+        }
+        return all.map(file -> Shard.relative(this.root, file)).collect(Collectors.toSet());
+    }
+}
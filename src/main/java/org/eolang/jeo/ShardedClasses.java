@@ -0,0 +1,56 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+/**
+ * Classes of a single shard.
+ * @since 0.16.0
+ */
+final class ShardedClasses implements Classes {
+
+    /**
+     * Original classes.
+     */
+    private final Classes original;
+
+    /**
+     * Shard.
+     */
+    private final Shard shard;
+
+    /**
+     * Constructor.
+     * @param original Original classes
+     * @param shard Shard
+     */
+    ShardedClasses(final Classes original, final Shard shard) {
+        this.original = original;
+        this.shard = shard;
+    }
+
+    @Override
+    public long total() {
+        return this.all().count();
+    }
+
+    @Override
+    public Path root() {
+        return this.original.root();
+    }
+
+    @Override
+    public Stream<Path> all() {
+        final Path root = this.original.root();
+        return this.original.all().filter(path -> this.shard.owns(root, path));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s (shard %s)", this.original, this.shard);
+    }
+}
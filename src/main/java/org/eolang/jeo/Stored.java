@@ -0,0 +1,70 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import org.eolang.jeo.representation.FileBytes;
+
+/**
+ * Transformation that reuses results from the translation store.
+ *
+ * <p>Before translating, it looks for the result of the same input with the same
+ * settings in the {@link TranslationStore}. If the result is absent, the original
+ * transformation is performed once, and its result is streamed both into the output
+ * and into the store.</p>
+ * @since 0.16.0
+ */
+final class Stored implements Transformation {
+
+    /**
+     * Original transformation.
+     */
+    private final Transformation origin;
+
+    /**
+     * Translation store.
+     */
+    private final TranslationStore store;
+
+    /**
+     * Translation settings that affect the result.
+     */
+    private final String settings;
+
+    /**
+     * Constructor.
+     * @param origin Original transformation
+     * @param store Translation store
+     * @param settings Translation settings that affect the result
+     */
+    Stored(final Transformation origin, final TranslationStore store, final String settings) {
+        this.origin = origin;
+        this.store = store;
+        this.settings = settings;
+    }
+
+    @Override
+    public Path source() {
+        return this.origin.source();
+    }
+
+    @Override
+    public Path target() {
+        return this.origin.target();
+    }
+
+    @Override
+    public void transform(final OutputStream output) throws IOException {
+        final String key = this.store.key(new FileBytes(this.source()).asBytes(), this.settings);
+        if (this.store.copy(key, output)) {
+            Logger.debug(this, "The result for '%s' is taken from the store", this.source());
+        } else {
+            this.store.save(key, this.origin, output);
+        }
+    }
+}
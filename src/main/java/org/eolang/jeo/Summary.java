@@ -8,13 +8,17 @@ import com.jcabi.log.Logger;
 import java.nio.file.Path;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
+import org.eolang.jeo.representation.Counter;
 
 /**
  * Translation summary log.
  *
  * <p>This class wraps a translator and provides summary logging functionality.
  * It logs the start and end of the translation process, including the number of
- * files processed and the total time taken.</p>
+ * files processed and the total time taken. While the translation runs, the
+ * progress is reported periodically from the counter of finished files. The
+ * progress reporter is stopped when the returned stream is closed, or right away
+ * if the translation fails to start.</p>
  * @since 0.2.0
  */
 public final class Summary implements Translator {
@@ -46,6 +50,11 @@ public final class Summary implements Translator {
      */
     private final Translator original;
 
+    /**
+     * Counter of finished files.
+     */
+    private final Counter counter;
+
     /**
      * Constructor.
      * @param process Process name (gerund form)
@@ -53,23 +62,27 @@ public final class Summary implements Translator {
      * @param input Source directory path
      * @param output Target directory path
      * @param original Original translator to wrap with summary logging
-     * @checkstyle ParameterNumberCheck (5 lines)
+     * @param counter Counter of finished files
+     * @checkstyle ParameterNumberCheck (10 lines)
      */
     Summary(
         final String process,
         final String participle,
         final String input,
         final Path output,
-        final Translator original
+        final Translator original,
+        final Counter counter
     ) {
         this.process = process;
         this.participle = participle;
         this.input = input;
         this.output = output;
         this.original = original;
+        this.counter = counter;
     }
 
     @Override
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
     public Stream<Path> apply(final Stream<Path> representations) {
         Logger.info(
             this,
@@ -80,16 +93,27 @@ public final class Summary implements Translator {
         );
         final long start = System.currentTimeMillis();
         final AtomicInteger counter = new AtomicInteger();
-        return this.original.apply(representations)
+        final Progress progress = new Progress(this.process, this.counter).begin();
+        final Stream<Path> translated;
+        try {
+            translated = this.original.apply(representations);
+        } catch (final Throwable exception) {
+            progress.close();
+            throw exception;
+        }
+        return translated
             .peek(rep -> counter.incrementAndGet())
             .onClose(
-                () -> Logger.info(
-                    this,
-                    "Total %d files were %s in %[ms]s",
-                    counter.get(),
-                    this.participle,
-                    System.currentTimeMillis() - start
-                )
+                () -> {
+                    progress.close();
+                    Logger.info(
+                        this,
+                        "Total %d files were %s in %[ms]s",
+                        counter.get(),
+                        this.participle,
+                        System.currentTimeMillis() - start
+                    );
+                }
             );
     }
 }
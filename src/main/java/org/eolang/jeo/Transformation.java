@@ -4,6 +4,9 @@
  */
 package org.eolang.jeo;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Path;
 
 /**
@@ -12,6 +15,9 @@ import java.nio.file.Path;
  * <p>This interface defines the contract for transformations that convert
  * files from one format to another. Implementations handle specific transformation
  * types like assembling XMIR to bytecode or disassembling bytecode to XMIR.</p>
+ *
+ * <p>The result is streamed into the supplied output, so decorators can pass it
+ * straight to a file without keeping a full copy of it in memory.</p>
  * @since 0.6.0
  */
 public interface Transformation {
@@ -29,8 +35,37 @@ public interface Transformation {
     Path target();
 
     /**
-     * Transform the file.
+     * Transform the file and write the result to the output.
+     * <p>The output is not closed.</p>
+     * @param output Output to write the transformed content to
+     * @throws IOException If the result can't be written
+     */
+    void transform(OutputStream output) throws IOException;
+
+    /**
+     * Transform the file into memory.
      * @return Transformed file content as byte array
      */
-    byte[] transform();
+    default byte[] transform() {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try {
+            this.transform(output);
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Failed to transform '%s' to '%s'", this.source(), this.target()),
+                exception
+            );
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * Transform the file when the result is not needed.
+     * <p>Decorators may use it to avoid producing the result at all, for example,
+     * to skip reading an already transformed file, or to stream it straight
+     * to the target file.</p>
+     */
+    default void perform() {
+        this.transform();
+    }
 }
@@ -0,0 +1,522 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import com.jcabi.log.Logger;
+import com.jcabi.manifests.Manifests;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Content-addressable store of translation results.
+ *
+ * <p>Results are kept in a directory, which may be shared between modules, branches
+ * and build agents, for example on a network mount. Each result is addressed by the
+ * SHA-256 hash of the input bytes, the translation settings, the context of the
+ * store, like the classpath of assembling, and the plugin version, so the same class
+ * is translated only once no matter where it comes from.</p>
+ *
+ * <p>Writers never expose partial results: the content is written into a temporary
+ * file first and then atomically renamed. The store is bounded by size: when it grows
+ * over the limit, the least recently used results are evicted. Reading a result
+ * refreshes its modification time, which is used as the access time.</p>
+ *
+ * <p>A store with zero limit is disabled and doesn't decorate transformations at all.</p>
+ * @since 0.16.0
+ */
+public final class TranslationStore {
+
+    /**
+     * Locks of eviction by the store directory.
+     */
+    private static final ConcurrentMap<Path, Object> LOCKS = new ConcurrentHashMap<>(0);
+
+    /**
+     * Directory of the store.
+     */
+    private final Path dir;
+
+    /**
+     * Size limit of the store in bytes.
+     */
+    private final long limit;
+
+    /**
+     * Bytes written since the last eviction.
+     */
+    private final AtomicLong written;
+
+    /**
+     * Context that affects all the results, like the classpath of assembling.
+     */
+    private final String context;
+
+    /**
+     * Constructor of disabled store.
+     */
+    public TranslationStore() {
+        this(Paths.get(""), 0L);
+    }
+
+    /**
+     * Constructor from the plugin parameters.
+     * @param dir Directory of the store, or null if the store is disabled
+     * @param megabytes Size limit of the store in megabytes
+     */
+    public TranslationStore(final File dir, final long megabytes) {
+        this(TranslationStore.directory(dir), TranslationStore.bytes(dir, megabytes));
+    }
+
+    /**
+     * Constructor.
+     * @param dir Directory of the store
+     * @param limit Size limit of the store in bytes
+     */
+    public TranslationStore(final Path dir, final long limit) {
+        this(dir, limit, new AtomicLong(0L), "");
+    }
+
+    /**
+     * Constructor.
+     * @param dir Directory of the store
+     * @param limit Size limit of the store in bytes
+     * @param written Bytes written since the last eviction
+     * @param context Context that affects all the results
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private TranslationStore(
+        final Path dir, final long limit, final AtomicLong written, final String context
+    ) {
+        this.dir = dir;
+        this.limit = limit;
+        this.written = written;
+        this.context = context;
+    }
+
+    /**
+     * The same store with results that depend on the given context.
+     * <p>For example, assembled classes depend on the classpath, since frames
+     * are computed with the classes it has.</p>
+     * @param ctx Context that affects all the results
+     * @return Store
+     */
+    TranslationStore within(final String ctx) {
+        return new TranslationStore(this.dir, this.limit, this.written, ctx);
+    }
+
+    /**
+     * Decorate transformation with the store.
+     * @param origin Original transformation
+     * @param settings Translation settings that affect the result
+     * @return Transformation that consults the store first
+     */
+    Transformation decorate(final Transformation origin, final String settings) {
+        final Transformation result;
+        if (this.limit > 0) {
+            result = new Stored(origin, this, settings);
+        } else {
+            result = origin;
+        }
+        return result;
+    }
+
+    /**
+     * Key of the result.
+     * @param input Input bytes
+     * @param settings Translation settings that affect the result
+     * @return Key
+     */
+    String key(final byte[] input, final String settings) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(input);
+            digest.update((byte) 0);
+            digest.update(settings.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(this.context.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(Manifests.read("JEO-Version").getBytes(StandardCharsets.UTF_8));
+            return String.format("%064x", new BigInteger(1, digest.digest()));
+        } catch (final NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 algorithm is not available", exception);
+        }
+    }
+
+    /**
+     * Copy the result to the output.
+     * <p>A result evicted by a concurrent build between the lookup and the copy
+     * is a miss as well.</p>
+     * @param key Key of the result
+     * @param output Output to copy the result to
+     * @return True if the result is in the store and copied
+     * @throws IOException If the result can't be written to the output
+     */
+    boolean copy(final String key, final OutputStream output) throws IOException {
+        final Path path = this.path(key);
+        boolean result;
+        try {
+            Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis()));
+            result = true;
+        } catch (final NoSuchFileException exception) {
+            result = false;
+        } catch (final IOException exception) {
+            Logger.warn(this, "Can't read '%s' from the store: %s", path, exception.getMessage());
+            result = false;
+        }
+        if (result) {
+            try {
+                Files.copy(path, output);
+            } catch (final NoSuchFileException exception) {
+                result = false;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Perform the transformation and save its result.
+     * <p>The result is streamed into the output and into the store at once, without
+     * keeping it in memory and without transforming twice. If the store can't be
+     * written, the result still goes to the output and the store is left as is.
+     * Failures of the transformation itself and of the output are rethrown.</p>
+     * @param key Key of the result
+     * @param trans Transformation that produces the result
+     * @param output Output to write the result to
+     * @throws IOException If the transformation fails or the output can't be written
+     */
+    void save(final String key, final Transformation trans, final OutputStream output)
+        throws IOException {
+        final Path path = this.path(key);
+        final Tee tee = new Tee(output);
+        long size = 0L;
+        try {
+            size = new AtomicFile(path).write(copy -> tee.transform(trans, copy));
+        } catch (final IOException exception) {
+            if (tee.failed()) {
+                throw exception;
+            }
+            Logger.warn(this, "Can't save '%s' to the store: %s", path, exception.getMessage());
+            if (!tee.started()) {
+                trans.transform(output);
+            }
+        }
+        if (this.written.addAndGet(size) >= this.limit / 8) {
+            this.evict();
+        }
+    }
+
+    /**
+     * Evict the least recently used results until the store fits the limit.
+     * <p>All the stores in the JVM with the same directory evict one at a time.
+     * Other builds, for example on other agents with the same shared mount, may
+     * delete results at the same time, so files that disappear while the store is
+     * listed or evicted are skipped.</p>
+     */
+    private void evict() {
+        synchronized (TranslationStore.LOCKS.computeIfAbsent(
+            this.dir.toAbsolutePath().normalize(), path -> new Object()
+        )) {
+            this.written.set(0L);
+            try {
+                final Listing listing = new Listing();
+                Files.walkFileTree(this.dir, listing);
+                final List<Entry> entries = listing.entries();
+                entries.sort(Comparator.comparingLong(Entry::time));
+                long total = entries.stream().mapToLong(Entry::size).sum();
+                for (final Entry entry : entries) {
+                    if (total <= this.limit) {
+                        break;
+                    }
+                    Files.deleteIfExists(entry.path());
+                    total -= entry.size();
+                }
+            } catch (final IOException exception) {
+                Logger.warn(
+                    this, "Can't evict results from the store: %s", exception.getMessage()
+                );
+            }
+        }
+    }
+
+    /**
+     * Path of the result.
+     * @param key Key of the result
+     * @return Path
+     */
+    private Path path(final String key) {
+        return this.dir.resolve(key.substring(0, 2)).resolve(key.substring(2));
+    }
+
+    /**
+     * Directory of the store from the plugin parameter.
+     * @param dir Directory, or null if the store is disabled
+     * @return Directory
+     */
+    private static Path directory(final File dir) {
+        final Path result;
+        if (dir == null) {
+            result = Paths.get("");
+        } else {
+            result = dir.toPath();
+        }
+        return result;
+    }
+
+    /**
+     * Size limit of the store from the plugin parameters.
+     * @param dir Directory, or null if the store is disabled
+     * @param megabytes Size limit in megabytes
+     * @return Size limit in bytes, zero if the store is disabled
+     */
+    private static long bytes(final File dir, final long megabytes) {
+        final long result;
+        if (dir == null) {
+            result = 0L;
+        } else {
+            result = megabytes << 20;
+        }
+        return result;
+    }
+
+    /**
+     * Output that writes the result of a transformation into the store as well.
+     * <p>Failures of the store copy don't break the main output: the copy is
+     * abandoned and the failure is reported once the transformation is done.</p>
+     * @since 0.16.0
+     */
+    private static final class Tee extends OutputStream {
+
+        /**
+         * Main output.
+         */
+        private final OutputStream main;
+
+        /**
+         * Copy in the store, absent until the transformation starts.
+         */
+        private final AtomicReference<OutputStream> copy;
+
+        /**
+         * Failure of the copy, if any.
+         */
+        private final AtomicReference<IOException> broken;
+
+        /**
+         * Whether the transformation or the main output failed.
+         */
+        private final AtomicBoolean fail;
+
+        /**
+         * Constructor.
+         * @param main Main output
+         */
+        Tee(final OutputStream main) {
+            this.main = main;
+            this.copy = new AtomicReference<>();
+            this.broken = new AtomicReference<>();
+            this.fail = new AtomicBoolean(false);
+        }
+
+        @Override
+        public void write(final int bte) throws IOException {
+            this.main.write(bte);
+            final OutputStream target = this.copy.get();
+            if (this.broken.get() == null) {
+                try {
+                    target.write(bte);
+                } catch (final IOException exception) {
+                    this.broken.set(exception);
+                }
+            }
+        }
+
+        @Override
+        public void write(final byte[] bytes, final int off, final int len) throws IOException {
+            this.main.write(bytes, off, len);
+            final OutputStream target = this.copy.get();
+            if (this.broken.get() == null) {
+                try {
+                    target.write(bytes, off, len);
+                } catch (final IOException exception) {
+                    this.broken.set(exception);
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            this.main.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.flush();
+        }
+
+        /**
+         * Perform the transformation into the main output and the copy.
+         * @param trans Transformation
+         * @param target Copy in the store
+         * @throws IOException If the transformation, the output or the copy fails
+         */
+        void transform(final Transformation trans, final OutputStream target)
+            throws IOException {
+            this.copy.set(target);
+            try {
+                trans.transform(this);
+            } catch (final IOException exception) {
+                this.fail.set(true);
+                throw exception;
+            }
+            final IOException failure = this.broken.get();
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        /**
+         * Whether the transformation has started writing.
+         * @return True if started
+         */
+        boolean started() {
+            return this.copy.get() != null;
+        }
+
+        /**
+         * Whether the transformation or the main output failed.
+         * @return True if failed
+         */
+        boolean failed() {
+            return this.fail.get();
+        }
+    }
+
+    /**
+     * Results of the store, listed while other builds may delete them.
+     * @since 0.16.0
+     */
+    private static final class Listing extends SimpleFileVisitor<Path> {
+
+        /**
+         * Listed results.
+         */
+        private final List<Entry> all;
+
+        /**
+         * Constructor.
+         */
+        Listing() {
+            this.all = new ArrayList<>(0);
+        }
+
+        @Override
+        public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+            if (attrs.isRegularFile()
+                && !file.getFileName().toString().endsWith(AtomicFile.PART)) {
+                this.all.add(
+                    new Entry(file, attrs.lastModifiedTime().toMillis(), attrs.size())
+                );
+            }
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFileFailed(final Path file, final IOException exc) {
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult postVisitDirectory(final Path dir, final IOException exc) {
+            return FileVisitResult.CONTINUE;
+        }
+
+        /**
+         * Listed results.
+         * @return Results
+         */
+        List<Entry> entries() {
+            return this.all;
+        }
+    }
+
+    /**
+     * Result file in the store.
+     * @since 0.16.0
+     */
+    private static final class Entry {
+
+        /**
+         * Path to the file.
+         */
+        private final Path file;
+
+        /**
+         * Last access time.
+         */
+        private final long access;
+
+        /**
+         * File size.
+         */
+        private final long bytes;
+
+        /**
+         * Constructor.
+         * @param file Path to the file
+         * @param access Last access time in milliseconds
+         * @param bytes File size
+         */
+        Entry(final Path file, final long access, final long bytes) {
+            this.file = file;
+            this.access = access;
+            this.bytes = bytes;
+        }
+
+        /**
+         * Path to the file.
+         * @return Path
+         */
+        Path path() {
+            return this.file;
+        }
+
+        /**
+         * Last access time.
+         * @return Time in milliseconds
+         */
+        long time() {
+            return this.access;
+        }
+
+        /**
+         * File size.
+         * @return Size in bytes
+         */
+        long size() {
+            return this.bytes;
+        }
+    }
+}
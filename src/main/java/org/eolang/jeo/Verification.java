@@ -0,0 +1,77 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * Level of bytecode verification after assembling.
+ *
+ * <p>Structural checks are cheap and catch malformed class files. Data-flow analysis
+ * of every method is expensive, so it may be limited to the classes that were
+ * actually transformed, see {@link #CHANGED}.</p>
+ * @since 0.16.0
+ */
+enum Verification {
+    /**
+     * No verification at all.
+     */
+    NONE,
+    /**
+     * Structural checks of all the classes: class format, constant pool, names and
+     * descriptors, without data-flow analysis.
+     */
+    STRUCTURE,
+    /**
+     * Full verification of classes which XMIR was changed since disassembling and
+     * structural checks of the others.
+     * <p>XMIR changes are detected by method fingerprints, so classes disassembled
+     * without fingerprints are always verified fully.</p>
+     */
+    CHANGED,
+    /**
+     * Full verification of all the classes with data-flow analysis of every method.
+     */
+    FULL;
+
+    /**
+     * Parse the level.
+     * @param level Name of the level, case-insensitive
+     * @return Level
+     */
+    static Verification fromString(final String level) {
+        try {
+            return Verification.valueOf(level.trim().toUpperCase(Locale.ROOT));
+        } catch (final IllegalArgumentException exception) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Unknown verification level '%s', expected one of: none, structure, changed, full",
+                    level
+                ),
+                exception
+            );
+        }
+    }
+
+    /**
+     * Should the class be verified with data-flow analysis.
+     * @param clazz Path to the class file
+     * @param pristine Class files assembled from XMIR that wasn't changed
+     * @return True for full verification, false for structural checks only
+     */
+    boolean deep(final Path clazz, final Collection<Path> pristine) {
+        final boolean result;
+        if (this == Verification.FULL) {
+            result = true;
+        } else if (this == Verification.CHANGED) {
+            result = !pristine.contains(clazz.toAbsolutePath().normalize());
+        } else {
+            result = false;
+        }
+        return result;
+    }
+}
@@ -8,6 +8,7 @@ import com.jcabi.log.Logger;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import org.eolang.jeo.representation.Stage;
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
@@ -37,14 +38,26 @@ public final class VerifiedBytecode {
         this.code = code.clone();
     }
 
+    /**
+     * Checks only the structure of the bytecode.
+     * <p>The class format, the constant pool, names, descriptors and instructions are
+     * checked, but methods are not analyzed, so it's much cheaper than
+     * {@link #verify()}.</p>
+     * @throws IllegalArgumentException If the bytecode is malformed.
+     */
+    public void check() {
+        final Stage.Span span = Stage.CHECK.begin();
+        final ClassNode clazz = this.structure();
+        span.end(clazz.name, this.code.length, 0L);
+    }
+
     /**
      * Verifies the bytecode.
      * @throws IllegalStateException If the bytecode is invalid.
      */
     public void verify() {
-        final ClassNode clazz = new ClassNode();
-        new ClassReader(this.code)
-            .accept(new CheckClassAdapter(clazz, false), ClassReader.SKIP_DEBUG);
+        final Stage.Span span = Stage.VERIFY.begin();
+        final ClassNode clazz = this.structure();
         final Optional<Type> syper = Optional.ofNullable(clazz.superName)
             .map(Type::getObjectType);
         final List<Type> interfaces = clazz.interfaces.stream().map(Type::getObjectType)
@@ -71,9 +84,21 @@ public final class VerifiedBytecode {
                 );
             }
         }
+        span.end(clazz.name, this.code.length, 0L);
         Logger.info(
             BytecodeClasses.class,
             String.format("Bytecode verification passed for the class '%s'", clazz.name)
         );
     }
+
+    /**
+     * Read the class checking its structure.
+     * @return Class node
+     */
+    private ClassNode structure() {
+        final ClassNode clazz = new ClassNode();
+        new ClassReader(this.code)
+            .accept(new CheckClassAdapter(clazz, false), ClassReader.SKIP_DEBUG);
+        return clazz;
+    }
 }
@@ -0,0 +1,113 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import com.jcabi.log.Logger;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
+import org.eolang.jeo.representation.directives.Format;
+
+/**
+ * Continuously disassembles changed class files.
+ *
+ * <p>This goal disassembles all the classes once and then keeps running, watching the
+ * classes directory and disassembling only the class files that were created or modified
+ * (for example, by an IDE compiler). The class loader, the cache and the translation store
+ * are set up only once for the whole session. The goal runs until the build is
+ * interrupted.</p>
+ *
+ * @since 0.16.0
+ */
+@Mojo(name = "watch", requiresProject = false)
+public final class WatchMojo extends AbstractDisassembleMojo {
+
+    /**
+     * Maven project instance.
+     *
+     * @since 0.16.0
+     */
+    @Parameter(defaultValue = "${project}", readonly = true)
+    private MavenProject project;
+
+    /**
+     * Directory with compiled class files to watch.
+     *
+     * @since 0.16.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "jeo.watch.sourcesDir",
+        defaultValue = "${project.build.outputDirectory}"
+    )
+    private File sourcesDir;
+
+    /**
+     * Target directory for generated XMIR files.
+     *
+     * @since 0.16.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "jeo.watch.outputDir",
+        defaultValue = "${project.build.directory}/generated-sources/jeo-xmir"
+    )
+    private File outputDir;
+
+    /**
+     * How long to wait for changes in one poll, in milliseconds.
+     *
+     * @since 0.16.0
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "jeo.watch.interval",
+        defaultValue = "1000"
+    )
+    private long interval;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        final Path src = new MavenPath(this.sourcesDir).resolve();
+        final Path out = new MavenPath(this.outputDir).resolve();
+        final DisassembleSettings settings = this.settings();
+        final Format format = settings.format();
+        final GlobFilter filter = settings.filter();
+        final TranslationStore store = this.store();
+        try (DisassemblingWatch watch = new DisassemblingWatch(src, out, format, filter, store)) {
+            new PluginStartup(this.project, src).init();
+            Logger.info(this, "Watching is started with %s", settings);
+            watch.poll(0L);
+            new Disassembler(
+                new FilteredClasses(
+                    new BytecodeClasses(src, filter.within(src)::descends), filter
+                ),
+                out,
+                format,
+                this.debug(),
+                this.threads(),
+                store,
+                this.budget()
+            ).disassemble();
+            Logger.info(this, "Watching %[file]s for changes, press Ctrl+C to stop", src);
+            while (!Thread.currentThread().isInterrupted()) {
+                watch.poll(this.interval);
+            }
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            Logger.info(this, "Watching %[file]s is stopped", src);
+        } catch (final DependencyResolutionRequiredException | IOException exception) {
+            throw new MojoExecutionException(
+                String.format("Failed to watch '%s' and disassemble it to '%s'", src, out),
+                exception
+            );
+        }
+    }
+}
@@ -4,8 +4,6 @@
  */
 package org.eolang.jeo;
 
-import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.stream.Stream;
 import org.eolang.jeo.representation.xmir.JcabiXmlDoc;
@@ -14,7 +12,9 @@ import org.eolang.jeo.representation.xmir.JcabiXmlDoc;
  * XMIR files reader.
  *
  * <p>This class reads all XMIR (EO XML representation) files from a specified folder.
- * It provides functionality to discover and validate XMIR files for processing.</p>
+ * It provides functionality to discover and validate XMIR files for processing.
+ * Both plain {@code .xmir} and GZIP-compressed {@code .xmir.gz} files are recognized.
+ * The folder is walked only once per instance, see {@link Inventory}.</p>
  * @since 0.1.0
  */
 final class XmirFiles {
@@ -26,12 +26,43 @@ final class XmirFiles {
      */
     private final Path root;
 
+    /**
+     * Shard of the files.
+     */
+    private final Shard shard;
+
     /**
      * Constructor.
      * @param xmirs Root directory containing XMIR files
      */
     XmirFiles(final Path xmirs) {
+        this(xmirs, new Shard());
+    }
+
+    /**
+     * Inventory of the root directory.
+     */
+    private final Inventory inventory;
+
+    /**
+     * Constructor.
+     * @param xmirs Root directory containing XMIR files
+     * @param shard Shard of the files
+     */
+    XmirFiles(final Path xmirs, final Shard shard) {
+        this(xmirs, shard, new Inventory(xmirs));
+    }
+
+    /**
+     * Constructor.
+     * @param xmirs Root directory containing XMIR files
+     * @param shard Shard of the files
+     * @param inventory Inventory of the root directory
+     */
+    XmirFiles(final Path xmirs, final Shard shard, final Inventory inventory) {
         this.root = xmirs;
+        this.shard = shard;
+        this.inventory = inventory;
     }
 
     /**
@@ -48,20 +79,9 @@ final class XmirFiles {
      */
     public Stream<Path> all() {
         final Path path = this.root;
-        final Stream.Builder<Path> builder = Stream.builder();
-        if (Files.exists(path)) {
-            try (Stream<Path> all = Files.walk(path)) {
-                all.filter(Files::isRegularFile)
-                    .filter(f -> f.getFileName().toString().endsWith(".xmir"))
-                    .forEach(builder::add);
-            } catch (final IOException exception) {
-                throw new IllegalStateException(
-                    String.format("Can't read folder '%s'", path),
-                    exception
-                );
-            }
-        }
-        return builder.build();
+        return this.inventory.files()
+            .filter(XmirFiles::isXmir)
+            .filter(file -> this.shard.owns(path, file));
     }
 
     /**
@@ -70,4 +90,14 @@ final class XmirFiles {
     public void verify() {
         this.all().map(JcabiXmlDoc::new).forEach(JcabiXmlDoc::validate);
     }
+
+    /**
+     * Check if the file is an XMIR file, either plain or compressed.
+     * @param file Path to the file
+     * @return True if the file is an XMIR file
+     */
+    private static boolean isXmir(final Path file) {
+        final String name = file.getFileName().toString();
+        return name.endsWith(".xmir") || name.endsWith(".xmir.gz");
+    }
 }
@@ -6,17 +6,20 @@ package org.eolang.jeo.representation;
 
 import com.jcabi.xml.XML;
 import com.jcabi.xml.XMLDocument;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.nio.file.Path;
 import java.util.Arrays;
 import lombok.ToString;
 import org.cactoos.Input;
 import org.cactoos.bytes.BytesOf;
-import org.cactoos.io.InputOf;
 import org.cactoos.scalar.Sticky;
 import org.cactoos.scalar.Synced;
 import org.cactoos.scalar.Unchecked;
 import org.eolang.jeo.representation.asm.AsmProgram;
 import org.eolang.jeo.representation.asm.DisassembleMode;
+import org.eolang.jeo.representation.asm.SelectedMethods;
 import org.eolang.jeo.representation.bytecode.Bytecode;
 import org.eolang.jeo.representation.bytecode.BytecodeObject;
 import org.eolang.jeo.representation.directives.Format;
@@ -102,31 +105,65 @@ public final class BytecodeRepresentation {
 
     /**
      * Convert bytecode into XMIR format.
+     * <p>If listing is requested, it is printed in the same {@link ClassReader} pass
+     * that builds the bytecode object and is embedded into XMIR.</p>
      * @param format The disassemble params controlling the level of detail
      * @return XMIR representation of the bytecode
      */
     public String toEO(final Format format) {
-        final Format fmt;
+        final String result;
         if (format.withListing()) {
-            fmt = new Format(
-                format,
-                Format.LISTING, new BytecodeListing(this.input.value()).toString()
-            );
+            final StringWriter listing = new StringWriter();
+            final BytecodeObject bytecode = this.bytecode(format, new PrintWriter(listing));
+            result = this.toEO(new Format(format, Format.LISTING, listing.toString()), bytecode);
         } else {
-            fmt = format;
+            result = this.toEO(format, this.bytecode(format));
         }
-        final BytecodeObject bytecode = new AsmProgram(this.input.value())
-            .bytecode(DisassembleMode.fromString(fmt.mode()).asmOptions());
+        return result;
+    }
+
+    /**
+     * Convert bytecode into XMIR format and stream the listing into a separate writer.
+     * <p>The listing is printed in the same {@link ClassReader} pass that builds the
+     * bytecode object and is not embedded into XMIR, so it is never held in memory
+     * as a whole.</p>
+     * @param format The disassemble params controlling the level of detail
+     * @param listing Writer to stream the listing into
+     * @return XMIR representation of the bytecode without listing
+     */
+    public String toEO(final Format format, final Writer listing) {
+        return this.toEO(format, this.bytecode(format, new PrintWriter(listing)));
+    }
+
+    /**
+     * Convert bytecode object into XMIR format.
+     * @param fmt The disassemble params controlling the level of detail
+     * @param bytecode Bytecode object to convert
+     * @return XMIR representation of the bytecode
+     */
+    private String toEO(final Format fmt, final BytecodeObject bytecode) {
+        final String clazz = bytecode.top().name().full();
+        final int size = this.input.value().length;
+        final Stage.Span build = Stage.DIRECTIVES.begin();
         final Iterable<Directive> directives = bytecode
             .directives(fmt);
         try {
             final XML measured = new MeasuredEo(directives).asXml();
+            final XML xmir;
+            if (fmt.fingerprints()) {
+                xmir = new FingerprintedEo(measured, this.input.value()).asXml();
+            } else {
+                xmir = measured;
+            }
+            build.end(clazz, size, 0L);
+            final Stage.Span print = Stage.PRETTY.begin();
             final String res;
             if (fmt.pretty()) {
-                res = new PrettyXml(measured).toString();
+                res = new PrettyXml(xmir).toString();
             } else {
-                res = measured.toString();
+                res = xmir.toString();
             }
+            print.end(clazz, size, res.length());
             return res;
         } catch (final IllegalStateException exception) {
             throw new IllegalStateException(
@@ -149,13 +186,53 @@ public final class BytecodeRepresentation {
         }
     }
 
+    /**
+     * Parse bytecode object.
+     * @param format The disassemble params
+     * @return Bytecode object
+     */
+    private BytecodeObject bytecode(final Format format) {
+        return new AsmProgram(this.input.value())
+            .bytecode(
+                DisassembleMode.fromString(format.mode()).asmOptions(),
+                new SelectedMethods(format.methods())
+            );
+    }
+
+    /**
+     * Parse bytecode object and print its listing in the same pass.
+     * @param format The disassemble params
+     * @param listing Writer for the listing
+     * @return Bytecode object
+     */
+    private BytecodeObject bytecode(final Format format, final PrintWriter listing) {
+        return new AsmProgram(this.input.value())
+            .bytecode(
+                DisassembleMode.fromString(format.mode()).asmOptions(),
+                listing,
+                new SelectedMethods(format.methods())
+            );
+    }
+
     /**
      * Prestructor that converts a file to a byte source.
      * @param path The path to the file containing bytecode
      * @return The unchecked byte array supplier
      */
     private static Unchecked<byte[]> fromFile(final Path path) {
-        return BytecodeRepresentation.fromInput(new InputOf(path));
+        return new Unchecked<>(new Synced<>(new Sticky<>(() -> BytecodeRepresentation.read(path))));
+    }
+
+    /**
+     * Read the class file.
+     * @param path The path to the file containing bytecode
+     * @return Bytes of the file
+     */
+    private static byte[] read(final Path path) {
+        final Stage.Span span = Stage.READ.begin();
+        final byte[] bytes = new FileBytes(path).asBytes();
+        span.end(path.toString(), bytes.length, bytes.length);
+        return bytes;
     }
 
     /**
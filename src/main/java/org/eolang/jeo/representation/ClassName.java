@@ -4,7 +4,6 @@
  */
 package org.eolang.jeo.representation;
 
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.EqualsAndHashCode;
@@ -29,18 +28,6 @@ public final class ClassName {
      */
     private static final String SLASH = "/";
 
-    /**
-     * Dot pattern.
-     * Used to convert dotted notation to slashed notation.
-     */
-    private static final Pattern DOT_PATTERN = Pattern.compile(".", Pattern.LITERAL);
-
-    /**
-     * Slash pattern.
-     * Used to convert slashed notation to dotted notation.
-     */
-    private static final Pattern SLASH_PATTERN = Pattern.compile(ClassName.SLASH, Pattern.LITERAL);
-
     /**
      * Full class name.
      * <p>This field contains full class name including package.
@@ -88,7 +75,7 @@ public final class ClassName {
      */
     public String pckg() {
         final String result;
-        final int index = this.fqn.lastIndexOf(ClassName.SLASH);
+        final int index = this.fqn.lastIndexOf('/');
         if (index == -1) {
             result = "";
         } else {
@@ -102,14 +89,11 @@ public final class ClassName {
      * @return Simple class name without package (e.g., "ClassName")
      */
     public String name() {
-        final String result;
-        if (this.fqn.contains(ClassName.SLASH)) {
-            final String[] split = this.fqn.split(ClassName.SLASH);
-            result = split[split.length - 1];
-        } else {
-            result = this.fqn;
+        int end = this.fqn.length();
+        while (end > 0 && this.fqn.charAt(end - 1) == '/') {
+            --end;
         }
-        return result;
+        return this.fqn.substring(this.fqn.lastIndexOf('/', end - 1) + 1, end);
     }
 
     /**
@@ -118,7 +102,7 @@ public final class ClassName {
      * @return String with slashes (e.g., "org/eolang/jeo/representation")
      */
     private static String slashed(final String origin) {
-        return ClassName.DOT_PATTERN.matcher(origin).replaceAll(ClassName.SLASH);
+        return origin.replace('.', '/');
     }
 
     /**
@@ -127,6 +111,6 @@ public final class ClassName {
      * @return String with dots (e.g., "org.eolang.jeo.representation")
      */
     private static String dotted(final String origin) {
-        return ClassName.SLASH_PATTERN.matcher(origin).replaceAll(".");
+        return origin.replace('/', '.');
     }
 }
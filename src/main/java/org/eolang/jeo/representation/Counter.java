@@ -8,7 +8,8 @@ import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * A simple counter class that wraps an AtomicInteger.
- * This class is thread-safe.
+ * This class is thread-safe and lock-free: it also sums the bytes of the
+ * finished items, so a reporter can read the progress without blocking the workers.
  * @since 0.15
  */
 public final class Counter {
@@ -23,22 +24,29 @@ public final class Counter {
      */
     private final AtomicLong current;
 
+    /**
+     * Bytes of the finished items.
+     */
+    private final AtomicLong size;
+
     /**
      * Constructor.
      * @param all Total number of items.
      */
     public Counter(final long all) {
-        this(Counter.safe(all), new AtomicLong(0));
+        this(Counter.safe(all), new AtomicLong(0), new AtomicLong(0));
     }
 
     /**
      * Constructor.
      * @param all Total number of items.
      * @param current Current item number.
+     * @param size Bytes of the finished items.
      */
-    private Counter(final long all, final AtomicLong current) {
+    private Counter(final long all, final AtomicLong current, final AtomicLong size) {
         this.all = all;
         this.current = current;
+        this.size = size;
     }
 
     /**
@@ -46,9 +54,43 @@ public final class Counter {
      * @return The current count in the format "current/total".
      */
     public String next() {
+        return this.next(0L);
+    }
+
+    /**
+     * Get the current count and increment it, counting the bytes of the item.
+     * @param bytes Size of the finished item in bytes.
+     * @return The current count in the format "current/total".
+     */
+    public String next(final long bytes) {
+        this.size.addAndGet(bytes);
         return String.format("%d/%d", this.current.incrementAndGet(), this.all);
     }
 
+    /**
+     * Total number of items.
+     * @return Total.
+     */
+    public long total() {
+        return this.all;
+    }
+
+    /**
+     * Number of finished items.
+     * @return Finished items.
+     */
+    public long done() {
+        return this.current.get();
+    }
+
+    /**
+     * Bytes of the finished items.
+     * @return Bytes.
+     */
+    public long bytes() {
+        return this.size.get();
+    }
+
     /**
      * Ensure the total number of items is non-negative.
      * @param all Total number of items.
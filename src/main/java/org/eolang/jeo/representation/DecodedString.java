@@ -4,20 +4,27 @@
  */
 package org.eolang.jeo.representation;
 
-import java.io.UnsupportedEncodingException;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-
 /**
  * A utility class for encoding strings using URL encoding.
  *
- * <p>This class wraps a decoded string and provides functionality to encode it
- * using UTF-8 URL encoding. It handles encoding exceptions internally and
- * throws IllegalStateException if encoding fails.</p>
+ * <p>This class wraps a decoded string and encodes it exactly as
+ * {@link java.net.URLEncoder} does with UTF-8, but in a single pass and
+ * without intermediate arrays. Descriptors repeat a lot, so the results are
+ * kept in a bounded cache.</p>
  * @since 0.6.0
  */
 public final class DecodedString {
 
+    /**
+     * Cache of encoded strings.
+     */
+    private static final NameCache CACHE = new NameCache(16_384);
+
+    /**
+     * Hex digits.
+     */
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
     /**
      * Original string to encode.
      */
@@ -36,13 +43,86 @@ public final class DecodedString {
      * @return Encoded string.
      */
     public String encode() {
-        try {
-            return URLEncoder.encode(this.original, StandardCharsets.UTF_8.name());
-        } catch (final UnsupportedEncodingException exception) {
-            throw new IllegalStateException(
-                String.format("Failed to encode the '%s' using URLEncoder", this.original),
-                exception
-            );
+        return DecodedString.CACHE.get(this.original, DecodedString::encoded);
+    }
+
+    /**
+     * Encode the string.
+     * @param original String to encode
+     * @return Encoded string
+     */
+    private static String encoded(final String original) {
+        final int length = original.length();
+        final StringBuilder result = new StringBuilder(length + 16);
+        int idx = 0;
+        while (idx < length) {
+            final char current = original.charAt(idx);
+            if (DecodedString.safe(current)) {
+                result.append(current);
+                ++idx;
+            } else if (current == ' ') {
+                result.append('+');
+                ++idx;
+            } else if (Character.isHighSurrogate(current)
+                && idx + 1 < length
+                && Character.isLowSurrogate(original.charAt(idx + 1))) {
+                DecodedString.utf(Character.toCodePoint(current, original.charAt(idx + 1)), result);
+                idx += 2;
+            } else if (Character.isSurrogate(current)) {
+                DecodedString.utf('?', result);
+                ++idx;
+            } else {
+                DecodedString.utf(current, result);
+                ++idx;
+            }
         }
+        return result.toString();
+    }
+
+    /**
+     * Append percent-encoded UTF-8 bytes of the code point.
+     * @param point Code point
+     * @param result Where to append
+     * @checkstyle MagicNumberCheck (25 lines)
+     */
+    private static void utf(final int point, final StringBuilder result) {
+        if (point < 0x80) {
+            DecodedString.hex(point, result);
+        } else if (point < 0x800) {
+            DecodedString.hex(0xC0 | point >> 6, result);
+            DecodedString.hex(0x80 | point & 0x3F, result);
+        } else if (point < 0x10000) {
+            DecodedString.hex(0xE0 | point >> 12, result);
+            DecodedString.hex(0x80 | point >> 6 & 0x3F, result);
+            DecodedString.hex(0x80 | point & 0x3F, result);
+        } else {
+            DecodedString.hex(0xF0 | point >> 18, result);
+            DecodedString.hex(0x80 | point >> 12 & 0x3F, result);
+            DecodedString.hex(0x80 | point >> 6 & 0x3F, result);
+            DecodedString.hex(0x80 | point & 0x3F, result);
+        }
+    }
+
+    /**
+     * Append percent-encoded byte.
+     * @param bte Byte
+     * @param result Where to append
+     */
+    private static void hex(final int bte, final StringBuilder result) {
+        result.append('%')
+            .append(DecodedString.HEX[bte >> 4 & 0xF])
+            .append(DecodedString.HEX[bte & 0xF]);
+    }
+
+    /**
+     * Is the character left as is by the URL encoding?
+     * @param symbol Character
+     * @return True if it's a letter, a digit or one of {@code .-*_}
+     */
+    private static boolean safe(final char symbol) {
+        return symbol >= 'a' && symbol <= 'z'
+            || symbol >= 'A' && symbol <= 'Z'
+            || symbol >= '0' && symbol <= '9'
+            || symbol == '.' || symbol == '-' || symbol == '*' || symbol == '_';
     }
 }
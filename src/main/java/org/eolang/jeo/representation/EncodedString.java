@@ -4,20 +4,24 @@
  */
 package org.eolang.jeo.representation;
 
-import java.io.UnsupportedEncodingException;
-import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 
 /**
  * A utility class for decoding URL-encoded strings.
  *
- * <p>This class wraps an encoded string and provides functionality to decode it
- * using UTF-8 URL decoding. It handles decoding exceptions internally and
- * throws IllegalStateException if decoding fails.</p>
+ * <p>This class wraps an encoded string and decodes it exactly as
+ * {@link java.net.URLDecoder} does with UTF-8, but in a single pass.
+ * Descriptors repeat a lot, so the results are kept in a bounded cache.
+ * Broken escape sequences lead to {@link IllegalArgumentException}.</p>
  * @since 0.6.0
  */
 public final class EncodedString {
 
+    /**
+     * Cache of decoded strings.
+     */
+    private static final NameCache CACHE = new NameCache(16_384);
+
     /**
      * Original string to decode.
      */
@@ -36,13 +40,61 @@ public final class EncodedString {
      * @return Decoded string.
      */
     public String decode() {
-        try {
-            return URLDecoder.decode(this.original, StandardCharsets.UTF_8.name());
-        } catch (final UnsupportedEncodingException exception) {
-            throw new IllegalStateException(
-                String.format("Failed to decode the '%s' using URLDecoder", this.original),
-                exception
+        return EncodedString.CACHE.get(this.original, EncodedString::decoded);
+    }
+
+    /**
+     * Decode the string.
+     * @param original String to decode
+     * @return Decoded string
+     */
+    private static String decoded(final String original) {
+        final int length = original.length();
+        final StringBuilder result = new StringBuilder(length);
+        int idx = 0;
+        while (idx < length) {
+            final char current = original.charAt(idx);
+            if (current == '+') {
+                result.append(' ');
+                ++idx;
+            } else if (current == '%') {
+                final byte[] bytes = new byte[(length - idx) / 3];
+                int count = 0;
+                while (idx + 2 < length && original.charAt(idx) == '%') {
+                    bytes[count] = (byte) (
+                        EncodedString.digit(original, idx + 1) << 4
+                            | EncodedString.digit(original, idx + 2)
+                    );
+                    ++count;
+                    idx += 3;
+                }
+                if (idx < length && original.charAt(idx) == '%') {
+                    throw new IllegalArgumentException(
+                        String.format("Incomplete trailing escape (%%) pattern in '%s'", original)
+                    );
+                }
+                result.append(new String(bytes, 0, count, StandardCharsets.UTF_8));
+            } else {
+                result.append(current);
+                ++idx;
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * Hex digit of the escape sequence.
+     * @param original Encoded string
+     * @param index Index of the digit
+     * @return Digit value
+     */
+    private static int digit(final String original, final int index) {
+        final int result = Character.digit(original.charAt(index), 16);
+        if (result < 0) {
+            throw new IllegalArgumentException(
+                String.format("Illegal hex characters in escape (%%) pattern in '%s'", original)
             );
         }
+        return result;
     }
 }
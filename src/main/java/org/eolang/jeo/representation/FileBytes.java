@@ -0,0 +1,81 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Bytes of a file read through NIO channel.
+ *
+ * <p>The file is read straight into the resulting array of the exact file size,
+ * which is what {@link org.objectweb.asm.ClassReader} expects, without any
+ * intermediate buffers of our own.</p>
+ * @since 0.16.0
+ */
+public final class FileBytes {
+
+    /**
+     * Path to the file.
+     */
+    private final Path path;
+
+    /**
+     * Constructor.
+     * @param path Path to the file
+     */
+    public FileBytes(final Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Read all bytes of the file.
+     * @return Bytes of the file
+     */
+    public byte[] asBytes() {
+        try (FileChannel channel = FileChannel.open(this.path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalStateException(
+                    String.format("The file '%s' is too large (%d bytes)", this.path, size)
+                );
+            }
+            return FileBytes.read(channel, (int) size);
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Can't read bytes from the file '%s'", this.path),
+                exception
+            );
+        }
+    }
+
+    /**
+     * Read the file into an array of its size.
+     * <p>If the file is truncated while being read, only the bytes read are returned.</p>
+     * @param channel File channel
+     * @param size File size
+     * @return Bytes of the file
+     * @throws IOException If reading fails
+     */
+    private static byte[] read(final FileChannel channel, final int size) throws IOException {
+        final byte[] result = new byte[size];
+        final ByteBuffer buffer = ByteBuffer.wrap(result);
+        int read = 0;
+        while (buffer.hasRemaining() && read >= 0) {
+            read = channel.read(buffer);
+        }
+        final byte[] bytes;
+        if (buffer.hasRemaining()) {
+            bytes = Arrays.copyOf(result, buffer.position());
+        } else {
+            bytes = result;
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation;
+
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import org.eolang.jeo.representation.xmir.JcabiXmlDoc;
+import org.eolang.jeo.representation.xmir.XmlFingerprints;
+import org.xembly.ImpossibleModificationException;
+import org.xembly.Xembler;
+
+/**
+ * XMIR with recorded per-method fingerprints.
+ *
+ * <p>This class adds fingerprints of the original bytecode and of each method
+ * to the program metas. The assembler uses them to find out which methods were
+ * not changed and copies such methods from the original class file as is.</p>
+ * @since 0.16.0
+ */
+final class FingerprintedEo {
+
+    /**
+     * XMIR without fingerprints.
+     */
+    private final XML xmir;
+
+    /**
+     * Original bytecode.
+     */
+    private final byte[] bytecode;
+
+    /**
+     * Constructor.
+     * @param xmir XMIR without fingerprints
+     * @param bytecode Original bytecode
+     */
+    FingerprintedEo(final XML xmir, final byte[] bytecode) {
+        this.xmir = xmir;
+        this.bytecode = bytecode.clone();
+    }
+
+    /**
+     * Get XML representation of the EO with fingerprints.
+     * @return XML representation with fingerprints in metas
+     * @throws ImpossibleModificationException If XMIR modification fails
+     */
+    XML asXml() throws ImpossibleModificationException {
+        return new XMLDocument(
+            new Xembler(
+                new XmlFingerprints(new JcabiXmlDoc(this.xmir).root()).directives(this.bytecode)
+            ).apply(this.xmir.inner())
+        );
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * Bounded concurrent cache of encoded and decoded names.
+ *
+ * <p>The same class, package, method and descriptor names repeat many times
+ * within one class and across classes of one project, so their codecs keep
+ * the results here. The cache is shared between threads and stops growing once
+ * the limit is reached; names that don't fit are just computed every time.</p>
+ *
+ * @since 0.16.0
+ */
+final class NameCache {
+
+    /**
+     * Cached results by source names.
+     */
+    private final Map<String, String> results;
+
+    /**
+     * Maximum number of cached names.
+     */
+    private final int limit;
+
+    /**
+     * Constructor.
+     * @param limit Maximum number of cached names
+     */
+    NameCache(final int limit) {
+        this.results = new ConcurrentHashMap<>(Math.min(limit, 1024));
+        this.limit = limit;
+    }
+
+    /**
+     * Get the cached result or compute it.
+     * @param source Source name
+     * @param codec Codec that computes the result
+     * @return Result
+     */
+    String get(final String source, final UnaryOperator<String> codec) {
+        String result = this.results.get(source);
+        if (result == null) {
+            result = codec.apply(source);
+            if (this.results.size() < this.limit) {
+                this.results.putIfAbsent(source, result);
+            }
+        }
+        return result;
+    }
+}
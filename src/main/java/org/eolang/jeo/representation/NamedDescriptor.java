@@ -48,11 +48,12 @@ public final class NamedDescriptor {
      * @return Encoded method name with descriptor.
      */
     public String encoded() {
-        return String.format(
-            "%s-%s",
-            this.original,
-            new DecodedString(this.descr).encode()
-        );
+        final String encoded = new DecodedString(this.descr).encode();
+        return new StringBuilder(this.original.length() + encoded.length() + 1)
+            .append(this.original)
+            .append('-')
+            .append(encoded)
+            .toString();
     }
 
     /**
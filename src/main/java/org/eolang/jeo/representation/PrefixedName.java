@@ -4,8 +4,6 @@
  */
 package org.eolang.jeo.representation;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import lombok.ToString;
 
 /**
@@ -32,23 +30,6 @@ public final class PrefixedName {
      */
     private static final String BLANK = "Name can't be blank";
 
-    /**
-     * Blank name pattern.
-     */
-    private static final Pattern BLANKED = Pattern.compile("^\\s*$");
-
-    /**
-     * Delimiter lookbehind pattern.
-     */
-    private static final Pattern DELIMITED = Pattern.compile("(?<=^|[./])");
-
-    /**
-     * Prefixed name pattern.
-     */
-    private static final Pattern PREFIXED = Pattern.compile(
-        String.format("(?<=^|[./])%s", Matcher.quoteReplacement(PrefixedName.PREFIX))
-    );
-
     /**
      * Prefix to be used for encoding and decoding.
      */
@@ -60,22 +41,12 @@ public final class PrefixedName {
      */
     private final String origin;
 
-    /**
-     * Pattern to find positions for prefixing and existing prefixes for removal.
-     */
-    private final Pattern delimited;
-
-    /**
-     * Pattern to find existing prefixes for removal.
-     */
-    private final Pattern prefixed;
-
     /**
      * Constructor.
      * @param origin The original name.
      */
     public PrefixedName(final String origin) {
-        this(PrefixedName.PREFIX, origin, PrefixedName.DELIMITED, PrefixedName.PREFIXED);
+        this(PrefixedName.PREFIX, origin);
     }
 
     /**
@@ -84,55 +55,93 @@ public final class PrefixedName {
      * @param origin The original name.
      */
     public PrefixedName(final String prefix, final String origin) {
-        this(
-            prefix,
-            origin,
-            PrefixedName.DELIMITED,
-            Pattern.compile(String.format("(?<=^|[./])%s", Pattern.quote(prefix)))
-        );
-    }
-
-    /**
-     * Constructor.
-     * @param prefix Prefix to be used for encoding and decoding
-     * @param origin The original name
-     * @param delimited Pattern to find positions for prefixing
-     * @param prefixed Pattern to find existing prefixes for removal
-     * @checkstyle ParameterNumberCheck (5 lines)
-     */
-    public PrefixedName(
-        final String prefix,
-        final String origin,
-        final Pattern delimited,
-        final Pattern prefixed
-    ) {
         this.prefix = prefix;
         this.origin = origin;
-        this.delimited = delimited;
-        this.prefixed = prefixed;
     }
 
     /**
      * Encode name.
+     * <p>The prefix is put at the beginning of the name and after each
+     * {@code .} or {@code /} delimiter.</p>
      * @return Encoded name.
      */
     public String encode() {
-        if (PrefixedName.BLANKED.matcher(this.origin).matches()) {
-            throw new IllegalArgumentException(PrefixedName.BLANK);
+        this.validate();
+        final int length = this.origin.length();
+        final StringBuilder result = new StringBuilder(length + this.prefix.length() * 4);
+        result.append(this.prefix);
+        for (int idx = 0; idx < length; ++idx) {
+            final char current = this.origin.charAt(idx);
+            result.append(current);
+            if (PrefixedName.delimiter(current)) {
+                result.append(this.prefix);
+            }
         }
-        return this.delimited
-            .matcher(this.origin)
-            .replaceAll(Matcher.quoteReplacement(this.prefix));
+        return result.toString();
     }
 
     /**
      * Decode name.
+     * <p>The prefix is removed from the beginning of the name and after each
+     * {@code .} or {@code /} delimiter.</p>
      * @return Decoded name.
      */
     public String decode() {
-        if (PrefixedName.BLANKED.matcher(this.origin).matches()) {
+        this.validate();
+        final String result;
+        if (this.prefix.isEmpty()) {
+            result = this.origin;
+        } else {
+            final int length = this.origin.length();
+            final StringBuilder decoded = new StringBuilder(length);
+            int idx = 0;
+            while (idx < length) {
+                if ((idx == 0 || PrefixedName.delimiter(this.origin.charAt(idx - 1)))
+                    && this.origin.startsWith(this.prefix, idx)) {
+                    idx += this.prefix.length();
+                } else {
+                    decoded.append(this.origin.charAt(idx));
+                    ++idx;
+                }
+            }
+            result = decoded.toString();
+        }
+        return result;
+    }
+
+    /**
+     * Check that the name is not blank.
+     */
+    private void validate() {
+        boolean blank = true;
+        for (int idx = 0; idx < this.origin.length(); ++idx) {
+            if (!PrefixedName.whitespace(this.origin.charAt(idx))) {
+                blank = false;
+                break;
+            }
+        }
+        if (blank) {
             throw new IllegalArgumentException(PrefixedName.BLANK);
         }
-        return this.prefixed.matcher(this.origin).replaceAll("");
+    }
+
+    /**
+     * Is it a delimiter of name parts?
+     * @param symbol Character
+     * @return True if it's a dot or a slash
+     */
+    private static boolean delimiter(final char symbol) {
+        return symbol == '.' || symbol == '/';
+    }
+
+    /**
+     * Is it a whitespace character?
+     * <p>The same set of characters as the {@code \s} regular expression class has.</p>
+     * @param symbol Character
+     * @return True if it's a whitespace
+     */
+    private static boolean whitespace(final char symbol) {
+        return symbol == ' ' || symbol == '\t' || symbol == '\n'
+            || symbol == '\013' || symbol == '\f' || symbol == '\r';
     }
 }
@@ -0,0 +1,57 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation;
+
+/**
+ * Span of a stage backed by a JFR event.
+ *
+ * <p>This class is loaded only when JFR is available, see {@link Stage}.</p>
+ *
+ * @since 0.16.0
+ */
+final class RecordedSpan implements Stage.Span {
+
+    /**
+     * Name of the stage.
+     */
+    private final String stage;
+
+    /**
+     * Event being recorded.
+     */
+    private final StageEvent event;
+
+    /**
+     * Constructor.
+     * @param stage Name of the stage
+     * @param event Event being recorded
+     */
+    private RecordedSpan(final String stage, final StageEvent event) {
+        this.stage = stage;
+        this.event = event;
+    }
+
+    @Override
+    public void end(final String subject, final long input, final long output) {
+        this.event.finish(this.stage, subject, input, output);
+    }
+
+    /**
+     * Begin the span if the event is enabled.
+     * @param stage Name of the stage
+     * @return Span
+     */
+    static Stage.Span begin(final String stage) {
+        final StageEvent event = new StageEvent();
+        final Stage.Span result;
+        if (event.isEnabled()) {
+            event.begin();
+            result = new RecordedSpan(stage, event);
+        } else {
+            result = Stage.Span.NONE;
+        }
+        return result;
+    }
+}
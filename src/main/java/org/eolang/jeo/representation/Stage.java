@@ -0,0 +1,141 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation;
+
+/**
+ * Stage of translation, reported to JDK Flight Recorder.
+ *
+ * <p>Every stage is wrapped into a {@link Span}, which is committed as a
+ * {@code org.eolang.jeo.Stage} event with the class name, the input and output sizes
+ * and the thread, so the build time can be attributed to specific classes and
+ * stages. When JFR is not recording, or the JVM has no JFR at all, the span is a
+ * shared no-op object.</p>
+ *
+ * @since 0.16.0
+ */
+public enum Stage {
+    /**
+     * Reading a class file.
+     */
+    READ("read"),
+    /**
+     * Parsing a class file by ASM.
+     * <p>Methods are converted into the bytecode model while the class is read,
+     * so they are measured here.</p>
+     */
+    PARSE("parse"),
+    /**
+     * Building a bytecode object from the parsed class.
+     */
+    OBJECT("object"),
+    /**
+     * Building XML from the directives of a bytecode object.
+     */
+    DIRECTIVES("directives"),
+    /**
+     * Printing XMIR.
+     */
+    PRETTY("pretty"),
+    /**
+     * Writing a result file.
+     */
+    WRITE("write"),
+    /**
+     * Parsing an XMIR file.
+     */
+    XMIR("xmir"),
+    /**
+     * Building a bytecode object from XMIR.
+     */
+    BYTECODE("bytecode"),
+    /**
+     * Writing a class with computation of maxs and frames.
+     */
+    FRAMES("frames"),
+    /**
+     * Structural check of a class, without data-flow analysis.
+     */
+    CHECK("check"),
+    /**
+     * Full verification of a class with data-flow analysis.
+     */
+    VERIFY("verify");
+
+    /**
+     * Is JFR available in this JVM.
+     */
+    private static final boolean JFR = Stage.available();
+
+    /**
+     * Name of the stage in events.
+     */
+    private final String label;
+
+    /**
+     * Constructor.
+     * @param label Name of the stage in events
+     */
+    Stage(final String label) {
+        this.label = label;
+    }
+
+    /**
+     * Begin the stage.
+     * @return Span to end when the stage is finished
+     */
+    public Span begin() {
+        final Span result;
+        if (Stage.JFR) {
+            result = RecordedSpan.begin(this.label);
+        } else {
+            result = Span.NONE;
+        }
+        return result;
+    }
+
+    /**
+     * Can events be reported to JFR in this JVM.
+     * @return True if JFR is available
+     */
+    public static boolean recordable() {
+        return Stage.JFR;
+    }
+
+    /**
+     * Is JFR available in this JVM.
+     * <p>Java 8 before 8u262 doesn't have it.</p>
+     * @return True if JFR events can be emitted
+     */
+    private static boolean available() {
+        boolean result;
+        try {
+            Class.forName("jdk.jfr.Event");
+            result = true;
+        } catch (final ClassNotFoundException | LinkageError exception) {
+            result = false;
+        }
+        return result;
+    }
+
+    /**
+     * Started stage.
+     * @since 0.16.0
+     */
+    public interface Span {
+
+        /**
+         * Span that records nothing.
+         */
+        Span NONE = (subject, input, output) -> { };
+
+        /**
+         * End the stage.
+         * @param subject Name of the class or file
+         * @param input Size of the input in bytes, 0 if unknown
+         * @param output Size of the output in bytes, 0 if unknown
+         */
+        void end(String subject, long input, long output);
+    }
+}
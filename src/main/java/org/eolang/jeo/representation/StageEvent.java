@@ -0,0 +1,75 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event of a translation stage.
+ *
+ * <p>JFR requires mutable fields, they are set right before the commit.
+ * The thread and the duration are recorded by JFR itself.</p>
+ *
+ * @since 0.16.0
+ */
+@Name("org.eolang.jeo.Stage")
+@Label("jeo Stage")
+@Category({"jeo", "Translation"})
+@Description("Stage of translation between bytecode and XMIR")
+@StackTrace(false)
+@SuppressWarnings({"PMD.ImmutableField", "PMD.SingularField"})
+final class StageEvent extends Event {
+
+    /**
+     * Name of the stage.
+     */
+    @Label("Stage")
+    private String stage;
+
+    /**
+     * Name of the class or file.
+     */
+    @Label("Class")
+    private String subject;
+
+    /**
+     * Size of the input.
+     */
+    @Label("Input Size")
+    @DataAmount
+    private long input;
+
+    /**
+     * Size of the output.
+     */
+    @Label("Output Size")
+    @DataAmount
+    private long output;
+
+    /**
+     * Set the fields and commit the event.
+     * @param name Name of the stage
+     * @param clazz Name of the class or file
+     * @param before Size of the input in bytes
+     * @param after Size of the output in bytes
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    void finish(final String name, final String clazz, final long before, final long after) {
+        this.end();
+        if (this.shouldCommit()) {
+            this.stage = name;
+            this.subject = clazz;
+            this.input = before;
+            this.output = after;
+            this.commit();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event with the numbers of classes verified at each depth.
+ *
+ * <p>This class is loaded only when JFR is available, see {@link VerificationMetric}.</p>
+ *
+ * @since 0.16.0
+ */
+@Name("org.eolang.jeo.Verification")
+@Label("jeo Verification")
+@Category({"jeo", "Translation"})
+@Description("Numbers of classes verified with and without data-flow analysis")
+@StackTrace(false)
+@SuppressWarnings({"PMD.ImmutableField", "PMD.SingularField"})
+final class VerificationEvent extends Event {
+
+    /**
+     * Verification level.
+     */
+    @Label("Level")
+    private String level;
+
+    /**
+     * Directory with classes.
+     */
+    @Label("Directory")
+    private String directory;
+
+    /**
+     * Number of classes verified with data-flow analysis.
+     */
+    @Label("Verified")
+    private long verified;
+
+    /**
+     * Number of classes with structural checks only.
+     */
+    @Label("Checked")
+    private long checked;
+
+    /**
+     * Commit the event if it's enabled.
+     * @param name Verification level
+     * @param dir Directory with classes
+     * @param deep Number of classes verified with data-flow analysis
+     * @param shallow Number of classes with structural checks only
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    static void record(
+        final String name, final String dir, final long deep, final long shallow
+    ) {
+        final VerificationEvent event = new VerificationEvent();
+        if (event.shouldCommit()) {
+            event.level = name;
+            event.directory = dir;
+            event.verified = deep;
+            event.checked = shallow;
+            event.commit();
+        }
+    }
+}
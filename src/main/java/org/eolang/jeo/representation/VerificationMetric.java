@@ -0,0 +1,49 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation;
+
+/**
+ * Metric of bytecode verification, reported to JDK Flight Recorder.
+ *
+ * <p>The numbers of classes verified with data-flow analysis and with structural
+ * checks only are committed as an {@code org.eolang.jeo.Verification} event, next to
+ * the {@link Stage} events, so it's seen how many classes each level really skipped.
+ * When the JVM has no JFR, nothing is recorded.</p>
+ *
+ * @since 0.16.0
+ */
+public final class VerificationMetric {
+
+    /**
+     * Verification level.
+     */
+    private final String level;
+
+    /**
+     * Directory with classes.
+     */
+    private final String directory;
+
+    /**
+     * Constructor.
+     * @param level Verification level
+     * @param directory Directory with classes
+     */
+    public VerificationMetric(final String level, final String directory) {
+        this.level = level;
+        this.directory = directory;
+    }
+
+    /**
+     * Record the numbers of verified classes.
+     * @param deep Number of classes verified with data-flow analysis
+     * @param shallow Number of classes with structural checks only
+     */
+    public void record(final long deep, final long shallow) {
+        if (Stage.recordable()) {
+            VerificationEvent.record(this.level, this.directory, deep, shallow);
+        }
+    }
+}
@@ -4,11 +4,17 @@
  */
 package org.eolang.jeo.representation;
 
+import com.jcabi.log.Logger;
 import com.jcabi.xml.XML;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Set;
 import org.eolang.jeo.representation.bytecode.Bytecode;
+import org.eolang.jeo.representation.bytecode.OriginalMethods;
+import org.eolang.jeo.representation.directives.DirectivesMetas;
 import org.eolang.jeo.representation.xmir.JcabiXmlDoc;
 import org.eolang.jeo.representation.xmir.XmlDoc;
+import org.eolang.jeo.representation.xmir.XmlFingerprints;
 import org.eolang.jeo.representation.xmir.XmlNode;
 import org.eolang.jeo.representation.xmir.XmlObject;
 
@@ -74,6 +80,18 @@ public final class XmirRepresentation {
         ).full();
     }
 
+    /**
+     * Whether XMIR was disassembled without method bodies.
+     * <p>Such XMIR is marked with the 'mode' meta and can't be assembled back,
+     * since all the methods would lose their code.</p>
+     * @return True if XMIR keeps only the structure of a class
+     */
+    public boolean structural() {
+        return this.xml.root()
+            .xpath("/object/metas/meta[head[text()]='mode']/tail/text()")
+            .contains(DirectivesMetas.STRUCTURE);
+    }
+
     /**
      * Convert to bytecode.
      * @return Bytecode object containing the compiled class
@@ -93,4 +111,87 @@ public final class XmirRepresentation {
             );
         }
     }
+
+    /**
+     * Convert to bytecode reusing unchanged methods of the original class file.
+     * <p>If XMIR contains fingerprints recorded during disassembling and the original
+     * class file is exactly the one XMIR was disassembled from, then methods which XMIR
+     * wasn't changed are copied from the original class file as is. Only modified
+     * methods are rebuilt from XMIR. Otherwise, the whole class is rebuilt.</p>
+     * @param original Path to the original class file
+     * @return Bytecode object containing the compiled class
+     */
+    public Bytecode toBytecode(final Path original) {
+        return this.toBytecode(original, () -> { });
+    }
+
+    /**
+     * Convert to bytecode reusing unchanged methods of the original class file.
+     * <p>The same as {@link #toBytecode(Path)}, but it also tells whether nothing in
+     * XMIR was changed since disassembling. The verdict is taken from the same
+     * fingerprints that select unchanged methods, so methods are hashed only once.
+     * It's known only if XMIR was disassembled with fingerprints.</p>
+     * @param original Path to the original class file
+     * @param pristine Called if nothing in XMIR was changed since disassembling
+     * @return Bytecode object containing the compiled class
+     */
+    public Bytecode toBytecode(final Path original, final Runnable pristine) {
+        final XmlNode root = this.xml.root();
+        final XmlFingerprints prints = new XmlFingerprints(root);
+        final Bytecode result;
+        if (prints.present() && Files.exists(original)) {
+            result = this.incremental(root, prints, new FileBytes(original).asBytes(), pristine);
+        } else {
+            result = this.toBytecode();
+            if (prints.present() && prints.pristine()) {
+                pristine.run();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Convert to bytecode copying unchanged methods from the original class file.
+     * @param root Root XMIR node
+     * @param prints Recorded fingerprints
+     * @param original Original class file
+     * @param pristine Called if nothing in XMIR was changed since disassembling
+     * @return Bytecode object containing the compiled class
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private Bytecode incremental(
+        final XmlNode root, final XmlFingerprints prints, final byte[] original,
+        final Runnable pristine
+    ) {
+        try {
+            final Bytecode result;
+            final Set<String> unchanged = prints.unchanged();
+            if (prints.origin(original)) {
+                Logger.debug(
+                    this,
+                    "%d method(s) of '%s' are unchanged and will be copied from the original class",
+                    unchanged.size(),
+                    this.source
+                );
+                result = new XmlObject(root).bytecode(unchanged)
+                    .bytecode(new OriginalMethods(original, unchanged));
+            } else {
+                result = new XmlObject(root).bytecode().bytecode();
+            }
+            if (prints.pristine(unchanged)) {
+                pristine.run();
+            }
+            return result;
+        } catch (final IllegalArgumentException exception) {
+            throw new IllegalArgumentException(
+                String.format("Can't transform '%s' to bytecode", this.xml),
+                exception
+            );
+        } catch (final IllegalStateException exception) {
+            throw new IllegalStateException(
+                String.format("Can't transform XMIR to bytecode from the '%s' source", this.source),
+                exception
+            );
+        }
+    }
 }
@@ -6,6 +6,7 @@ package org.eolang.jeo.representation.asm;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.eolang.jeo.representation.ClassName;
@@ -35,12 +36,35 @@ public final class AsmClass {
      */
     private final ClassNode node;
 
+    /**
+     * Domain methods of the class.
+     */
+    private final Supplier<List<BytecodeMethod>> methods;
+
     /**
      * Constructor.
      * @param node The ASM class node to parse
      */
     AsmClass(final ClassNode node) {
+        this(node, () -> AsmClass.methods(node));
+    }
+
+    /**
+     * Constructor.
+     * @param node The ASM class node with methods already converted
+     */
+    AsmClass(final AsmClassNode node) {
+        this(node, node::bytecodeMethods);
+    }
+
+    /**
+     * Constructor.
+     * @param node The ASM class node to parse
+     * @param methods Domain methods of the class
+     */
+    private AsmClass(final ClassNode node, final Supplier<List<BytecodeMethod>> methods) {
         this.node = node;
+        this.methods = methods;
     }
 
     /**
@@ -51,7 +75,7 @@ public final class AsmClass {
         final ClassName full = new ClassName(this.node.name);
         return new BytecodeClass(
             full,
-            this.methods(),
+            this.methods.get(),
             this.fields(),
             new AsmAnnotations(this.node).bytecode(),
             this.attributes(),
@@ -78,10 +102,11 @@ public final class AsmClass {
 
     /**
      * Convert ASM methods to domain methods.
+     * @param node The ASM class node
      * @return The list of domain method representations
      */
-    private List<BytecodeMethod> methods() {
-        return this.node.methods.stream()
+    private static List<BytecodeMethod> methods(final ClassNode node) {
+        return node.methods.stream()
             .map(AsmMethod::new)
             .map(AsmMethod::bytecode)
             .collect(Collectors.toList());
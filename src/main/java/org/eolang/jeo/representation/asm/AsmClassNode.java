@@ -0,0 +1,201 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation.asm;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.eolang.jeo.representation.DefaultVersion;
+import org.eolang.jeo.representation.bytecode.BytecodeMethod;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.MethodNode;
+
+/**
+ * Class node that converts methods into domain methods as soon as they are read.
+ *
+ * <p>Method bodies take the most of the memory of a {@link ClassNode} tree.
+ * This node doesn't keep them: each method is read into its own {@link MethodNode},
+ * converted into {@link BytecodeMethod} right at {@link MethodVisitor#visitEnd()}
+ * and then dropped. So, we never hold the instruction tree of the whole class and
+ * its domain representation at the same time. All the other class elements are
+ * kept as usual, since they are tiny.</p>
+ *
+ * <p>Labels of methods get stable identifiers, so the same class file always
+ * gives the same XMIR.</p>
+ * @since 0.16.0
+ */
+final class AsmClassNode extends ClassNode {
+
+    /**
+     * Methods converted so far, in the order of the class file.
+     */
+    private final List<BytecodeMethod> converted;
+
+    /**
+     * Methods that are disassembled into instructions.
+     */
+    private final SelectedMethods selected;
+
+    /**
+     * Constructor.
+     * @param selected Methods that are disassembled into instructions
+     */
+    AsmClassNode(final SelectedMethods selected) {
+        super(new DefaultVersion().api());
+        this.converted = new ArrayList<>(0);
+        this.selected = selected;
+    }
+
+    @Override
+    public MethodVisitor visitMethod(
+        final int access,
+        final String name,
+        final String descriptor,
+        final String signature,
+        final String[] exceptions
+    ) {
+        return new Converting(
+            this.api,
+            access,
+            name,
+            descriptor,
+            signature,
+            exceptions,
+            new Target(this.version, this.selected, this.converted)
+        );
+    }
+
+    /**
+     * Domain methods of the class.
+     * @return Methods in the order of the class file.
+     */
+    List<BytecodeMethod> bytecodeMethods() {
+        return this.converted;
+    }
+
+    /**
+     * Method node that converts itself into domain method when it's completely read.
+     * @since 0.16.0
+     */
+    private static final class Converting extends MethodNode {
+
+        /**
+         * Where and how to put the converted method.
+         */
+        private final Target target;
+
+        /**
+         * Label nodes by the labels of the class reader.
+         */
+        private final Map<Label, LabelNode> labels;
+
+        /**
+         * Constructor.
+         * @param api ASM API version.
+         * @param access Access flags.
+         * @param name Method name.
+         * @param descriptor Method descriptor.
+         * @param signature Method signature.
+         * @param exceptions Method exceptions.
+         * @param target Where and how to put the converted method.
+         * @checkstyle ParameterNumberCheck (10 lines)
+         */
+        Converting(
+            final int api,
+            final int access,
+            final String name,
+            final String descriptor,
+            final String signature,
+            final String[] exceptions,
+            final Target target
+        ) {
+            super(api, access, name, descriptor, signature, exceptions);
+            this.target = target;
+            this.labels = new HashMap<>(0);
+        }
+
+        /**
+         * Label node for the label of the class reader.
+         * <p>Each label gets a stable identifier, which is its number in the order
+         * of the first reference. By default, labels are identified by their
+         * identity hash codes, so the same class would give different XMIR each
+         * time. We keep the identifier in {@link Label#info} of the node label,
+         * which is allowed as long as this method is overridden.</p>
+         * @param label Label of the class reader.
+         * @return Label node.
+         */
+        @Override
+        protected LabelNode getLabelNode(final Label label) {
+            return this.labels.computeIfAbsent(
+                label,
+                key -> {
+                    final LabelNode node = new LabelNode();
+                    node.getLabel().info = this.labels.size();
+                    return node;
+                }
+            );
+        }
+
+        @Override
+        public void visitEnd() {
+            this.target.add(this);
+        }
+    }
+
+    /**
+     * Where and how to put converted methods.
+     * @since 0.16.0
+     */
+    private static final class Target {
+
+        /**
+         * Class file version.
+         */
+        private final int version;
+
+        /**
+         * Methods that are disassembled into instructions.
+         */
+        private final SelectedMethods selected;
+
+        /**
+         * Converted methods.
+         */
+        private final List<BytecodeMethod> methods;
+
+        /**
+         * Constructor.
+         * @param version Class file version
+         * @param selected Methods that are disassembled into instructions
+         * @param methods Converted methods
+         */
+        Target(
+            final int version,
+            final SelectedMethods selected,
+            final List<BytecodeMethod> methods
+        ) {
+            this.version = version;
+            this.selected = selected;
+            this.methods = methods;
+        }
+
+        /**
+         * Convert the method and add it.
+         * @param method Completely read method
+         */
+        void add(final MethodNode method) {
+            final AsmMethod asm = new AsmMethod(method);
+            if (this.selected.test(method)) {
+                this.methods.add(asm.bytecode());
+            } else {
+                this.methods.add(asm.opaque(this.version));
+            }
+        }
+    }
+}
@@ -11,7 +11,6 @@ import org.eolang.jeo.representation.bytecode.BytecodeFrame;
 import org.eolang.jeo.representation.bytecode.BytecodeInstruction;
 import org.eolang.jeo.representation.bytecode.BytecodeLabel;
 import org.eolang.jeo.representation.bytecode.BytecodeLine;
-import org.objectweb.asm.Label;
 import org.objectweb.asm.tree.AbstractInsnNode;
 import org.objectweb.asm.tree.FieldInsnNode;
 import org.objectweb.asm.tree.FrameNode;
@@ -119,12 +118,12 @@ final class AsmInstruction {
                 final JumpInsnNode jump = JumpInsnNode.class.cast(this.node);
                 result = new BytecodeInstruction(
                     jump.getOpcode(),
-                    new BytecodeLabel(jump.label.getLabel().toString())
+                    new BytecodeLabel(jump.label)
                 );
                 break;
             case AbstractInsnNode.LABEL:
                 final LabelNode label = LabelNode.class.cast(this.node);
-                result = new BytecodeLabel(label.getLabel().toString());
+                result = new BytecodeLabel(label);
                 break;
             case AbstractInsnNode.LDC_INSN:
                 final LdcInsnNode ldc = LdcInsnNode.class.cast(this.node);
@@ -149,12 +148,10 @@ final class AsmInstruction {
                         Stream.of(
                             table.min,
                             table.max,
-                            new BytecodeLabel(table.dflt.getLabel().toString())
+                            new BytecodeLabel(table.dflt)
                         ),
                         table.labels
                             .stream()
-                            .map(LabelNode::getLabel)
-                            .map(Label::toString)
                             .map(BytecodeLabel::new)
                     ).toArray(Object[]::new)
                 );
@@ -164,12 +161,10 @@ final class AsmInstruction {
                 result = new BytecodeInstruction(
                     lookup.getOpcode(),
                     Stream.concat(
-                        Stream.of(new BytecodeLabel(lookup.dflt.getLabel().toString())),
+                        Stream.of(new BytecodeLabel(lookup.dflt)),
                         Stream.concat(
                             lookup.keys.stream(),
                             lookup.labels.stream()
-                                .map(LabelNode::getLabel)
-                                .map(Label::toString)
                                 .map(BytecodeLabel::new)
                         )
                     ).toArray(Object[]::new)
@@ -197,7 +192,7 @@ final class AsmInstruction {
                 final LineNumberNode line = LineNumberNode.class.cast(this.node);
                 result = new BytecodeLine(
                     line.line,
-                    new BytecodeLabel(LabelNode.class.cast(line.start).getLabel().toString())
+                    new BytecodeLabel(LabelNode.class.cast(line.start))
                 );
                 break;
             default:
@@ -4,7 +4,9 @@
  */
 package org.eolang.jeo.representation.asm;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.eolang.jeo.representation.bytecode.BytecodeLabel;
 import org.objectweb.asm.Label;
@@ -12,12 +14,26 @@ import org.objectweb.asm.Label;
 /**
  * Asm Method Labels.
  * Used during method generation to keep track of all the labels.
+ * <p>Numbered labels are resolved by their numbers in a list, other labels
+ * are resolved by their string identifiers in a map.</p>
  * @since 0.6
  */
 public final class AsmLabels {
 
     /**
-     * All the method labels.
+     * Maximum number of a label resolved by index.
+     * <p>Numbers of disassembled labels are dense, so larger numbers may come only
+     * from hand-written XMIR, they are resolved by the map.</p>
+     */
+    private static final int DENSE = 1 << 16;
+
+    /**
+     * Numbered method labels, indexed by numbers.
+     */
+    private final List<Label> numbered;
+
+    /**
+     * All the other method labels.
      */
     private final Map<String, Label> labels;
 
@@ -33,6 +49,16 @@ public final class AsmLabels {
      * @param labels All the labels.
      */
     public AsmLabels(final Map<String, Label> labels) {
+        this(new ArrayList<>(0), labels);
+    }
+
+    /**
+     * Constructor.
+     * @param numbered Numbered labels, indexed by numbers.
+     * @param labels All the other labels.
+     */
+    private AsmLabels(final List<Label> numbered, final Map<String, Label> labels) {
+        this.numbered = numbered;
         this.labels = labels;
     }
 
@@ -42,6 +68,21 @@ public final class AsmLabels {
      * @return Label.
      */
     public Label label(final BytecodeLabel label) {
-        return this.labels.computeIfAbsent(label.uid(), id -> new Label());
+        final int number = label.number();
+        final Label result;
+        if (number >= 0 && number < AsmLabels.DENSE) {
+            while (this.numbered.size() <= number) {
+                this.numbered.add(null);
+            }
+            Label found = this.numbered.get(number);
+            if (found == null) {
+                found = new Label();
+                this.numbered.set(number, found);
+            }
+            result = found;
+        } else {
+            result = this.labels.computeIfAbsent(label.uid(), id -> new Label());
+        }
+        return result;
     }
 }
@@ -9,15 +9,21 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
+import org.eolang.jeo.representation.bytecode.BytecodeAnnotations;
 import org.eolang.jeo.representation.bytecode.BytecodeAttribute;
 import org.eolang.jeo.representation.bytecode.BytecodeAttributes;
 import org.eolang.jeo.representation.bytecode.BytecodeDefaultValue;
 import org.eolang.jeo.representation.bytecode.BytecodeEntry;
+import org.eolang.jeo.representation.bytecode.BytecodeLabel;
 import org.eolang.jeo.representation.bytecode.BytecodeMaxs;
 import org.eolang.jeo.representation.bytecode.BytecodeMethod;
 import org.eolang.jeo.representation.bytecode.BytecodeMethodProperties;
+import org.eolang.jeo.representation.bytecode.BytecodeOpaqueMethod;
 import org.eolang.jeo.representation.bytecode.BytecodeTryCatchBlock;
+import org.eolang.jeo.representation.bytecode.CompactBody;
 import org.eolang.jeo.representation.bytecode.LocalVariable;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.tree.LocalVariableNode;
 import org.objectweb.asm.tree.MethodNode;
 
@@ -50,20 +56,51 @@ final class AsmMethod {
             this.tryblocks(),
             this.instructions(),
             new AsmAnnotations(this.node).bytecode(),
-            new BytecodeMethodProperties(
-                this.node.access,
-                this.node.name,
-                this.node.desc,
-                this.node.signature,
-                new AsmMethodParameters(this.node).bytecode(),
-                this.node.exceptions.toArray(new String[0])
-            ),
+            this.properties(),
             this.defvalue(),
             this.maxs(),
             this.attributes()
         );
     }
 
+    /**
+     * Convert asm method to domain method with opaque body.
+     * <p>Only the method properties are converted, everything else, including
+     * the body, is kept as a blob, see {@link BytecodeOpaqueMethod}.</p>
+     * @param version Class file version.
+     * @return Domain method.
+     */
+    BytecodeMethod opaque(final int version) {
+        final ClassWriter writer = new ClassWriter(0);
+        writer.visit(version, Opcodes.ACC_PUBLIC, "jeo/Opaque", null, "java/lang/Object", null);
+        this.node.accept(writer);
+        writer.visitEnd();
+        return new BytecodeMethod(
+            new ArrayList<>(0),
+            new ArrayList<>(0),
+            new BytecodeAnnotations(),
+            this.properties(),
+            new ArrayList<>(0),
+            this.maxs(),
+            new BytecodeAttributes(new BytecodeOpaqueMethod(writer.toByteArray()))
+        );
+    }
+
+    /**
+     * Convert asm method to domain method properties.
+     * @return Domain method properties.
+     */
+    private BytecodeMethodProperties properties() {
+        return new BytecodeMethodProperties(
+            this.node.access,
+            this.node.name,
+            this.node.desc,
+            this.node.signature,
+            new AsmMethodParameters(this.node).bytecode(),
+            this.node.exceptions.toArray(new String[0])
+        );
+    }
+
     /**
      * Convert asm method to domain method attributes.
      * @return Domain method attributes.
@@ -98,9 +135,9 @@ final class AsmMethod {
         return this.node.tryCatchBlocks.stream()
             .map(
                 block -> new BytecodeTryCatchBlock(
-                    block.start.getLabel().toString(),
-                    block.end.getLabel().toString(),
-                    block.handler.getLabel().toString(),
+                    new BytecodeLabel(block.start),
+                    new BytecodeLabel(block.end),
+                    new BytecodeLabel(block.handler),
                     block.type
                 )
             )
@@ -108,14 +145,16 @@ final class AsmMethod {
     }
 
     /**
-     * Convert asm class to domain class.
-     * @return Domain class.
+     * Convert asm instructions to domain method body.
+     * @return Compact method body.
      */
     private List<BytecodeEntry> instructions() {
-        return Arrays.stream(this.node.instructions.toArray())
-            .map(AsmInstruction::new)
-            .map(AsmInstruction::bytecode)
-            .collect(Collectors.toList());
+        return new CompactBody(
+            Arrays.stream(this.node.instructions.toArray())
+                .map(AsmInstruction::new)
+                .map(AsmInstruction::bytecode)
+                .collect(Collectors.toList())
+        );
     }
 
     /**
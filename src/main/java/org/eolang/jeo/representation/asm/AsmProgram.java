@@ -4,10 +4,12 @@
  */
 package org.eolang.jeo.representation.asm;
 
+import java.io.PrintWriter;
 import org.eolang.jeo.representation.ClassName;
+import org.eolang.jeo.representation.Stage;
 import org.eolang.jeo.representation.bytecode.BytecodeObject;
 import org.objectweb.asm.ClassReader;
-import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.util.TraceClassVisitor;
 
 /**
  * ASM bytecode parser.
@@ -48,11 +50,69 @@ public final class AsmProgram {
      * @return Bytecode.
      */
     public BytecodeObject bytecode(final int flags) {
-        final ClassNode node = new ClassNode();
+        return this.bytecode(flags, new SelectedMethods());
+    }
+
+    /**
+     * Convert to bytecode, keeping bodies of not selected methods opaque.
+     * @param flags Flags.
+     * @param selected Methods that are disassembled into instructions.
+     * @return Bytecode.
+     */
+    public BytecodeObject bytecode(final int flags, final SelectedMethods selected) {
+        final AsmClassNode node = new AsmClassNode(selected);
+        final Stage.Span span = Stage.PARSE.begin();
         new ClassReader(this.bytes).accept(node, AsmUnknownAttributes.prototypes(), flags);
-        return new BytecodeObject(
+        span.end(node.name, this.bytes.length, 0L);
+        return this.bytecode(node);
+    }
+
+    /**
+     * Convert to bytecode and print the listing in the same pass.
+     * <p>The listing is printed by {@link TraceClassVisitor} that stands in front of
+     * the tree builder, so the class file is read only once.</p>
+     * @param flags Flags.
+     * @param listing Writer for the listing.
+     * @return Bytecode.
+     */
+    public BytecodeObject bytecode(final int flags, final PrintWriter listing) {
+        return this.bytecode(flags, listing, new SelectedMethods());
+    }
+
+    /**
+     * Convert to bytecode, keeping bodies of not selected methods opaque,
+     * and print the listing in the same pass.
+     * @param flags Flags.
+     * @param listing Writer for the listing.
+     * @param selected Methods that are disassembled into instructions.
+     * @return Bytecode.
+     */
+    public BytecodeObject bytecode(
+        final int flags, final PrintWriter listing, final SelectedMethods selected
+    ) {
+        final AsmClassNode node = new AsmClassNode(selected);
+        final Stage.Span span = Stage.PARSE.begin();
+        new ClassReader(this.bytes).accept(
+            new TraceClassVisitor(node, listing), AsmUnknownAttributes.prototypes(), flags
+        );
+        span.end(node.name, this.bytes.length, 0L);
+        return this.bytecode(node);
+    }
+
+    /**
+     * Convert class node to bytecode.
+     * <p>Methods are converted while the class is being read,
+     * see {@link AsmClassNode}.</p>
+     * @param node Class node.
+     * @return Bytecode.
+     */
+    private BytecodeObject bytecode(final AsmClassNode node) {
+        final Stage.Span span = Stage.OBJECT.begin();
+        final BytecodeObject result = new BytecodeObject(
             new ClassName(node.name).pckg(),
             new AsmClass(node).bytecode()
         );
+        span.end(node.name, this.bytes.length, 0L);
+        return result;
     }
 }
@@ -22,7 +22,14 @@ public enum DisassembleMode {
     /**
      * Debug mode - disassemble bytecode with full debug information.
      */
-    DEBUG;
+    DEBUG,
+    /**
+     * Structure mode - disassemble only classes, fields and method signatures,
+     * annotations and attributes, without method bodies.
+     * <p>It's intended for analysis and indexing, the result can't be assembled
+     * back into working classes.</p>
+     */
+    STRUCTURE;
 
     /**
      * Unknown mode message.
@@ -44,6 +51,9 @@ public enum DisassembleMode {
             case "debug":
                 result = DisassembleMode.DEBUG;
                 break;
+            case "structure":
+                result = DisassembleMode.STRUCTURE;
+                break;
             default:
                 throw new IllegalArgumentException(String.format(DisassembleMode.UNKNOWN, mode));
         }
@@ -63,6 +73,9 @@ public enum DisassembleMode {
             case DEBUG:
                 result = 0;
                 break;
+            case STRUCTURE:
+                result = ClassReader.SKIP_CODE;
+                break;
             default:
                 throw new IllegalArgumentException(String.format(DisassembleMode.UNKNOWN, this));
         }
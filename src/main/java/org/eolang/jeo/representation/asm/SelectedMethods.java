@@ -0,0 +1,141 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation.asm;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.objectweb.asm.tree.AnnotationNode;
+import org.objectweb.asm.tree.MethodNode;
+
+/**
+ * Methods that are disassembled into instructions.
+ *
+ * <p>Patterns are separated by commas. A pattern that starts with {@code @} selects
+ * methods annotated with the annotation of that name, either simple or fully qualified,
+ * like {@code @Rewrite} or {@code @com.example.Rewrite}. Any other pattern is a glob
+ * for the method name, where {@code *} matches any number of characters and {@code ?}
+ * matches a single one, like {@code get*}. No patterns at all select all the methods.</p>
+ *
+ * <p>Bodies of methods that are not selected are kept as opaque blobs,
+ * see {@link org.eolang.jeo.representation.bytecode.BytecodeOpaqueMethod}.
+ * Methods without bodies, like abstract ones or all the methods read with
+ * {@link org.objectweb.asm.ClassReader#SKIP_CODE}, are always selected, since there
+ * is nothing to hide.</p>
+ * @since 0.16.0
+ */
+public final class SelectedMethods {
+
+    /**
+     * Annotation pattern prefix.
+     */
+    private static final String ANNOTATION = "@";
+
+    /**
+     * Method name patterns.
+     */
+    private final List<Pattern> names;
+
+    /**
+     * Annotation names.
+     */
+    private final Collection<String> annotations;
+
+    /**
+     * Constructor that selects all the methods.
+     */
+    public SelectedMethods() {
+        this("");
+    }
+
+    /**
+     * Constructor.
+     * @param patterns Comma-separated patterns
+     */
+    public SelectedMethods(final String patterns) {
+        this(
+            Arrays.stream(patterns.split(","))
+                .map(String::trim)
+                .filter(pattern -> !pattern.isEmpty())
+                .collect(Collectors.toList())
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param patterns Patterns
+     */
+    private SelectedMethods(final List<String> patterns) {
+        this(
+            patterns.stream()
+                .filter(pattern -> !pattern.startsWith(SelectedMethods.ANNOTATION))
+                .map(SelectedMethods::glob)
+                .collect(Collectors.toList()),
+            patterns.stream()
+                .filter(pattern -> pattern.startsWith(SelectedMethods.ANNOTATION))
+                .map(pattern -> pattern.substring(1).replace('.', '/'))
+                .collect(Collectors.toSet())
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param names Method name patterns
+     * @param annotations Annotation names
+     */
+    private SelectedMethods(final List<Pattern> names, final Collection<String> annotations) {
+        this.names = names;
+        this.annotations = annotations;
+    }
+
+    /**
+     * Whether the method is disassembled into instructions.
+     * @param method Method node, completely read
+     * @return True if the method is selected
+     */
+    boolean test(final MethodNode method) {
+        return this.names.isEmpty() && this.annotations.isEmpty()
+            || method.instructions.size() == 0
+            || this.names.stream().anyMatch(name -> name.matcher(method.name).matches())
+            || Stream.of(method.visibleAnnotations, method.invisibleAnnotations)
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .anyMatch(this::selected);
+    }
+
+    /**
+     * Whether the annotation selects the method.
+     * @param annotation Annotation node
+     * @return True if it's one of the selected annotations
+     */
+    private boolean selected(final AnnotationNode annotation) {
+        final String desc = annotation.desc.substring(1, annotation.desc.length() - 1);
+        final String simple = desc.substring(desc.lastIndexOf('/') + 1);
+        return this.annotations.contains(desc) || this.annotations.contains(simple);
+    }
+
+    /**
+     * Compile glob into a regular expression.
+     * @param glob Glob
+     * @return Pattern
+     */
+    private static Pattern glob(final String glob) {
+        final StringBuilder regex = new StringBuilder(glob.length() + 8);
+        for (final char chr : glob.toCharArray()) {
+            if (chr == '*') {
+                regex.append(".*");
+            } else if (chr == '?') {
+                regex.append('.');
+            } else {
+                regex.append(Pattern.quote(String.valueOf(chr)));
+            }
+        }
+        return Pattern.compile(regex.toString());
+    }
+}
@@ -6,6 +6,7 @@ package org.eolang.jeo.representation.bytecode;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
@@ -61,6 +62,17 @@ public final class BytecodeAttributes {
         );
     }
 
+    /**
+     * Opaque method body, if any.
+     * @return Opaque method.
+     */
+    Optional<BytecodeOpaqueMethod> opaque() {
+        return this.all.stream()
+            .filter(BytecodeOpaqueMethod.class::isInstance)
+            .map(BytecodeOpaqueMethod.class::cast)
+            .findFirst();
+    }
+
     /**
      * Write to class.
      * @param clazz Bytecode where to write.
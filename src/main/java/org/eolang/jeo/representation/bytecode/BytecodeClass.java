@@ -6,12 +6,15 @@ package org.eolang.jeo.representation.bytecode;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.eolang.jeo.representation.ClassName;
 import org.eolang.jeo.representation.directives.DirectivesClass;
+import org.eolang.jeo.representation.directives.DirectivesMethod;
 import org.eolang.jeo.representation.directives.Format;
 import org.objectweb.asm.Opcodes;
 
@@ -294,9 +297,7 @@ public final class BytecodeClass {
             this.name(),
             this.props.directives(format, this.name()),
             this.fields.stream().map(f -> f.directives(format)).collect(Collectors.toList()),
-            this.cmethods.stream()
-                .map(method -> method.directives(this.mnumber(method), format))
-                .collect(Collectors.toList()),
+            this.methodDirectives(format),
             this.props.signature(),
             this.annotations.directives(format),
             this.attributes.directives(format, "attributes")
@@ -356,15 +357,20 @@ public final class BytecodeClass {
     }
 
     /**
-     * Method number.
-     * @param method Method.
-     * @return Method number.
+     * Directives of all the methods.
+     * <p>Overloaded methods are numbered in the order of declaration, starting from 1.
+     * The numbers are counted in a single pass, so classes with thousands of
+     * overloads don't compare method bodies.</p>
+     * @param format Format of the directives.
+     * @return Directives of methods.
      */
-    private int mnumber(final BytecodeMethod method) {
-        return this.methods().stream()
-            .filter(m -> m.name().equals(method.name()))
-            .collect(Collectors.toList())
-            .indexOf(method) + 1;
+    private List<DirectivesMethod> methodDirectives(final Format format) {
+        final Map<String, Integer> overloads = new HashMap<>(0);
+        final List<DirectivesMethod> result = new ArrayList<>(this.cmethods.size());
+        for (final BytecodeMethod method : this.cmethods) {
+            result.add(method.directives(overloads.merge(method.name(), 1, Integer::sum), format));
+        }
+        return result;
     }
 
     /**
@@ -223,7 +223,7 @@ public final class BytecodeFrame implements BytecodeEntry {
     private static Object extract(final Object argument) {
         final Object result;
         if (argument instanceof LabelNode) {
-            result = new BytecodeLabel(((LabelNode) argument).getLabel().toString());
+            result = new BytecodeLabel((LabelNode) argument);
         } else {
             result = argument;
         }
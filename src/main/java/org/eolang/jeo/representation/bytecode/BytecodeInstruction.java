@@ -25,6 +25,9 @@ import org.xembly.Directive;
 
 /**
  * Bytecode instruction.
+ * <p>Methods may have hundreds of thousands of instructions, so an instruction keeps
+ * only its opcode and a plain array of operands, which is shared by all the
+ * instructions without operands.</p>
  * @since 0.1
  * @checkstyle FileLengthCheck (2000 lines)
  */
@@ -33,6 +36,11 @@ import org.xembly.Directive;
 @SuppressWarnings({"PMD.ExcessiveClassLength", "PMD.GodClass", "PMD.TooManyMethods"})
 public final class BytecodeInstruction implements BytecodeEntry {
 
+    /**
+     * Operands of instructions without operands.
+     */
+    private static final Object[] NONE = new Object[0];
+
     /**
      * Opcode.
      */
@@ -41,7 +49,7 @@ public final class BytecodeInstruction implements BytecodeEntry {
     /**
      * Arguments.
      */
-    private final List<Object> args;
+    private final Object[] args;
 
     /**
      * Constructor.
@@ -49,45 +57,36 @@ public final class BytecodeInstruction implements BytecodeEntry {
      * @param args Arguments.
      */
     public BytecodeInstruction(final int opcode, final Object... args) {
-        this(opcode, Arrays.asList(args));
+        this(BytecodeInstruction.compact(args), opcode);
     }
 
     /**
      * Constructor.
-     * @param opcode Opcode.
      * @param args Arguments.
+     * @param opcode Opcode.
      */
-    private BytecodeInstruction(
-        final int opcode,
-        final List<Object> args
-    ) {
+    private BytecodeInstruction(final Object[] args, final int opcode) {
         this.opcode = opcode;
         this.args = args;
     }
 
     @Override
     public void writeTo(final MethodVisitor visitor, final AsmLabels labels) {
-        Instruction.find(this.opcode)
-            .generate(
-                visitor,
-                this.args.stream()
-                    .map(
-                        arg -> {
-                            final Object result;
-                            if (arg instanceof BytecodeLabel) {
-                                result = labels.label((BytecodeLabel) arg);
-                            } else {
-                                result = arg;
-                            }
-                            return result;
-                        }
-                    ).collect(Collectors.toList())
-            );
+        final Object[] resolved = new Object[this.args.length];
+        for (int idx = 0; idx < resolved.length; ++idx) {
+            final Object arg = this.args[idx];
+            if (arg instanceof BytecodeLabel) {
+                resolved[idx] = labels.label((BytecodeLabel) arg);
+            } else {
+                resolved[idx] = arg;
+            }
+        }
+        BytecodeInstruction.generate(visitor, this.opcode, resolved);
     }
 
     @Override
     public Iterable<Directive> directives(final int index, final Format format) {
-        return new DirectivesInstruction(index, format, this.opcode, this.args.toArray());
+        return new DirectivesInstruction(index, format, this.opcode, this.args);
     }
 
     @Override
@@ -103,15 +102,27 @@ public final class BytecodeInstruction implements BytecodeEntry {
     /**
      * Impact of each instruction on the stack.
      * @return Stack impact.
+     */
+    public int impact() {
+        return BytecodeInstruction.impact(this.opcode, this.args);
+    }
+
+    /**
+     * Impact of the instruction on the stack.
+     * <p>The compact body of a method computes impacts right from its columns,
+     * see {@link CompactBody}, so the same switch serves both.</p>
+     * @param opcode Opcode.
+     * @param args Arguments.
+     * @return Stack impact.
      * @checkstyle CyclomaticComplexityCheck (350 lines)
      * @checkstyle MethodLengthCheck (350 lines)
      * @checkstyle JavaNCSSCheck (350 lines)
      * @checkstyle AvoidNestedBlocksCheck (350 lines)
      */
     @SuppressWarnings({"PMD.NcssCount", "PMD.ExcessiveMethodLength"})
-    public int impact() {
+    static int impact(final int opcode, final Object... args) {
         final int result;
-        final Instruction instruction = Instruction.find(this.opcode);
+        final Instruction instruction = Instruction.find(opcode);
         switch (instruction) {
             case LASTORE:
             case DASTORE:
@@ -274,7 +285,7 @@ public final class BytecodeInstruction implements BytecodeEntry {
                 result = 2;
                 break;
             case LDC: {
-                final Class<?> clazz = this.args.get(0).getClass();
+                final Class<?> clazz = args[0].getClass();
                 if (clazz == Long.class || clazz == Double.class) {
                     result = 2;
                     break;
@@ -284,53 +295,78 @@ public final class BytecodeInstruction implements BytecodeEntry {
                 }
             }
             case GETSTATIC:
-                result = BytecodeInstruction.size(Type.getType(String.valueOf(this.args.get(2))));
+                result = BytecodeInstruction.size(Type.getType(String.valueOf(args[2])));
                 break;
             case PUTSTATIC:
                 result = BytecodeInstruction.size(
-                    Type.getType(String.valueOf(this.args.get(2)))
+                    Type.getType(String.valueOf(args[2]))
                 ) * -1;
                 break;
             case GETFIELD:
                 result = BytecodeInstruction.size(
-                    Type.getType(String.valueOf(this.args.get(2)))
+                    Type.getType(String.valueOf(args[2]))
                 ) - 1;
                 break;
             case PUTFIELD:
                 result = BytecodeInstruction.size(
-                    Type.getType(String.valueOf(this.args.get(2)))
+                    Type.getType(String.valueOf(args[2]))
                 ) * -1 - 1;
                 break;
             case INVOKEVIRTUAL:
             case INVOKESPECIAL:
             case INVOKEINTERFACE:
-                result = BytecodeInstruction.methodImpact(String.valueOf(this.args.get(2))) - 1;
+                result = BytecodeInstruction.methodImpact(String.valueOf(args[2])) - 1;
                 break;
             case INVOKESTATIC:
-                result = BytecodeInstruction.methodImpact(String.valueOf(this.args.get(2)));
+                result = BytecodeInstruction.methodImpact(String.valueOf(args[2]));
                 break;
             case INVOKEDYNAMIC:
-                result = BytecodeInstruction.methodImpact(String.valueOf(this.args.get(1)));
+                result = BytecodeInstruction.methodImpact(String.valueOf(args[1]));
                 break;
             case MULTIANEWARRAY:
-                result = -(int) (this.args.get(1)) + 1;
+                result = -(int) (args[1]) + 1;
                 break;
             default:
                 throw new UnsupportedOperationException(
                     String.format(
-                        "Unsupported opcode: %s", new OpcodeName(this.opcode).simplified()
+                        "Unsupported opcode: %s", new OpcodeName(opcode).simplified()
                     )
                 );
         }
         return result;
     }
 
+    /**
+     * Opcode.
+     * @return Opcode.
+     */
+    int opcode() {
+        return this.opcode;
+    }
+
+    /**
+     * Arguments.
+     * @return Copy of the arguments.
+     */
+    Object[] arguments() {
+        return this.args.clone();
+    }
+
     /**
      * Is this instruction a variable instruction?
      * @return True if it is.
      */
     boolean isVarInstruction() {
-        return Instruction.find(this.opcode).isVarInstruction();
+        return BytecodeInstruction.isVarInstruction(this.opcode);
+    }
+
+    /**
+     * Is the opcode a variable instruction?
+     * @param opcode Opcode.
+     * @return True if it is.
+     */
+    static boolean isVarInstruction(final int opcode) {
+        return Instruction.find(opcode).isVarInstruction();
     }
 
     /**
@@ -339,7 +375,7 @@ public final class BytecodeInstruction implements BytecodeEntry {
      */
     int varIndex() {
         this.assertVarInstruction();
-        return (int) this.args.get(0);
+        return (int) this.args[0];
     }
 
     /**
@@ -348,7 +384,16 @@ public final class BytecodeInstruction implements BytecodeEntry {
      */
     int varSize() {
         this.assertVarInstruction();
-        return Instruction.find(this.opcode).size();
+        return BytecodeInstruction.varSize(this.opcode);
+    }
+
+    /**
+     * Local variable size of the variable instruction.
+     * @param opcode Opcode.
+     * @return Local variable size.
+     */
+    static int varSize(final int opcode) {
+        return Instruction.find(opcode).size();
     }
 
     /**
@@ -358,19 +403,37 @@ public final class BytecodeInstruction implements BytecodeEntry {
      */
     @Override
     public boolean isJump() {
-        return Instruction.find(this.opcode) == Instruction.GOTO
-            || Instruction.find(this.opcode) == Instruction.JSR;
+        return BytecodeInstruction.isJump(this.opcode);
+    }
+
+    /**
+     * Is the opcode a goto or jsr?
+     * @param opcode Opcode.
+     * @return True if it is.
+     */
+    static boolean isJump(final int opcode) {
+        return Instruction.find(opcode) == Instruction.GOTO
+            || Instruction.find(opcode) == Instruction.JSR;
     }
 
     /**
      * Is this instruction a conditional branch instruction?
      * @return True if it is.
-     * @checkstyle CyclomaticComplexityCheck (100 lines)
      */
     @Override
     public boolean isIf() {
+        return BytecodeInstruction.isIf(this.opcode);
+    }
+
+    /**
+     * Is the opcode a conditional branch instruction?
+     * @param opcode Opcode.
+     * @return True if it is.
+     * @checkstyle CyclomaticComplexityCheck (100 lines)
+     */
+    static boolean isIf(final int opcode) {
         final boolean result;
-        switch (Instruction.find(this.opcode)) {
+        switch (Instruction.find(opcode)) {
             case IFEQ:
             case IFNE:
             case IFLT:
@@ -402,8 +465,17 @@ public final class BytecodeInstruction implements BytecodeEntry {
      */
     @Override
     public boolean isSwitch() {
+        return BytecodeInstruction.isSwitch(this.opcode);
+    }
+
+    /**
+     * Is the opcode a switch instruction?
+     * @param opcode Opcode.
+     * @return True if it is.
+     */
+    static boolean isSwitch(final int opcode) {
         final boolean result;
-        switch (Instruction.find(this.opcode)) {
+        switch (Instruction.find(opcode)) {
             case TABLESWITCH:
             case LOOKUPSWITCH:
                 result = true;
@@ -421,8 +493,17 @@ public final class BytecodeInstruction implements BytecodeEntry {
      */
     @Override
     public boolean isReturn() {
+        return BytecodeInstruction.isReturn(this.opcode);
+    }
+
+    /**
+     * Is the opcode a return instruction?
+     * @param opcode Opcode.
+     * @return True if it is.
+     */
+    static boolean isReturn(final int opcode) {
         final boolean result;
-        switch (Instruction.find(this.opcode)) {
+        switch (Instruction.find(opcode)) {
             case IRETURN:
             case FRETURN:
             case ARETURN:
@@ -465,11 +546,11 @@ public final class BytecodeInstruction implements BytecodeEntry {
             case IF_ACMPNE:
             case IFNULL:
             case IFNONNULL:
-                result = Collections.singletonList((BytecodeLabel) this.args.get(0));
+                result = Collections.singletonList((BytecodeLabel) this.args[0]);
                 break;
             case TABLESWITCH:
             case LOOKUPSWITCH:
-                result = this.args.stream()
+                result = Arrays.stream(this.args)
                     .filter(BytecodeLabel.class::isInstance)
                     .map(BytecodeLabel.class::cast)
                     .collect(Collectors.toList());
@@ -490,7 +571,7 @@ public final class BytecodeInstruction implements BytecodeEntry {
         return String.format(
             "%s %s",
             new OpcodeName(this.opcode).simplified(),
-            this.args.stream().map(Object::toString).collect(Collectors.joining(" "))
+            Arrays.stream(this.args).map(Object::toString).collect(Collectors.joining(" "))
         );
     }
 
@@ -509,6 +590,33 @@ public final class BytecodeInstruction implements BytecodeEntry {
         }
     }
 
+    /**
+     * Compact operands.
+     * @param args Operands.
+     * @return The same operands, or the shared empty array if there are no operands.
+     */
+    private static Object[] compact(final Object... args) {
+        final Object[] result;
+        if (args.length == 0) {
+            result = BytecodeInstruction.NONE;
+        } else {
+            result = args;
+        }
+        return result;
+    }
+
+    /**
+     * Generate bytecode of the instruction.
+     * @param visitor Method visitor.
+     * @param opcode Opcode.
+     * @param resolved Arguments with ASM labels instead of bytecode labels.
+     */
+    static void generate(
+        final MethodVisitor visitor, final int opcode, final Object... resolved
+    ) {
+        Instruction.find(opcode).generate(visitor, Arrays.asList(resolved));
+    }
+
     /**
      * Size of the type.
      * @param type Type.
@@ -539,7 +647,16 @@ public final class BytecodeInstruction implements BytecodeEntry {
     }
 
     public boolean isThrow() {
-        return Instruction.find(this.opcode) == Instruction.ATHROW;
+        return BytecodeInstruction.isThrow(this.opcode);
+    }
+
+    /**
+     * Is the opcode a throw instruction?
+     * @param opcode Opcode.
+     * @return True if it is.
+     */
+    static boolean isThrow(final int opcode) {
+        return Instruction.find(opcode) == Instruction.ATHROW;
     }
 
     /**
@@ -1986,6 +2103,11 @@ public final class BytecodeInstruction implements BytecodeEntry {
             )
         );
 
+        /**
+         * Instructions indexed by opcodes.
+         */
+        private static final Instruction[] BY_OPCODE = Instruction.table();
+
         /**
          * Opcode.
          */
@@ -2091,12 +2213,33 @@ public final class BytecodeInstruction implements BytecodeEntry {
          * @return Instruction.
          */
         static Instruction find(final int opcode) {
-            for (final Instruction instruction : Instruction.values()) {
-                if (instruction.opcode == opcode) {
-                    return instruction;
+            final Instruction result;
+            if (opcode >= 0 && opcode < Instruction.BY_OPCODE.length
+                && Instruction.BY_OPCODE[opcode] != null) {
+                result = Instruction.BY_OPCODE[opcode];
+            } else {
+                throw new UnrecognizedOpcode(opcode);
+            }
+            return result;
+        }
+
+        /**
+         * Table of instructions indexed by opcodes.
+         * @return Table with {@code null} for unknown opcodes.
+         */
+        private static Instruction[] table() {
+            final Instruction[] all = Instruction.values();
+            int max = 0;
+            for (final Instruction instruction : all) {
+                max = Math.max(max, instruction.opcode);
+            }
+            final Instruction[] result = new Instruction[max + 1];
+            for (final Instruction instruction : all) {
+                if (result[instruction.opcode] == null) {
+                    result[instruction.opcode] = instruction;
                 }
             }
-            throw new UnrecognizedOpcode(opcode);
+            return result;
         }
     }
 }
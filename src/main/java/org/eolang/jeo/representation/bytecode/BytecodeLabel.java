@@ -8,33 +8,77 @@ import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.UUID;
-import lombok.EqualsAndHashCode;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.ToString;
 import org.eolang.jeo.representation.asm.AsmLabels;
 import org.eolang.jeo.representation.directives.DirectivesLabel;
 import org.eolang.jeo.representation.directives.Format;
+import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.tree.LabelNode;
 import org.xembly.Directive;
 
 /**
  * Mark label instruction.
+ *
+ * <p>Labels of disassembled methods are identified by dense numbers, which are their
+ * positions in the order of the first reference in the method. Such labels are
+ * compared by numbers and resolved by array indexing, see {@link AsmLabels} and
+ * {@link InstructionsFlow}. They are printed into XMIR as {@code L<number>} and
+ * parsed back into numbers when XMIR is read. Labels with any other identifiers,
+ * like the ones written by hand or created by older versions, are compared
+ * by their strings.</p>
  * @since 0.1
  */
 @ToString
-@EqualsAndHashCode
 public final class BytecodeLabel implements BytecodeEntry {
 
     /**
-     * Simple string identifier.
+     * Prefix of numbered labels.
+     */
+    private static final char PREFIX = 'L';
+
+    /**
+     * Random prefix of labels created without identifiers in this JVM.
+     * <p>It keeps such labels distinct from the ones created by previous runs
+     * and saved into XMIR.</p>
+     */
+    private static final String SESSION = Long.toHexString(
+        Double.doubleToLongBits(Math.random())
+    );
+
+    /**
+     * Counter of labels created without identifiers.
+     */
+    private static final AtomicLong FRESH = new AtomicLong();
+
+    /**
+     * Number of the label in its method, negative if the label is identified by string.
+     */
+    private final int num;
+
+    /**
+     * Simple string identifier, {@code null} for numbered and empty labels.
      */
     private final String identifier;
 
     /**
      * Constructor.
+     * <p>The label gets an identifier unique in this JVM.</p>
      */
     public BytecodeLabel() {
-        this(UUID.randomUUID().toString());
+        this(
+            new StringBuilder(32).append(BytecodeLabel.SESSION).append('-')
+                .append(BytecodeLabel.FRESH.incrementAndGet()).toString()
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param number Number of the label in its method.
+     */
+    public BytecodeLabel(final int number) {
+        this(number, null);
     }
 
     /**
@@ -47,22 +91,44 @@ public final class BytecodeLabel implements BytecodeEntry {
 
     /**
      * Constructor.
-     * @param label Identifier.
+     * <p>If the label has a number assigned while reading the class,
+     * see {@link org.eolang.jeo.representation.asm.AsmProgram}, it is used.
+     * Otherwise, the identity-based string of the label is used, which differs
+     * from run to run.</p>
+     * @param node ASM label node.
+     */
+    public BytecodeLabel(final LabelNode node) {
+        this(BytecodeLabel.number(node.getLabel()), BytecodeLabel.identifier(node.getLabel()));
+    }
+
+    /**
+     * Constructor.
+     * @param label Identifier, {@code L<number>} makes a numbered label.
      */
     public BytecodeLabel(final String label) {
-        this.identifier = label;
+        this(BytecodeLabel.parsed(label), label);
+    }
+
+    /**
+     * Constructor.
+     * @param number Number of the label in its method, negative if there is no number.
+     * @param identifier String identifier, {@code null} if there is no identifier.
+     */
+    private BytecodeLabel(final int number, final String identifier) {
+        this.num = number;
+        this.identifier = identifier;
     }
 
     @Override
     public void writeTo(final MethodVisitor visitor, final AsmLabels labels) {
-        if (Objects.nonNull(this.identifier)) {
+        if (!this.empty()) {
             visitor.visitLabel(labels.label(this));
         }
     }
 
     @Override
     public Iterable<Directive> directives(final int index, final Format format) {
-        return new DirectivesLabel(index, format, this.identifier);
+        return new DirectivesLabel(index, format, this.uid());
     }
 
     @Override
@@ -112,10 +178,126 @@ public final class BytecodeLabel implements BytecodeEntry {
 
     @Override
     public String view() {
-        return String.format("label %s", this.identifier);
+        return String.format("label %s", this.uid());
     }
 
+    /**
+     * String identifier of the label.
+     * @return Identifier, {@code null} for empty labels.
+     */
     public String uid() {
-        return this.identifier;
+        final String result;
+        if (this.identifier == null && this.num >= 0) {
+            result = new StringBuilder(11).append(BytecodeLabel.PREFIX).append(this.num)
+                .toString();
+        } else {
+            result = this.identifier;
+        }
+        return result;
+    }
+
+    /**
+     * Number of the label in its method.
+     * @return Number, negative if the label is identified by string.
+     */
+    public int number() {
+        return this.num;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        final boolean result;
+        if (this == other) {
+            result = true;
+        } else if (other == null || this.getClass() != other.getClass()) {
+            result = false;
+        } else {
+            final BytecodeLabel label = (BytecodeLabel) other;
+            if (this.num >= 0 || label.num >= 0) {
+                result = this.num == label.num;
+            } else {
+                result = Objects.equals(this.identifier, label.identifier);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public int hashCode() {
+        final int result;
+        if (this.num >= 0) {
+            result = this.num;
+        } else {
+            result = Objects.hashCode(this.identifier);
+        }
+        return result;
+    }
+
+    /**
+     * Is it an empty label, without any identifier.
+     * @return True if empty.
+     */
+    private boolean empty() {
+        return this.num < 0 && this.identifier == null;
+    }
+
+    /**
+     * Number of ASM label.
+     * @param label ASM label.
+     * @return Number assigned while reading the class, or -1.
+     */
+    private static int number(final Label label) {
+        final int result;
+        if (label.info instanceof Integer) {
+            result = (Integer) label.info;
+        } else {
+            result = -1;
+        }
+        return result;
+    }
+
+    /**
+     * Identifier of ASM label.
+     * @param label ASM label.
+     * @return Identifier, {@code null} if the label is numbered.
+     */
+    private static String identifier(final Label label) {
+        final String result;
+        if (label.info instanceof Integer) {
+            result = null;
+        } else if (label.info instanceof String) {
+            result = (String) label.info;
+        } else {
+            result = label.toString();
+        }
+        return result;
+    }
+
+    /**
+     * Parse the number of the label from its identifier.
+     * <p>Only the canonical form {@code L<number>} without leading zeros is parsed,
+     * so the number always prints back into the same identifier.</p>
+     * @param label Identifier.
+     * @return Number, or -1 if the identifier is not a number.
+     */
+    private static int parsed(final String label) {
+        int result = -1;
+        if (label != null && label.length() > 1 && label.length() < 11
+            && label.charAt(0) == BytecodeLabel.PREFIX
+            && (label.length() == 2 || label.charAt(1) != '0')) {
+            long value = 0L;
+            for (int idx = 1; idx < label.length() && value >= 0L; ++idx) {
+                final char chr = label.charAt(idx);
+                if (chr < '0' || chr > '9') {
+                    value = -1L;
+                } else {
+                    value = value * 10L + chr - '0';
+                }
+            }
+            if (value >= 0L && value <= Integer.MAX_VALUE) {
+                result = (int) value;
+            }
+        }
+        return result;
     }
 }
@@ -102,4 +102,21 @@ public final class BytecodeLine implements BytecodeEntry {
     public String view() {
         return "line";
     }
+
+    /**
+     * Line number in the source code.
+     * @return Line number.
+     */
+    int line() {
+        return this.number;
+    }
+
+    /**
+     * Bytecode label that this line refers to.
+     * @return Label.
+     */
+    @SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
+    BytecodeLabel label() {
+        return this.label;
+    }
 }
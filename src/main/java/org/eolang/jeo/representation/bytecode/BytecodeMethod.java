@@ -8,6 +8,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
@@ -36,8 +37,13 @@ public final class BytecodeMethod {
 
     /**
      * Method Instructions.
+     * <p>Methods read from classes and XMIR have a {@link CompactBody}, and methods
+     * built entry by entry have a plain list, which is converted into a compact
+     * body once it's written or converted into directives. A compact body can't
+     * be changed, so it's copied into a plain list before the first entry is
+     * appended to it.</p>
      */
-    private final List<BytecodeEntry> entries;
+    private List<BytecodeEntry> entries;
 
     /**
      * Method annotations.
@@ -86,7 +92,7 @@ public final class BytecodeMethod {
     public BytecodeMethod(final BytecodeEntry... instructions) {
         this(
             new ArrayList<>(0),
-            Arrays.asList(instructions),
+            new CompactBody(Arrays.asList(instructions)),
             new BytecodeAnnotations(),
             new BytecodeMethodProperties("foo", "()V", "", Opcodes.ACC_PUBLIC),
             new ArrayList<>(0),
@@ -231,6 +237,9 @@ public final class BytecodeMethod {
      * @return This object.
      */
     public BytecodeMethod entry(final BytecodeEntry entry) {
+        if (this.entries instanceof CompactBody) {
+            this.entries = new ArrayList<>(this.entries);
+        }
         this.entries.add(entry);
         return this;
     }
@@ -289,7 +298,6 @@ public final class BytecodeMethod {
      * @return Directives.
      */
     public DirectivesMethod directives(final int number, final Format format) {
-        final AtomicInteger ecounter = new AtomicInteger(0);
         final AtomicInteger tcounter = new AtomicInteger(0);
         return new DirectivesMethod(
             format,
@@ -298,8 +306,7 @@ public final class BytecodeMethod {
                 new MethodName(this.properties.name()).xmir()
             ),
             this.properties.directives(this.maxs, format),
-            this.entries.stream().map(e -> e.directives(ecounter.getAndIncrement(), format))
-                .collect(Collectors.toList()),
+            CompactBody.of(this.entries).directives(format),
             this.tryblocks.stream().map(e -> e.directives(tcounter.getAndIncrement(), format))
                 .collect(Collectors.toList()),
             this.annotations.directives(format),
@@ -320,10 +327,25 @@ public final class BytecodeMethod {
 
     /**
      * Generate bytecode.
+     * <p>A method with an opaque body is copied from its blob with the header
+     * of these properties, see {@link BytecodeOpaqueMethod}.</p>
      * @param visitor Visitor.
      */
-    @SuppressWarnings("PMD.AvoidCatchingGenericException")
     void write(final CustomClassWriter visitor) {
+        final Optional<BytecodeOpaqueMethod> opaque = this.attributes.opaque();
+        if (opaque.isPresent()) {
+            opaque.get().write(visitor, this.properties);
+        } else {
+            this.writeInstructions(visitor);
+        }
+    }
+
+    /**
+     * Generate bytecode from the method instructions.
+     * @param visitor Visitor.
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void writeInstructions(final CustomClassWriter visitor) {
         try {
             final MethodVisitor mvisitor = this.properties.writeMethod(
                 visitor,
@@ -335,10 +357,11 @@ public final class BytecodeMethod {
             if (!this.properties.isAbstract()) {
                 mvisitor.visitCode();
                 this.tryblocks.forEach(block -> block.writeTo(mvisitor, all));
-                this.entries.forEach(instruction -> instruction.writeTo(mvisitor, all));
+                final CompactBody body = CompactBody.of(this.entries);
+                body.writeTo(mvisitor, all);
                 final BytecodeMaxs max;
                 if (this.maxs.compute()) {
-                    max = this.computeMaxs();
+                    max = this.computeMaxs(body);
                 } else {
                     max = this.maxs;
                 }
@@ -388,7 +411,7 @@ public final class BytecodeMethod {
      * @return Maxs.
      */
     BytecodeMaxs computeMaxs() {
-        return new BytecodeMaxs(this.computeStack(), this.computeLocals());
+        return this.computeMaxs(CompactBody.of(this.entries));
     }
 
     /**
@@ -420,31 +443,18 @@ public final class BytecodeMethod {
     }
 
     /**
-     * Compute max stack.
-     * @return Max stack.
-     */
-    private int computeStack() {
-        return new MaxStack(
-            this.entries,
-            this.tryblocks.stream()
-                .filter(BytecodeTryCatchBlock.class::isInstance)
-                .map(BytecodeTryCatchBlock.class::cast)
-                .collect(Collectors.toList())
-        ).value();
-    }
-
-    /**
-     * Compute max local variables.
-     * @return Max local variables.
+     * Compute maxs.
+     * @param body Method body.
+     * @return Maxs.
      */
-    private int computeLocals() {
-        return new MaxLocals(
-            this.properties,
-            this.entries,
-            this.tryblocks.stream()
-                .filter(BytecodeTryCatchBlock.class::isInstance)
-                .map(BytecodeTryCatchBlock.class::cast)
-                .collect(Collectors.toList())
-        ).value();
+    private BytecodeMaxs computeMaxs(final CompactBody body) {
+        final List<BytecodeTryCatchBlock> blocks = this.tryblocks.stream()
+            .filter(BytecodeTryCatchBlock.class::isInstance)
+            .map(BytecodeTryCatchBlock.class::cast)
+            .collect(Collectors.toList());
+        return new BytecodeMaxs(
+            new MaxStack(body, blocks).value(),
+            new MaxLocals(this.properties, body, blocks).value()
+        );
     }
 }
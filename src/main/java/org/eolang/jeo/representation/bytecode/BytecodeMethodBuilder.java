@@ -4,7 +4,6 @@
  */
 package org.eolang.jeo.representation.bytecode;
 
-import java.util.UUID;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 
@@ -47,7 +46,7 @@ public final class BytecodeMethodBuilder {
     }
 
     public BytecodeMethodBuilder label() {
-        return this.label(UUID.randomUUID().toString());
+        return this.label(new BytecodeLabel().uid());
     }
 
     /**
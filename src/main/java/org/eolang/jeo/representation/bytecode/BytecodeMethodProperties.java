@@ -11,6 +11,7 @@ import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.eolang.jeo.representation.directives.DirectivesMethodProperties;
 import org.eolang.jeo.representation.directives.Format;
+import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
 
@@ -211,4 +212,39 @@ public final class BytecodeMethodProperties {
         this.parameters.write(visitor);
         return visitor;
     }
+
+    /**
+     * Add method with a body copied from a blob to a class visitor.
+     * <p>The header of the method is taken from these properties, which may be
+     * edited in XMIR. The body refers to the parameters by local variable indexes,
+     * so the blob must have the same descriptor and the same static flag.</p>
+     * @param writer Class visitor.
+     * @param blob Access flags of the method in the blob.
+     * @param descriptor Descriptor of the method in the blob.
+     * @return Method visitor.
+     */
+    MethodVisitor writeOpaque(
+        final ClassVisitor writer, final int blob, final String descriptor
+    ) {
+        if (!this.descr.equals(descriptor)
+            || ((blob ^ this.access) & Opcodes.ACC_STATIC) != 0) {
+            throw new IllegalStateException(
+                String.format(
+                    "Opaque body of the method '%s' with descriptor '%s' and access %d can't be copied from a blob with descriptor '%s' and access %d",
+                    this.name,
+                    this.descr,
+                    this.access,
+                    descriptor,
+                    blob
+                )
+            );
+        }
+        return writer.visitMethod(
+            this.access,
+            this.name,
+            this.descr,
+            Optional.ofNullable(this.signature).filter(s -> !s.isEmpty()).orElse(null),
+            this.exceptions
+        );
+    }
 }
@@ -13,6 +13,7 @@ import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.eolang.jeo.representation.BytecodeRepresentation;
 import org.eolang.jeo.representation.ClassName;
+import org.eolang.jeo.representation.Stage;
 import org.eolang.jeo.representation.directives.DirectivesClass;
 import org.eolang.jeo.representation.directives.DirectivesMetas;
 import org.eolang.jeo.representation.directives.DirectivesObject;
@@ -85,9 +86,43 @@ public final class BytecodeObject {
      * @return Bytecode.
      */
     public Bytecode bytecode() {
-        final CustomClassWriter writer = new CustomClassWriter();
+        return this.bytecode(new OriginalMethods());
+    }
+
+    /**
+     * Generate bytecode copying some methods from the original class file.
+     * @param originals Original methods to copy as is.
+     * @return Bytecode.
+     */
+    public Bytecode bytecode(final OriginalMethods originals) {
+        return this.bytecode(originals, Thread.currentThread().getContextClassLoader());
+    }
+
+    /**
+     * Generate bytecode resolving classes with the given class loader.
+     * <p>The class loader is used to find common superclasses while frames
+     * are computed.</p>
+     * @param loader Class loader that knows the classes the bytecode refers to.
+     * @return Bytecode.
+     */
+    public Bytecode bytecode(final ClassLoader loader) {
+        return this.bytecode(new OriginalMethods(), loader);
+    }
+
+    /**
+     * Generate bytecode copying some methods from the original class file and
+     * resolving classes with the given class loader.
+     * @param originals Original methods to copy as is.
+     * @param loader Class loader that knows the classes the bytecode refers to.
+     * @return Bytecode.
+     */
+    public Bytecode bytecode(final OriginalMethods originals, final ClassLoader loader) {
+        final Stage.Span span = Stage.FRAMES.begin();
+        final CustomClassWriter writer = new CustomClassWriter(originals, loader);
         this.top().writeTo(writer);
-        return writer.bytecode();
+        final Bytecode result = writer.bytecode();
+        span.end(this.top().name().full(), 0L, 0L);
+        return result;
     }
 
     /**
@@ -123,7 +158,7 @@ public final class BytecodeObject {
         return new DirectivesObject(
             format,
             clazz,
-            new DirectivesMetas(classname)
+            new DirectivesMetas(classname, format)
         );
     }
 }
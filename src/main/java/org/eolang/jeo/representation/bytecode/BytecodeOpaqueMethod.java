@@ -0,0 +1,123 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation.bytecode;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.eolang.jeo.representation.DefaultVersion;
+import org.eolang.jeo.representation.asm.AsmLabels;
+import org.eolang.jeo.representation.asm.AsmUnknownAttributes;
+import org.eolang.jeo.representation.directives.DirectivesOpaqueMethod;
+import org.eolang.jeo.representation.directives.Format;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.xembly.Directive;
+
+/**
+ * Method with an opaque body.
+ *
+ * <p>When only a few methods of a class are disassembled into instructions, the other
+ * ones are kept as blobs. A raw {@code Code} attribute can't be copied on its own,
+ * since it refers to the constant pool of the class. That is why the blob is a tiny
+ * class file that contains only this method with its own constant pool. During
+ * assembling the body is copied from the blob as is, together with its annotations,
+ * attributes, max stack, max locals and frames. The header of the method, that is
+ * access, name, signature and exceptions, is taken from the method properties in
+ * XMIR, see {@link #write(ClassVisitor, BytecodeMethodProperties)}.</p>
+ * @since 0.16.0
+ */
+@ToString
+@EqualsAndHashCode
+public final class BytecodeOpaqueMethod implements BytecodeAttribute {
+
+    /**
+     * Class file with the single method.
+     */
+    private final byte[] blob;
+
+    /**
+     * Constructor.
+     * @param blob Class file with the single method.
+     */
+    public BytecodeOpaqueMethod(final byte[] blob) {
+        this.blob = blob.clone();
+    }
+
+    @Override
+    public void write(final ClassVisitor clazz) {
+        new ClassReader(this.blob).accept(
+            new Copying(clazz, null), AsmUnknownAttributes.prototypes(), 0
+        );
+    }
+
+    /**
+     * Copy the method into the class with the given header.
+     * @param clazz Class to copy the method into.
+     * @param properties Properties of the method, which define its header.
+     */
+    public void write(final ClassVisitor clazz, final BytecodeMethodProperties properties) {
+        new ClassReader(this.blob).accept(
+            new Copying(clazz, properties), AsmUnknownAttributes.prototypes(), 0
+        );
+    }
+
+    @Override
+    public void write(final MethodVisitor method, final AsmLabels labels) {
+        throw new UnsupportedOperationException(
+            "Opaque method can be written only to a class, not into another method"
+        );
+    }
+
+    @Override
+    public Iterable<Directive> directives(final int index, final Format format) {
+        return new DirectivesOpaqueMethod(format, index, this.blob);
+    }
+
+    /**
+     * Class visitor that copies methods into another class.
+     * @since 0.16.0
+     */
+    private static final class Copying extends ClassVisitor {
+
+        /**
+         * Where to copy methods.
+         */
+        private final ClassVisitor target;
+
+        /**
+         * Header of the copied method, or null to copy the header of the blob.
+         */
+        private final BytecodeMethodProperties header;
+
+        /**
+         * Constructor.
+         * @param target Where to copy methods.
+         * @param header Header of the copied method, or null to keep the original one.
+         */
+        Copying(final ClassVisitor target, final BytecodeMethodProperties header) {
+            super(new DefaultVersion().api());
+            this.target = target;
+            this.header = header;
+        }
+
+        @Override
+        public MethodVisitor visitMethod(
+            final int access,
+            final String name,
+            final String descriptor,
+            final String signature,
+            final String[] exceptions
+        ) {
+            final MethodVisitor result;
+            if (this.header == null) {
+                result = this.target.visitMethod(access, name, descriptor, signature, exceptions);
+            } else {
+                result = this.header.writeOpaque(this.target, access, descriptor);
+            }
+            return result;
+        }
+    }
+}
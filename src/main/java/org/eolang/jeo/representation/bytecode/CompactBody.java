@@ -0,0 +1,675 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation.bytecode;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.eolang.jeo.representation.asm.AsmLabels;
+import org.eolang.jeo.representation.directives.DirectivesInstruction;
+import org.eolang.jeo.representation.directives.DirectivesLine;
+import org.eolang.jeo.representation.directives.Format;
+import org.objectweb.asm.MethodVisitor;
+import org.xembly.Directive;
+
+/**
+ * Compact columnar body of a method.
+ *
+ * <p>A large class has hundreds of thousands of instructions, and in a list of
+ * entries each of them is an object with its own array of boxed operands. This
+ * body keeps the same entries in a few int columns instead: the opcode of each
+ * entry, or its kind for labels, lines and other entries, the offset of its
+ * operands, and the operands themselves. An operand is an index in the constant
+ * table of the method, where equal strings, types, handles and numbers are
+ * stored once, or, if negative, the complement of an index in the label table.
+ * The positions of labels are indexed by the same label indexes.</p>
+ *
+ * <p>Data-flow analysis, see {@link InstructionsFlow}, {@link MaxStack} and
+ * {@link MaxLocals}, writing bytecode and generating directives work right over
+ * the columns. The body is still a list of entries for everything else, which
+ * materializes an entry each time it's requested. The body is immutable.</p>
+ * @since 0.16.0
+ */
+@SuppressWarnings({"PMD.TooManyMethods", "PMD.GodClass"})
+public final class CompactBody extends AbstractList<BytecodeEntry> {
+
+    /**
+     * Kind of label entries.
+     */
+    private static final int LABEL = -1;
+
+    /**
+     * Kind of line number entries.
+     */
+    private static final int LINE = -2;
+
+    /**
+     * Kind of other entries, like frames, which are kept as constants.
+     */
+    private static final int OTHER = -3;
+
+    /**
+     * Opcode or kind of each entry.
+     */
+    private final int[] codes;
+
+    /**
+     * Offset of the operands of each entry, with the total number of operands at the end.
+     */
+    private final int[] offsets;
+
+    /**
+     * Operands of all the entries.
+     */
+    private final int[] operands;
+
+    /**
+     * Constant table.
+     */
+    private final Object[] constants;
+
+    /**
+     * Label table.
+     */
+    private final BytecodeLabel[] labels;
+
+    /**
+     * Indexes of labels in the label table.
+     */
+    private final Map<BytecodeLabel, Integer> indexes;
+
+    /**
+     * Position of the first entry of each label, -1 if the label isn't in the body.
+     */
+    private final int[] positions;
+
+    /**
+     * Constructor of empty body.
+     */
+    public CompactBody() {
+        this(new ArrayList<>(0));
+    }
+
+    /**
+     * Constructor.
+     * @param entries Entries of the method body.
+     */
+    public CompactBody(final List<? extends BytecodeEntry> entries) {
+        this(CompactBody.encoding(entries));
+    }
+
+    /**
+     * Constructor.
+     * @param encoding Encoded entries.
+     */
+    private CompactBody(final Encoding encoding) {
+        this(
+            encoding.codes(),
+            encoding.offsets(),
+            encoding.operands(),
+            encoding.constants(),
+            encoding.labels(),
+            encoding.indexes(),
+            encoding.positions()
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param codes Opcode or kind of each entry.
+     * @param offsets Offset of the operands of each entry.
+     * @param operands Operands of all the entries.
+     * @param constants Constant table.
+     * @param labels Label table.
+     * @param indexes Indexes of labels in the label table.
+     * @param positions Position of the first entry of each label.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    @SuppressWarnings("PMD.ArrayIsStoredDirectly")
+    private CompactBody(
+        final int[] codes,
+        final int[] offsets,
+        final int[] operands,
+        final Object[] constants,
+        final BytecodeLabel[] labels,
+        final Map<BytecodeLabel, Integer> indexes,
+        final int[] positions
+    ) {
+        this.codes = codes;
+        this.offsets = offsets;
+        this.operands = operands;
+        this.constants = constants;
+        this.labels = labels;
+        this.indexes = indexes;
+        this.positions = positions;
+    }
+
+    @Override
+    public BytecodeEntry get(final int index) {
+        final int code = this.codes[index];
+        final int first = this.offsets[index];
+        final BytecodeEntry result;
+        if (code == CompactBody.LABEL) {
+            result = this.labels[~this.operands[first]];
+        } else if (code == CompactBody.LINE) {
+            result = new BytecodeLine(
+                (Integer) this.constants[this.operands[first]],
+                this.labels[~this.operands[first + 1]]
+            );
+        } else if (code == CompactBody.OTHER) {
+            result = (BytecodeEntry) this.constants[this.operands[first]];
+        } else {
+            result = new BytecodeInstruction(code, this.arguments(index));
+        }
+        return result;
+    }
+
+    @Override
+    public int size() {
+        return this.codes.length;
+    }
+
+    /**
+     * Write the body to the method visitor.
+     * @param visitor Method visitor.
+     * @param all Method labels.
+     */
+    void writeTo(final MethodVisitor visitor, final AsmLabels all) {
+        for (int index = 0; index < this.codes.length; ++index) {
+            final int code = this.codes[index];
+            final int first = this.offsets[index];
+            if (code == CompactBody.LABEL) {
+                this.labels[~this.operands[first]].writeTo(visitor, all);
+            } else if (code == CompactBody.LINE) {
+                visitor.visitLineNumber(
+                    (Integer) this.constants[this.operands[first]],
+                    all.label(this.labels[~this.operands[first + 1]])
+                );
+            } else if (code == CompactBody.OTHER) {
+                ((BytecodeEntry) this.constants[this.operands[first]]).writeTo(visitor, all);
+            } else {
+                final Object[] resolved = new Object[this.offsets[index + 1] - first];
+                for (int idx = 0; idx < resolved.length; ++idx) {
+                    final int operand = this.operands[first + idx];
+                    if (operand < 0) {
+                        resolved[idx] = all.label(this.labels[~operand]);
+                    } else {
+                        resolved[idx] = this.constants[operand];
+                    }
+                }
+                BytecodeInstruction.generate(visitor, code, resolved);
+            }
+        }
+    }
+
+    /**
+     * Directives of all the entries.
+     * @param format Format of the directives.
+     * @return Directives of each entry.
+     */
+    List<Iterable<Directive>> directives(final Format format) {
+        final List<Iterable<Directive>> result = new ArrayList<>(this.codes.length);
+        for (int index = 0; index < this.codes.length; ++index) {
+            final int code = this.codes[index];
+            final int first = this.offsets[index];
+            if (code == CompactBody.LABEL) {
+                result.add(this.labels[~this.operands[first]].directives(index, format));
+            } else if (code == CompactBody.LINE) {
+                result.add(
+                    new DirectivesLine(
+                        index,
+                        format,
+                        (Integer) this.constants[this.operands[first]],
+                        this.labels[~this.operands[first + 1]].uid()
+                    )
+                );
+            } else if (code == CompactBody.OTHER) {
+                result.add(
+                    ((BytecodeEntry) this.constants[this.operands[first]])
+                        .directives(index, format)
+                );
+            } else {
+                result.add(
+                    new DirectivesInstruction(index, format, code, this.arguments(index))
+                );
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Impact of each entry on the stack.
+     * @return Stack impacts.
+     */
+    int[] impacts() {
+        final int[] result = new int[this.codes.length];
+        for (int index = 0; index < result.length; ++index) {
+            final int code = this.codes[index];
+            if (code == CompactBody.OTHER) {
+                result[index] = this.other(index).impact();
+            } else if (code >= 0) {
+                result[index] = BytecodeInstruction.impact(code, this.arguments(index));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Is the entry a variable instruction?
+     * @param index Index of the entry.
+     * @return True if it is.
+     */
+    boolean isVarInstruction(final int index) {
+        final int code = this.codes[index];
+        return code >= 0 && BytecodeInstruction.isVarInstruction(code);
+    }
+
+    /**
+     * Local variable index of the variable instruction.
+     * @param index Index of the entry.
+     * @return Local variable index.
+     */
+    int varIndex(final int index) {
+        return (Integer) this.constants[this.operands[this.offsets[index]]];
+    }
+
+    /**
+     * Local variable size of the variable instruction.
+     * @param index Index of the entry.
+     * @return Local variable size.
+     */
+    int varSize(final int index) {
+        return BytecodeInstruction.varSize(this.codes[index]);
+    }
+
+    /**
+     * Is the entry a switch?
+     * @param index Index of the entry.
+     * @return True if it is.
+     */
+    boolean isSwitch(final int index) {
+        final int code = this.codes[index];
+        final boolean result;
+        if (code == CompactBody.OTHER) {
+            result = this.other(index).isSwitch();
+        } else {
+            result = code >= 0 && BytecodeInstruction.isSwitch(code);
+        }
+        return result;
+    }
+
+    /**
+     * Is the entry a conditional branch?
+     * @param index Index of the entry.
+     * @return True if it is.
+     */
+    boolean isIf(final int index) {
+        final int code = this.codes[index];
+        final boolean result;
+        if (code == CompactBody.OTHER) {
+            result = this.other(index).isIf();
+        } else {
+            result = code >= 0 && BytecodeInstruction.isIf(code);
+        }
+        return result;
+    }
+
+    /**
+     * Is the entry a goto or jsr?
+     * @param index Index of the entry.
+     * @return True if it is.
+     */
+    boolean isJump(final int index) {
+        final int code = this.codes[index];
+        final boolean result;
+        if (code == CompactBody.OTHER) {
+            result = this.other(index).isJump();
+        } else {
+            result = code >= 0 && BytecodeInstruction.isJump(code);
+        }
+        return result;
+    }
+
+    /**
+     * Is the entry a return or a throw, which ends the flow?
+     * @param index Index of the entry.
+     * @return True if it is.
+     */
+    boolean isExit(final int index) {
+        final int code = this.codes[index];
+        final boolean result;
+        if (code == CompactBody.OTHER) {
+            final BytecodeEntry entry = this.other(index);
+            result = entry.isReturn() || entry.isThrow();
+        } else {
+            result = code >= 0
+                && (BytecodeInstruction.isReturn(code) || BytecodeInstruction.isThrow(code));
+        }
+        return result;
+    }
+
+    /**
+     * Positions of the labels the entry jumps to, in the order of its operands.
+     * @param index Index of the entry.
+     * @return Positions of the entries.
+     */
+    int[] targets(final int index) {
+        final int[] result;
+        if (this.codes[index] == CompactBody.OTHER) {
+            result = this.other(index).jumps().stream().mapToInt(this::position).toArray();
+        } else {
+            final int first = this.offsets[index];
+            final int last = this.offsets[index + 1];
+            int total = 0;
+            for (int idx = first; idx < last; ++idx) {
+                if (this.operands[idx] < 0) {
+                    ++total;
+                }
+            }
+            result = new int[total];
+            int target = 0;
+            for (int idx = first; idx < last; ++idx) {
+                if (this.operands[idx] < 0) {
+                    result[target] = this.position(~this.operands[idx]);
+                    ++target;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Position of the label in the body.
+     * @param label Label.
+     * @return Index of the first entry of the label.
+     */
+    int position(final BytecodeLabel label) {
+        final Integer index = this.indexes.get(label);
+        if (index == null) {
+            throw new IllegalStateException(String.format("Label %s not found", label));
+        }
+        return this.position(index);
+    }
+
+    /**
+     * Position of the label in the body.
+     * @param label Index of the label in the label table.
+     * @return Index of the first entry of the label.
+     */
+    private int position(final int label) {
+        final int result = this.positions[label];
+        if (result < 0) {
+            throw new IllegalStateException(
+                String.format("Label %s not found", this.labels[label])
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Arguments of the instruction with labels and constants in place of operands.
+     * @param index Index of the entry.
+     * @return Arguments.
+     */
+    private Object[] arguments(final int index) {
+        final int first = this.offsets[index];
+        final Object[] result = new Object[this.offsets[index + 1] - first];
+        for (int idx = 0; idx < result.length; ++idx) {
+            final int operand = this.operands[first + idx];
+            if (operand < 0) {
+                result[idx] = this.labels[~operand];
+            } else {
+                result[idx] = this.constants[operand];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Entry kept as a constant.
+     * @param index Index of the entry.
+     * @return Entry.
+     */
+    private BytecodeEntry other(final int index) {
+        return (BytecodeEntry) this.constants[this.operands[this.offsets[index]]];
+    }
+
+    /**
+     * The same entries as a compact body.
+     * @param entries Entries.
+     * @return The entries themselves if they are a compact body already, or a new one.
+     */
+    static CompactBody of(final List<? extends BytecodeEntry> entries) {
+        final CompactBody result;
+        if (entries instanceof CompactBody) {
+            result = (CompactBody) entries;
+        } else {
+            result = new CompactBody(entries);
+        }
+        return result;
+    }
+
+    /**
+     * Encode the entries into columns.
+     * @param entries Entries.
+     * @return Encoded entries.
+     */
+    private static Encoding encoding(final List<? extends BytecodeEntry> entries) {
+        int words = 0;
+        for (final BytecodeEntry entry : entries) {
+            words += CompactBody.words(entry);
+        }
+        final Encoding result = new Encoding(entries.size(), words);
+        for (int index = 0; index < entries.size(); ++index) {
+            result.put(index, entries.get(index));
+        }
+        return result;
+    }
+
+    /**
+     * Number of operands of the entry in the columns.
+     * @param entry Entry.
+     * @return Number of operands.
+     */
+    private static int words(final BytecodeEntry entry) {
+        final int result;
+        if (entry instanceof BytecodeInstruction) {
+            result = ((BytecodeInstruction) entry).arguments().length;
+        } else if (entry instanceof BytecodeLine) {
+            result = 2;
+        } else {
+            result = 1;
+        }
+        return result;
+    }
+
+    /**
+     * Entries being encoded into columns.
+     * <p>The columns are allocated at once for the known number of entries and
+     * operands and filled entry by entry. Equal constants and labels are stored
+     * in their tables once.</p>
+     * @since 0.16.0
+     */
+    private static final class Encoding {
+
+        /**
+         * Opcode or kind of each entry.
+         */
+        private final int[] codes;
+
+        /**
+         * Offset of the operands of each entry.
+         */
+        private final int[] offsets;
+
+        /**
+         * Operands of all the entries.
+         */
+        private final int[] operands;
+
+        /**
+         * Constants in the order of indexes.
+         */
+        private final List<Object> table;
+
+        /**
+         * Indexes of the constants.
+         */
+        private final Map<Object, Integer> constant;
+
+        /**
+         * Labels in the order of indexes.
+         */
+        private final List<BytecodeLabel> marks;
+
+        /**
+         * Indexes of the labels.
+         */
+        private final Map<BytecodeLabel, Integer> label;
+
+        /**
+         * Constructor.
+         * @param entries Number of entries.
+         * @param words Number of operands.
+         */
+        Encoding(final int entries, final int words) {
+            this.codes = new int[entries];
+            this.offsets = new int[entries + 1];
+            this.operands = new int[words];
+            this.table = new ArrayList<>(0);
+            this.constant = new HashMap<>(0);
+            this.marks = new ArrayList<>(0);
+            this.label = new HashMap<>(0);
+        }
+
+        /**
+         * Encode the next entry.
+         * @param index Index of the entry, all the previous ones are encoded.
+         * @param entry Entry.
+         */
+        void put(final int index, final BytecodeEntry entry) {
+            final int first = this.offsets[index];
+            final int[] encoded;
+            if (entry instanceof BytecodeInstruction) {
+                final BytecodeInstruction instruction = (BytecodeInstruction) entry;
+                final Object[] args = instruction.arguments();
+                encoded = new int[args.length];
+                for (int idx = 0; idx < args.length; ++idx) {
+                    encoded[idx] = this.operand(args[idx]);
+                }
+                this.codes[index] = instruction.opcode();
+            } else if (entry instanceof BytecodeLabel) {
+                encoded = new int[]{this.operand(entry)};
+                this.codes[index] = CompactBody.LABEL;
+            } else if (entry instanceof BytecodeLine) {
+                final BytecodeLine line = (BytecodeLine) entry;
+                encoded = new int[]{this.operand(line.line()), this.operand(line.label())};
+                this.codes[index] = CompactBody.LINE;
+            } else {
+                encoded = new int[]{this.operand(entry)};
+                this.codes[index] = CompactBody.OTHER;
+            }
+            System.arraycopy(encoded, 0, this.operands, first, encoded.length);
+            this.offsets[index + 1] = first + encoded.length;
+        }
+
+        /**
+         * Opcode or kind of each entry.
+         * @return Column.
+         */
+        int[] codes() {
+            return this.codes;
+        }
+
+        /**
+         * Offset of the operands of each entry.
+         * @return Column.
+         */
+        int[] offsets() {
+            return this.offsets;
+        }
+
+        /**
+         * Operands of all the entries.
+         * @return Column.
+         */
+        int[] operands() {
+            return this.operands;
+        }
+
+        /**
+         * Constant table.
+         * @return Constants.
+         */
+        Object[] constants() {
+            return this.table.toArray();
+        }
+
+        /**
+         * Label table.
+         * @return Labels.
+         */
+        BytecodeLabel[] labels() {
+            return this.marks.toArray(new BytecodeLabel[0]);
+        }
+
+        /**
+         * Indexes of labels in the label table.
+         * @return Indexes.
+         */
+        Map<BytecodeLabel, Integer> indexes() {
+            return this.label;
+        }
+
+        /**
+         * Positions of the labels.
+         * @return Position of the first entry of each label, -1 for absent labels.
+         */
+        int[] positions() {
+            final int[] result = new int[this.marks.size()];
+            Arrays.fill(result, -1);
+            for (int index = 0; index < this.codes.length; ++index) {
+                if (this.codes[index] == CompactBody.LABEL) {
+                    final int mark = ~this.operands[this.offsets[index]];
+                    if (result[mark] < 0) {
+                        result[mark] = index;
+                    }
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Operand of the argument.
+         * @param arg Argument.
+         * @return Index of a constant, or complement of index of a label.
+         */
+        private int operand(final Object arg) {
+            final int result;
+            if (arg instanceof BytecodeLabel) {
+                final BytecodeLabel mark = (BytecodeLabel) arg;
+                result = ~this.label.computeIfAbsent(
+                    mark,
+                    key -> {
+                        this.marks.add(key);
+                        return this.marks.size() - 1;
+                    }
+                );
+            } else {
+                result = this.constant.computeIfAbsent(
+                    arg,
+                    key -> {
+                        this.table.add(key);
+                        return this.table.size() - 1;
+                    }
+                );
+            }
+            return result;
+        }
+    }
+}
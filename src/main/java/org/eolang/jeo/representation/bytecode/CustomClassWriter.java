@@ -5,6 +5,8 @@
 package org.eolang.jeo.representation.bytecode;
 
 import java.lang.reflect.Field;
+import java.util.Optional;
+import java.util.function.Supplier;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.eolang.jeo.PluginStartup;
@@ -12,6 +14,7 @@ import org.eolang.jeo.representation.DefaultVersion;
 import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.tree.MethodNode;
 
 /**
  * Custom class writer.
@@ -22,34 +25,107 @@ import org.objectweb.asm.MethodVisitor;
 @EqualsAndHashCode(callSuper = false)
 public final class CustomClassWriter extends ClassVisitor {
 
+    /**
+     * Value of {@code ClassWriter.compute} that computes nothing.
+     */
+    private static final int COMPUTE_NOTHING = 0;
+
+    /**
+     * Value of {@code ClassWriter.compute} that computes maxs and all the frames.
+     */
+    private static final int COMPUTE_ALL_FRAMES = 4;
+
     /**
      * Bytecode writer.
      */
     private final ClassesAwareWriter writer;
 
+    /**
+     * Original methods to copy as is.
+     */
+    private final OriginalMethods originals;
+
     /**
      * Constructor.
+     * @param originals Original methods to copy as is.
      */
-    CustomClassWriter() {
-        this(new ClassesAwareWriter());
+    CustomClassWriter(final OriginalMethods originals) {
+        this(originals, Thread.currentThread().getContextClassLoader());
+    }
+
+    /**
+     * Constructor.
+     * @param originals Original methods to copy as is.
+     * @param loader Class loader to find classes with while frames are computed.
+     */
+    CustomClassWriter(final OriginalMethods originals, final ClassLoader loader) {
+        this(new ClassesAwareWriter(loader), originals);
     }
 
     /**
      * Constructor.
      * @param writer Writer.
+     * @param originals Original methods to copy as is.
      */
-    private CustomClassWriter(final ClassesAwareWriter writer) {
-        this(new DefaultVersion().api(), writer);
+    private CustomClassWriter(
+        final ClassesAwareWriter writer, final OriginalMethods originals
+    ) {
+        this(new DefaultVersion().api(), writer, originals);
     }
 
     /**
      * Constructor.
      * @param api Java ASM API version.
      * @param writer Writer.
+     * @param originals Original methods to copy as is.
      */
-    private CustomClassWriter(final int api, final ClassesAwareWriter writer) {
+    private CustomClassWriter(
+        final int api, final ClassesAwareWriter writer, final OriginalMethods originals
+    ) {
         super(api, writer);
         this.writer = writer;
+        this.originals = originals;
+    }
+
+    /**
+     * Visits a method of the class.
+     * <p>If the method is one of the original methods with the same header, it is copied
+     * from the original class file and all the following visits of the method are
+     * ignored. The copy keeps the original maxs and frames, so it is written without
+     * any computation, even if the method was visited for frames computation.</p>
+     * @param access Access flags.
+     * @param name Method name.
+     * @param descriptor Method descriptor.
+     * @param signature Method signature.
+     * @param exceptions Method exceptions.
+     * @return Method visitor.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    @Override
+    public MethodVisitor visitMethod(
+        final int access,
+        final String name,
+        final String descriptor,
+        final String signature,
+        final String[] exceptions
+    ) {
+        final Optional<MethodNode> original = this.originals.find(
+            access, name, descriptor, signature, exceptions
+        );
+        final MethodVisitor result;
+        if (original.isPresent()) {
+            this.computing(
+                CustomClassWriter.COMPUTE_NOTHING,
+                () -> {
+                    original.get().accept(this.getDelegate());
+                    return original.get();
+                }
+            );
+            result = new Ignored(this.api);
+        } else {
+            result = super.visitMethod(access, name, descriptor, signature, exceptions);
+        }
+        return result;
     }
 
     /**
@@ -105,7 +181,7 @@ public final class CustomClassWriter extends ClassVisitor {
      * @return Method visitor.
      * @checkstyle ParameterNumberCheck (5 lines)
      */
-    @SuppressWarnings({"PMD.AvoidAccessibilityAlteration", "PMD.UseObjectForClearerAPI"})
+    @SuppressWarnings("PMD.UseObjectForClearerAPI")
     private MethodVisitor visitMethodWithoutFrames(
         final int access,
         final String name,
@@ -113,36 +189,75 @@ public final class CustomClassWriter extends ClassVisitor {
         final String signature,
         final String... exceptions
     ) {
+        return this.computing(
+            CustomClassWriter.COMPUTE_ALL_FRAMES,
+            () -> this.visitMethod(access, name, descriptor, signature, exceptions)
+        );
+    }
+
+    /**
+     * Run an action with the given computation mode of the ASM class writer.
+     * <p>The mode is read by ASM when a method writer is created, so it affects only
+     * the methods visited by the action. The previous mode is restored afterwards.</p>
+     * @param mode Value of the {@code ClassWriter.compute} field.
+     * @param action Action.
+     * @param <T> Type of the result.
+     * @return Result of the action.
+     */
+    @SuppressWarnings("PMD.AvoidAccessibilityAlteration")
+    private <T> T computing(final int mode, final Supplier<T> action) {
         final ClassVisitor delegate = this.getDelegate();
+        final Field field;
+        final int previous;
         try {
-            final Field field = ClassWriter.class.getDeclaredField("compute");
+            field = ClassWriter.class.getDeclaredField("compute");
             field.setAccessible(true);
-            final int previous = field.getInt(delegate);
-            field.setInt(delegate, 4);
-            final MethodVisitor original = this.visitMethod(
-                access, name, descriptor, signature, exceptions
-            );
-            field.setInt(delegate, previous);
-            return original;
+            previous = field.getInt(delegate);
+            field.setInt(delegate, mode);
         } catch (final NoSuchFieldException | IllegalAccessException exception) {
             throw new IllegalStateException(
                 String.format(
-                    "Can't set compute field for ASM ClassWriter '%s' and change the computation mode to COMPUTE_ALL_FRAMES",
-                    delegate
+                    "Can't set compute field for ASM ClassWriter '%s' and change the computation mode to %d",
+                    delegate,
+                    mode
                 ),
                 exception
             );
         }
+        try {
+            return action.get();
+        } finally {
+            CustomClassWriter.restore(field, delegate, previous);
+        }
+    }
+
+    /**
+     * Restore the computation mode of the ASM class writer.
+     * @param field Field {@code ClassWriter.compute}.
+     * @param delegate Class writer.
+     * @param previous Previous mode.
+     */
+    private static void restore(final Field field, final ClassVisitor delegate, final int previous) {
+        try {
+            field.setInt(delegate, previous);
+        } catch (final IllegalAccessException exception) {
+            throw new IllegalStateException(
+                String.format("Can't restore compute field for ASM ClassWriter '%s'", delegate),
+                exception
+            );
+        }
     }
 
     /**
      * Class writer that knows about additional classes loaded.
      * This class works in couple with {@link PluginStartup#init()} ()} method that sets
-     * the maven classloader as the current thread classloader.
+     * the maven classloader as the current thread classloader, which is the default
+     * class loader of the writer. The load-time agent passes the class loader that
+     * defines the class instead.
      * Originally we faced with the problem that {@link ClassWriter} uses classes from ClassLoader
      * to perform {@link MethodVisitor#visitMaxs(int, int)} method and if it can't
      * find the class it throws {@link ClassNotFoundException}. To prevent this we override
-     * {@link ClassWriter#getClassLoader()} method and return the current thread classloader that
+     * {@link ClassWriter#getClassLoader()} method and return the class loader that
      * knows about all classes that were compiled on the previous maven phases.
      * You can read more about this problem here:
      * - https://gitlab.ow2.org/asm/asm/-/issues/317918
@@ -155,25 +270,49 @@ public final class CustomClassWriter extends ClassVisitor {
     @EqualsAndHashCode(callSuper = false)
     private static class ClassesAwareWriter extends ClassWriter {
 
+        /**
+         * Class loader to find classes with.
+         */
+        private final ClassLoader loader;
+
         /**
          * Constructor.
          * Do not compute frames automatically.
+         * @param loader Class loader to find classes with.
          */
-        ClassesAwareWriter() {
-            this(0);
+        ClassesAwareWriter(final ClassLoader loader) {
+            this(0, loader);
         }
 
         /**
          * Constructor.
          * @param flags Flags. See {@link ClassWriter#COMPUTE_FRAMES} for more information.
+         * @param loader Class loader to find classes with.
          */
-        private ClassesAwareWriter(final int flags) {
+        private ClassesAwareWriter(final int flags, final ClassLoader loader) {
             super(flags);
+            this.loader = loader;
         }
 
         @Override
         public final ClassLoader getClassLoader() {
-            return Thread.currentThread().getContextClassLoader();
+            return this.loader;
+        }
+    }
+
+    /**
+     * Method visitor that ignores everything.
+     * <p>It's used for methods that are copied from the original class file.</p>
+     * @since 0.16.0
+     */
+    private static final class Ignored extends MethodVisitor {
+
+        /**
+         * Constructor.
+         * @param api Java ASM API version.
+         */
+        Ignored(final int api) {
+            super(api);
         }
     }
 }
@@ -6,12 +6,14 @@ package org.eolang.jeo.representation.bytecode;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
+import java.util.NavigableSet;
 import java.util.Optional;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.TreeSet;
+import java.util.function.IntFunction;
 
 /**
  * Data-flow analysis.
@@ -23,9 +25,9 @@ import java.util.stream.Collectors;
 public final class InstructionsFlow<T extends InstructionsFlow.Reducible<T>> {
 
     /**
-     * Method instructions.
+     * Method body.
      */
-    private final List<? extends BytecodeEntry> instructions;
+    private final CompactBody body;
 
     /**
      * Try-catch blocks.
@@ -34,27 +36,27 @@ public final class InstructionsFlow<T extends InstructionsFlow.Reducible<T>> {
 
     /**
      * Constructor.
-     * @param instr Instructions.
+     * @param body Method body.
      * @param catches Try-catch blocks.
      */
-    InstructionsFlow(
-        final List<? extends BytecodeEntry> instr, final List<BytecodeTryCatchBlock> catches
-    ) {
-        this.instructions = instr;
+    InstructionsFlow(final CompactBody body, final List<BytecodeTryCatchBlock> catches) {
+        this.body = body;
         this.blocks = new ArrayList<>(catches);
     }
 
     /**
      * Compute the maximum value for stack or variables.
      * @param initial Initial value.
-     * @param generator Function to generate the reducible element from the instruction.
+     * @param generator Function to generate the reducible element from the index of
+     *  the instruction in the body.
      * @return Maximum value.
      */
-    public Optional<T> max(final T initial, final Function<BytecodeEntry, T> generator) {
+    public Optional<T> max(final T initial, final IntFunction<T> generator) {
         final MaxValueMap<Integer, T> visited = new MaxValueMap<>();
         final Deque<Entry<T>> worklist = new ArrayDeque<>(0);
+        final Handlers handlers = new Handlers(this.body, this.blocks);
         worklist.push(new Entry<>(0, initial));
-        final int total = this.instructions.size();
+        final int total = this.body.size();
         T current;
         while (!worklist.isEmpty()) {
             final Entry<T> starting = worklist.pop();
@@ -64,32 +66,28 @@ public final class InstructionsFlow<T extends InstructionsFlow.Reducible<T>> {
                 continue;
             }
             while (index < total) {
-                final BytecodeEntry instruction = this.instructions.get(index);
-                final T updated = current.add(generator.apply(instruction));
-                if (instruction.isSwitch()) {
-                    instruction.jumps().stream().map(this::index)
-                        .forEach(ind -> worklist.push(new Entry<>(ind, updated)));
+                final T updated = current.add(generator.apply(index));
+                if (this.body.isSwitch(index)) {
+                    for (final int jump : this.body.targets(index)) {
+                        worklist.push(new Entry<>(jump, updated));
+                    }
                     visited.putIfGreater(index, updated);
                     break;
-                } else if (instruction.isIf()) {
-                    final BytecodeLabel label = instruction.jumps().get(0);
-                    final int jump = this.index(label);
-                    worklist.push(new Entry<>(jump, updated));
+                } else if (this.body.isIf(index)) {
+                    worklist.push(new Entry<>(this.body.targets(index)[0], updated));
                     final int next = index + 1;
                     worklist.push(new Entry<>(next, updated));
                     visited.putIfGreater(index, updated);
                     break;
-                } else if (instruction.isJump()) {
-                    final BytecodeLabel label = instruction.jumps().get(0);
-                    final int jump = this.index(label);
-                    worklist.push(new Entry<>(jump, updated));
+                } else if (this.body.isJump(index)) {
+                    worklist.push(new Entry<>(this.body.targets(index)[0], updated));
                     visited.putIfGreater(index, updated);
                     break;
-                } else if (instruction.isReturn() || instruction.isThrow()) {
+                } else if (this.body.isExit(index)) {
                     visited.putIfGreater(index, updated);
                     break;
                 }
-                this.suitableBlocks(index)
+                handlers.covering(index)
                     .forEach(ind -> worklist.push(new Entry<>(ind, updated.enterBlock())));
                 visited.putIfGreater(index, updated);
                 current = updated;
@@ -100,31 +98,185 @@ public final class InstructionsFlow<T extends InstructionsFlow.Reducible<T>> {
     }
 
     /**
-     * Which try-catch-blocks cover the instruction.
-     * @param instruction Instruction index.
-     * @return List of block indexes.
+     * Handlers of the try-catch blocks that cover instructions.
+     * <p>The set of covering blocks changes only at the boundaries of blocks, so
+     * the instructions are split into segments between the boundaries and the
+     * handlers are computed once per segment. The lookup for an instruction is
+     * then a single array access, whatever the number of blocks.</p>
+     * @since 0.16.0
      */
-    private List<Integer> suitableBlocks(final int instruction) {
-        return this.blocks.stream()
-            .map(BytecodeTryCatchBlock.class::cast)
-            .filter(block -> this.index(block.startLabel()) <= instruction)
-            .filter(block -> this.index(block.endLabel()) >= instruction)
-            .map(block -> this.index(block.handlerLabel()))
-            .collect(Collectors.toList());
-    }
+    private static final class Handlers {
 
-    /**
-     * Index of the label.
-     * @param label Label.
-     * @return Index.
-     */
-    private int index(final BytecodeLabel label) {
-        for (int index = 0; index < this.instructions.size(); ++index) {
-            if (this.instructions.get(index).equals(label)) {
-                return index;
+        /**
+         * Segment of each instruction.
+         */
+        private final int[] segments;
+
+        /**
+         * Handler indexes of each segment, in the order of the blocks.
+         */
+        private final List<List<Integer>> handlers;
+
+        /**
+         * Constructor.
+         * @param body Method body.
+         * @param blocks Try-catch blocks.
+         */
+        Handlers(final CompactBody body, final List<BytecodeTryCatchBlock> blocks) {
+            this(Handlers.ranges(blocks, body), body.size());
+        }
+
+        /**
+         * Constructor.
+         * @param ranges Start, end and handler of each block.
+         * @param total Number of instructions.
+         */
+        private Handlers(final int[][] ranges, final int total) {
+            this(Handlers.boundaries(ranges, total), ranges);
+        }
+
+        /**
+         * Constructor.
+         * @param boundaries Instructions where the set of covering blocks may change.
+         * @param ranges Start, end and handler of each block.
+         */
+        private Handlers(final boolean[] boundaries, final int[][] ranges) {
+            this(Handlers.segments(boundaries), Handlers.handlers(boundaries, ranges));
+        }
+
+        /**
+         * Constructor.
+         * @param segments Segment of each instruction.
+         * @param handlers Handler indexes of each segment.
+         */
+        private Handlers(final int[] segments, final List<List<Integer>> handlers) {
+            this.segments = segments;
+            this.handlers = handlers;
+        }
+
+        /**
+         * Which try-catch-blocks cover the instruction.
+         * @param instruction Instruction index.
+         * @return Indexes of the handlers.
+         */
+        List<Integer> covering(final int instruction) {
+            return this.handlers.get(this.segments[instruction]);
+        }
+
+        /**
+         * Start, end and handler positions of the blocks.
+         * @param blocks Try-catch blocks.
+         * @param body Method body with positions of the labels.
+         * @return Positions of each block.
+         */
+        private static int[][] ranges(
+            final List<BytecodeTryCatchBlock> blocks, final CompactBody body
+        ) {
+            final int[][] result = new int[blocks.size()][];
+            for (int idx = 0; idx < result.length; ++idx) {
+                final BytecodeTryCatchBlock block = blocks.get(idx);
+                result[idx] = new int[]{
+                    body.position(block.startLabel()),
+                    body.position(block.endLabel()),
+                    body.position(block.handlerLabel()),
+                };
+            }
+            return result;
+        }
+
+        /**
+         * Instructions where blocks start or where blocks have just ended.
+         * @param ranges Positions of the blocks.
+         * @param total Number of instructions.
+         * @return Flag for each instruction, the first one is always a boundary.
+         */
+        private static boolean[] boundaries(final int[][] ranges, final int total) {
+            final boolean[] result = new boolean[total];
+            if (total > 0) {
+                result[0] = true;
+            }
+            for (final int[] range : ranges) {
+                if (range[0] < total) {
+                    result[range[0]] = true;
+                }
+                if (range[1] + 1 < total) {
+                    result[range[1] + 1] = true;
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Segment of each instruction.
+         * @param boundaries Boundaries of segments.
+         * @return Segment numbers.
+         */
+        private static int[] segments(final boolean[] boundaries) {
+            final int[] result = new int[boundaries.length];
+            int segment = -1;
+            for (int index = 0; index < boundaries.length; ++index) {
+                if (boundaries[index]) {
+                    ++segment;
+                }
+                result[index] = segment;
+            }
+            return result;
+        }
+
+        /**
+         * Handlers of each segment.
+         * <p>The blocks are swept once in the order of their start and end
+         * events, keeping the set of the blocks open at the current boundary,
+         * so the time doesn't depend on the product of blocks and segments.</p>
+         * @param boundaries Boundaries of segments.
+         * @param ranges Positions of the blocks.
+         * @return Handler indexes of each segment.
+         */
+        private static List<List<Integer>> handlers(
+            final boolean[] boundaries, final int[][] ranges
+        ) {
+            final int[][] events = Handlers.events(ranges);
+            final NavigableSet<Integer> open = new TreeSet<>();
+            final List<List<Integer>> result = new ArrayList<>(0);
+            int next = 0;
+            for (int index = 0; index < boundaries.length; ++index) {
+                if (boundaries[index]) {
+                    while (next < events.length && events[next][0] <= index) {
+                        if (events[next][2] > 0) {
+                            open.add(events[next][1]);
+                        } else {
+                            open.remove(events[next][1]);
+                        }
+                        ++next;
+                    }
+                    final List<Integer> covering = new ArrayList<>(open.size());
+                    for (final int block : open) {
+                        covering.add(ranges[block][2]);
+                    }
+                    result.add(covering);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Start and end events of the blocks sorted by positions.
+         * <p>A block opens at its start and closes right after its end. Blocks
+         * that end before they start don't cover anything and have no events.</p>
+         * @param ranges Positions of the blocks.
+         * @return Position, block index and +1 to open or -1 to close for each event.
+         */
+        private static int[][] events(final int[][] ranges) {
+            final List<int[]> result = new ArrayList<>(ranges.length * 2);
+            for (int block = 0; block < ranges.length; ++block) {
+                if (ranges[block][0] <= ranges[block][1]) {
+                    result.add(new int[]{ranges[block][0], block, 1});
+                    result.add(new int[]{ranges[block][1] + 1, block, -1});
+                }
             }
+            result.sort(Comparator.comparingInt(event -> event[0]));
+            return result.toArray(new int[0][]);
         }
-        throw new IllegalStateException(String.format("Label %s not found", label));
     }
 
     /**
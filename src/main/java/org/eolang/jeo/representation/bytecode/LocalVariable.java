@@ -63,8 +63,8 @@ public final class LocalVariable implements BytecodeAttribute {
             variable.name,
             variable.desc,
             variable.signature,
-            new BytecodeLabel(variable.start.getLabel().toString()),
-            new BytecodeLabel(variable.end.getLabel().toString())
+            new BytecodeLabel(variable.start),
+            new BytecodeLabel(variable.end)
         );
     }
 
@@ -40,9 +40,9 @@ final class MaxLocals {
     private final BytecodeMethodProperties props;
 
     /**
-     * Method instructions.
+     * Method body.
      */
-    private final List<? extends BytecodeEntry> instructions;
+    private final CompactBody body;
 
     /**
      * Try-catch blocks.
@@ -52,16 +52,16 @@ final class MaxLocals {
     /**
      * Constructor.
      * @param props Method properties.
-     * @param instructions Instructions.
+     * @param body Method body.
      * @param blocks Try-catch blocks.
      */
     MaxLocals(
         final BytecodeMethodProperties props,
-        final List<? extends BytecodeEntry> instructions,
+        final CompactBody body,
         final List<BytecodeTryCatchBlock> blocks
     ) {
         this.props = props;
-        this.instructions = instructions;
+        this.body = body;
         this.blocks = blocks;
     }
 
@@ -70,14 +70,15 @@ final class MaxLocals {
      * @return Maximum number of local variables.
      */
     public int value() {
-        return new InstructionsFlow<Variables>(this.instructions, this.blocks)
+        return new InstructionsFlow<Variables>(this.body, this.blocks)
             .max(
                 this.initial(),
-                instr -> {
+                index -> {
                     final Variables result;
-                    if (instr instanceof BytecodeInstruction
-                        && ((BytecodeInstruction) instr).isVarInstruction()) {
-                        result = new Variables((BytecodeInstruction) instr);
+                    if (this.body.isVarInstruction(index)) {
+                        result = new Variables(
+                            this.body.varIndex(index), this.body.varSize(index)
+                        );
                     } else {
                         result = new Variables();
                     }
@@ -135,14 +136,6 @@ final class MaxLocals {
             this(vars.all);
         }
 
-        /**
-         * Constructor.
-         * @param instr Bytecode instruction.
-         */
-        Variables(final BytecodeInstruction instr) {
-            this(instr.varIndex(), instr.varSize());
-        }
-
         /**
          * Constructor.
          * @param index Instruction index.
@@ -165,12 +158,27 @@ final class MaxLocals {
             return Integer.compare(this.size(), other.size());
         }
 
+        /**
+         * Add variables.
+         * <p>Most instructions don't touch variables, or touch the ones that are
+         * already known, so the variables are copied only when they change.
+         * Otherwise, data-flow analysis of a long method would copy all the
+         * variables on every instruction.</p>
+         * @param other Variables to add.
+         * @return Variables.
+         */
         @Override
         public Variables add(final Variables other) {
-            final Map<Integer, Integer> variables = new HashMap<>();
-            variables.putAll(this.all);
-            variables.putAll(other.all);
-            return new Variables(variables);
+            final Variables result;
+            if (this.all.entrySet().containsAll(other.all.entrySet())) {
+                result = this;
+            } else {
+                final Map<Integer, Integer> variables = new HashMap<>();
+                variables.putAll(this.all);
+                variables.putAll(other.all);
+                result = new Variables(variables);
+            }
+            return result;
         }
 
         @Override
@@ -16,9 +16,9 @@ import lombok.ToString;
 final class MaxStack {
 
     /**
-     * Method instructions.
+     * Method body.
      */
-    private final List<? extends BytecodeEntry> instructions;
+    private final CompactBody body;
 
     /**
      * Try-catch blocks.
@@ -27,24 +27,25 @@ final class MaxStack {
 
     /**
      * Compute the maximum stack size.
-     * @param instructions Instructions.
+     * @param body Method body.
      * @param catches Try-catch blocks.
      */
-    MaxStack(
-        final List<? extends BytecodeEntry> instructions,
-        final List<BytecodeTryCatchBlock> catches
-    ) {
-        this.instructions = instructions;
+    MaxStack(final CompactBody body, final List<BytecodeTryCatchBlock> catches) {
+        this.body = body;
         this.blocks = catches;
     }
 
     /**
      * Compute the maximum stack size.
+     * <p>Impacts of all the instructions are computed once, so the data-flow
+     * analysis reads them from an int array however many times it visits
+     * an instruction.</p>
      * @return Maximum stack size.
      */
     public int value() {
-        return new InstructionsFlow<Stack>(this.instructions, this.blocks)
-            .max(new Stack(0), Stack::new)
+        final int[] impacts = this.body.impacts();
+        return new InstructionsFlow<Stack>(this.body, this.blocks)
+            .max(new Stack(0), index -> new Stack(impacts[index]))
             .orElse(new Stack(0))
             .integer();
     }
@@ -62,37 +63,12 @@ final class MaxStack {
          */
         private final int value;
 
-        /**
-         * Where this stack value comes from.
-         * This field is needed for debug purposes only.
-         * If it creates performance issues, it can be removed.
-         */
-        private final String source;
-
         /**
          * Constructor.
          * @param value Stack value.
          */
         Stack(final int value) {
-            this(value, "");
-        }
-
-        /**
-         * Constructor.
-         * @param instruction Bytecode instruction.
-         */
-        Stack(final BytecodeEntry instruction) {
-            this(instruction.impact());
-        }
-
-        /**
-         * Constructor.
-         * @param value Stack value.
-         * @param source Source of the value.
-         */
-        private Stack(final int value, final String source) {
             this.value = value;
-            this.source = source;
         }
 
         @Override
@@ -102,12 +78,12 @@ final class MaxStack {
 
         @Override
         public Stack add(final Stack other) {
-            return new Stack(this.value + other.value, other.source);
+            return new Stack(this.value + other.value);
         }
 
         @Override
         public Stack enterBlock() {
-            return new Stack(1, this.source);
+            return new Stack(1);
         }
 
         /**
@@ -0,0 +1,232 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation.bytecode;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+import org.eolang.jeo.representation.DefaultVersion;
+import org.eolang.jeo.representation.MethodName;
+import org.eolang.jeo.representation.NumberedName;
+import org.eolang.jeo.representation.PrefixedName;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.tree.MethodNode;
+
+/**
+ * Methods of the original class file that are copied as is.
+ *
+ * <p>When a transformation touches only a few methods of a class, there is no need
+ * to rebuild all the other methods from XMIR. Instead, we read them from the original
+ * class file and copy them into the new class together with their original
+ * max stack, max locals and frames. Methods are selected by the names of
+ * their XMIR objects, which are computed in the same way as during disassembling.</p>
+ * @since 0.16.0
+ */
+public final class OriginalMethods {
+
+    /**
+     * Original class methods by name and descriptor.
+     */
+    private final Unchecked<Map<String, MethodNode>> nodes;
+
+    /**
+     * Constructor without any methods to copy.
+     */
+    public OriginalMethods() {
+        this(new byte[0], Collections.emptySet());
+    }
+
+    /**
+     * Constructor.
+     * @param bytecode Original class file.
+     * @param names Names of XMIR method objects to copy.
+     */
+    public OriginalMethods(final byte[] bytecode, final Collection<String> names) {
+        this(
+            new Unchecked<>(
+                new Synced<>(new Sticky<>(() -> OriginalMethods.read(bytecode, names)))
+            )
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param nodes Original class methods by name and descriptor.
+     */
+    private OriginalMethods(final Unchecked<Map<String, MethodNode>> nodes) {
+        this.nodes = nodes;
+    }
+
+    /**
+     * Number of methods to copy.
+     * @return Number of methods.
+     */
+    public int size() {
+        return this.nodes.value().size();
+    }
+
+    /**
+     * Find the original method.
+     * <p>The method is copied only if its whole header in XMIR is the same as in
+     * the original class: access, name, descriptor, signature and exceptions.
+     * The body of such a method is skipped while XMIR is parsed, so a method with
+     * the same name and descriptor but another header can't be written at all.</p>
+     * @param access Access flags.
+     * @param name Method name.
+     * @param descriptor Method descriptor.
+     * @param signature Method signature.
+     * @param exceptions Method exceptions.
+     * @return Original method if it should be copied.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    @SuppressWarnings("PMD.UseObjectForClearerAPI")
+    Optional<MethodNode> find(
+        final int access,
+        final String name,
+        final String descriptor,
+        final String signature,
+        final String... exceptions
+    ) {
+        final Optional<MethodNode> result = Optional.ofNullable(
+            this.nodes.value().get(OriginalMethods.key(name, descriptor))
+        );
+        if (result.isPresent()
+            && !OriginalMethods.same(result.get(), access, signature, exceptions)) {
+            throw new IllegalStateException(
+                String.format(
+                    "Method %s%s is marked as unchanged, but its header differs from the original one: access %d, signature '%s', exceptions %s",
+                    name,
+                    descriptor,
+                    access,
+                    signature,
+                    Arrays.toString(exceptions)
+                )
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Whether the original method has the same header.
+     * @param node Original method.
+     * @param access Access flags.
+     * @param signature Method signature.
+     * @param exceptions Method exceptions.
+     * @return True if access, signature and exceptions are the same.
+     */
+    private static boolean same(
+        final MethodNode node,
+        final int access,
+        final String signature,
+        final String... exceptions
+    ) {
+        final List<String> all;
+        if (exceptions == null) {
+            all = Collections.emptyList();
+        } else {
+            all = Arrays.asList(exceptions);
+        }
+        return node.access == access
+            && Objects.equals(node.signature, signature)
+            && node.exceptions.equals(all);
+    }
+
+    /**
+     * Read original methods.
+     * @param bytecode Original class file.
+     * @param names Names of XMIR method objects to copy.
+     * @return Methods by name and descriptor.
+     */
+    private static Map<String, MethodNode> read(
+        final byte[] bytecode, final Collection<String> names
+    ) {
+        final Map<String, MethodNode> result = new HashMap<>(names.size());
+        if (!names.isEmpty()) {
+            new ClassReader(bytecode).accept(new Collector(names, result), 0);
+        }
+        return result;
+    }
+
+    /**
+     * Key of a method.
+     * @param name Method name.
+     * @param descriptor Method descriptor.
+     * @return Key.
+     */
+    private static String key(final String name, final String descriptor) {
+        return String.format("%s%s", name, descriptor);
+    }
+
+    /**
+     * Class visitor that collects required methods.
+     * @since 0.16.0
+     */
+    private static final class Collector extends ClassVisitor {
+
+        /**
+         * Names of XMIR method objects to collect.
+         */
+        private final Collection<String> names;
+
+        /**
+         * Collected methods.
+         */
+        private final Map<String, MethodNode> methods;
+
+        /**
+         * Overloads counter.
+         * <p>Overloaded methods get numbered names in XMIR, like 'foo' and 'foo-2'.</p>
+         */
+        private final Map<String, Integer> overloads;
+
+        /**
+         * Constructor.
+         * @param names Names of XMIR method objects to collect.
+         * @param methods Where to put collected methods.
+         */
+        Collector(final Collection<String> names, final Map<String, MethodNode> methods) {
+            super(new DefaultVersion().api());
+            this.names = names;
+            this.methods = methods;
+            this.overloads = new HashMap<>(0);
+        }
+
+        @Override
+        public MethodVisitor visitMethod(
+            final int access,
+            final String name,
+            final String descriptor,
+            final String signature,
+            final String[] exceptions
+        ) {
+            final int number = this.overloads.merge(name, 1, Integer::sum);
+            final String xmir = new PrefixedName(
+                "jm$",
+                new NumberedName(number, new MethodName(name).xmir()).toString()
+            ).encode();
+            final MethodVisitor result;
+            if (this.names.contains(xmir)) {
+                final MethodNode node = new MethodNode(
+                    this.api, access, name, descriptor, signature, exceptions
+                );
+                this.methods.put(OriginalMethods.key(name, descriptor), node);
+                result = node;
+            } else {
+                result = super.visitMethod(access, name, descriptor, signature, exceptions);
+            }
+            return result;
+        }
+    }
+}
@@ -5,54 +5,25 @@
 package org.eolang.jeo.representation.directives;
 
 import java.util.Iterator;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.function.Supplier;
 import org.xembly.Directive;
 import org.xembly.Directives;
 
 /**
  * Directives for a comment.
+ * <p>The text of the comment is built only if comments are enabled by the
+ * {@link Format}, so disabled comments cost nothing. The text is escaped in a
+ * single pass: unsafe characters are replaced by entities and characters that
+ * are discouraged in XML are removed, both by a table lookup.</p>
  * @since 0.6
  */
 public final class DirectivesComment implements Iterable<Directive> {
 
     /**
-     * Unsafe characters.
+     * Escapes of ASCII and C1 control characters.
+     * <p>{@code null} keeps the character as is, an empty string removes it.</p>
      */
-    private static final Pattern UNSAFE_CHARS = Pattern.compile("[&<>'-]");
-
-    /**
-     * Chars that are discouraged in XML.
-     * By this pattern, we remove all discouraged characters from the comment.
-     */
-    private static final Pattern DISCOURAGED = Pattern.compile(
-        String.join(
-            "|",
-            "[\\x00-\\x08]",
-            "[\\x{1}-\\x{8}]",
-            "[\\x{B}-\\x{C}]",
-            "[\\x{E}-\\x{1F}]",
-            "[\\x{7F}-\\x{84}]",
-            "[\\x{86}-\\x{9F}]",
-            "[\\x{FDD0}-\\x{FDDF}]",
-            "[\\x{1FFFE}-\\x{1FFFF}]",
-            "[\\x{2FFFE}-\\x{2FFFF}]",
-            "[\\x{3FFFE}-\\x{3FFFF}]",
-            "[\\x{4FFFE}-\\x{4FFFF}]",
-            "[\\x{5FFFE}-\\x{5FFFF}]",
-            "[\\x{6FFFE}-\\x{6FFFF}]",
-            "[\\x{7FFFE}-\\x{7FFFF}]",
-            "[\\x{8FFFE}-\\x{8FFFF}]",
-            "[\\x{9FFFE}-\\x{9FFFF}]",
-            "[\\x{AFFFE}-\\x{AFFFF}]",
-            "[\\x{BFFFE}-\\x{BFFFF}]",
-            "[\\x{CFFFE}-\\x{CFFFF}]",
-            "[\\x{DFFFE}-\\x{DFFFF}]",
-            "[\\x{EFFFE}-\\x{EFFFF}]",
-            "[\\x{FFFFE}-\\x{FFFFF}]",
-            "[\\x{10FFFE}-\\x{10FFFF}]"
-        )
-    );
+    private static final String[] ESCAPES = DirectivesComment.escapes();
 
     /**
      * Format of the directives.
@@ -62,7 +33,7 @@ public final class DirectivesComment implements Iterable<Directive> {
     /**
      * Comment.
      */
-    private final String comment;
+    private final Supplier<String> comment;
 
     /**
      * Constructor.
@@ -70,6 +41,15 @@ public final class DirectivesComment implements Iterable<Directive> {
      * @param comment Comment.
      */
     DirectivesComment(final Format format, final String comment) {
+        this(format, () -> comment);
+    }
+
+    /**
+     * Constructor.
+     * @param format Format of the directives.
+     * @param comment Comment, built only if comments are enabled.
+     */
+    DirectivesComment(final Format format, final Supplier<String> comment) {
         this.format = format;
         this.comment = comment;
     }
@@ -77,49 +57,79 @@ public final class DirectivesComment implements Iterable<Directive> {
     @Override
     public Iterator<Directive> iterator() {
         final Iterator<Directive> result;
-        if (this.comment.isEmpty() || !this.format.comments()) {
-            result = new Directives().iterator();
+        if (this.format.comments()) {
+            final String text = this.comment.get();
+            if (text.isEmpty()) {
+                result = new Directives().iterator();
+            } else {
+                result = new Directives().comment(
+                    DirectivesComment.escaped(text)
+                ).iterator();
+            }
         } else {
-            result = new Directives().comment(
-                String.format(" %s ", this.escaped())
-            ).iterator();
+            result = new Directives().iterator();
         }
         return result;
     }
 
     /**
-     * Escapes unsafe characters.
-     * @return Escaped comment.
+     * Escapes unsafe characters and removes the discouraged ones.
+     * @param text Comment text.
+     * @return Escaped comment with a space on both sides.
      */
-    private String escaped() {
-        final Matcher matcher = DirectivesComment.UNSAFE_CHARS.matcher(this.comment);
-        final StringBuffer result = new StringBuffer(0);
-        while (matcher.find()) {
-            final String replacement;
-            switch (matcher.group()) {
-                case "&":
-                    replacement = "&amp;";
-                    break;
-                case "<":
-                    replacement = "&lt;";
-                    break;
-                case ">":
-                    replacement = "&gt;";
-                    break;
-                case "'":
-                    replacement = "&apos;";
-                    break;
-                case "-":
-                    replacement = "&#45;";
-                    break;
-                default:
-                    throw new IllegalStateException(
-                        String.format("Unexpected value: %s", matcher.group())
-                    );
+    private static String escaped(final String text) {
+        final StringBuilder result = new StringBuilder(text.length() + 2).append(' ');
+        int index = 0;
+        while (index < text.length()) {
+            final int point = text.codePointAt(index);
+            if (point < DirectivesComment.ESCAPES.length) {
+                final String escape = DirectivesComment.ESCAPES[point];
+                if (escape == null) {
+                    result.append((char) point);
+                } else {
+                    result.append(escape);
+                }
+            } else if (!DirectivesComment.discouraged(point)) {
+                result.appendCodePoint(point);
             }
-            matcher.appendReplacement(result, replacement);
+            index += Character.charCount(point);
+        }
+        return result.append(' ').toString();
+    }
+
+    /**
+     * Is the character beyond the table discouraged in XML.
+     * @param point Code point.
+     * @return True if it should be removed.
+     */
+    private static boolean discouraged(final int point) {
+        return point >= 0xFDD0 && point <= 0xFDDF
+            || point >= 0x1FFFE && (point & 0xFFFE) == 0xFFFE;
+    }
+
+    /**
+     * Table of escapes.
+     * @return Escapes indexed by characters.
+     */
+    private static String[] escapes() {
+        final String[] table = new String[0xA0];
+        for (int chr = 0x00; chr <= 0x08; ++chr) {
+            table[chr] = "";
+        }
+        table[0x0B] = "";
+        table[0x0C] = "";
+        for (int chr = 0x0E; chr <= 0x1F; ++chr) {
+            table[chr] = "";
+        }
+        for (int chr = 0x7F; chr < table.length; ++chr) {
+            table[chr] = "";
         }
-        matcher.appendTail(result);
-        return DirectivesComment.DISCOURAGED.matcher(result).replaceAll("");
+        table[0x85] = null;
+        table['&'] = "&amp;";
+        table['<'] = "&lt;";
+        table['>'] = "&gt;";
+        table['\''] = "&apos;";
+        table['-'] = "&#45;";
+        return table;
     }
 }
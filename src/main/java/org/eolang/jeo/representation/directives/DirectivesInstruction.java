@@ -67,7 +67,7 @@ public final class DirectivesInstruction implements Iterable<Directive> {
             this.base(),
             new NumName("i", this.index).toString(),
             Stream.concat(
-                Stream.of(new DirectivesComment(this.format, this.comment())),
+                Stream.of(new DirectivesComment(this.format, this::comment)),
                 Arrays.stream(this.arguments)
                     .map(a -> new DirectivesOperand(counter.getAndIncrement(), this.format, a))
             ).map(Directives::new).collect(Collectors.toList())
@@ -86,16 +86,20 @@ public final class DirectivesInstruction implements Iterable<Directive> {
      * Instruction comment.
      * Later this message will be converted to the XML comment, like:
      * <!-- INVOKESPECIAL 183, "java/lang/Object", "<init>", "()V" -->
+     * It is built only if comments are enabled.
      * @return String comment.
      */
     private String comment() {
-        return String.format(
-            "#%d:%s(%s)",
-            this.opcode,
-            new OpcodeName(this.opcode).simplified(),
-            Arrays.stream(this.arguments)
-                .map(Object::toString)
-                .collect(Collectors.joining(", "))
-        );
+        final StringBuilder result = new StringBuilder(32)
+            .append('#').append(this.opcode).append(':')
+            .append(new OpcodeName(this.opcode).simplified())
+            .append('(');
+        for (int idx = 0; idx < this.arguments.length; ++idx) {
+            if (idx > 0) {
+                result.append(", ");
+            }
+            result.append(this.arguments[idx]);
+        }
+        return result.append(')').toString();
     }
 }
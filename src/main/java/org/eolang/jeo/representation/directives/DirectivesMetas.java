@@ -22,17 +22,37 @@ public final class DirectivesMetas implements Iterable<Directive> {
      */
     private static final String ABSENT_PACKAGE = new AbsentPackage().toString();
 
+    /**
+     * Disassembling mode which skips method bodies.
+     */
+    public static final String STRUCTURE = "structure";
+
     /**
      * Class name.
      */
     private final ClassName name;
 
+    /**
+     * Format of the directives.
+     */
+    private final Format format;
+
     /**
      * Constructor.
      * @param classname Class name.
      */
     public DirectivesMetas(final ClassName classname) {
+        this(classname, new Format());
+    }
+
+    /**
+     * Constructor.
+     * @param classname Class name.
+     * @param format Format of the directives.
+     */
+    public DirectivesMetas(final ClassName classname, final Format format) {
         this.name = classname;
+        this.format = format;
     }
 
     @Override
@@ -47,9 +67,23 @@ public final class DirectivesMetas implements Iterable<Directive> {
         }
         result.append(DirectivesMetas.spdx());
         result.append(DirectivesMetas.version());
+        if (DirectivesMetas.bodiless(this.format)) {
+            result.append(DirectivesMetas.mode());
+        }
         return result.up().iterator();
     }
 
+    /**
+     * Whether the format skips method bodies.
+     * <p>Such XMIR keeps only the structure of a class and is marked with the
+     * 'mode' meta, so it won't be assembled into a class without code.</p>
+     * @param format Format of the directives.
+     * @return True if method bodies are skipped.
+     */
+    private static boolean bodiless(final Format format) {
+        return DirectivesMetas.STRUCTURE.equals(format.mode());
+    }
+
     /**
      * Home directives.
      * @return Directives for home.
@@ -90,6 +124,19 @@ public final class DirectivesMetas implements Iterable<Directive> {
             .up();
     }
 
+    /**
+     * Mode directives.
+     * @return Mode directives.
+     */
+    private static Directives mode() {
+        return new Directives()
+            .add("meta")
+            .add("head").set("mode").up()
+            .add("tail").set(DirectivesMetas.STRUCTURE).up()
+            .add("part").set(DirectivesMetas.STRUCTURE).up()
+            .up();
+    }
+
     /**
      * SPDX directives.
      * Here I intentionally use the array of characters to avoid the 'reuse' check warning.
@@ -86,15 +86,19 @@ public final class DirectivesObject implements Iterable<Directive> {
 
     @Override
     public Iterator<Directive> iterator() {
-        final String now = ZonedDateTime.now(ZoneOffset.UTC)
-            .format(DateTimeFormatter.ISO_INSTANT);
         final Directives directives = new Directives()
             .add("object")
             .attr("xmlns:xsi", "http://www.w3.org/2001/XMLSchema-instance")
             .attr("version", Manifests.read("JEO-Version"))
             .attr("revision", Manifests.read("JEO-Revision"))
-            .attr("dob", Manifests.read("JEO-Dob"))
-            .attr("time", now)
+            .attr("dob", Manifests.read("JEO-Dob"));
+        if (!this.format.reproducible()) {
+            directives.attr(
+                "time",
+                ZonedDateTime.now(ZoneOffset.UTC).format(DateTimeFormatter.ISO_INSTANT)
+            );
+        }
+        directives
             .attr("author", "jeo-maven-plugin")
             .attr("xsi:noNamespaceSchemaLocation", "https://www.eolang.org/xsd/XMIR-0.58.6.xsd");
         final String listing = this.format.listing();
@@ -0,0 +1,51 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation.directives;
+
+import java.util.Iterator;
+import org.xembly.Directive;
+
+/**
+ * Opaque method body directives.
+ * @since 0.16.0
+ */
+public final class DirectivesOpaqueMethod implements Iterable<Directive> {
+
+    /**
+     * Format of the directives.
+     */
+    private final Format format;
+
+    /**
+     * Index of the attribute.
+     */
+    private final int index;
+
+    /**
+     * Class file with the single method.
+     */
+    private final byte[] blob;
+
+    /**
+     * Constructor.
+     * @param format Format of the directives.
+     * @param index Index of the attribute.
+     * @param blob Class file with the single method.
+     */
+    public DirectivesOpaqueMethod(final Format format, final int index, final byte[] blob) {
+        this.format = format;
+        this.index = index;
+        this.blob = blob.clone();
+    }
+
+    @Override
+    public Iterator<Directive> iterator() {
+        return new DirectivesJeoObject(
+            "opaque-method",
+            String.format("a%d", this.index),
+            new DirectivesValue(this.format, "blob", this.blob)
+        ).iterator();
+    }
+}
@@ -86,23 +86,23 @@ public final class DirectivesPlainAnnotationValue implements Iterable<Directive>
         };
         if (Arrays.stream(iterable).anyMatch(iter -> iter.equals(this.value.getClass()))) {
             if (this.value.getClass().equals(int[].class)) {
-                res = new DirectivesValues(this.format, "", (int[]) this.value);
+                res = new DirectivesValues(2, this.format, (int[]) this.value);
             } else if (this.value.getClass().equals(long[].class)) {
-                res = new DirectivesValues(this.format, "", (long[]) this.value);
+                res = new DirectivesValues(2, this.format, (long[]) this.value);
             } else if (this.value.getClass().equals(float[].class)) {
-                res = new DirectivesValues(this.format, "", (float[]) this.value);
+                res = new DirectivesValues(2, this.format, (float[]) this.value);
             } else if (this.value.getClass().equals(double[].class)) {
-                res = new DirectivesValues(this.format, "", (double[]) this.value);
+                res = new DirectivesValues(2, this.format, (double[]) this.value);
             } else if (this.value.getClass().equals(boolean[].class)) {
-                res = new DirectivesValues(this.format, "", (boolean[]) this.value);
+                res = new DirectivesValues(2, this.format, (boolean[]) this.value);
             } else if (this.value.getClass().equals(char[].class)) {
-                res = new DirectivesValues(this.format, "", (char[]) this.value);
+                res = new DirectivesValues(2, this.format, (char[]) this.value);
             } else if (this.value.getClass().equals(byte[].class)) {
-                res = new DirectivesValues(this.format, "", (byte[]) this.value);
+                res = new DirectivesValues(2, this.format, (byte[]) this.value);
             } else if (this.value.getClass().equals(short[].class)) {
-                res = new DirectivesValues(this.format, "", (short[]) this.value);
+                res = new DirectivesValues(2, this.format, (short[]) this.value);
             } else {
-                res = new DirectivesValues(this.format, "", (Object[]) this.value);
+                res = new DirectivesValues(2, this.format, (Object[]) this.value);
             }
         } else {
             res = new DirectivesOperand(2, this.format, this.value);
@@ -254,7 +254,7 @@ public final class DirectivesValue implements Iterable<Directive> {
             base,
             this.name,
             this.as,
-            new DirectivesComment(this.format, this.comment()),
+            new DirectivesComment(this.format, this::comment),
             new DirectivesBytes(this.hex(codec), "", "α0")
         );
     }
@@ -269,7 +269,7 @@ public final class DirectivesValue implements Iterable<Directive> {
         return new DirectivesJeoObject(
             base,
             this.name,
-            new DirectivesComment(this.format, this.comment()),
+            new DirectivesComment(this.format, this::comment),
             new DirectivesBytes(this.hex(codec), new NumName("n", 0).toString())
         );
     }
@@ -285,7 +285,7 @@ public final class DirectivesValue implements Iterable<Directive> {
         return new DirectivesJeoObject(
             base,
             this.name,
-            new DirectivesComment(this.format, this.comment()),
+            new DirectivesComment(this.format, this::comment),
             new DirectivesBytes(this.hex(codec), new NumName("j", 0).toString())
         );
     }
@@ -302,7 +302,7 @@ public final class DirectivesValue implements Iterable<Directive> {
             base,
             this.name,
             this.as,
-            new Directives(new DirectivesComment(this.format, this.comment())),
+            new Directives(new DirectivesComment(this.format, this::comment)),
             new Directives(new DirectivesNumber(new NumName("n", 0).toString(), this.hex(codec)))
         );
     }
@@ -6,10 +6,7 @@ package org.eolang.jeo.representation.directives;
 
 import java.util.Arrays;
 import java.util.Iterator;
-import java.util.Locale;
-import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import org.eolang.jeo.representation.bytecode.BytecodeEntry;
 import org.eolang.jeo.representation.bytecode.BytecodeLabel;
@@ -24,11 +21,6 @@ import org.xembly.Directive;
  */
 public final class DirectivesValues implements Iterable<Directive> {
 
-    /**
-     * Pattern to remove all non-digits from the beginning of a string.
-     */
-    private static final Pattern DIGITS = Pattern.compile("^[0-9]");
-
     /**
      * The format of the directives.
      */
@@ -44,10 +36,24 @@ public final class DirectivesValues implements Iterable<Directive> {
      */
     private final Object[] values;
 
+    /**
+     * Constructor.
+     * <p>The group is named by its position among the values of its object,
+     * like {@link DirectivesValue} is.</p>
+     * @param index Position of the group among the values of its object.
+     * @param format The format of the directives.
+     * @param vals Values themselves.
+     * @param <T> Values type.
+     */
+    @SafeVarargs
+    public <T> DirectivesValues(final int index, final Format format, final T... vals) {
+        this(format, new NumName("v", index).toString(), vals);
+    }
+
     /**
      * Constructor.
      * @param format The format of the directives.
-     * @param name Group of values name.
+     * @param name Group of values name, empty to name it as the first value.
      * @param vals Values themselves.
      * @param <T> Values type.
      */
@@ -88,25 +94,18 @@ public final class DirectivesValues implements Iterable<Directive> {
 
     /**
      * Name of the group of values.
+     * <p>An unnamed group is named by its position, as the first value of
+     * its object. Names derived from the values themselves, like hash codes,
+     * may collide for different values.</p>
      * @return Name of the group of values.
      */
     private String nonEmptyName() {
         final String result;
         if (this.name.isEmpty()) {
-            result = DirectivesValues.randomName();
+            result = new NumName("v", 0).toString();
         } else {
             result = this.name;
         }
         return result;
     }
-
-    /**
-     * Generate random name.
-     * @return Random name.
-     */
-    private static String randomName() {
-        return DirectivesValues.DIGITS.matcher(
-            UUID.randomUUID().toString().toLowerCase(Locale.getDefault())
-        ).replaceAll("a");
-    }
 }
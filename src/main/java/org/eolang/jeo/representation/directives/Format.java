@@ -7,6 +7,7 @@ package org.eolang.jeo.representation.directives;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -57,6 +58,41 @@ public final class Format {
     @SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
     public static final String MODE = "mode";
 
+    /**
+     * Compress the output with GZIP.
+     * Expected to be a boolean value.
+     */
+    @SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
+    public static final String COMPRESSED = "compressed";
+
+    /**
+     * Record per-method fingerprints in the output.
+     * Expected to be a boolean value.
+     */
+    @SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
+    public static final String FINGERPRINTS = "fingerprints";
+
+    /**
+     * Write the listing into a separate side-car file instead of XMIR.
+     * Expected to be a boolean value.
+     */
+    public static final String SIDECAR_LISTING = "sidecar_listing";
+
+    /**
+     * Produce reproducible output without timestamps.
+     * Expected to be a boolean value.
+     */
+    public static final String REPRODUCIBLE = "reproducible";
+
+    /**
+     * Methods to disassemble into instructions.
+     * Expected to be a string with comma-separated patterns,
+     * see {@link org.eolang.jeo.representation.asm.SelectedMethods}.
+     * Bodies of all the other methods are kept as opaque blobs.
+     * Empty string means all the methods.
+     */
+    public static final String METHODS = "methods";
+
     /**
      * All properties of the format.
      */
@@ -135,6 +171,51 @@ public final class Format {
         return this.string(Format.MODE);
     }
 
+    /**
+     * Should the output be compressed with GZIP.
+     * @return True if the output is compressed, false otherwise.
+     */
+    public boolean compressed() {
+        return this.bool(Format.COMPRESSED);
+    }
+
+    /**
+     * Should per-method fingerprints be recorded in the output.
+     * @return True if fingerprints are recorded, false otherwise.
+     */
+    public boolean fingerprints() {
+        return this.bool(Format.FINGERPRINTS);
+    }
+
+    /**
+     * Should the listing be written into a separate side-car file.
+     * @return True if the listing goes to a side-car file, false otherwise.
+     */
+    public boolean sidecarListing() {
+        return this.bool(Format.SIDECAR_LISTING);
+    }
+
+    /**
+     * Should the output be reproducible, i.e. without timestamps.
+     * @return True if the output is reproducible, false otherwise.
+     */
+    public boolean reproducible() {
+        return this.bool(Format.REPRODUCIBLE);
+    }
+
+    /**
+     * Patterns of methods to disassemble into instructions.
+     * @return Comma-separated patterns, empty for all the methods.
+     */
+    public String methods() {
+        return this.string(Format.METHODS);
+    }
+
+    @Override
+    public String toString() {
+        return new TreeMap<>(this.properties).toString();
+    }
+
     /**
      * Get the boolean property.
      * @param name Name of the property.
@@ -216,6 +297,11 @@ public final class Format {
         props.put(Format.WITH_LISTING, false);
         props.put(Format.PRETTY, true);
         props.put(Format.MODE, "short");
+        props.put(Format.COMPRESSED, false);
+        props.put(Format.FINGERPRINTS, false);
+        props.put(Format.SIDECAR_LISTING, false);
+        props.put(Format.REPRODUCIBLE, false);
+        props.put(Format.METHODS, "");
         return props;
     }
 }
@@ -7,10 +7,17 @@ package org.eolang.jeo.representation.xmir;
 import com.jcabi.xml.XML;
 import com.jcabi.xml.XMLDocument;
 import java.io.FileNotFoundException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import org.eolang.jeo.representation.Stage;
+import org.cactoos.io.GzipInput;
+import org.cactoos.io.InputOf;
+import org.cactoos.text.TextOf;
+import org.cactoos.text.UncheckedText;
 
 /**
  * Jcabi XML document.
+ * <p>Files with the {@code .gz} extension are transparently decompressed.</p>
  * @since 0.8
  */
 public final class JcabiXmlDoc implements XmlDoc {
@@ -63,7 +70,19 @@ public final class JcabiXmlDoc implements XmlDoc {
     @SuppressWarnings("PMD.AvoidCatchingGenericException")
     private static XML open(final Path path) {
         try {
-            return new XMLDocument(path);
+            final Stage.Span span = Stage.XMIR.begin();
+            final XML result;
+            if (path.getFileName().toString().endsWith(".gz")) {
+                result = new XMLDocument(
+                    new UncheckedText(
+                        new TextOf(new GzipInput(new InputOf(path)), StandardCharsets.UTF_8)
+                    ).asString()
+                );
+            } else {
+                result = new XMLDocument(path);
+            }
+            span.end(path.toString(), 0L, 0L);
+            return result;
         } catch (final FileNotFoundException exception) {
             throw new IllegalStateException(
                 String.format("Can't find file '%s'", path),
@@ -5,7 +5,10 @@
 package org.eolang.jeo.representation.xmir;
 
 import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
 import javax.xml.parsers.DocumentBuilderFactory;
 import org.cactoos.scalar.Sticky;
 import org.cactoos.scalar.Synced;
@@ -13,6 +16,7 @@ import org.cactoos.scalar.Unchecked;
 
 /**
  * Native XML document.
+ * <p>Files with the {@code .gz} extension are transparently decompressed.</p>
  * @since 0.7
  */
 public final class NativeXmlDoc implements XmlDoc {
@@ -67,12 +71,25 @@ public final class NativeXmlDoc implements XmlDoc {
     @SuppressWarnings("PMD.AvoidCatchingGenericException")
     private static XmlNode open(final Path path) {
         try {
-            return new NativeXmlNode(
-                NativeXmlDoc.DOC_FACTORY
-                    .newDocumentBuilder()
-                    .parse(path.toFile())
-                    .getDocumentElement()
-            );
+            final XmlNode result;
+            if (path.getFileName().toString().endsWith(".gz")) {
+                try (InputStream input = new GZIPInputStream(Files.newInputStream(path))) {
+                    result = new NativeXmlNode(
+                        NativeXmlDoc.DOC_FACTORY
+                            .newDocumentBuilder()
+                            .parse(input)
+                            .getDocumentElement()
+                    );
+                }
+            } else {
+                result = new NativeXmlNode(
+                    NativeXmlDoc.DOC_FACTORY
+                        .newDocumentBuilder()
+                        .parse(path.toFile())
+                        .getDocumentElement()
+                );
+            }
+            return result;
         } catch (final FileNotFoundException exception) {
             throw new IllegalStateException(
                 String.format("Can't find file '%s'", path),
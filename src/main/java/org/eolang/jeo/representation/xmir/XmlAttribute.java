@@ -95,6 +95,8 @@ public final class XmlAttribute {
             result = new XmlModule(this.node).bytecode();
         } else if (new JeoFqn("unknown-attribute").fqn().equals(base)) {
             result = new XmlUnknownAttribute(this.node).bytecode();
+        } else if (new JeoFqn("opaque-method").fqn().equals(base)) {
+            result = new XmlOpaqueMethod(this.node).bytecode();
         } else {
             throw new IllegalArgumentException(
                 String.format("Unknown attribute base '%s'", base)
@@ -5,6 +5,8 @@
 package org.eolang.jeo.representation.xmir;
 
 import com.jcabi.xml.XMLDocument;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -83,13 +85,22 @@ public final class XmlClass {
      * @return Bytecode class.
      */
     public BytecodeClass bytecode() {
+        return this.bytecode(Collections.emptySet());
+    }
+
+    /**
+     * Convert to bytecode.
+     * @param unchanged Names of method objects that weren't changed since disassembling.
+     * @return Bytecode class.
+     */
+    public BytecodeClass bytecode(final Collection<String> unchanged) {
         final BytecodeClassProperties props = this.properties().bytecode();
         try {
             return new BytecodeClass(
                 new ClassName(
                     new PrefixedName(new ClassName(this.pckg, this.name()).full()).decode()
                 ),
-                this.methods().stream().map(XmlMethod::bytecode)
+                this.methods().stream().map(method -> method.bytecode(unchanged))
                     .collect(Collectors.toList()),
                 this.fields().stream()
                     .map(XmlField::bytecode)
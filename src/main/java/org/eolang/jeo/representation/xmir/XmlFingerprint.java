@@ -0,0 +1,134 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation.xmir;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Fingerprint of an XMIR node.
+ *
+ * <p>The fingerprint is a SHA-256 hash of the node structure: attributes
+ * {@code base}, {@code name} and {@code as} of each object and trimmed text of
+ * each leaf object. Comments and whitespaces are ignored, so the fingerprint
+ * doesn't depend on whether the XMIR is pretty-printed or not.</p>
+ * @since 0.16.0
+ */
+final class XmlFingerprint {
+
+    /**
+     * Attributes that take part in the fingerprint.
+     */
+    private static final String[] ATTRIBUTES = {"base", "name", "as"};
+
+    /**
+     * Node to fingerprint.
+     */
+    private final XmlNode node;
+
+    /**
+     * Direct children of the node that don't take part in the fingerprint.
+     */
+    private final Predicate<XmlNode> skipped;
+
+    /**
+     * Constructor.
+     * @param node Node to fingerprint.
+     */
+    XmlFingerprint(final XmlNode node) {
+        this(node, child -> false);
+    }
+
+    /**
+     * Constructor.
+     * @param node Node to fingerprint.
+     * @param skipped Direct children of the node that don't take part in the fingerprint.
+     */
+    XmlFingerprint(final XmlNode node, final Predicate<XmlNode> skipped) {
+        this.node = node;
+        this.skipped = skipped;
+    }
+
+    /**
+     * Fingerprint as a hex string.
+     * @return Hex string.
+     */
+    String asString() {
+        final MessageDigest digest = XmlFingerprint.sha();
+        XmlFingerprint.update(digest, this.node, this.skipped);
+        return XmlFingerprint.hex(digest.digest());
+    }
+
+    /**
+     * Fingerprint of raw bytes as a hex string.
+     * @param bytes Bytes to fingerprint.
+     * @return Hex string.
+     */
+    static String of(final byte[] bytes) {
+        return XmlFingerprint.hex(XmlFingerprint.sha().digest(bytes));
+    }
+
+    /**
+     * Update digest with the node structure.
+     * @param digest Digest to update.
+     * @param current Current node.
+     */
+    private static void update(final MessageDigest digest, final XmlNode current) {
+        XmlFingerprint.update(digest, current, child -> false);
+    }
+
+    /**
+     * Update digest with the node structure without some of its direct children.
+     * @param digest Digest to update.
+     * @param current Current node.
+     * @param skipped Direct children that don't take part in the fingerprint.
+     */
+    private static void update(
+        final MessageDigest digest, final XmlNode current, final Predicate<XmlNode> skipped
+    ) {
+        for (final String attribute : XmlFingerprint.ATTRIBUTES) {
+            digest.update(
+                current.attribute(attribute).orElse("").getBytes(StandardCharsets.UTF_8)
+            );
+            digest.update((byte) 0);
+        }
+        final List<XmlNode> children = current.children()
+            .filter(skipped.negate())
+            .collect(Collectors.toList());
+        if (children.isEmpty()) {
+            digest.update(current.text().trim().getBytes(StandardCharsets.UTF_8));
+        } else {
+            digest.update((byte) '(');
+            children.forEach(child -> XmlFingerprint.update(digest, child));
+            digest.update((byte) ')');
+        }
+    }
+
+    /**
+     * Convert bytes to a hex string.
+     * @param bytes Bytes.
+     * @return Hex string.
+     */
+    private static String hex(final byte[] bytes) {
+        return String.format("%064x", new BigInteger(1, bytes));
+    }
+
+    /**
+     * New SHA-256 digest.
+     * @return Digest.
+     */
+    private static MessageDigest sha() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 algorithm is not available", exception);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation.xmir;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.xembly.Directive;
+import org.xembly.Directives;
+
+/**
+ * Per-method fingerprints of an XMIR program.
+ *
+ * <p>Fingerprints are recorded in the program metas during disassembling.
+ * The {@code bytecode-fingerprint} meta keeps the hash of the original class file,
+ * the {@code class-fingerprint} meta keeps the hash of the class XMIR without methods,
+ * that is the header with the superclass and interfaces, fields, annotations and
+ * attributes, while each {@code method-fingerprint} meta keeps the name of a method
+ * object and the hash of its XMIR. During assembling, the current XMIR is
+ * fingerprinted again and compared with the recorded values, so we can find out which
+ * methods were left untouched by transformations and whether the whole class was.</p>
+ * @since 0.16.0
+ */
+public final class XmlFingerprints {
+
+    /**
+     * Bytecode fingerprint meta head.
+     */
+    private static final String BYTECODE = "bytecode-fingerprint";
+
+    /**
+     * Class fingerprint meta head.
+     */
+    private static final String CLASS = "class-fingerprint";
+
+    /**
+     * Method fingerprint meta head.
+     */
+    private static final String METHOD = "method-fingerprint";
+
+    /**
+     * Root node of the program, {@code <object>}.
+     */
+    private final XmlNode root;
+
+    /**
+     * Constructor.
+     * @param root Root node of the program.
+     */
+    public XmlFingerprints(final XmlNode root) {
+        this.root = root;
+    }
+
+    /**
+     * Directives that record fingerprints into the program metas.
+     * @param bytecode Original bytecode the program was disassembled from.
+     * @return Directives.
+     */
+    public Iterable<Directive> directives(final byte[] bytecode) {
+        final Directives result = new Directives()
+            .xpath("/object/metas")
+            .append(XmlFingerprints.meta(XmlFingerprints.BYTECODE, XmlFingerprint.of(bytecode)))
+            .append(XmlFingerprints.meta(XmlFingerprints.CLASS, this.shell()));
+        this.current().forEach(
+            (name, hash) -> result.append(XmlFingerprints.meta(XmlFingerprints.METHOD, name, hash))
+        );
+        return result;
+    }
+
+    /**
+     * Whether the program was disassembled exactly from the given bytecode.
+     * @param bytecode Bytecode to check.
+     * @return True if the recorded bytecode fingerprint matches.
+     */
+    public boolean origin(final byte[] bytecode) {
+        return this.root.xpath(
+            String.format(
+                "/object/metas/meta[head='%s']/tail/text()", XmlFingerprints.BYTECODE
+            )
+        ).stream().findFirst().map(XmlFingerprint.of(bytecode)::equals).orElse(false);
+    }
+
+    /**
+     * Whether the program has recorded fingerprints at all.
+     * @return True if fingerprints are present.
+     */
+    public boolean present() {
+        return !this.root.xpath(
+            String.format("/object/metas/meta[head='%s']", XmlFingerprints.BYTECODE)
+        ).isEmpty();
+    }
+
+    /**
+     * Whether nothing in the class was changed since disassembling.
+     * <p>Both the class without methods, including its header and fields, and each
+     * method must match the recorded fingerprints, and no method may be added or
+     * removed. XMIR recorded without the class fingerprint is never pristine.</p>
+     * @return True if fingerprints are present and all of them match.
+     */
+    public boolean pristine() {
+        return this.pristine(this.unchanged());
+    }
+
+    /**
+     * Whether nothing in the class was changed since disassembling.
+     * <p>The same as {@link #pristine()}, but it reuses methods already found
+     * unchanged by {@link #unchanged()}, so methods aren't fingerprinted twice.</p>
+     * @param unchanged Names of method objects which XMIR wasn't changed.
+     * @return True if fingerprints are present and all of them match.
+     */
+    public boolean pristine(final Set<String> unchanged) {
+        return this.present()
+            && this.root.xpath(
+                String.format(
+                    "/object/metas/meta[head='%s']/tail/text()", XmlFingerprints.CLASS
+                )
+            ).stream().findFirst().map(this.shell()::equals).orElse(false)
+            && this.recorded().keySet().equals(unchanged)
+            && this.methods().map(method -> method.attribute("name").orElse(""))
+                .distinct().count() == unchanged.size();
+    }
+
+    /**
+     * Names of method objects which XMIR wasn't changed since disassembling.
+     * @return Set of method object names.
+     */
+    public Set<String> unchanged() {
+        final Map<String, String> recorded = this.recorded();
+        return this.current().entrySet().stream()
+            .filter(entry -> entry.getValue().equals(recorded.get(entry.getKey())))
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toSet());
+    }
+
+    /**
+     * Fingerprints recorded in metas.
+     * @return Map from method object name to fingerprint.
+     */
+    private Map<String, String> recorded() {
+        return this.root.xpath(
+            String.format("/object/metas/meta[head='%s']/tail/text()", XmlFingerprints.METHOD)
+        ).stream().collect(
+            Collectors.toMap(
+                tail -> tail.substring(0, tail.lastIndexOf(' ')),
+                tail -> tail.substring(tail.lastIndexOf(' ') + 1),
+                (first, second) -> first
+            )
+        );
+    }
+
+    /**
+     * Fingerprints of the current method objects.
+     * @return Map from method object name to fingerprint.
+     */
+    private Map<String, String> current() {
+        return this.methods().collect(
+            Collectors.toMap(
+                method -> method.attribute("name").orElse(""),
+                method -> new XmlFingerprint(method).asString(),
+                (first, second) -> first,
+                LinkedHashMap::new
+            )
+        );
+    }
+
+    /**
+     * Fingerprint of the top-level class without its methods.
+     * @return Fingerprint.
+     */
+    private String shell() {
+        return new XmlFingerprint(
+            this.root.child("o"), node -> new XmlMethod(node).isMethod()
+        ).asString();
+    }
+
+    /**
+     * Method objects of the top-level class.
+     * @return Stream of method nodes.
+     */
+    private Stream<XmlNode> methods() {
+        return new XmlGlobalObject(this.root.child("o")).children()
+            .filter(node -> new XmlMethod(node).isMethod());
+    }
+
+    /**
+     * Meta directives.
+     * @param head Meta head.
+     * @param parts Meta parts.
+     * @return Directives.
+     */
+    private static Directives meta(final String head, final String... parts) {
+        final Directives result = new Directives()
+            .add("meta")
+            .add("head").set(head).up()
+            .add("tail").set(String.join(" ", parts)).up();
+        Stream.of(parts).forEach(part -> result.add("part").set(part).up());
+        return result.up();
+    }
+}
@@ -4,6 +4,7 @@
  */
 package org.eolang.jeo.representation.xmir;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -19,6 +20,7 @@ import org.eolang.jeo.representation.bytecode.BytecodeMaxs;
 import org.eolang.jeo.representation.bytecode.BytecodeMethod;
 import org.eolang.jeo.representation.bytecode.BytecodeMethodParameters;
 import org.eolang.jeo.representation.bytecode.BytecodeMethodProperties;
+import org.eolang.jeo.representation.bytecode.CompactBody;
 import org.eolang.jeo.representation.directives.DirectivesMaxs;
 import org.eolang.jeo.representation.directives.DirectivesMethod;
 import org.eolang.jeo.representation.directives.DirectivesMethodParams;
@@ -119,10 +121,12 @@ public final class XmlMethod {
                     .stream()
                     .map(XmlTryCatchEntry::bytecode)
                     .collect(Collectors.toList()),
-                this.instructions()
-                    .stream()
-                    .map(XmlBytecodeEntry::bytecode)
-                    .collect(Collectors.toList()),
+                new CompactBody(
+                    this.instructions()
+                        .stream()
+                        .map(XmlBytecodeEntry::bytecode)
+                        .collect(Collectors.toList())
+                ),
                 this.annotations(),
                 this.properties(),
                 this.defvalue()
@@ -163,6 +167,25 @@ public final class XmlMethod {
         }
     }
 
+    /**
+     * Convert to bytecode, skipping the body of an unchanged method.
+     * <p>If the method is in the list of unchanged methods, only its properties are parsed.
+     * The resulting method has an empty body, since the original body is copied from
+     * the original class file, see {@link org.eolang.jeo.representation.bytecode.OriginalMethods}.
+     * </p>
+     * @param unchanged Names of unchanged method objects.
+     * @return Bytecode method.
+     */
+    public BytecodeMethod bytecode(final Collection<String> unchanged) {
+        final BytecodeMethod result;
+        if (unchanged.contains(this.node.name())) {
+            result = new BytecodeMethod(this.properties(), new BytecodeMaxs(0, 0));
+        } else {
+            result = this.bytecode();
+        }
+        return result;
+    }
+
     /**
      * Whether the node is a method.
      * @return True if the node is a method.
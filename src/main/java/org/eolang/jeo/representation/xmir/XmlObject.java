@@ -5,7 +5,10 @@
 package org.eolang.jeo.representation.xmir;
 
 import com.jcabi.xml.XML;
+import java.util.Collection;
+import java.util.Collections;
 import org.eolang.jeo.representation.PrefixedName;
+import org.eolang.jeo.representation.Stage;
 import org.eolang.jeo.representation.bytecode.BytecodeObject;
 import org.eolang.jeo.representation.directives.AbsentPackage;
 
@@ -59,8 +62,24 @@ public final class XmlObject {
      * @return Bytecode program.
      */
     public BytecodeObject bytecode() {
+        return this.bytecode(Collections.emptySet());
+    }
+
+    /**
+     * Convert to bytecode.
+     * <p>Bodies of unchanged methods are not parsed, they are expected to be copied
+     * from the original class file.</p>
+     * @param unchanged Names of method objects that weren't changed since disassembling.
+     * @return Bytecode program.
+     */
+    public BytecodeObject bytecode(final Collection<String> unchanged) {
         try {
-            return new BytecodeObject(this.pckg(), this.top().bytecode());
+            final Stage.Span span = Stage.BYTECODE.begin();
+            final BytecodeObject result = new BytecodeObject(
+                this.pckg(), this.top().bytecode(unchanged)
+            );
+            span.end(result.top().name().full(), 0L, 0L);
+            return result;
         } catch (final IllegalStateException exception) {
             throw new ParsingException(
                 String.format(
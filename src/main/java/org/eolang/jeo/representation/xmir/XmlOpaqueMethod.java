@@ -0,0 +1,51 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation.xmir;
+
+import org.eolang.jeo.representation.bytecode.BytecodeOpaqueMethod;
+
+/**
+ * XML representation of a method with an opaque body.
+ * @since 0.16.0
+ */
+public final class XmlOpaqueMethod {
+
+    /**
+     * Opaque method node.
+     */
+    private final XmlJeoObject node;
+
+    /**
+     * Constructor.
+     * @param node Opaque method node.
+     */
+    public XmlOpaqueMethod(final XmlNode node) {
+        this(new XmlJeoObject(node));
+    }
+
+    /**
+     * Constructor.
+     * @param node Opaque method node.
+     */
+    public XmlOpaqueMethod(final XmlJeoObject node) {
+        this.node = node;
+    }
+
+    /**
+     * Parse bytecode of the opaque method from XML.
+     * @return Opaque method.
+     */
+    public BytecodeOpaqueMethod bytecode() {
+        return new BytecodeOpaqueMethod(
+            (byte[]) new XmlValue(
+                this.node.child(0).orElseThrow(
+                    () -> new IllegalStateException(
+                        String.format("Opaque method 'blob' is missing in `%s`", this.node)
+                    )
+                )
+            ).object()
+        );
+    }
+}
@@ -46,42 +46,50 @@ public final class XmlTryCatchEntry implements XmlBytecodeEntry {
 
     /**
      * Converts XML to bytecode.
+     * <p>Children of the node are collected once and shared by all the fields.</p>
      * @return Bytecode try-catch block.
      */
     public BytecodeTryCatchBlock bytecode() {
-        return new BytecodeTryCatchBlock(this.start(), this.end(), this.handler(), this.type());
+        final List<XmlNode> all = this.node.children().collect(Collectors.toList());
+        return new BytecodeTryCatchBlock(
+            this.start(all), this.end(all), this.handler(all), this.type(all)
+        );
     }
 
     /**
      * Retrieves the start label.
+     * @param all Children of the node.
      * @return Start label.
      */
-    private BytecodeLabel start() {
-        return this.label(0).orElse(null);
+    private BytecodeLabel start(final List<XmlNode> all) {
+        return this.label(all, 0).orElse(null);
     }
 
     /**
      * Retrieves the end label.
+     * @param all Children of the node.
      * @return End label.
      */
-    private BytecodeLabel end() {
-        return this.label(1).orElse(null);
+    private BytecodeLabel end(final List<XmlNode> all) {
+        return this.label(all, 1).orElse(null);
     }
 
     /**
      * Retrieves the handler label.
+     * @param all Children of the node.
      * @return Handler label.
      */
-    private BytecodeLabel handler() {
-        return this.label(2).orElse(null);
+    private BytecodeLabel handler(final List<XmlNode> all) {
+        return this.label(all, 2).orElse(null);
     }
 
     /**
      * Retrieves the exception type.
+     * @param all Children of the node.
      * @return Exception type.
      */
-    private String type() {
-        return Optional.ofNullable(this.node.children().collect(Collectors.toList()).get(3))
+    private String type(final List<XmlNode> all) {
+        return Optional.ofNullable(all.get(3))
             .filter(n -> !XmlTryCatchEntry.NOP.equals(new XmlClosedObject(n).base()))
             .map(XmlValue::new)
             .map(XmlValue::string)
@@ -91,11 +99,11 @@ public final class XmlTryCatchEntry implements XmlBytecodeEntry {
 
     /**
      * Retrieves the label.
+     * @param all Children of the node.
      * @param id Label uid.
      * @return Label.
      */
-    private Optional<BytecodeLabel> label(final int id) {
-        final List<XmlNode> all = this.node.children().collect(Collectors.toList());
+    private Optional<BytecodeLabel> label(final List<XmlNode> all, final int id) {
         if (all.size() <= id) {
             throw new IllegalStateException(
                 String.format(
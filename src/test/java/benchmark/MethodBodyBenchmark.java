@@ -0,0 +1,144 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package benchmark;
+
+import com.jcabi.log.Logger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.eolang.jeo.representation.asm.AsmProgram;
+import org.eolang.jeo.representation.bytecode.BytecodeEntry;
+import org.eolang.jeo.representation.bytecode.BytecodeMethod;
+import org.eolang.jeo.representation.bytecode.CompactBody;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH benchmark for method bodies.
+ * This class compares method bodies kept as lists of entries with the compact
+ * columnar bodies. Before the measurements, it logs the heap retained by the
+ * bodies of all the methods of a class, per entry. Labels and frames are shared
+ * by all the bodies, so the numbers compare instructions, their operands and
+ * lines. Run it with {@code -prof gc} to see the allocation rate as well.
+ *
+ * @since 0.16.0
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@Fork(1)
+@Warmup(iterations = 1, time = 2)
+@Measurement(iterations = 1, time = 3)
+@State(Scope.Benchmark)
+public class MethodBodyBenchmark {
+
+    /**
+     * Number of copies of the bodies to measure the retained heap.
+     */
+    private static final int COPIES = 64;
+
+    /**
+     * Kind of bodies, either "list" or "compact".
+     */
+    @Param({"list", "compact"})
+    public String kind;
+
+    /**
+     * Entries of all the methods of the class.
+     */
+    private List<List<BytecodeEntry>> entries;
+
+    /**
+     * Bodies kept alive while the retained heap is measured.
+     */
+    private List<List<List<BytecodeEntry>>> retained;
+
+    /**
+     * This method is used to run the benchmark from IDE.
+     * Don't remove it.
+     * @param args Arguments.
+     * @throws RunnerException If something goes wrong.
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(
+            new OptionsBuilder()
+                .include(MethodBodyBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+
+    @Setup(Level.Trial)
+    public void init() {
+        this.entries = new AsmProgram(new Representation().bytecode())
+            .bytecode()
+            .top()
+            .methods()
+            .stream()
+            .map(BytecodeMethod::instructions)
+            .<List<BytecodeEntry>>map(ArrayList::new)
+            .collect(Collectors.toList());
+        final long total = this.entries.stream().mapToLong(List::size).sum();
+        final long before = MethodBodyBenchmark.used();
+        this.retained = new ArrayList<>(MethodBodyBenchmark.COPIES);
+        for (int copy = 0; copy < MethodBodyBenchmark.COPIES; ++copy) {
+            this.retained.add(this.bodies());
+        }
+        final long after = MethodBodyBenchmark.used();
+        Logger.info(
+            this,
+            "Bodies of kind '%s' retain %d bytes per entry, %d entries in %d methods",
+            this.kind,
+            (after - before) / (total * MethodBodyBenchmark.COPIES),
+            total,
+            this.entries.size()
+        );
+        this.retained.clear();
+    }
+
+    @Benchmark
+    public List<List<BytecodeEntry>> bodies() {
+        final List<List<BytecodeEntry>> result = new ArrayList<>(this.entries.size());
+        for (final List<BytecodeEntry> body : this.entries) {
+            if ("compact".equals(this.kind)) {
+                result.add(new CompactBody(body));
+            } else {
+                result.add(MethodBodyBenchmark.copy(body));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Copy of the entries with new instructions and lines.
+     * @param body Entries.
+     * @return Copy.
+     */
+    private static List<BytecodeEntry> copy(final List<BytecodeEntry> body) {
+        return new ArrayList<>(new CompactBody(body));
+    }
+
+    /**
+     * Heap in use after garbage collection.
+     * @return Bytes.
+     */
+    @SuppressWarnings("PMD.DoNotCallGarbageCollectionExplicitly")
+    private static long used() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int attempt = 0; attempt < 3; ++attempt) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
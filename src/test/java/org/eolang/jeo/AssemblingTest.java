@@ -4,12 +4,22 @@
  */
 package org.eolang.jeo;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.stream.Stream;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.io.ResourceOf;
+import org.eolang.jeo.representation.BytecodeRepresentation;
+import org.eolang.jeo.representation.bytecode.Bytecode;
+import org.eolang.jeo.representation.directives.Format;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -35,6 +45,24 @@ final class AssemblingTest {
         );
     }
 
+    @Test
+    void refusesXmirWithoutMethodBodies(@TempDir final Path dir) throws Exception {
+        final Path xmir = dir.resolve("xmir/Example.xmir");
+        Files.createDirectories(xmir.getParent());
+        Files.write(
+            xmir,
+            new BytecodeRepresentation(
+                new Bytecode(new BytesOf(new ResourceOf("Example.class")).asBytes())
+            ).toEO(new Format(Format.MODE, "structure")).getBytes(StandardCharsets.UTF_8)
+        );
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> new Assembling(dir.resolve("xmir"), dir.resolve("classes"), xmir)
+                .transform(new ByteArrayOutputStream()),
+            "We expect XMIR disassembled in 'structure' mode to be refused by assembling"
+        );
+    }
+
     /**
      * Checks that Assembling.target() returns the correct target path.
      * @param src Source directory
@@ -91,6 +119,12 @@ final class AssemblingTest {
                 Paths.get("nonempty"),
                 Paths.get("File.xmir"),
                 Paths.get("nonempty/File.class")
+            ),
+            Arguments.of(
+                Paths.get("src"),
+                Paths.get("out"),
+                Paths.get("src/org/eolang/Compressed.xmir.gz"),
+                Paths.get("out/org/eolang/Compressed.class")
             )
         );
     }
@@ -0,0 +1,110 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test cases for {@link AtomicFile}.
+ * @since 0.16.0
+ */
+final class AtomicFileTest {
+
+    @Test
+    void streamsTransformationIntoFile(@TempDir final Path temp) throws IOException {
+        final Path target = temp.resolve("org/eolang/Foo.xmir");
+        new AtomicFile(target).write(new Writing(temp, "<object/>", false)::transform);
+        MatcherAssert.assertThat(
+            "We expect the result to be written into the target file",
+            new String(Files.readAllBytes(target), StandardCharsets.UTF_8),
+            Matchers.equalTo("<object/>")
+        );
+    }
+
+    @Test
+    void keepsOldContentWhenTransformationFails(@TempDir final Path temp) throws IOException {
+        final Path target = temp.resolve("Foo.xmir");
+        Files.write(target, "old".getBytes(StandardCharsets.UTF_8));
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> new AtomicFile(target).write(new Writing(temp, "<obj", true)::transform),
+            "We expect the failure of the transformation to be propagated"
+        );
+        try (Stream<Path> all = Files.list(temp)) {
+            MatcherAssert.assertThat(
+                "We expect the target to be untouched and no temporary files to be left",
+                all.map(path -> path.getFileName().toString()).toArray(),
+                Matchers.arrayContaining("Foo.xmir")
+            );
+        }
+        MatcherAssert.assertThat(
+            "We expect the old content to be kept",
+            new String(Files.readAllBytes(target), StandardCharsets.UTF_8),
+            Matchers.equalTo("old")
+        );
+    }
+
+    /**
+     * Transformation that writes the given content.
+     * @since 0.16.0
+     */
+    private static final class Writing implements Transformation {
+
+        /**
+         * Directory.
+         */
+        private final Path dir;
+
+        /**
+         * Content to write.
+         */
+        private final String content;
+
+        /**
+         * Fail after writing the content.
+         */
+        private final boolean fail;
+
+        /**
+         * Constructor.
+         * @param dir Directory
+         * @param content Content to write
+         * @param fail Fail after writing the content
+         */
+        Writing(final Path dir, final String content, final boolean fail) {
+            this.dir = dir;
+            this.content = content;
+            this.fail = fail;
+        }
+
+        @Override
+        public Path source() {
+            return this.dir.resolve("Foo.class");
+        }
+
+        @Override
+        public Path target() {
+            return this.dir.resolve("Foo.xmir");
+        }
+
+        @Override
+        public void transform(final OutputStream output) throws IOException {
+            output.write(this.content.getBytes(StandardCharsets.UTF_8));
+            if (this.fail) {
+                throw new IllegalStateException("Broken transformation");
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Budget}.
+ * @since 0.16.0
+ */
+final class BudgetTest {
+
+    @Test
+    void runsTaskBiggerThanBudget() {
+        MatcherAssert.assertThat(
+            "Task that needs more than the whole budget should still run",
+            new Budget(1L).admit(Long.MAX_VALUE / 2L, () -> "done"),
+            Matchers.equalTo("done")
+        );
+    }
+
+    @Test
+    void serializesBigTasks() throws InterruptedException, ExecutionException {
+        final Budget budget = new Budget(1L);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger most = new AtomicInteger();
+        final ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Integer>> futures = new ArrayList<>(8);
+            for (int task = 0; task < 8; ++task) {
+                futures.add(
+                    pool.submit(
+                        () -> budget.admit(
+                            700L * 1024L,
+                            () -> {
+                                most.accumulateAndGet(running.incrementAndGet(), Math::max);
+                                BudgetTest.pause();
+                                return running.decrementAndGet();
+                            }
+                        )
+                    )
+                );
+            }
+            for (final Future<Integer> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        MatcherAssert.assertThat(
+            "Tasks that need more than half of the budget should never run together",
+            most.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void runsSmallTasksInParallel() throws InterruptedException, ExecutionException {
+        final Budget budget = new Budget(1L);
+        final CountDownLatch together = new CountDownLatch(4);
+        final ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Boolean>> futures = new ArrayList<>(4);
+            for (int task = 0; task < 4; ++task) {
+                futures.add(
+                    pool.submit(
+                        () -> budget.admit(
+                            100L * 1024L,
+                            () -> {
+                                together.countDown();
+                                return BudgetTest.await(together);
+                            }
+                        )
+                    )
+                );
+            }
+            for (final Future<Boolean> future : futures) {
+                MatcherAssert.assertThat(
+                    "Small tasks should all be admitted at the same time",
+                    future.get(),
+                    Matchers.is(true)
+                );
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void rejectsNegativeBudget() {
+        MatcherAssert.assertThat(
+            "Negative budget should be rejected with a clear message",
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> new Budget(-1L)
+            ).getMessage(),
+            Matchers.containsString("can't be negative")
+        );
+    }
+
+    /**
+     * Hold the task for a while.
+     */
+    private static void pause() {
+        try {
+            Thread.sleep(10L);
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    /**
+     * Wait for other tasks.
+     * @param latch Latch of all the tasks
+     * @return True if all the tasks were running together
+     */
+    private static boolean await(final CountDownLatch latch) {
+        try {
+            return latch.await(10L, TimeUnit.SECONDS);
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(exception);
+        }
+    }
+}
@@ -4,11 +4,20 @@
  */
 package org.eolang.jeo;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.stream.Collectors;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
 
 /**
  * Tests for {@link BytecodeClasses}.
@@ -35,4 +44,86 @@ final class BytecodeClassesTest {
             Matchers.equalTo(0L)
         );
     }
+
+    @Test
+    void skipsDirectoriesThatAreNotNeeded(@TempDir final Path dir) throws IOException {
+        final Path kept = dir.resolve("org/eolang/Kept.class");
+        final Path skipped = dir.resolve("org/generated/deep/Skipped.class");
+        Files.createDirectories(kept.getParent());
+        Files.createDirectories(skipped.getParent());
+        Files.write(kept, new byte[0]);
+        Files.write(skipped, new byte[0]);
+        MatcherAssert.assertThat(
+            "BytecodeClasses should not look into skipped directories",
+            new BytecodeClasses(dir, path -> !path.endsWith("generated"))
+                .all()
+                .collect(Collectors.toList()),
+            Matchers.contains(kept)
+        );
+    }
+
+    @Test
+    void checksOnlyStructureOfPristineClasses(@TempDir final Path dir) throws IOException {
+        final Path clazz = BytecodeClassesTest.broken(dir);
+        Assertions.assertDoesNotThrow(
+            () -> new BytecodeClasses(dir).verify(
+                Verification.CHANGED,
+                Collections.singleton(clazz.toAbsolutePath().normalize())
+            ),
+            "Pristine classes should not be analyzed at 'changed' level"
+        );
+    }
+
+    @Test
+    void analyzesChangedClasses(@TempDir final Path dir) throws IOException {
+        BytecodeClassesTest.broken(dir);
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> new BytecodeClasses(dir).verify(Verification.CHANGED, Collections.emptySet()),
+            "Changed classes should be analyzed at 'changed' level"
+        );
+    }
+
+    @Test
+    void checksOnlyStructureAtStructureLevel(@TempDir final Path dir) throws IOException {
+        BytecodeClassesTest.broken(dir);
+        Assertions.assertDoesNotThrow(
+            () -> new BytecodeClasses(dir).verify(Verification.STRUCTURE, Collections.emptySet()),
+            "Methods should not be analyzed at 'structure' level"
+        );
+    }
+
+    @Test
+    void analyzesAllClassesAtFullLevel(@TempDir final Path dir) throws IOException {
+        BytecodeClassesTest.broken(dir);
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> new BytecodeClasses(dir).verify(),
+            "Data-flow analysis should find the broken method"
+        );
+    }
+
+    /**
+     * Write a well-formed class with a method that returns from an empty stack.
+     * @param dir Directory
+     * @return Path to the class file
+     * @throws IOException If writing fails
+     */
+    private static Path broken(final Path dir) throws IOException {
+        final ClassWriter writer = new ClassWriter(0);
+        writer.visit(
+            Opcodes.V1_8, Opcodes.ACC_PUBLIC, "Broken", null, "java/lang/Object", null
+        );
+        final MethodVisitor method = writer.visitMethod(
+            Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, "broken", "()I", null, null
+        );
+        method.visitCode();
+        method.visitInsn(Opcodes.IRETURN);
+        method.visitMaxs(1, 0);
+        method.visitEnd();
+        writer.visitEnd();
+        final Path result = dir.resolve("Broken.class");
+        Files.write(result, writer.toByteArray());
+        return result;
+    }
 }
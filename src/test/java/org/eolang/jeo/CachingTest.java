@@ -5,6 +5,7 @@
 package org.eolang.jeo;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -59,6 +60,33 @@ final class CachingTest {
         );
     }
 
+    @Test
+    void writesTransformedFileWhenPerformed(@TempDir final Path temp) throws IOException {
+        final MockTrans mock = new MockTrans(temp);
+        mock.createFrom(1);
+        mock.createTo(0);
+        new Caching(mock).perform();
+        MatcherAssert.assertThat(
+            "Cached transformation should write the result into the target file when performed",
+            new String(Files.readAllBytes(mock.target()), StandardCharsets.UTF_8),
+            Matchers.equalTo(MockTrans.PERFORMED)
+        );
+    }
+
+    @Test
+    void keepsTargetUntouchedWhenPerformedSinceAlreadyTransformed(@TempDir final Path temp)
+        throws IOException {
+        final MockTrans mock = new MockTrans(temp);
+        mock.createFrom(0);
+        mock.createTo(1);
+        new Caching(mock).perform();
+        MatcherAssert.assertThat(
+            "Cached transformation should keep the target file untouched when performed",
+            new String(Files.readAllBytes(mock.target()), StandardCharsets.UTF_8),
+            Matchers.equalTo(MockTrans.OLD_TO)
+        );
+    }
+
     private static class MockTrans implements Transformation {
 
         /**
@@ -95,8 +123,8 @@ final class CachingTest {
         }
 
         @Override
-        public byte[] transform() {
-            return MockTrans.PERFORMED.getBytes(StandardCharsets.UTF_8);
+        public void transform(final OutputStream output) throws IOException {
+            output.write(MockTrans.PERFORMED.getBytes(StandardCharsets.UTF_8));
         }
 
         /**
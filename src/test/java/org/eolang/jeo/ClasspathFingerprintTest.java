@@ -0,0 +1,83 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test cases for {@link ClasspathFingerprint}.
+ * @since 0.16.0
+ */
+final class ClasspathFingerprintTest {
+
+    @Test
+    void doesNotDependOnLocation(@TempDir final Path temp) throws IOException {
+        final Path first = ClasspathFingerprintTest.classes(temp.resolve("first"), "A");
+        final Path second = ClasspathFingerprintTest.classes(temp.resolve("second"), "A");
+        final Path jar = temp.resolve("lib.jar");
+        Files.write(jar, "archive".getBytes(StandardCharsets.UTF_8));
+        final Path copy = Files.copy(jar, temp.resolve("copy.jar"));
+        MatcherAssert.assertThat(
+            "We expect the same classpath contents in other places to give the same fingerprint",
+            new ClasspathFingerprint(Arrays.asList(first.toString(), jar.toString())).asString(),
+            Matchers.equalTo(
+                new ClasspathFingerprint(
+                    Arrays.asList(copy.toString(), second.toString())
+                ).asString()
+            )
+        );
+    }
+
+    @Test
+    void changesWhenClassChanges(@TempDir final Path temp) throws IOException {
+        final Path dir = ClasspathFingerprintTest.classes(temp, "A");
+        final String before = new ClasspathFingerprint(
+            Collections.singletonList(dir.toString())
+        ).asString();
+        ClasspathFingerprintTest.classes(temp, "B");
+        MatcherAssert.assertThat(
+            "We expect a changed class in a classpath directory to change the fingerprint",
+            new ClasspathFingerprint(Collections.singletonList(dir.toString())).asString(),
+            Matchers.not(Matchers.equalTo(before))
+        );
+    }
+
+    @Test
+    void ignoresAbsentElements(@TempDir final Path temp) throws IOException {
+        final Path dir = ClasspathFingerprintTest.classes(temp.resolve("classes"), "A");
+        MatcherAssert.assertThat(
+            "We expect absent classpath elements not to change the fingerprint",
+            new ClasspathFingerprint(
+                Arrays.asList(dir.toString(), temp.resolve("absent").toString())
+            ).asString(),
+            Matchers.equalTo(
+                new ClasspathFingerprint(Collections.singletonList(dir.toString())).asString()
+            )
+        );
+    }
+
+    /**
+     * Directory with a single class.
+     * @param dir Directory
+     * @param content Content of the class
+     * @return Directory
+     * @throws IOException If fails
+     */
+    private static Path classes(final Path dir, final String content) throws IOException {
+        final Path clazz = dir.resolve("org/eolang/Some.class");
+        Files.createDirectories(clazz.getParent());
+        Files.write(clazz, content.getBytes(StandardCharsets.UTF_8));
+        return dir;
+    }
+}
@@ -4,9 +4,12 @@
  */
 package org.eolang.jeo;
 
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import org.cactoos.bytes.BytesOf;
+import org.cactoos.io.GzipInput;
+import org.cactoos.io.InputOf;
 import org.cactoos.io.ResourceOf;
 import org.eolang.jeo.representation.directives.Format;
 import org.hamcrest.MatcherAssert;
@@ -74,4 +77,56 @@ final class DisassemblingTest {
             )
         );
     }
+
+    @Test
+    void writesCompressedXmirIfRequested(@TempDir final Path tmp) throws Exception {
+        final Path clazz = tmp.resolve("MethodByte.class");
+        Files.write(clazz, new BytesOf(new ResourceOf("MethodByte.class")).asBytes());
+        final Disassembling disassembling = new Disassembling(
+            tmp, tmp.resolve("out"), clazz, new Format(Format.COMPRESSED, true)
+        );
+        MatcherAssert.assertThat(
+            "Disassembling should write GZIP-compressed XMIR into '.xmir.gz' file",
+            new String(
+                new BytesOf(
+                    new GzipInput(new InputOf(disassembling.transform()))
+                ).asBytes(),
+                StandardCharsets.UTF_8
+            ),
+            Matchers.allOf(
+                Matchers.startsWith("<?xml"),
+                Matchers.containsString("<object")
+            )
+        );
+        MatcherAssert.assertThat(
+            "Compressed XMIR should have '.xmir.gz' extension",
+            disassembling.target(),
+            Matchers.equalTo(tmp.resolve("out").resolve("MethodByte.xmir.gz"))
+        );
+    }
+
+    @Test
+    void writesListingIntoSidecarFileIfRequested(@TempDir final Path tmp) throws Exception {
+        final Path clazz = tmp.resolve("MethodByte.class");
+        Files.write(clazz, new BytesOf(new ResourceOf("MethodByte.class")).asBytes());
+        final Disassembling disassembling = new Disassembling(
+            tmp,
+            tmp.resolve("out"),
+            clazz,
+            new Format(Format.WITH_LISTING, true, Format.SIDECAR_LISTING, true)
+        );
+        MatcherAssert.assertThat(
+            "Disassembling should not embed the listing into XMIR if it goes to a side-car file",
+            new String(disassembling.transform(), StandardCharsets.UTF_8),
+            Matchers.not(Matchers.containsString("<listing>"))
+        );
+        MatcherAssert.assertThat(
+            "Disassembling should stream the listing into '.lst' file next to XMIR",
+            new String(
+                Files.readAllBytes(tmp.resolve("out").resolve("MethodByte.lst")),
+                StandardCharsets.UTF_8
+            ),
+            Matchers.containsString("MethodByte")
+        );
+    }
 }
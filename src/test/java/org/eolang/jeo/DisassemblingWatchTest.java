@@ -0,0 +1,134 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.BooleanSupplier;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.io.ResourceOf;
+import org.cactoos.set.SetOf;
+import org.eolang.jeo.representation.directives.Format;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link DisassemblingWatch}.
+ * @since 0.16.0
+ */
+final class DisassemblingWatchTest {
+
+    @Test
+    void disassemblesCreatedAndDeletesRemovedClasses(@TempDir final Path tmp) throws Exception {
+        final Path classes = tmp.resolve("classes");
+        final Path target = tmp.resolve("xmir");
+        final Path nested = classes.resolve("org").resolve("eolang");
+        Files.createDirectories(classes);
+        final Path xmir = target.resolve("org").resolve("eolang").resolve("Check.xmir");
+        try (DisassemblingWatch watch = new DisassemblingWatch(
+            classes, target, new Format(), new TranslationStore()
+        )) {
+            watch.poll(0L);
+            Files.createDirectories(nested);
+            Files.write(
+                nested.resolve("Check.class"),
+                new BytesOf(new ResourceOf("Check.class")).asBytes()
+            );
+            DisassemblingWatchTest.await(watch, () -> Files.exists(xmir));
+            MatcherAssert.assertThat(
+                "Watch should disassemble the class created in a new directory",
+                Files.exists(xmir),
+                Matchers.is(true)
+            );
+            Files.delete(nested.resolve("Check.class"));
+            DisassemblingWatchTest.await(watch, () -> !Files.exists(xmir));
+            MatcherAssert.assertThat(
+                "Watch should delete XMIR of the removed class",
+                Files.exists(xmir),
+                Matchers.is(false)
+            );
+        }
+    }
+
+    @Test
+    void deletesXmirOfRemovedDirectory(@TempDir final Path tmp) throws Exception {
+        final Path classes = tmp.resolve("classes");
+        final Path target = tmp.resolve("xmir");
+        final Path nested = classes.resolve("org").resolve("eolang");
+        Files.createDirectories(nested);
+        Files.write(
+            nested.resolve("Check.class"),
+            new BytesOf(new ResourceOf("Check.class")).asBytes()
+        );
+        final Path dir = target.resolve("org").resolve("eolang");
+        Files.createDirectories(dir);
+        Files.write(dir.resolve("Check.xmir"), new byte[]{1});
+        try (DisassemblingWatch watch = new DisassemblingWatch(
+            classes, target, new Format(), new TranslationStore()
+        )) {
+            watch.poll(0L);
+            Files.delete(nested.resolve("Check.class"));
+            Files.delete(nested);
+            DisassemblingWatchTest.await(watch, () -> !Files.exists(dir));
+            MatcherAssert.assertThat(
+                "Watch should delete the XMIR directory of the removed directory",
+                Files.exists(dir),
+                Matchers.is(false)
+            );
+        }
+    }
+
+    @Test
+    void skipsExcludedClasses(@TempDir final Path tmp) throws Exception {
+        final Path classes = tmp.resolve("classes");
+        final Path target = tmp.resolve("xmir");
+        Files.createDirectories(classes);
+        try (DisassemblingWatch watch = new DisassemblingWatch(
+            classes,
+            target,
+            new Format(),
+            new GlobFilter(new SetOf<>(), new SetOf<>("**/Check.class")),
+            new TranslationStore()
+        )) {
+            watch.poll(0L);
+            Files.write(
+                classes.resolve("Check.class"),
+                new BytesOf(new ResourceOf("Check.class")).asBytes()
+            );
+            Files.write(
+                classes.resolve("MethodByte.class"),
+                new BytesOf(new ResourceOf("MethodByte.class")).asBytes()
+            );
+            DisassemblingWatchTest.await(
+                watch, () -> Files.exists(target.resolve("MethodByte.xmir"))
+            );
+            MatcherAssert.assertThat(
+                "Watch should disassemble only the classes that pass the filter",
+                Files.exists(target.resolve("Check.xmir")),
+                Matchers.is(false)
+            );
+        }
+    }
+
+    /**
+     * Poll the watch until the condition is met or the time is over.
+     * <p>Some watch service implementations poll the file system periodically,
+     * so a change may be noticed only after a few seconds.</p>
+     * @param watch Watch
+     * @param condition Condition
+     * @throws InterruptedException If interrupted
+     */
+    private static void await(
+        final DisassemblingWatch watch,
+        final BooleanSupplier condition
+    ) throws InterruptedException {
+        final long end = System.currentTimeMillis() + 30_000L;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < end) {
+            watch.poll(100L);
+        }
+    }
+}
@@ -4,15 +4,24 @@
  */
 package org.eolang.jeo;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 
 /**
@@ -68,6 +77,91 @@ final class GlobFilterTest {
         );
     }
 
+    @ParameterizedTest
+    @CsvSource({
+        "'**/*.class', '', classes/org/eolang, true",
+        "'**/*.class', '**/generated/**', classes/org/generated, false",
+        "'**/*.class', '**/generated/**', classes/org/generation, true",
+        "'classes/org/**/*.class', '', classes, true",
+        "'classes/org/**/*.class', '', classes/org/eolang/jeo, true",
+        "'classes/org/**/*.class', '', classes/com, false",
+        "'classes/org/eolang/*.class', '', classes/org/other, false",
+        "'classes/{org,com}/*.class', '', classes/net, true"
+    })
+    void decidesWhetherToDescendIntoDirectory(
+        final String include, final String exclude, final String dir, final boolean expected
+    ) {
+        MatcherAssert.assertThat(
+            String.format("We expect the filter to decide correctly whether to visit '%s'", dir),
+            new GlobFilter(GlobFilterTest.setOf(include), GlobFilterTest.setOf(exclude))
+                .descends(Paths.get(dir)),
+            Matchers.is(expected)
+        );
+    }
+
+    @Test
+    void matchesPathsRelativeToRoot() {
+        final Path root = Paths.get("/tmp/project/target/classes");
+        final GlobFilter filter = new GlobFilter(
+            GlobFilterTest.setOf("com/foo/**"), GlobFilterTest.setOf()
+        ).within(root);
+        MatcherAssert.assertThat(
+            "We expect the patterns to be matched against paths relative to the root",
+            new Boolean[]{
+                filter.test(root.resolve("com/foo/A.class")),
+                filter.test(root.resolve("org/bar/B.class")),
+                filter.descends(root.resolve("com")),
+                filter.descends(root.resolve("org")),
+            },
+            Matchers.arrayContaining(true, false, true, false)
+        );
+    }
+
+    @Test
+    void matchesClassesRightInRoot() {
+        final Path root = Paths.get("/tmp/project/target/classes");
+        MatcherAssert.assertThat(
+            "We expect the leading '**/' to match zero directories",
+            new GlobFilter(GlobFilterTest.setOf("**/*.class"), GlobFilterTest.setOf())
+                .within(root)
+                .test(root.resolve("Main.class")),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void doesNotVisitUnrelatedSubtrees(@TempDir final Path dir) throws IOException {
+        final Path root = dir.resolve("classes");
+        Files.createDirectories(root.resolve("com/foo"));
+        Files.createDirectories(root.resolve("org/bar"));
+        Files.write(root.resolve("com/foo/A.class"), new byte[0]);
+        Files.write(root.resolve("org/bar/B.class"), new byte[0]);
+        final GlobFilter filter = new GlobFilter(
+            GlobFilterTest.setOf("com/foo/**"), GlobFilterTest.setOf()
+        );
+        final Collection<Path> visited = new ArrayList<>(0);
+        final List<Path> found = new FilteredClasses(
+            new BytecodeClasses(
+                root,
+                path -> {
+                    visited.add(root.relativize(path));
+                    return filter.within(root).descends(path);
+                }
+            ),
+            filter
+        ).all().collect(Collectors.toList());
+        MatcherAssert.assertThat(
+            "We expect only matching classes to be found",
+            found,
+            Matchers.contains(root.resolve("com/foo/A.class"))
+        );
+        MatcherAssert.assertThat(
+            "We expect the unrelated subtree to be pruned right at its top",
+            visited,
+            Matchers.not(Matchers.hasItem(Paths.get("org/bar")))
+        );
+    }
+
     /**
      * Test cases for GlobFilter.
      * @return Stream of test cases
@@ -171,6 +265,6 @@ final class GlobFilterTest {
      * @return Set of strings
      */
     private static Set<String> setOf(final String... values) {
-        return Stream.of(values).collect(java.util.stream.Collectors.toSet());
+        return Stream.of(values).collect(Collectors.toSet());
     }
 }
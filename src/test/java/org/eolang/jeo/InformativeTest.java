@@ -4,6 +4,8 @@
  */
 package org.eolang.jeo;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import org.hamcrest.MatcherAssert;
@@ -32,8 +34,8 @@ final class InformativeTest {
             }
 
             @Override
-            public byte[] transform() {
-                return expected;
+            public void transform(final OutputStream output) throws IOException {
+                output.write(expected);
             }
         };
         MatcherAssert.assertThat(
@@ -58,7 +60,7 @@ final class InformativeTest {
             }
 
             @Override
-            public byte[] transform() {
+            public void transform(final OutputStream output) {
                 throw new NullPointerException("Original failure");
             }
         };
@@ -0,0 +1,91 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test cases for {@link Inventory}.
+ * @since 0.16.0
+ */
+final class InventoryTest {
+
+    @Test
+    void findsFilesOnlyOnce(@TempDir final Path temp) throws IOException {
+        final Path root = temp.resolve("classes");
+        final Path first = InventoryTest.touch(root.resolve("org/eolang/First.class"));
+        final Inventory inventory = new Inventory(root);
+        MatcherAssert.assertThat(
+            "We expect the inventory to find the file",
+            inventory.files().collect(Collectors.toList()),
+            Matchers.contains(first)
+        );
+        InventoryTest.touch(root.resolve("org/eolang/Second.class"));
+        MatcherAssert.assertThat(
+            "We expect the tree to be walked only once",
+            inventory.entries(),
+            Matchers.iterableWithSize(1)
+        );
+    }
+
+    @Test
+    void skipsRejectedDirectories(@TempDir final Path temp) throws IOException {
+        final Path kept = InventoryTest.touch(temp.resolve("org/Kept.class"));
+        InventoryTest.touch(temp.resolve("org/generated/Skipped.class"));
+        MatcherAssert.assertThat(
+            "We expect the rejected directory not to be walked",
+            new Inventory(temp, dir -> !dir.endsWith("generated"))
+                .files()
+                .collect(Collectors.toList()),
+            Matchers.contains(kept)
+        );
+    }
+
+    @Test
+    void listsOnlyChangedDirectoriesAgain(@TempDir final Path temp) throws IOException {
+        final Path root = temp.resolve("classes");
+        final Path state = temp.resolve("inventory/classes.txt");
+        final Path dir = root.resolve("org/eolang");
+        InventoryTest.touch(dir.resolve("First.class"));
+        final FileTime old = FileTime.fromMillis(
+            System.currentTimeMillis() - TimeUnit.HOURS.toMillis(1L)
+        );
+        Files.setLastModifiedTime(dir, old);
+        new Inventory(root, path -> true, state).entries();
+        InventoryTest.touch(dir.resolve("Second.class"));
+        Files.setLastModifiedTime(dir, old);
+        MatcherAssert.assertThat(
+            "We expect the unchanged directory to be taken from the saved inventory",
+            new Inventory(root, path -> true, state).entries(),
+            Matchers.iterableWithSize(1)
+        );
+        Files.setLastModifiedTime(dir, FileTime.fromMillis(System.currentTimeMillis()));
+        MatcherAssert.assertThat(
+            "We expect the changed directory to be listed again",
+            new Inventory(root, path -> true, state).entries(),
+            Matchers.iterableWithSize(2)
+        );
+    }
+
+    /**
+     * Create an empty file with all the parent directories.
+     * @param file File
+     * @return The same file
+     * @throws IOException If fails
+     */
+    private static Path touch(final Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        return Files.write(file, new byte[0]);
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.io.ResourceOf;
+import org.eolang.jeo.representation.asm.AsmProgram;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link JeoEngine}.
+ * @since 0.16.0
+ */
+final class JeoEngineTest {
+
+    @Test
+    void appliesTransformationInMemory() throws Exception {
+        MatcherAssert.assertThat(
+            "Engine should apply the transformation to the object model and write it back",
+            new AsmProgram(
+                new JeoEngine(
+                    program -> program.replaceTopClass(program.top().withField("injected"))
+                ).transform(new BytesOf(new ResourceOf("Check.class")).asBytes())
+            ).bytecode().top().toString(),
+            Matchers.containsString("injected")
+        );
+    }
+
+    @Test
+    void transformsSameClassOnlyOnce() throws Exception {
+        final AtomicInteger calls = new AtomicInteger(0);
+        final JeoEngine engine = new JeoEngine(
+            program -> {
+                calls.incrementAndGet();
+                return program;
+            }
+        );
+        final byte[] bytes = new BytesOf(new ResourceOf("Check.class")).asBytes();
+        engine.transform(bytes);
+        engine.transform(bytes.clone());
+        MatcherAssert.assertThat(
+            "Engine should take the result from the cache for the same class bytes",
+            calls.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void returnsSameBytesIfClassIsUnchanged() throws Exception {
+        final byte[] bytes = new BytesOf(new ResourceOf("Check.class")).asBytes();
+        MatcherAssert.assertThat(
+            "Engine should return the original bytes if the transformation changes nothing",
+            new JeoEngine(program -> program).transform(bytes, this.getClass().getClassLoader()),
+            Matchers.sameInstance(bytes)
+        );
+    }
+
+    @Test
+    void appliesTransformationWithDefiningLoader() throws Exception {
+        MatcherAssert.assertThat(
+            "Engine should write the transformed class with the given class loader",
+            new AsmProgram(
+                new JeoEngine(
+                    program -> program.replaceTopClass(program.top().withField("loaded"))
+                ).transform(
+                    new BytesOf(new ResourceOf("Check.class")).asBytes(),
+                    this.getClass().getClassLoader()
+                )
+            ).bytecode().top().toString(),
+            Matchers.containsString("loaded")
+        );
+    }
+
+    @Test
+    void transformsAgainForAnotherLoader() throws Exception {
+        final AtomicInteger calls = new AtomicInteger(0);
+        final JeoEngine engine = new JeoEngine(
+            program -> {
+                calls.incrementAndGet();
+                return program.replaceTopClass(program.top().withField("counted"));
+            }
+        );
+        final byte[] bytes = new BytesOf(new ResourceOf("Check.class")).asBytes();
+        final ClassLoader parent = this.getClass().getClassLoader();
+        try (URLClassLoader other = new URLClassLoader(new URL[0], parent)) {
+            engine.transform(bytes, parent);
+            engine.transform(bytes, other);
+            engine.transform(bytes, other);
+        }
+        MatcherAssert.assertThat(
+            "Engine should transform a changed class once for each defining loader",
+            calls.get(),
+            Matchers.equalTo(2)
+        );
+    }
+
+    @Test
+    void sharesUnchangedClassesBetweenLoaders() throws Exception {
+        final AtomicInteger calls = new AtomicInteger(0);
+        final JeoEngine engine = new JeoEngine(
+            program -> {
+                calls.incrementAndGet();
+                return program;
+            }
+        );
+        final byte[] bytes = new BytesOf(new ResourceOf("Check.class")).asBytes();
+        final ClassLoader parent = this.getClass().getClassLoader();
+        try (URLClassLoader other = new URLClassLoader(new URL[0], parent)) {
+            engine.transform(bytes, parent);
+            engine.transform(bytes, other);
+        }
+        MatcherAssert.assertThat(
+            "Engine should remember unchanged classes for all the loaders",
+            calls.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void detectsChangesMadeInPlace() throws Exception {
+        final byte[] bytes = new BytesOf(new ResourceOf("Check.class")).asBytes();
+        MatcherAssert.assertThat(
+            "Engine should rewrite the class changed in place by the transformation",
+            new JeoEngine(
+                program -> {
+                    program.top().withField("inplace");
+                    return program;
+                }
+            ).transform(bytes, this.getClass().getClassLoader()),
+            Matchers.not(Matchers.sameInstance(bytes))
+        );
+    }
+}
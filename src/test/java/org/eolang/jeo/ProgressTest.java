@@ -0,0 +1,44 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import org.eolang.jeo.representation.Counter;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Progress}.
+ * @since 0.16.0
+ */
+final class ProgressTest {
+
+    @Test
+    void reportsPercentageOfFinishedFiles() {
+        final Counter counter = new Counter(4);
+        counter.next(100L);
+        try (Progress progress = new Progress("Disassembling", counter)) {
+            MatcherAssert.assertThat(
+                "Progress line should contain the number and the percentage of finished files",
+                progress.line(),
+                Matchers.allOf(
+                    Matchers.startsWith("Disassembling: 1/4 files (25"),
+                    Matchers.containsString("ETA")
+                )
+            );
+        }
+    }
+
+    @Test
+    void reportsCompletionForEmptyProject() {
+        try (Progress progress = new Progress("Assembling", new Counter(0))) {
+            MatcherAssert.assertThat(
+                "Progress of an empty project should be complete",
+                progress.line(),
+                Matchers.startsWith("Assembling: 0/0 files (100")
+            );
+        }
+    }
+}
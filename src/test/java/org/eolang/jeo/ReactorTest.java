@@ -0,0 +1,69 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.io.ResourceOf;
+import org.eolang.jeo.representation.directives.Format;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link Reactor}.
+ * @since 0.16.0
+ */
+final class ReactorTest {
+
+    @Test
+    void translatesAllModulesIntoTheirOwnDirectories(@TempDir final Path tmp) throws Exception {
+        final Path first = ReactorTest.module(tmp.resolve("first"), "Check.class");
+        final Path second = ReactorTest.module(tmp.resolve("second"), "MethodByte.class");
+        new Reactor(
+            "Disassembling",
+            Arrays.asList(
+                new Disassembler(
+                    new BytecodeClasses(first.resolve("classes")),
+                    first.resolve("xmir"),
+                    new Format(),
+                    false
+                ),
+                new Disassembler(
+                    new BytecodeClasses(second.resolve("classes")),
+                    second.resolve("xmir"),
+                    new Format(),
+                    false
+                )
+            ),
+            2
+        ).translate();
+        MatcherAssert.assertThat(
+            "Each module should get XMIR in its own directory",
+            Arrays.asList(
+                Files.exists(first.resolve("xmir").resolve("Check.xmir")),
+                Files.exists(second.resolve("xmir").resolve("MethodByte.xmir"))
+            ),
+            Matchers.everyItem(Matchers.is(true))
+        );
+    }
+
+    /**
+     * Create module directory with a single class.
+     * @param dir Module directory
+     * @param clazz Class resource
+     * @return Module directory
+     * @throws Exception If fails
+     */
+    private static Path module(final Path dir, final String clazz) throws Exception {
+        final Path classes = dir.resolve("classes");
+        Files.createDirectories(classes);
+        Files.write(classes.resolve(clazz), new BytesOf(new ResourceOf(clazz)).asBytes());
+        return dir;
+    }
+}
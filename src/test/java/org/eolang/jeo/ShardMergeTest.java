@@ -0,0 +1,69 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link ShardMerge}.
+ * @since 0.16.0
+ */
+final class ShardMergeTest {
+
+    /**
+     * Files to translate.
+     */
+    private static final List<String> FILES = Arrays.asList(
+        "org/eolang/A.class", "org/eolang/B.class", "org/eolang/C.class",
+        "org/eolang/D.class", "org/eolang/E.class", "F.class"
+    );
+
+    @Test
+    void mergesReportsOfAllShards(@TempDir final Path dir) {
+        ShardMergeTest.save(dir, 0, 2);
+        ShardMergeTest.save(dir, 1, 2);
+        MatcherAssert.assertThat(
+            "Merged report must contain all the files",
+            new ShardMerge(dir, "disassemble").merge(ShardMergeTest.FILES).files(),
+            Matchers.containsInAnyOrder(ShardMergeTest.FILES.toArray())
+        );
+    }
+
+    @Test
+    void failsWhenShardIsMissing(@TempDir final Path dir) {
+        ShardMergeTest.save(dir, 1, 2);
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> new ShardMerge(dir, "disassemble").merge(ShardMergeTest.FILES),
+            "Merge must fail if one of the shards did not report"
+        );
+    }
+
+    /**
+     * Save the report of the shard.
+     * @param dir Reports directory
+     * @param index Shard index
+     * @param count Number of shards
+     */
+    private static void save(final Path dir, final int index, final int count) {
+        final Shard shard = new Shard(index, count);
+        final Collection<String> owned = new ArrayList<>(0);
+        for (final String file : ShardMergeTest.FILES) {
+            if (shard.of(file) == index) {
+                owned.add(file);
+            }
+        }
+        new ShardReport("disassemble", shard, 10L, owned).save(dir);
+    }
+}
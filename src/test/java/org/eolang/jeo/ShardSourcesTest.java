@@ -0,0 +1,71 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import org.cactoos.set.SetOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link ShardSources}.
+ * @since 0.16.0
+ */
+final class ShardSourcesTest {
+
+    @Test
+    void skipsExcludedClasses(@TempDir final Path dir) throws IOException {
+        ShardSourcesTest.touch(dir.resolve("org/eolang/A.class"));
+        ShardSourcesTest.touch(dir.resolve("org/eolang/GeneratedB.class"));
+        MatcherAssert.assertThat(
+            "We expect that excluded classes are not expected from the shards",
+            new ShardSources(
+                dir,
+                "disassemble",
+                new GlobFilter(new SetOf<>("**/*.class"), new SetOf<>("**/Generated*.class"))
+            ).all(),
+            Matchers.contains("org/eolang/A.class")
+        );
+    }
+
+    @Test
+    void mergesShardsThatSkippedExcludedClasses(@TempDir final Path dir) throws IOException {
+        final Path classes = dir.resolve("classes");
+        ShardSourcesTest.touch(classes.resolve("org/eolang/A.class"));
+        ShardSourcesTest.touch(classes.resolve("org/eolang/GeneratedB.class"));
+        final Path reports = dir.resolve("reports");
+        new ShardReport(
+            "disassemble", new Shard(), 10L, Collections.singleton("org/eolang/A.class")
+        ).save(reports);
+        MatcherAssert.assertThat(
+            "We expect that the merge doesn't report excluded classes as missed",
+            new ShardMerge(reports, "disassemble").merge(
+                new ShardSources(
+                    classes,
+                    "disassemble",
+                    new GlobFilter(
+                        new SetOf<>("**/*.class"), new SetOf<>("**/Generated*.class")
+                    )
+                ).all()
+            ).files(),
+            Matchers.contains("org/eolang/A.class")
+        );
+    }
+
+    /**
+     * Create an empty file with all the parent directories.
+     * @param file File to create
+     * @throws IOException If fails
+     */
+    private static void touch(final Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.write(file, new byte[0]);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.Set;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link Shard}.
+ * @since 0.16.0
+ */
+final class ShardTest {
+
+    @Test
+    void splitsFilesIntoDisjointAndCompleteShards() {
+        final Path root = Paths.get("classes");
+        final int count = 3;
+        final Set<String> owned = new HashSet<>(0);
+        int total = 0;
+        for (int idx = 0; idx < 20; ++idx) {
+            final Path file = root.resolve(String.format("org/eolang/Class%d.class", idx));
+            for (int index = 0; index < count; ++index) {
+                if (new Shard(index, count).owns(root, file)) {
+                    owned.add(file.toString());
+                    ++total;
+                }
+            }
+        }
+        MatcherAssert.assertThat(
+            "Each file must belong to exactly one shard",
+            owned.size(),
+            Matchers.allOf(Matchers.equalTo(20), Matchers.equalTo(total))
+        );
+    }
+
+    @Test
+    void putsClassAndItsXmirIntoTheSameShard() {
+        final Shard shard = new Shard(0, 7);
+        MatcherAssert.assertThat(
+            "Class file and its XMIR must be translated by the same shard",
+            shard.of(Shard.relative(Paths.get("xmir"), Paths.get("xmir/org/eolang/Foo.xmir"))),
+            Matchers.equalTo(
+                shard.of(
+                    Shard.relative(Paths.get("classes"), Paths.get("classes/org/eolang/Foo.class"))
+                )
+            )
+        );
+    }
+
+    @Test
+    void ownsEverythingWhenSingle() {
+        MatcherAssert.assertThat(
+            "Single shard must own all the files",
+            new Shard().owns(Paths.get("classes"), Paths.get("classes/A.class")),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void rejectsWrongIndex() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Shard(3, 3),
+            "Shard index must be less than the number of shards"
+        );
+    }
+}
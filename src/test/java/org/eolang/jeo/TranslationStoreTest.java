@@ -0,0 +1,227 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test cases for {@link TranslationStore}.
+ * @since 0.16.0
+ */
+final class TranslationStoreTest {
+
+    @Test
+    void translatesTheSameInputOnlyOnce(@TempDir final Path temp) throws IOException {
+        final TranslationStore store = new TranslationStore(temp.resolve("store"), 1 << 20);
+        final AtomicInteger calls = new AtomicInteger(0);
+        final Path first = temp.resolve("first.class");
+        final Path second = temp.resolve("second.class");
+        Files.write(first, "the same bytes".getBytes(StandardCharsets.UTF_8));
+        Files.write(second, "the same bytes".getBytes(StandardCharsets.UTF_8));
+        store.decorate(new Counting(first, calls), "settings").transform();
+        MatcherAssert.assertThat(
+            "We expect the same input to be taken from the store the second time",
+            new String(
+                store.decorate(new Counting(second, calls), "settings").transform(),
+                StandardCharsets.UTF_8
+            ),
+            Matchers.equalTo(Counting.RESULT)
+        );
+        MatcherAssert.assertThat(
+            "We expect the original transformation to be performed only once",
+            calls.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void translatesAgainWithDifferentSettings(@TempDir final Path temp) throws IOException {
+        final TranslationStore store = new TranslationStore(temp.resolve("store"), 1 << 20);
+        final AtomicInteger calls = new AtomicInteger(0);
+        final Path clazz = temp.resolve("Some.class");
+        Files.write(clazz, "some bytes".getBytes(StandardCharsets.UTF_8));
+        store.decorate(new Counting(clazz, calls), "first").transform();
+        store.decorate(new Counting(clazz, calls), "second").transform();
+        MatcherAssert.assertThat(
+            "We expect different settings to give different results",
+            calls.get(),
+            Matchers.equalTo(2)
+        );
+    }
+
+    @Test
+    void keepsStoreWithinLimit(@TempDir final Path temp) throws IOException {
+        final Path dir = temp.resolve("store");
+        final long limit = 40L;
+        final TranslationStore store = new TranslationStore(dir, limit);
+        for (int idx = 0; idx < 10; ++idx) {
+            store.save(
+                store.key(new byte[]{(byte) idx}, "settings"),
+                new Counting(temp.resolve("A.class"), new AtomicInteger(0)),
+                new ByteArrayOutputStream()
+            );
+        }
+        try (Stream<Path> all = Files.walk(dir)) {
+            MatcherAssert.assertThat(
+                "We expect the least recently used results to be evicted",
+                all.filter(Files::isRegularFile).mapToLong(path -> path.toFile().length()).sum(),
+                Matchers.lessThanOrEqualTo(limit)
+            );
+        }
+    }
+
+    @Test
+    void streamsResultIntoOutputAndStoreAtOnce(@TempDir final Path temp) throws IOException {
+        final TranslationStore store = new TranslationStore(temp.resolve("store"), 1 << 20);
+        final AtomicInteger calls = new AtomicInteger(0);
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final String key = store.key(new byte[]{1}, "settings");
+        store.save(key, new Counting(temp.resolve("A.class"), calls), output);
+        final ByteArrayOutputStream copied = new ByteArrayOutputStream();
+        store.copy(key, copied);
+        MatcherAssert.assertThat(
+            "We expect the result to be transformed once and written to the output and the store",
+            new Object[]{
+                calls.get(),
+                new String(output.toByteArray(), StandardCharsets.UTF_8),
+                new String(copied.toByteArray(), StandardCharsets.UTF_8),
+            },
+            Matchers.arrayContaining(
+                Matchers.equalTo(1),
+                Matchers.equalTo(Counting.RESULT),
+                Matchers.equalTo(Counting.RESULT)
+            )
+        );
+    }
+
+    @Test
+    void transformsWhenStoreIsNotWritable(@TempDir final Path temp) throws IOException {
+        final Path dir = temp.resolve("store");
+        Files.write(dir, new byte[0]);
+        final AtomicInteger calls = new AtomicInteger(0);
+        final Path clazz = temp.resolve("Some.class");
+        Files.write(clazz, "some bytes".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            "We expect the result to be written to the output even if the store is broken",
+            new String(
+                new TranslationStore(dir, 1 << 20)
+                    .decorate(new Counting(clazz, calls), "settings")
+                    .transform(),
+                StandardCharsets.UTF_8
+            ),
+            Matchers.equalTo(Counting.RESULT)
+        );
+        MatcherAssert.assertThat(
+            "We expect the transformation to be performed only once",
+            calls.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void treatsMissingResultAsMiss(@TempDir final Path temp) throws IOException {
+        final TranslationStore store = new TranslationStore(temp.resolve("store"), 1 << 20);
+        MatcherAssert.assertThat(
+            "We expect a result absent from the store to be a miss",
+            store.copy(store.key(new byte[]{2}, "settings"), new ByteArrayOutputStream()),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void doesNotDecorateIfDisabled(@TempDir final Path temp) {
+        final Transformation origin = new Counting(temp.resolve("A.class"), new AtomicInteger(0));
+        MatcherAssert.assertThat(
+            "We expect disabled store to leave transformation as is",
+            new TranslationStore().decorate(origin, "settings"),
+            Matchers.sameInstance(origin)
+        );
+    }
+
+    @Test
+    void translatesAgainWithinDifferentContext(@TempDir final Path temp) throws IOException {
+        final TranslationStore store = new TranslationStore(temp.resolve("store"), 1 << 20);
+        final AtomicInteger calls = new AtomicInteger(0);
+        final Path clazz = temp.resolve("Some.xmir");
+        Files.write(clazz, "some bytes".getBytes(StandardCharsets.UTF_8));
+        store.within("first.jar").decorate(new Counting(clazz, calls), "assemble").transform();
+        store.within("second.jar").decorate(new Counting(clazz, calls), "assemble").transform();
+        MatcherAssert.assertThat(
+            "We expect different classpaths to give different results",
+            calls.get(),
+            Matchers.equalTo(2)
+        );
+    }
+
+    @Test
+    void doesNotDecorateWithoutDirectory(@TempDir final Path temp) {
+        final Transformation origin = new Counting(temp.resolve("B.class"), new AtomicInteger(0));
+        MatcherAssert.assertThat(
+            "We expect the store without directory to be disabled",
+            new TranslationStore((File) null, 1024L).decorate(origin, "settings"),
+            Matchers.sameInstance(origin)
+        );
+    }
+
+    /**
+     * Transformation that counts its calls.
+     * @since 0.16.0
+     */
+    private static final class Counting implements Transformation {
+
+        /**
+         * Result of the transformation.
+         */
+        private static final String RESULT = "translated";
+
+        /**
+         * Source file.
+         */
+        private final Path src;
+
+        /**
+         * Calls counter.
+         */
+        private final AtomicInteger calls;
+
+        /**
+         * Constructor.
+         * @param src Source file
+         * @param calls Calls counter
+         */
+        Counting(final Path src, final AtomicInteger calls) {
+            this.src = src;
+            this.calls = calls;
+        }
+
+        @Override
+        public Path source() {
+            return this.src;
+        }
+
+        @Override
+        public Path target() {
+            return this.src.resolveSibling("target.xmir");
+        }
+
+        @Override
+        public void transform(final OutputStream output) throws IOException {
+            this.calls.incrementAndGet();
+            output.write(Counting.RESULT.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo;
+
+import java.nio.file.Paths;
+import java.util.Collections;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Test case for {@link Verification}.
+ * @since 0.16.0
+ */
+final class VerificationTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "none, NONE",
+        "Structure, STRUCTURE",
+        " changed , CHANGED",
+        "FULL, FULL"
+    })
+    void parsesLevel(final String name, final Verification expected) {
+        MatcherAssert.assertThat(
+            "Level should be parsed ignoring case and spaces",
+            Verification.fromString(name),
+            Matchers.is(expected)
+        );
+    }
+
+    @Test
+    void rejectsUnknownLevel() {
+        MatcherAssert.assertThat(
+            "Unknown level should be rejected with the list of known ones",
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> Verification.fromString("deep")
+            ).getMessage(),
+            Matchers.containsString("none, structure, changed, full")
+        );
+    }
+
+    @Test
+    void analyzesOnlyChangedClasses() {
+        MatcherAssert.assertThat(
+            "Only classes not known to be pristine should be analyzed at 'changed' level",
+            Verification.CHANGED.deep(
+                Paths.get("Pristine.class"),
+                Collections.singleton(Paths.get("Pristine.class").toAbsolutePath().normalize())
+            ),
+            Matchers.is(false)
+        );
+    }
+}
@@ -17,6 +17,8 @@ import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.objectweb.asm.MethodVisitor;
 
 /**
@@ -225,4 +227,65 @@ final class BytecodeRepresentationTest {
             Matchers.equalTo(original.toString())
         );
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"MethodByte.class", "Check.class", "FixedWidth.class"})
+    void generatesReproducibleXmir(final String resource) {
+        final Format format = new Format(
+            Format.MODE, "debug",
+            Format.REPRODUCIBLE, true
+        );
+        MatcherAssert.assertThat(
+            "The same class should always give byte-identical XMIR in reproducible mode",
+            new BytecodeRepresentation(new ResourceOf(resource)).toEO(format),
+            Matchers.equalTo(new BytecodeRepresentation(new ResourceOf(resource)).toEO(format))
+        );
+    }
+
+    @Test
+    void keepsNotSelectedMethodsOpaqueAndCopiesThemBack() throws Exception {
+        final Bytecode original = new Bytecode(
+            new BytesOf(new ResourceOf("AnnotationsApplication.class")).asBytes()
+        );
+        MatcherAssert.assertThat(
+            "Methods with opaque bodies should be copied back to the same bytecode",
+            new XmirRepresentation(
+                new BytecodeRepresentation(original).toXmir(
+                    new Format(BytecodeRepresentationTest.DEBUG, Format.METHODS, "@Absent")
+                )
+            ).toBytecode().toString(),
+            Matchers.equalTo(original.toString())
+        );
+    }
+
+    @Test
+    void disassemblesOnlySelectedMethodsIntoInstructions() {
+        MatcherAssert.assertThat(
+            "Only selected methods should be disassembled into instructions",
+            new BytecodeRepresentation(
+                new ResourceOf(BytecodeRepresentationTest.METHOD_BYTE)
+            ).toXmir(new Format(BytecodeRepresentationTest.DEBUG, Format.METHODS, "main")),
+            XhtmlMatchers.hasXPaths(
+                "//o[@name='jm$main']//o[contains(@base,'opcode')]",
+                "//o[@name='jm$method' and not(.//o[contains(@base,'opcode')])]",
+                "//o[@name='jm$method']//o[contains(@base,'opaque-method')]"
+            )
+        );
+    }
+
+    @Test
+    void disassemblesOnlyStructureWithoutMethodBodies() {
+        MatcherAssert.assertThat(
+            "Structure mode should keep method signatures, but skip their bodies",
+            new BytecodeRepresentation(
+                new ResourceOf(BytecodeRepresentationTest.METHOD_BYTE)
+            ).toXmir(new Format(Format.MODE, "structure")),
+            XhtmlMatchers.hasXPaths(
+                "//o[@name='jm$main']",
+                "//o[@name='jm$method']",
+                "/object[not(.//o[contains(@base,'opcode')])]",
+                "/object[not(.//o[contains(@base,'opaque-method')])]"
+            )
+        );
+    }
 }
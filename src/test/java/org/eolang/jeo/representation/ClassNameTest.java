@@ -0,0 +1,35 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Test cases for {@link ClassName}.
+ * @since 0.16.0
+ */
+final class ClassNameTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "org.eolang.jeo.Foo, org/eolang/jeo/Foo, org.eolang.jeo, Foo",
+        "org/eolang/Foo$Bar, org/eolang/Foo$Bar, org.eolang, Foo$Bar",
+        "Foo, Foo, '', Foo",
+        "a/b/, a/b/, a.b, b"
+    })
+    void splitsFullName(
+        final String origin, final String full, final String pckg, final String name
+    ) {
+        final ClassName clazz = new ClassName(origin);
+        MatcherAssert.assertThat(
+            String.format("Class name '%s' is split wrongly", origin),
+            new String[]{clazz.full(), clazz.pckg(), clazz.name()},
+            Matchers.arrayContaining(full, pckg, name)
+        );
+    }
+}
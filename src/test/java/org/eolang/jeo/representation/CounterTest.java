@@ -76,4 +76,28 @@ final class CounterTest {
             Matchers.is(String.format("2/%d", Integer.MAX_VALUE))
         );
     }
+
+    @Test
+    void sumsBytesOfFinishedItems() {
+        final Counter counter = new Counter(2);
+        counter.next(10L);
+        counter.next(32L);
+        MatcherAssert.assertThat(
+            "Counter should sum the bytes of all the finished items",
+            counter.bytes(),
+            Matchers.is(42L)
+        );
+    }
+
+    @Test
+    void countsFinishedItems() {
+        final Counter counter = new Counter(5);
+        counter.next();
+        counter.next(1L);
+        MatcherAssert.assertThat(
+            "Counter should count finished items with and without bytes",
+            counter.done(),
+            Matchers.is(2L)
+        );
+    }
 }
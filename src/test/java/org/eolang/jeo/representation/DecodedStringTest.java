@@ -4,8 +4,13 @@
  */
 package org.eolang.jeo.representation;
 
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
@@ -30,4 +35,33 @@ final class DecodedStringTest {
             Matchers.equalTo(expected)
         );
     }
+
+    @Test
+    void encodesExactlyAsUrlEncoder() throws UnsupportedEncodingException {
+        final Random random = new Random(42L);
+        final String alphabet = "aZ09.-*_ +%/;()[<>$\u00e9\u0416\u4e2d\ud83d\ude00\ud800";
+        for (int attempt = 0; attempt < 1000; ++attempt) {
+            final StringBuilder original = new StringBuilder();
+            final int length = random.nextInt(20);
+            for (int idx = 0; idx < length; ++idx) {
+                original.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            final String string = original.toString();
+            MatcherAssert.assertThat(
+                String.format("Encoded '%s' differs from URLEncoder", string),
+                new DecodedString(string).encode(),
+                Matchers.equalTo(URLEncoder.encode(string, StandardCharsets.UTF_8.name()))
+            );
+        }
+    }
+
+    @Test
+    void encodesAndDecodesBack() {
+        final String descriptor = "(Ljava/lang/String;[I\u0416 x)Ljava/util/List<*>;";
+        MatcherAssert.assertThat(
+            "Descriptor must survive encoding and decoding",
+            new EncodedString(new DecodedString(descriptor).encode()).decode(),
+            Matchers.equalTo(descriptor)
+        );
+    }
 }
@@ -4,8 +4,14 @@
  */
 package org.eolang.jeo.representation;
 
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
@@ -30,4 +36,36 @@ final class EncodedStringTest {
             Matchers.equalTo(expected)
         );
     }
+
+    @Test
+    void decodesExactlyAsUrlDecoder() throws UnsupportedEncodingException {
+        final Random random = new Random(42L);
+        final String[] parts = {
+            "a", "Z", "0", "+", ".", "%3C", "%2F", "%5b", "%D0%96", "%E4%B8%AD",
+            "%F0%9F%98%80", "%C3", "%FF", "\u0416", ";",
+        };
+        for (int attempt = 0; attempt < 1000; ++attempt) {
+            final StringBuilder encoded = new StringBuilder();
+            final int length = random.nextInt(20);
+            for (int idx = 0; idx < length; ++idx) {
+                encoded.append(parts[random.nextInt(parts.length)]);
+            }
+            final String string = encoded.toString();
+            MatcherAssert.assertThat(
+                String.format("Decoded '%s' differs from URLDecoder", string),
+                new EncodedString(string).decode(),
+                Matchers.equalTo(URLDecoder.decode(string, StandardCharsets.UTF_8.name()))
+            );
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({"%", "abc%2", "%G1", "%%"})
+    void rejectsBrokenEscapes(final String broken) {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new EncodedString(broken).decode(),
+            String.format("Broken escape in '%s' must be rejected", broken)
+        );
+    }
 }
@@ -0,0 +1,47 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test cases for {@link FileBytes}.
+ * @since 0.16.0
+ */
+final class FileBytesTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 65_536, 100_000, 2_000_000})
+    void readsAllBytesOfFile(final int size, @TempDir final Path dir) throws IOException {
+        final byte[] expected = new byte[size];
+        new Random(size).nextBytes(expected);
+        final Path file = dir.resolve("Random.class");
+        Files.write(file, expected);
+        MatcherAssert.assertThat(
+            "We expect to read exactly the same bytes that were written to the file",
+            new FileBytes(file).asBytes(),
+            Matchers.equalTo(expected)
+        );
+    }
+
+    @Test
+    void failsToReadAbsentFile(@TempDir final Path dir) {
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> new FileBytes(dir.resolve("Absent.class")).asBytes(),
+            "We expect an understandable exception if the file is absent"
+        );
+    }
+}
@@ -4,6 +4,9 @@
  */
 package org.eolang.jeo.representation;
 
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Assertions;
@@ -115,4 +118,40 @@ final class PrefixedNameTest {
             "Can't throw exception when decoding invalid name"
         );
     }
+
+    @ParameterizedTest
+    @CsvSource({"j$", "jm$"})
+    void encodesAndDecodesAsRegularExpressions(final String prefix) {
+        final Random random = new Random(42L);
+        final String alphabet = "ajm$./";
+        final Pattern prefixed = Pattern.compile(
+            String.format("(?<=^|[./])%s", Pattern.quote(prefix))
+        );
+        for (int attempt = 0; attempt < 1000; ++attempt) {
+            final StringBuilder name = new StringBuilder("x");
+            final int length = random.nextInt(12);
+            for (int idx = 0; idx < length; ++idx) {
+                name.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            final String origin = name.toString();
+            final String encoded = new PrefixedName(prefix, origin).encode();
+            MatcherAssert.assertThat(
+                String.format("Encoded '%s' differs from the regular expression", origin),
+                encoded,
+                Matchers.equalTo(
+                    Pattern.compile("(?<=^|[./])")
+                        .matcher(origin)
+                        .replaceAll(Matcher.quoteReplacement(prefix))
+                )
+            );
+            MatcherAssert.assertThat(
+                String.format("Decoded '%s' differs from the regular expression", encoded),
+                new PrefixedName(prefix, encoded).decode(),
+                Matchers.allOf(
+                    Matchers.equalTo(prefixed.matcher(encoded).replaceAll("")),
+                    Matchers.equalTo(origin)
+                )
+            );
+        }
+    }
 }
@@ -0,0 +1,60 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.eolang.jeo.representation.bytecode.BytecodeClass;
+import org.eolang.jeo.representation.bytecode.BytecodeObject;
+import org.eolang.jeo.representation.directives.Format;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Stage}.
+ * @since 0.16.0
+ */
+final class StageTest {
+
+    @Test
+    void recordsStagesOfDisassembling(@TempDir final Path temp) throws IOException {
+        final Path dump = temp.resolve("stages.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("org.eolang.jeo.Stage");
+            recording.start();
+            new BytecodeRepresentation(
+                new BytecodeObject(new BytecodeClass("org/eolang/Recorded")).bytecode()
+            ).toEO(new Format());
+            recording.stop();
+            recording.dump(dump);
+        }
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(dump).stream()
+            .filter(event -> "org/eolang/Recorded".equals(event.getString("subject")))
+            .collect(Collectors.toList());
+        MatcherAssert.assertThat(
+            "All the stages of disassembling should be recorded for the class",
+            events.stream().map(event -> event.getString("stage")).collect(Collectors.toList()),
+            Matchers.hasItems("frames", "parse", "object", "directives", "pretty")
+        );
+    }
+
+    @Test
+    void endsSpanWhenNothingIsRecorded() {
+        final Stage.Span span = Stage.READ.begin();
+        span.end("org/eolang/NotRecorded", 1L, 1L);
+        MatcherAssert.assertThat(
+            "Span should be created even if nothing is recorded",
+            span,
+            Matchers.notNullValue()
+        );
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link VerificationMetric}.
+ * @since 0.16.0
+ */
+final class VerificationMetricTest {
+
+    @Test
+    void recordsNumbersOfVerifiedClasses(@TempDir final Path temp) throws IOException {
+        final Path dump = temp.resolve("verification.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("org.eolang.jeo.Verification");
+            recording.start();
+            new VerificationMetric("changed", "target/recorded").record(2L, 5L);
+            recording.stop();
+            recording.dump(dump);
+        }
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(dump).stream()
+            .filter(event -> "target/recorded".equals(event.getString("directory")))
+            .collect(Collectors.toList());
+        MatcherAssert.assertThat(
+            "The numbers of classes verified at each depth should be recorded",
+            events.stream()
+                .map(
+                    event -> String.format(
+                        "%s %d %d",
+                        event.getString("level"),
+                        event.getLong("verified"),
+                        event.getLong("checked")
+                    )
+                )
+                .collect(Collectors.toList()),
+            Matchers.contains("changed 2 5")
+        );
+    }
+}
@@ -12,6 +12,7 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.cactoos.bytes.BytesOf;
 import org.cactoos.io.ResourceOf;
 import org.eolang.jeo.representation.bytecode.Bytecode;
@@ -231,4 +232,42 @@ final class XmirRepresentationTest {
             Matchers.equalTo(expected)
         );
     }
+
+    @Test
+    void copiesUnchangedMethodsFromOriginalClass(@TempDir final Path dir) throws IOException {
+        final Bytecode expected = new BytecodeObject(
+            new BytecodeClass("Application").helloWorldMethod()
+        ).bytecode();
+        final Path original = dir.resolve("Application.class");
+        Files.write(original, expected.bytes());
+        MatcherAssert.assertThat(
+            "We expect unchanged methods to be copied from the original class as is",
+            new XmirRepresentation(
+                new BytecodeRepresentation(expected).toXmir(
+                    new Format(Format.MODE, "debug", Format.FINGERPRINTS, true)
+                )
+            ).toBytecode(original).toString(),
+            Matchers.equalTo(expected.toString())
+        );
+    }
+
+    @Test
+    void tellsThatUnchangedXmirIsPristine(@TempDir final Path dir) throws IOException {
+        final Bytecode expected = new BytecodeObject(
+            new BytecodeClass("Application").helloWorldMethod()
+        ).bytecode();
+        final Path original = dir.resolve("Application.class");
+        Files.write(original, expected.bytes());
+        final AtomicBoolean pristine = new AtomicBoolean(false);
+        new XmirRepresentation(
+            new BytecodeRepresentation(expected).toXmir(
+                new Format(Format.MODE, "debug", Format.FINGERPRINTS, true)
+            )
+        ).toBytecode(original, () -> pristine.set(true));
+        MatcherAssert.assertThat(
+            "We expect XMIR that wasn't changed since disassembling to be pristine",
+            pristine.get(),
+            Matchers.is(true)
+        );
+    }
 }
@@ -43,4 +43,24 @@ final class AsmLabelsTest {
             Matchers.sameInstance(second)
         );
     }
+
+    @Test
+    void retrievesNumberedLabelByItsIdentifier() {
+        final AsmLabels all = new AsmLabels();
+        MatcherAssert.assertThat(
+            "Numbered label and label 'L7' should be resolved into the same ASM label",
+            all.label(new BytecodeLabel(7)),
+            Matchers.sameInstance(all.label(new BytecodeLabel("L7")))
+        );
+    }
+
+    @Test
+    void distinguishesNumberedLabels() {
+        final AsmLabels all = new AsmLabels();
+        MatcherAssert.assertThat(
+            "Labels with different numbers should be resolved into different ASM labels",
+            all.label(new BytecodeLabel(1)),
+            Matchers.not(Matchers.sameInstance(all.label(new BytecodeLabel(2))))
+        );
+    }
 }
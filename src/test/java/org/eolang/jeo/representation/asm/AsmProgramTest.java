@@ -6,6 +6,7 @@ package org.eolang.jeo.representation.asm;
 
 import org.cactoos.bytes.BytesOf;
 import org.cactoos.io.ResourceOf;
+import org.eolang.jeo.representation.ClassName;
 import org.eolang.jeo.representation.bytecode.Bytecode;
 import org.eolang.jeo.representation.bytecode.BytecodeClass;
 import org.eolang.jeo.representation.bytecode.BytecodeLabel;
@@ -18,6 +19,8 @@ import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.tree.ClassNode;
 import org.xembly.Xembler;
 
 /**
@@ -127,4 +130,22 @@ final class AsmProgramTest {
             Matchers.equalTo(bytecode.bytecode())
         );
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"MethodByte.class", "FixedWidth.class", "Check.class"})
+    void convertsMethodsWhileReadingTheSameWayAsTree(final String resource) throws Exception {
+        final byte[] bytes = new BytesOf(new ResourceOf(resource)).asBytes();
+        final ClassNode node = new ClassNode();
+        new ClassReader(bytes).accept(node, AsmUnknownAttributes.prototypes(), 0);
+        MatcherAssert.assertThat(
+            "We expect methods converted during reading to be the same as converted from the tree",
+            new AsmProgram(bytes).bytecode(0).bytecode().toString(),
+            Matchers.equalTo(
+                new BytecodeObject(
+                    new ClassName(node.name).pckg(),
+                    new AsmClass(node).bytecode()
+                ).bytecode().toString()
+            )
+        );
+    }
 }
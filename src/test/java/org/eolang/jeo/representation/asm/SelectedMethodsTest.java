@@ -0,0 +1,55 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation.asm;
+
+import java.util.Collections;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.AnnotationNode;
+import org.objectweb.asm.tree.MethodNode;
+
+/**
+ * Tests for {@link SelectedMethods}.
+ * @since 0.16.0
+ */
+final class SelectedMethodsTest {
+
+    @Test
+    void selectsMethodsByNameGlob() {
+        MatcherAssert.assertThat(
+            "Method should be selected by the name glob",
+            new SelectedMethods("set*, get?ame").test(
+                new MethodNode(Opcodes.ACC_PUBLIC, "getName", "()V", null, null)
+            ),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void selectsMethodsByAnnotation() {
+        final MethodNode method = new MethodNode(Opcodes.ACC_PUBLIC, "run", "()V", null, null);
+        method.invisibleAnnotations = Collections.singletonList(
+            new AnnotationNode("Lcom/example/Rewrite;")
+        );
+        MatcherAssert.assertThat(
+            "Method should be selected by the simple name of its annotation",
+            new SelectedMethods("@Rewrite").test(method),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void doesNotSelectOtherMethods() {
+        MatcherAssert.assertThat(
+            "Method that doesn't match any pattern should not be selected",
+            new SelectedMethods("get*, @com.example.Rewrite").test(
+                new MethodNode(Opcodes.ACC_PUBLIC, "run", "()V", null, null)
+            ),
+            Matchers.is(false)
+        );
+    }
+}
@@ -8,6 +8,7 @@ import org.eolang.jeo.representation.directives.DirectivesInstruction;
 import org.eolang.jeo.representation.directives.Format;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
@@ -42,4 +43,35 @@ final class BytecodeInstructionTest {
             )
         );
     }
+
+    @Test
+    void comparesInstructionsByOperands() {
+        MatcherAssert.assertThat(
+            "Instructions with the same opcode and operands should be equal",
+            new BytecodeInstruction(Opcodes.INVOKESTATIC, "java/lang/Math", "abs", "(I)I", false),
+            Matchers.allOf(
+                Matchers.equalTo(
+                    new BytecodeInstruction(
+                        Opcodes.INVOKESTATIC, "java/lang/Math", "abs", "(I)I", false
+                    )
+                ),
+                Matchers.not(
+                    Matchers.equalTo(
+                        new BytecodeInstruction(
+                            Opcodes.INVOKESTATIC, "java/lang/Math", "abs", "(J)J", false
+                        )
+                    )
+                )
+            )
+        );
+    }
+
+    @Test
+    void rejectsUnknownOpcode() {
+        Assertions.assertThrows(
+            UnrecognizedOpcode.class,
+            () -> new BytecodeInstruction(Opcodes.IFNONNULL + 1).impact(),
+            "Unknown opcode should not be recognized"
+        );
+    }
 }
@@ -0,0 +1,65 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation.bytecode;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test case for {@link BytecodeLabel}.
+ * @since 0.16.0
+ */
+final class BytecodeLabelTest {
+
+    @Test
+    void parsesNumberFromIdentifier() {
+        MatcherAssert.assertThat(
+            "Label 'L42' should get number 42",
+            new BytecodeLabel("L42").number(),
+            Matchers.equalTo(42)
+        );
+    }
+
+    @Test
+    void printsNumberAsIdentifier() {
+        MatcherAssert.assertThat(
+            "Numbered label should be printed as 'L<number>'",
+            new BytecodeLabel(13).uid(),
+            Matchers.equalTo("L13")
+        );
+    }
+
+    @Test
+    void equalsToParsedLabel() {
+        MatcherAssert.assertThat(
+            "Numbered label should be equal to the label parsed from its identifier",
+            new BytecodeLabel(5),
+            Matchers.equalTo(new BytecodeLabel("L5"))
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"L", "L07", "Lx", "L1x", "L99999999999", "label", "M5"})
+    void keepsOtherIdentifiersAsStrings(final String identifier) {
+        final BytecodeLabel label = new BytecodeLabel(identifier);
+        MatcherAssert.assertThat(
+            String.format("Label '%s' should not be numbered and keep its identifier", identifier),
+            label.number() < 0 && identifier.equals(label.uid()),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void createsDistinctLabels() {
+        MatcherAssert.assertThat(
+            "Labels created without identifiers should differ",
+            new BytecodeLabel(),
+            Matchers.not(Matchers.equalTo(new BytecodeLabel()))
+        );
+    }
+}
@@ -273,6 +273,35 @@ final class BytecodeMethodTest {
         );
     }
 
+    @Test
+    void computesMaxsInHandlersOfOverlappingBlocks() {
+        MatcherAssert.assertThat(
+            "We expect handlers of both overlapping try-catch blocks to be analyzed",
+            new BytecodeMethod("foo")
+                .trycatch(new BytecodeTryCatchBlock("L0", "L2", "L4", null))
+                .trycatch(new BytecodeTryCatchBlock("L1", "L3", "L5", null))
+                .label("L0")
+                .opcode(Opcodes.ICONST_0)
+                .opcode(Opcodes.POP)
+                .label("L1")
+                .opcode(Opcodes.ICONST_0)
+                .opcode(Opcodes.POP)
+                .label("L2")
+                .opcode(Opcodes.ICONST_0)
+                .opcode(Opcodes.POP)
+                .label("L3")
+                .opcode(Opcodes.RETURN)
+                .label("L4")
+                .opcode(Opcodes.POP)
+                .opcode(Opcodes.RETURN)
+                .label("L5")
+                .opcode(Opcodes.ASTORE, 1)
+                .opcode(Opcodes.RETURN)
+                .computeMaxs(),
+            Matchers.equalTo(new BytecodeMaxs(1, 2))
+        );
+    }
+
     @ParameterizedTest(name = "Computing maxs for method {1}, expected  {2}")
     @MethodSource("implementedMethods")
     void computesMaxsCorrectlyForImplementedMethods(
@@ -307,6 +336,22 @@ final class BytecodeMethodTest {
         );
     }
 
+    @Test
+    void appendsInstructionsToParsedMethod() throws Exception {
+        final BytecodeMethod method = new AsmProgram(
+            new BytesOf(new ResourceOf("MethodByte.class")).asBytes()
+        ).bytecode().top().methods().get(0);
+        final int before = method.instructions().size();
+        MatcherAssert.assertThat(
+            "We expect instructions to be appended to a method parsed from a class",
+            method.opcode(Opcodes.NOP).label("appended").instructions(),
+            Matchers.allOf(
+                Matchers.hasSize(before + 2),
+                Matchers.hasItem(new BytecodeInstruction(Opcodes.NOP))
+            )
+        );
+    }
+
     @ParameterizedTest(name = "Computing maxs for method {1}, expected  {2}")
     @MethodSource("realMethods")
     void computesMaxForRealClassAfterAllTransformations(
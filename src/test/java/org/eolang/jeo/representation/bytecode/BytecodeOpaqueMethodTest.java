@@ -0,0 +1,94 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation.bytecode;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.MethodNode;
+
+/**
+ * Test case for {@link BytecodeOpaqueMethod}.
+ * @since 0.16.0
+ */
+final class BytecodeOpaqueMethodTest {
+
+    @Test
+    void copiesBodyWithHeaderFromProperties() {
+        final ClassNode clazz = new ClassNode();
+        new BytecodeOpaqueMethod(BytecodeOpaqueMethodTest.blob()).write(
+            clazz,
+            new BytecodeMethodProperties(
+                Opcodes.ACC_PRIVATE | Opcodes.ACC_STATIC,
+                "renamed",
+                "()V",
+                "",
+                "java/io/IOException"
+            )
+        );
+        final MethodNode method = clazz.methods.get(0);
+        MatcherAssert.assertThat(
+            "We expect the header to be taken from the properties and the body from the blob",
+            new Object[]{method.name, method.access, method.exceptions, method.instructions.size()},
+            Matchers.arrayContaining(
+                Matchers.equalTo("renamed"),
+                Matchers.equalTo(Opcodes.ACC_PRIVATE | Opcodes.ACC_STATIC),
+                Matchers.contains("java/io/IOException"),
+                Matchers.equalTo(1)
+            )
+        );
+    }
+
+    @Test
+    void rejectsBlobWithDifferentDescriptor() {
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> new BytecodeOpaqueMethod(BytecodeOpaqueMethodTest.blob()).write(
+                new ClassNode(),
+                new BytecodeMethodProperties(
+                    Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, "method", "(I)V", ""
+                )
+            ),
+            "We expect a blob with a different descriptor to be rejected"
+        );
+    }
+
+    @Test
+    void rejectsBlobWithDifferentStaticFlag() {
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> new BytecodeOpaqueMethod(BytecodeOpaqueMethodTest.blob()).write(
+                new ClassNode(),
+                new BytecodeMethodProperties(Opcodes.ACC_PUBLIC, "method", "()V", "")
+            ),
+            "We expect a blob of a static method to be rejected for an instance method"
+        );
+    }
+
+    /**
+     * Blob with a single static method.
+     * @return Class file.
+     */
+    private static byte[] blob() {
+        final ClassWriter writer = new ClassWriter(0);
+        writer.visit(
+            Opcodes.V1_8, Opcodes.ACC_PUBLIC, "jeo/Opaque", null, "java/lang/Object", null
+        );
+        final MethodVisitor method = writer.visitMethod(
+            Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, "method", "()V", null, null
+        );
+        method.visitCode();
+        method.visitInsn(Opcodes.RETURN);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation.bytecode;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.eolang.jeo.representation.asm.AsmLabels;
+import org.eolang.jeo.representation.directives.Format;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.util.Textifier;
+import org.objectweb.asm.util.TraceMethodVisitor;
+import org.xembly.Directives;
+
+/**
+ * Test case for {@link CompactBody}.
+ * @since 0.16.0
+ */
+final class CompactBodyTest {
+
+    @Test
+    void keepsEntriesInOrder() {
+        MatcherAssert.assertThat(
+            "We expect the compact body to materialize the same entries in the same order",
+            new CompactBody(CompactBodyTest.entries()),
+            Matchers.equalTo(CompactBodyTest.entries())
+        );
+    }
+
+    @Test
+    void writesSameBytecodeAsEntries() {
+        final Textifier expected = new Textifier();
+        final TraceMethodVisitor trace = new TraceMethodVisitor(expected);
+        final AsmLabels labels = new AsmLabels();
+        CompactBodyTest.entries().forEach(entry -> entry.writeTo(trace, labels));
+        final Textifier actual = new Textifier();
+        new CompactBody(CompactBodyTest.entries())
+            .writeTo(new TraceMethodVisitor(actual), new AsmLabels());
+        MatcherAssert.assertThat(
+            "We expect the compact body to write the same bytecode as its entries",
+            actual.getText(),
+            Matchers.equalTo(expected.getText())
+        );
+    }
+
+    @Test
+    void generatesSameDirectivesAsEntries() {
+        final List<BytecodeEntry> entries = CompactBodyTest.entries();
+        MatcherAssert.assertThat(
+            "We expect the compact body to generate the same directives as its entries",
+            new CompactBody(entries).directives(new Format()).stream()
+                .map(Directives::new)
+                .map(Directives::toString)
+                .collect(Collectors.toList()),
+            Matchers.equalTo(
+                IntStream.range(0, entries.size())
+                    .mapToObj(index -> entries.get(index).directives(index, new Format()))
+                    .map(Directives::new)
+                    .map(Directives::toString)
+                    .collect(Collectors.toList())
+            )
+        );
+    }
+
+    @Test
+    void findsJumpTargetsByLabelIndexes() {
+        MatcherAssert.assertThat(
+            "We expect the jump target to be the position of the label",
+            new CompactBody(CompactBodyTest.entries()).targets(4)[0],
+            Matchers.equalTo(5)
+        );
+    }
+
+    @Test
+    void rejectsJumpToAbsentLabel() {
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> new CompactBody(
+                Arrays.asList(
+                    new BytecodeInstruction(Opcodes.GOTO, new BytecodeLabel(7)),
+                    new BytecodeInstruction(Opcodes.RETURN)
+                )
+            ).targets(0),
+            "We expect a jump to a label that is not in the body to be rejected"
+        );
+    }
+
+    @Test
+    void computesMaxsOverColumns() {
+        MatcherAssert.assertThat(
+            "We expect maxs of a compact body to be computed right over its columns",
+            new BytecodeMethod(
+                CompactBodyTest.entries().toArray(new BytecodeEntry[0])
+            ).computeMaxs(),
+            Matchers.equalTo(new BytecodeMaxs(1, 2))
+        );
+    }
+
+    /**
+     * Entries of a method body with a loop.
+     * @return Entries.
+     */
+    private static List<BytecodeEntry> entries() {
+        return Arrays.asList(
+            new BytecodeLabel(0),
+            new BytecodeLine(3, new BytecodeLabel(0)),
+            new BytecodeInstruction(Opcodes.ICONST_0),
+            new BytecodeInstruction(Opcodes.ISTORE, 1),
+            new BytecodeInstruction(Opcodes.GOTO, new BytecodeLabel(1)),
+            new BytecodeLabel(1),
+            new BytecodeInstruction(Opcodes.LDC, "loop"),
+            new BytecodeInstruction(Opcodes.POP),
+            new BytecodeInstruction(Opcodes.LDC, "loop"),
+            new BytecodeInstruction(Opcodes.POP),
+            new BytecodeInstruction(Opcodes.IINC, 1, 1),
+            new BytecodeInstruction(Opcodes.ILOAD, 1),
+            new BytecodeInstruction(Opcodes.IFEQ, new BytecodeLabel(1)),
+            new BytecodeInstruction(Opcodes.RETURN)
+        );
+    }
+}
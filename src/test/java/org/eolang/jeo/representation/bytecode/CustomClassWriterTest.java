@@ -0,0 +1,75 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation.bytecode;
+
+import java.util.Collections;
+import org.eolang.jeo.representation.MethodName;
+import org.eolang.jeo.representation.NumberedName;
+import org.eolang.jeo.representation.PrefixedName;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.ClassNode;
+
+/**
+ * Test case for {@link CustomClassWriter}.
+ * @since 0.16.0
+ */
+final class CustomClassWriterTest {
+
+    @Test
+    void copiesOriginalMethodWithoutComputingFrames() {
+        final CustomClassWriter writer = new CustomClassWriter(CustomClassWriterTest.originals());
+        writer.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC, "Copied", null, "java/lang/Object", null);
+        writer.visitMethod(Opcodes.ACC_PUBLIC, "foo", "()V", null, null, true).visitEnd();
+        writer.visitEnd();
+        final ClassNode node = new ClassNode();
+        new ClassReader(writer.bytecode().bytes()).accept(node, 0);
+        MatcherAssert.assertThat(
+            "Copied method should keep its original maxs even if frames are computed",
+            node.methods.get(0).maxStack,
+            Matchers.equalTo(9)
+        );
+    }
+
+    @Test
+    void rejectsCopyOfMethodWithAnotherHeader() {
+        final CustomClassWriter writer = new CustomClassWriter(CustomClassWriterTest.originals());
+        writer.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC, "Copied", null, "java/lang/Object", null);
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> writer.visitMethod(
+                Opcodes.ACC_PUBLIC, "foo", "()V", null, new String[]{"java/io/IOException"}
+            ),
+            "Original method should not be copied instead of a method with another header"
+        );
+    }
+
+    /**
+     * Original method {@code foo} with large maxs.
+     * @return Original methods.
+     */
+    private static OriginalMethods originals() {
+        return new OriginalMethods(
+            new BytecodeObject(
+                new BytecodeClass("Copied")
+                    .withMethod(
+                        new BytecodeMethodProperties("foo", "()V", "", Opcodes.ACC_PUBLIC),
+                        new BytecodeMaxs(9, 9)
+                    )
+                    .opcode(Opcodes.RETURN)
+                    .up()
+            ).bytecode().bytes(),
+            Collections.singleton(
+                new PrefixedName(
+                    "jm$", new NumberedName(1, new MethodName("foo").xmir()).toString()
+                ).encode()
+            )
+        );
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation.bytecode;
+
+import com.jcabi.log.Logger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+import org.eolang.jeo.representation.directives.Format;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Scalability tests of building classes.
+ *
+ * <p>Each test builds a generated class of a small and of an eight times larger size
+ * and checks that the time grows nearly linearly. Quadratic paths would grow
+ * about 64 times, so the bound is loose enough for noisy CI machines. Short
+ * timings are rounded up to {@link #FLOOR} milliseconds for the same reason.</p>
+ *
+ * <p>The tests measure wall-clock time, so they are excluded from the default
+ * build and run in the 'long' profile only:
+ * {@code mvn test -Plong -Dtest=ScalabilityTest}.</p>
+ * @since 0.16.0
+ */
+final class ScalabilityTest {
+
+    /**
+     * How many times the large class is bigger than the small one.
+     */
+    private static final int GROWTH = 8;
+
+    /**
+     * Maximum allowed growth of time.
+     */
+    private static final long LIMIT = 24L;
+
+    /**
+     * Minimum time of the small class in milliseconds.
+     */
+    private static final long FLOOR = 25L;
+
+    @Test
+    void writesClassWithManyMethods() {
+        ScalabilityTest.assertLinear(
+            "Class with many methods should be written in linear time",
+            size -> {
+                final BytecodeObject object = new BytecodeObject(
+                    ScalabilityTest.overloaded(size, "Many", index -> String.format("m%d", index))
+                );
+                return object::bytecode;
+            },
+            10_000
+        );
+    }
+
+    @Test
+    void numbersManyOverloads() {
+        ScalabilityTest.assertLinear(
+            "Overloads should be numbered in linear time",
+            size -> {
+                final BytecodeClass clazz = ScalabilityTest.overloaded(
+                    size, "Overloads", index -> "run"
+                );
+                return () -> clazz.directives(new Format());
+            },
+            5_000
+        );
+    }
+
+    @Test
+    void computesMaxsOfLongMethod() {
+        ScalabilityTest.assertLinear(
+            "Maxs of a long method with many jumps should be computed in linear time",
+            size -> {
+                final BytecodeMethod method = ScalabilityTest.jumping(size);
+                return method::computeMaxs;
+            },
+            50_000
+        );
+    }
+
+    @Test
+    void computesMaxsOfMethodWithManyTryCatchBlocks() {
+        ScalabilityTest.assertLinear(
+            "Maxs of a method with many try-catch blocks should be computed in linear time",
+            size -> {
+                final BytecodeMethod method = ScalabilityTest.guarded(size);
+                return method::computeMaxs;
+            },
+            1_000
+        );
+    }
+
+    /**
+     * Check that the job scales nearly linearly.
+     * @param message Assertion message.
+     * @param job Job of the given size, only the returned runnable is measured.
+     * @param size Size of the large job.
+     */
+    private static void assertLinear(
+        final String message, final IntFunction<Runnable> job, final int size
+    ) {
+        final Runnable small = job.apply(size / ScalabilityTest.GROWTH);
+        final Runnable large = job.apply(size);
+        small.run();
+        final long before = Math.max(ScalabilityTest.best(small), ScalabilityTest.FLOOR);
+        final long after = ScalabilityTest.best(large);
+        Logger.info(
+            ScalabilityTest.class,
+            "%d elements took %[ms]s, %d elements took %[ms]s",
+            size / ScalabilityTest.GROWTH, before, size, after
+        );
+        MatcherAssert.assertThat(
+            String.format("%s, but it took %d ms vs %d ms", message, after, before),
+            after,
+            Matchers.lessThanOrEqualTo(before * ScalabilityTest.LIMIT)
+        );
+    }
+
+    /**
+     * Best time of a few runs.
+     * @param job Job.
+     * @return Time in milliseconds.
+     */
+    private static long best(final Runnable job) {
+        long result = Long.MAX_VALUE;
+        for (int attempt = 0; attempt < 3; ++attempt) {
+            final long start = System.nanoTime();
+            job.run();
+            result = Math.min(result, (System.nanoTime() - start) / 1_000_000L);
+        }
+        return result;
+    }
+
+    /**
+     * Class with many methods that differ in their parameters.
+     * @param size Number of methods.
+     * @param name Class name.
+     * @param names Method name by index.
+     * @return Class.
+     */
+    private static BytecodeClass overloaded(
+        final int size, final String name, final IntFunction<String> names
+    ) {
+        final BytecodeClass clazz = new BytecodeClass(String.format("org/eolang/%s", name));
+        for (int index = 0; index < size; ++index) {
+            clazz.withMethod(
+                names.apply(index),
+                String.format("(Lorg/eolang/Arg%d;)I", index),
+                Opcodes.ACC_PUBLIC
+            )
+                .opcode(Opcodes.ALOAD, 1)
+                .opcode(Opcodes.IFNULL, new BytecodeLabel(0))
+                .opcode(Opcodes.ICONST_1)
+                .opcode(Opcodes.IRETURN)
+                .label("L0")
+                .opcode(Opcodes.ICONST_0)
+                .opcode(Opcodes.IRETURN);
+        }
+        return clazz;
+    }
+
+    /**
+     * Static method with many conditional jumps and local variables.
+     * @param size Approximate number of instructions.
+     * @return Method.
+     */
+    private static BytecodeMethod jumping(final int size) {
+        final int steps = size / 5;
+        final List<BytecodeEntry> entries = new ArrayList<>(size);
+        for (int step = 0; step < steps; ++step) {
+            entries.add(new BytecodeLabel(step));
+            entries.add(new BytecodeInstruction(Opcodes.ILOAD, 0));
+            entries.add(new BytecodeInstruction(Opcodes.IFEQ, new BytecodeLabel(step + 1)));
+            entries.add(new BytecodeInstruction(Opcodes.ILOAD, 0));
+            entries.add(new BytecodeInstruction(Opcodes.ISTORE, step % 100 + 1));
+        }
+        entries.add(new BytecodeLabel(steps));
+        entries.add(new BytecodeInstruction(Opcodes.RETURN));
+        return ScalabilityTest.method(new ArrayList<>(0), entries);
+    }
+
+    /**
+     * Static method with many sequential try-catch blocks.
+     * @param size Number of try-catch blocks.
+     * @return Method.
+     */
+    private static BytecodeMethod guarded(final int size) {
+        final List<BytecodeEntry> blocks = new ArrayList<>(size);
+        final List<BytecodeEntry> entries = new ArrayList<>(size * 8);
+        for (int block = 0; block < size; ++block) {
+            final BytecodeLabel start = new BytecodeLabel(block * 4);
+            final BytecodeLabel end = new BytecodeLabel(block * 4 + 1);
+            final BytecodeLabel handler = new BytecodeLabel(block * 4 + 2);
+            final BytecodeLabel next = new BytecodeLabel(block * 4 + 3);
+            blocks.add(new BytecodeTryCatchBlock(start, end, handler, "java/lang/Exception"));
+            entries.add(start);
+            entries.add(new BytecodeInstruction(Opcodes.ILOAD, 0));
+            entries.add(new BytecodeInstruction(Opcodes.POP));
+            entries.add(end);
+            entries.add(new BytecodeInstruction(Opcodes.GOTO, next));
+            entries.add(handler);
+            entries.add(new BytecodeInstruction(Opcodes.POP));
+            entries.add(next);
+        }
+        entries.add(new BytecodeInstruction(Opcodes.RETURN));
+        return ScalabilityTest.method(blocks, entries);
+    }
+
+    /**
+     * Static method {@code run(I)V} with computed maxs.
+     * @param blocks Try-catch blocks.
+     * @param entries Instructions.
+     * @return Method.
+     */
+    private static BytecodeMethod method(
+        final List<BytecodeEntry> blocks, final List<BytecodeEntry> entries
+    ) {
+        return new BytecodeMethod(
+            blocks,
+            entries,
+            new BytecodeAnnotations(),
+            new BytecodeMethodProperties("run", "(I)V", "", Opcodes.ACC_STATIC),
+            new ArrayList<>(0),
+            new BytecodeMaxs(),
+            new BytecodeAttributes()
+        );
+    }
+}
@@ -43,4 +43,39 @@ final class DirectivesCommentTest {
             Matchers.containsString("<!-- Hello &#45;&#45; &lt;world&gt; &#45;&#45;&#45;! -->")
         );
     }
+
+    @Test
+    void removesDiscouragedCharacters() throws ImpossibleModificationException {
+        MatcherAssert.assertThat(
+            "Can't remove characters discouraged in XML",
+            new Xembler(
+                new Directives().append(
+                    new DirectivesComment(
+                        new Format(),
+                        new StringBuilder("a\u0001b\u007Fc\uFDD0d")
+                            .appendCodePoint(0x1FFFF)
+                            .append('e')
+                            .toString()
+                    )
+                )
+            ).xml(),
+            Matchers.containsString("<!-- abcde -->")
+        );
+    }
+
+    @Test
+    void doesNotBuildDisabledComment() {
+        MatcherAssert.assertThat(
+            "Comment text should not be built if comments are disabled",
+            new Directives().append(
+                new DirectivesComment(
+                    new Format(Format.COMMENTS, false),
+                    () -> {
+                        throw new IllegalStateException("The comment should not be built");
+                    }
+                )
+            ),
+            Matchers.emptyIterable()
+        );
+    }
 }
@@ -37,6 +37,39 @@ final class DirectivesMetasTest {
         );
     }
 
+    @Test
+    void marksStructureMode() {
+        MatcherAssert.assertThat(
+            "We expect that XMIR without method bodies is marked with the 'mode' meta",
+            new Xembler(
+                new DirectivesMetas(
+                    new ClassName("path/to/SomeClass"),
+                    new Format(Format.MODE, "structure")
+                ),
+                new Transformers.Node()
+            ).xmlQuietly(),
+            Matchers.allOf(
+                XhtmlMatchers.hasXPath("/metas/meta[head='mode']/tail[text()='structure']"),
+                XhtmlMatchers.hasXPath("/metas/meta[head='mode']/part[text()='structure']")
+            )
+        );
+    }
+
+    @Test
+    void doesNotMarkFullCode() {
+        MatcherAssert.assertThat(
+            "We expect that XMIR with method bodies isn't marked with the 'mode' meta",
+            new Xembler(
+                new DirectivesMetas(
+                    new ClassName("path/to/SomeClass"),
+                    new Format(Format.MODE, "debug")
+                ),
+                new Transformers.Node()
+            ).xmlQuietly(),
+            Matchers.not(XhtmlMatchers.hasXPath("/metas/meta[head='mode']"))
+        );
+    }
+
     @Test
     void addsNothingExceptPackage() {
         MatcherAssert.assertThat(
@@ -10,6 +10,7 @@ import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
+import org.xembly.Directives;
 import org.xembly.ImpossibleModificationException;
 import org.xembly.Xembler;
 
@@ -49,4 +50,38 @@ final class DirectivesValuesTest {
             Matchers.matchesRegex("^[^0-9].*")
         );
     }
+
+    @Test
+    void namesUnnamedValuesByPosition() {
+        MatcherAssert.assertThat(
+            "We expect that the unnamed values are named by their position",
+            new NativeXmlNode(
+                new Xembler(
+                    new DirectivesValues(2, new Format(), "some-value")
+                ).xmlQuietly()
+            ).attribute("name").orElseThrow(
+                () -> new IllegalStateException("Name attribute is absent")
+            ),
+            Matchers.equalTo("v2")
+        );
+    }
+
+    @Test
+    void doesNotCollideOnValuesWithSameHashCode() {
+        final Object[] first = {"Aa"};
+        final Object[] second = {"BB"};
+        MatcherAssert.assertThat(
+            "We expect that different values with the same hash code get different names",
+            new Xembler(
+                new Directives()
+                    .add("o")
+                    .append(new DirectivesValues(2, new Format(), first))
+                    .append(new DirectivesValues(3, new Format(), second))
+            ).xmlQuietly(),
+            XhtmlMatchers.hasXPaths(
+                "/o[count(o[@name='v2'])=1]",
+                "/o[count(o[@name='v3'])=1]"
+            )
+        );
+    }
 }
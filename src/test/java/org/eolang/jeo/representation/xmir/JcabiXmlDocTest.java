@@ -5,9 +5,11 @@
 package org.eolang.jeo.representation.xmir;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
 import org.hamcrest.MatcherAssert;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -43,4 +45,17 @@ final class JcabiXmlDocTest {
             org.hamcrest.Matchers.equalTo(new JcabiXmlNode("<o>2</o>"))
         );
     }
+
+    @Test
+    void createsFromCompressedFile(@TempDir final Path dir) throws IOException {
+        final Path path = dir.resolve("test.xml.gz");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(path))) {
+            out.write("<object><o>3</o></object>".getBytes(StandardCharsets.UTF_8));
+        }
+        MatcherAssert.assertThat(
+            "Can't read XML from compressed file",
+            new JcabiXmlDoc(path).root().xpath("/object/o/text()").get(0),
+            org.hamcrest.Matchers.equalTo("3")
+        );
+    }
 }
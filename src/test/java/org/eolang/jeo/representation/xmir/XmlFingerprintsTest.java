@@ -0,0 +1,177 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2026 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.jeo.representation.xmir;
+
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import org.eolang.jeo.representation.BytecodeRepresentation;
+import org.eolang.jeo.representation.bytecode.Bytecode;
+import org.eolang.jeo.representation.bytecode.BytecodeClass;
+import org.eolang.jeo.representation.bytecode.BytecodeMethodProperties;
+import org.eolang.jeo.representation.bytecode.BytecodeObject;
+import org.eolang.jeo.representation.directives.Format;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.Opcodes;
+import org.xembly.Xembler;
+
+/**
+ * Test case for {@link XmlFingerprints}.
+ * @since 0.16.0
+ */
+final class XmlFingerprintsTest {
+
+    @Test
+    void recordsFingerprintOfOriginalBytecode() {
+        final Bytecode original = XmlFingerprintsTest.hello();
+        final XmlFingerprints prints = new XmlFingerprints(
+            new JcabiXmlDoc(XmlFingerprintsTest.fingerprinted(original)).root()
+        );
+        MatcherAssert.assertThat(
+            "We expect fingerprints to recognize the original bytecode and reject any other",
+            prints.origin(original.bytes()) && !prints.origin(XmlFingerprintsTest.empty().bytes()),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void skipsFingerprintsIfTheyWereNotRequested() {
+        MatcherAssert.assertThat(
+            "We expect fingerprints to be absent by default",
+            new XmlFingerprints(
+                new JcabiXmlDoc(
+                    new BytecodeRepresentation(XmlFingerprintsTest.hello()).toXmir()
+                ).root()
+            ).present(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void findsAllMethodsUnchangedRightAfterDisassembling() {
+        MatcherAssert.assertThat(
+            "We expect all methods to be unchanged right after disassembling",
+            new XmlFingerprints(
+                new JcabiXmlDoc(XmlFingerprintsTest.fingerprinted(XmlFingerprintsTest.hello()))
+                    .root()
+            ).unchanged(),
+            Matchers.hasSize(1)
+        );
+    }
+
+    @Test
+    void findsProgramPristineRightAfterDisassembling() {
+        MatcherAssert.assertThat(
+            "We expect the program to be pristine right after disassembling",
+            new XmlFingerprints(
+                new JcabiXmlDoc(XmlFingerprintsTest.fingerprinted(XmlFingerprintsTest.hello()))
+                    .root()
+            ).pristine(),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void findsProgramWithoutFingerprintsChanged() {
+        MatcherAssert.assertThat(
+            "We expect the program without fingerprints not to be pristine",
+            new XmlFingerprints(
+                new JcabiXmlDoc(
+                    new BytecodeRepresentation(XmlFingerprintsTest.hello()).toXmir()
+                ).root()
+            ).pristine(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void excludesModifiedMethodsFromUnchanged() throws Exception {
+        final Bytecode original = XmlFingerprintsTest.hello();
+        final XML modified = new BytecodeRepresentation(XmlFingerprintsTest.empty()).toXmir();
+        MatcherAssert.assertThat(
+            "We expect a method with modified body to be excluded from unchanged methods",
+            new XmlFingerprints(
+                new JcabiXmlDoc(
+                    new XMLDocument(
+                        new Xembler(
+                            new XmlFingerprints(
+                                new JcabiXmlDoc(new BytecodeRepresentation(original).toXmir())
+                                    .root()
+                            ).directives(original.bytes())
+                        ).apply(modified.inner())
+                    )
+                ).root()
+            ).unchanged(),
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    void findsProgramWithNewFieldChanged() {
+        final Bytecode original = XmlFingerprintsTest.hello();
+        final XML modified = new BytecodeRepresentation(
+            new BytecodeObject(
+                new BytecodeClass("Application").helloWorldMethod().withField("added")
+            ).bytecode()
+        ).toXmir();
+        final XmlFingerprints prints = new XmlFingerprints(
+            new JcabiXmlDoc(
+                new XMLDocument(
+                    new Xembler(
+                        new XmlFingerprints(
+                            new JcabiXmlDoc(new BytecodeRepresentation(original).toXmir())
+                                .root()
+                        ).directives(original.bytes())
+                    ).apply(modified.inner())
+                )
+            ).root()
+        );
+        MatcherAssert.assertThat(
+            "We expect a new field to make the program changed, while its methods stay unchanged",
+            new Object[]{prints.pristine(), prints.unchanged().size()},
+            Matchers.arrayContaining(Matchers.equalTo(false), Matchers.equalTo(1))
+        );
+    }
+
+    /**
+     * Disassemble bytecode with fingerprints.
+     * @param bytecode Bytecode.
+     * @return XMIR with fingerprints.
+     */
+    private static XML fingerprinted(final Bytecode bytecode) {
+        return new BytecodeRepresentation(bytecode).toXmir(
+            new Format(Format.FINGERPRINTS, true)
+        );
+    }
+
+    /**
+     * Class with the 'main' method that prints "Hello, world!".
+     * @return Bytecode.
+     */
+    private static Bytecode hello() {
+        return new BytecodeObject(new BytecodeClass("Application").helloWorldMethod()).bytecode();
+    }
+
+    /**
+     * Class with the 'main' method that does nothing.
+     * @return Bytecode.
+     */
+    private static Bytecode empty() {
+        return new BytecodeObject(
+            new BytecodeClass("Application")
+                .withMethod(
+                    new BytecodeMethodProperties(
+                        "main",
+                        "([Ljava/lang/String;)V",
+                        Opcodes.ACC_PUBLIC,
+                        Opcodes.ACC_STATIC
+                    )
+                )
+                .opcode(Opcodes.RETURN)
+                .up()
+        ).bytecode();
+    }
+}